@@ -22,6 +22,9 @@ public class KafkaTopics {
     /** Topic for user profile updates */
     public static final String USER_PROFILE = "user-profile";
 
+    /** Topic for changes to user roles and account status */
+    public static final String USER_SECURITY = "user-security";
+
     // Restaurant Service Topics
     /** Topic for all restaurant-related events */
     public static final String RESTAURANT_EVENTS = "restaurant-events";
@@ -35,6 +38,9 @@ public class KafkaTopics {
     /** Topic for restaurant capacity changes */
     public static final String CAPACITY_CHANGE = "capacity-change";
 
+    /** Topic for added, updated and removed tables */
+    public static final String TABLE_CHANGES = "table-changes";
+
     // Reservation Service Topics
     /** Topic for all reservation-related events */
     public static final String RESERVATION_EVENTS = "reservation-events";
@@ -48,6 +54,9 @@ public class KafkaTopics {
     /** Topic for reservation cancellations */
     public static final String RESERVATION_CANCEL = "reservation-cancel";
 
+    /** Topic for committed reservation bookings and schedule changes affecting availability */
+    public static final String AVAILABILITY_CHANGES = "availability-changes";
+
     // Table Availability Topics
     /** Topic for requests to find available tables */
     public static final String FIND_AVAILABLE_TABLE_REQUEST = "find-available-table-request";
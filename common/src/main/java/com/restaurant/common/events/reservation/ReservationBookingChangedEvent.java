@@ -0,0 +1,125 @@
+package com.restaurant.common.events.reservation;
+
+import java.util.List;
+
+import com.restaurant.common.events.BaseEvent;
+
+/**
+ * Event representing the current booking of a reservation after a change.
+ * This event is published after every committed reservation change that can
+ * affect availability, carrying the full booking rather than a delta, so
+ * instances keeping availability in memory and the restaurant service's
+ * table bookings can apply it idempotently.
+ *
+ * @author Restaurant Team
+ * @version 1.0
+ */
+public class ReservationBookingChangedEvent extends BaseEvent implements ReservationEvent {
+
+    /** Unique identifier of the reservation */
+    private final String reservationId;
+
+    /** ID of the restaurant where the reservation was made */
+    private final String restaurantId;
+
+    /** Start time of the reservation in ISO-8601 format */
+    private final String reservationTime;
+
+    /** Length of the reservation session in minutes */
+    private final int durationMinutes;
+
+    /** Number of guests */
+    private final int partySize;
+
+    /** IDs of the tables assigned to the reservation, or null if none are */
+    private final List<String> tableIds;
+
+    /** Whether the reservation still occupies its session */
+    private final boolean active;
+
+    /**
+     * Creates a new reservation booking changed event.
+     *
+     * @param reservationId Unique identifier of the reservation
+     * @param restaurantId ID of the restaurant
+     * @param reservationTime Start time of the reservation in ISO-8601 format
+     * @param durationMinutes Length of the reservation session in minutes
+     * @param partySize Number of guests
+     * @param tableIds IDs of the tables assigned to the reservation, or null if none are
+     * @param active Whether the reservation still occupies its session
+     */
+    public ReservationBookingChangedEvent(String reservationId, String restaurantId, String reservationTime,
+                                          int durationMinutes, int partySize, List<String> tableIds,
+                                          boolean active) {
+        super("RESERVATION_BOOKING_CHANGED");
+        this.reservationId = reservationId;
+        this.restaurantId = restaurantId;
+        this.reservationTime = reservationTime;
+        this.durationMinutes = durationMinutes;
+        this.partySize = partySize;
+        this.tableIds = tableIds != null ? List.copyOf(tableIds) : null;
+        this.active = active;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Gets the ID of the restaurant where the reservation was made.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the start time of the reservation.
+     *
+     * @return The reservation time in ISO-8601 format
+     */
+    public String getReservationTime() {
+        return reservationTime;
+    }
+
+    /**
+     * Gets the length of the reservation session.
+     *
+     * @return The duration in minutes
+     */
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Gets the number of guests.
+     *
+     * @return The party size
+     */
+    public int getPartySize() {
+        return partySize;
+    }
+
+    /**
+     * Gets the IDs of the tables assigned to the reservation.
+     *
+     * @return The table IDs, or null if no table is assigned
+     */
+    public List<String> getTableIds() {
+        return tableIds;
+    }
+
+    /**
+     * Checks whether the reservation still occupies its session.
+     *
+     * @return true if the reservation is active
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
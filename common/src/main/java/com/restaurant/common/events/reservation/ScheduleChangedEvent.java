@@ -0,0 +1,96 @@
+package com.restaurant.common.events.reservation;
+
+import com.restaurant.common.events.BaseEvent;
+
+/**
+ * Event representing a committed change to the stored schedules or regular
+ * operating hours of a restaurant in the reservation service.
+ * Instances keeping availability in memory reload the affected schedules
+ * when they receive it. Events for a single date also carry the date's
+ * overrides of the regular operating hours, so the restaurant service can
+ * keep its calendar of closures and special hours.
+ *
+ * @author Restaurant Team
+ * @version 1.0
+ */
+public class ScheduleChangedEvent extends BaseEvent {
+
+    /** ID of the restaurant whose schedules changed */
+    private final String restaurantId;
+
+    /** Date of the changed schedule in ISO-8601 format, or null if any date may have changed */
+    private final String date;
+
+    /** Whether the restaurant is closed on the date, or null if the regular hours decide */
+    private final Boolean closed;
+
+    /** Opening time on the date in ISO-8601 format, or null if the regular hours decide */
+    private final String openTime;
+
+    /** Closing time on the date in ISO-8601 format, or null if the regular hours decide */
+    private final String closeTime;
+
+    /**
+     * Creates a new schedule changed event.
+     *
+     * @param restaurantId ID of the restaurant whose schedules changed
+     * @param date Date of the changed schedule in ISO-8601 format, or null if any date may have changed
+     * @param closed Whether the restaurant is closed on the date, or null if the regular hours decide
+     * @param openTime Opening time on the date in ISO-8601 format, or null if the regular hours decide
+     * @param closeTime Closing time on the date in ISO-8601 format, or null if the regular hours decide
+     */
+    public ScheduleChangedEvent(String restaurantId, String date, Boolean closed, String openTime,
+                                String closeTime) {
+        super("SCHEDULE_CHANGED");
+        this.restaurantId = restaurantId;
+        this.date = date;
+        this.closed = closed;
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+    }
+
+    /**
+     * Gets the ID of the restaurant whose schedules changed.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the date of the changed schedule.
+     *
+     * @return The date in ISO-8601 format, or null if any date may have changed
+     */
+    public String getDate() {
+        return date;
+    }
+
+    /**
+     * Gets whether the restaurant is closed on the date.
+     *
+     * @return The closure override, or null if the regular hours decide
+     */
+    public Boolean getClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets the opening time on the date.
+     *
+     * @return The opening time in ISO-8601 format, or null if the regular hours decide
+     */
+    public String getOpenTime() {
+        return openTime;
+    }
+
+    /**
+     * Gets the closing time on the date.
+     *
+     * @return The closing time in ISO-8601 format, or null if the regular hours decide
+     */
+    public String getCloseTime() {
+        return closeTime;
+    }
+}
@@ -0,0 +1,231 @@
+package com.restaurant.common.events.restaurant;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.restaurant.common.events.BaseEvent;
+
+/**
+ * Event class that represents all changes made to a restaurant in one transaction.
+ * Instead of one event per modified field, this event carries a field-level diff
+ * and the restaurant's change version after the transaction, so consumers can
+ * apply the whole change at once and ignore stale or duplicate deliveries.
+ *
+ * Field names are restaurant properties such as "name", "address" or "active".
+ * Operating hours are reported per day as "operatingHours.MONDAY" with values of
+ * the form "HH:mm-HH:mm", or "CLOSED" when the restaurant is closed that day.
+ * Breaks are reported per day as "breakTime.MONDAY" with values of the same
+ * "HH:mm-HH:mm" form, or null when the day has no break.
+ * Values are rendered as strings; a null value means the field was not set.
+ *
+ * Versions are assigned in commit order but events may be delivered out of
+ * order, so a consumer that has applied a later version skips an earlier one.
+ * Each event therefore also carries the state of the synchronized fields
+ * after the change: the owner, the active status and the operating hours of
+ * every day, in the same form as the diff. Applying the state of the latest
+ * version brings a consumer up to date even if it never sees earlier ones.
+ * Extends BaseEvent with type "RESTAURANT_CHANGED" and implements RestaurantEvent interface.
+ */
+public class RestaurantChangedEvent extends BaseEvent implements RestaurantEvent {
+
+    /** Prefix of the per-day operating hours fields */
+    public static final String OPERATING_HOURS_PREFIX = "operatingHours.";
+
+    /** Prefix of the per-day break time fields */
+    public static final String BREAK_TIME_PREFIX = "breakTime.";
+
+    /** Value of a per-day operating hours field when the restaurant is closed that day */
+    public static final String CLOSED = "CLOSED";
+
+    /**
+     * The unique identifier of the restaurant that changed.
+     */
+    private String restaurantId;
+
+    /**
+     * The change version of the restaurant after this change.
+     * Versions increase by one with every published change.
+     */
+    private long version;
+
+    /**
+     * The changed fields with their old and new values, in the order they changed.
+     */
+    private Map<String, FieldChange> changes = new LinkedHashMap<>();
+
+    /**
+     * The values of the synchronized fields after this change, or null if the
+     * event was published without them.
+     */
+    private Map<String, String> state;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public RestaurantChangedEvent() {
+        super();
+    }
+
+    /**
+     * Constructs a new RestaurantChangedEvent.
+     *
+     * @param restaurantId The ID of the restaurant that changed
+     * @param version      The change version of the restaurant after this change
+     * @param changes      The changed fields with their old and new values
+     * @param state        The values of the synchronized fields after the change
+     */
+    public RestaurantChangedEvent(String restaurantId, long version, Map<String, FieldChange> changes,
+                                  Map<String, String> state) {
+        super("RESTAURANT_CHANGED");
+        this.restaurantId = restaurantId;
+        this.version = version;
+        this.changes = new LinkedHashMap<>(changes);
+        this.state = state != null ? new LinkedHashMap<>(state) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Sets the ID of the restaurant that changed.
+     *
+     * @param restaurantId The restaurant ID
+     */
+    public void setRestaurantId(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    /**
+     * Gets the change version of the restaurant after this change.
+     *
+     * @return The change version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the change version of the restaurant after this change.
+     *
+     * @param version The change version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets the changed fields with their old and new values.
+     *
+     * @return The changes keyed by field name
+     */
+    public Map<String, FieldChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Sets the changed fields with their old and new values.
+     *
+     * @param changes The changes keyed by field name
+     */
+    public void setChanges(Map<String, FieldChange> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Gets the values of the synchronized fields after this change.
+     *
+     * @return The state keyed by field name, or null if the event carries none
+     */
+    public Map<String, String> getState() {
+        return state;
+    }
+
+    /**
+     * Sets the values of the synchronized fields after this change.
+     *
+     * @param state The state keyed by field name
+     */
+    public void setState(Map<String, String> state) {
+        this.state = state;
+    }
+
+    /**
+     * Checks whether a field changed.
+     *
+     * @param field The field name
+     * @return true if the field is part of this change
+     */
+    public boolean hasChanged(String field) {
+        return changes != null && changes.containsKey(field);
+    }
+
+    /**
+     * The old and new value of a single changed field.
+     */
+    public static class FieldChange {
+
+        /** The value before the change */
+        private String oldValue;
+
+        /** The value after the change */
+        private String newValue;
+
+        /**
+         * Default constructor for deserialization.
+         */
+        public FieldChange() {
+        }
+
+        /**
+         * Constructs a new FieldChange.
+         *
+         * @param oldValue The value before the change
+         * @param newValue The value after the change
+         */
+        public FieldChange(String oldValue, String newValue) {
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        /**
+         * Gets the value before the change.
+         *
+         * @return The old value
+         */
+        public String getOldValue() {
+            return oldValue;
+        }
+
+        /**
+         * Sets the value before the change.
+         *
+         * @param oldValue The old value
+         */
+        public void setOldValue(String oldValue) {
+            this.oldValue = oldValue;
+        }
+
+        /**
+         * Gets the value after the change.
+         *
+         * @return The new value
+         */
+        public String getNewValue() {
+            return newValue;
+        }
+
+        /**
+         * Sets the value after the change.
+         *
+         * @param newValue The new value
+         */
+        public void setNewValue(String newValue) {
+            this.newValue = newValue;
+        }
+    }
+}
@@ -45,6 +45,12 @@ public class RestaurantSearchRequestEvent extends BaseEvent implements Restauran
     /** Restaurant ID if searching for a specific restaurant */
     private String restaurantId;
 
+    /** Restaurant name for name-based search */
+    private String restaurantName;
+
+    /** Maximum number of restaurants to return in each response page */
+    private int pageSize;
+
     /**
      * Default constructor.
      * Initializes a new restaurant search request event.
@@ -250,4 +256,41 @@ public class RestaurantSearchRequestEvent extends BaseEvent implements Restauran
     public void setRestaurantId(String restaurantId) {
         this.restaurantId = restaurantId;
     }
+
+    /**
+     * Gets the restaurant name for name-based search.
+     *
+     * @return The restaurant name, or null if not searching by name
+     */
+    public String getRestaurantName() {
+        return restaurantName;
+    }
+
+    /**
+     * Sets the restaurant name for name-based search.
+     *
+     * @param restaurantName The restaurant name to set
+     */
+    public void setRestaurantName(String restaurantName) {
+        this.restaurantName = restaurantName;
+    }
+
+    /**
+     * Gets the maximum number of restaurants to return in each response page.
+     * A value of zero or less lets the responding service choose its default.
+     *
+     * @return The page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the maximum number of restaurants to return in each response page.
+     *
+     * @param pageSize The page size to set
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
 }
@@ -10,6 +10,10 @@ import com.restaurant.common.events.BaseEvent;
  * This event is published in response to a RestaurantSearchRequestEvent,
  * containing the results of the search for available restaurants.
  *
+ * Large result sets are split into several response events sharing the same
+ * correlation ID, each carrying one page of results. Consumers can process
+ * pages as they arrive and use {@link #isLastPage()} to detect completion.
+ *
  * @author Restaurant Reservation Team
  * @version 1.0
  */
@@ -30,6 +34,18 @@ public class RestaurantSearchResponseEvent extends BaseEvent implements Restaura
     /** Restaurant ID if the search was for a specific restaurant */
     private String restaurantId;
 
+    /** Zero-based index of this page within the search results */
+    private int page;
+
+    /** Total number of pages that will be published for this search */
+    private int totalPages;
+
+    /** Total number of restaurants matching the search criteria */
+    private long totalResults;
+
+    /** Whether this is the final page published for the search */
+    private boolean lastPage = true;
+
     /**
      * Default constructor.
      * Initializes a new restaurant search response event.
@@ -146,4 +162,76 @@ public class RestaurantSearchResponseEvent extends BaseEvent implements Restaura
     public void setRestaurantId(String restaurantId) {
         this.restaurantId = restaurantId;
     }
+
+    /**
+     * Gets the zero-based index of this page within the search results.
+     *
+     * @return The page index
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Sets the zero-based index of this page within the search results.
+     *
+     * @param page The page index to set
+     */
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    /**
+     * Gets the total number of pages published for this search.
+     *
+     * @return The total number of pages
+     */
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    /**
+     * Sets the total number of pages published for this search.
+     *
+     * @param totalPages The total number of pages to set
+     */
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    /**
+     * Gets the total number of restaurants matching the search criteria.
+     *
+     * @return The total number of results
+     */
+    public long getTotalResults() {
+        return totalResults;
+    }
+
+    /**
+     * Sets the total number of restaurants matching the search criteria.
+     *
+     * @param totalResults The total number of results to set
+     */
+    public void setTotalResults(long totalResults) {
+        this.totalResults = totalResults;
+    }
+
+    /**
+     * Checks whether this is the final page published for the search.
+     *
+     * @return true if no further pages will follow, false otherwise
+     */
+    public boolean isLastPage() {
+        return lastPage;
+    }
+
+    /**
+     * Sets whether this is the final page published for the search.
+     *
+     * @param lastPage true if no further pages will follow
+     */
+    public void setLastPage(boolean lastPage) {
+        this.lastPage = lastPage;
+    }
 }
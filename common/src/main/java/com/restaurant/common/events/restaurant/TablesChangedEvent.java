@@ -0,0 +1,52 @@
+package com.restaurant.common.events.restaurant;
+
+import com.restaurant.common.events.BaseEvent;
+
+/**
+ * Event class that represents a change to the tables of a restaurant.
+ * This event is published once per transaction whenever tables are added,
+ * updated or removed, including changes that leave the total capacity
+ * unchanged, such as renumbering a table or moving it to another area.
+ * Services caching table lists discard them when they receive it.
+ * Extends BaseEvent with type "TABLES_CHANGED" and implements RestaurantEvent interface.
+ */
+public class TablesChangedEvent extends BaseEvent implements RestaurantEvent {
+    /**
+     * The unique identifier of the restaurant whose tables changed.
+     */
+    private final String restaurantId;
+
+    /**
+     * A description of the change, for example "Table Updated".
+     */
+    private final String reason;
+
+    /**
+     * Constructs a new TablesChangedEvent.
+     *
+     * @param restaurantId The ID of the restaurant whose tables changed
+     * @param reason       A description of the change
+     */
+    public TablesChangedEvent(String restaurantId, String reason) {
+        super("TABLES_CHANGED");
+        this.restaurantId = restaurantId;
+        this.reason = reason;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the description of the change.
+     *
+     * @return A description of the change
+     */
+    public String getReason() {
+        return reason;
+    }
+}
@@ -12,23 +12,30 @@ public class ProfileUpdatedEvent extends BaseEvent implements UserEvent {
     /**
      * The unique identifier of the user whose profile was updated.
      */
-    private final String userId;
+    private String userId;
     
     /**
      * The name of the field that was updated in the user's profile.
      * For example: "email", "phoneNumber", "address", etc.
      */
-    private final String fieldUpdated;
+    private String fieldUpdated;
     
     /**
      * The previous value of the updated field before the change.
      */
-    private final String oldValue;
+    private String oldValue;
     
     /**
      * The new value of the updated field after the change.
      */
-    private final String newValue;
+    private String newValue;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public ProfileUpdatedEvent() {
+        super();
+    }
     
     /**
      * Constructs a new ProfileUpdatedEvent with details about the profile update.
@@ -53,6 +60,15 @@ public class ProfileUpdatedEvent extends BaseEvent implements UserEvent {
     public String getUserId() {
         return userId;
     }
+
+    /**
+     * Sets the ID of the user whose profile was updated.
+     *
+     * @param userId The user ID
+     */
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
     
     /**
      * Gets the name of the field that was updated in the user's profile.
@@ -62,6 +78,15 @@ public class ProfileUpdatedEvent extends BaseEvent implements UserEvent {
     public String getFieldUpdated() {
         return fieldUpdated;
     }
+
+    /**
+     * Sets the name of the field that was updated in the user's profile.
+     *
+     * @param fieldUpdated The name of the updated field
+     */
+    public void setFieldUpdated(String fieldUpdated) {
+        this.fieldUpdated = fieldUpdated;
+    }
     
     /**
      * Gets the previous value of the updated field.
@@ -71,6 +96,15 @@ public class ProfileUpdatedEvent extends BaseEvent implements UserEvent {
     public String getOldValue() {
         return oldValue;
     }
+
+    /**
+     * Sets the previous value of the updated field.
+     *
+     * @param oldValue The field's value before the update
+     */
+    public void setOldValue(String oldValue) {
+        this.oldValue = oldValue;
+    }
     
     /**
      * Gets the new value of the updated field.
@@ -80,4 +114,13 @@ public class ProfileUpdatedEvent extends BaseEvent implements UserEvent {
     public String getNewValue() {
         return newValue;
     }
+
+    /**
+     * Sets the new value of the updated field.
+     *
+     * @param newValue The field's value after the update
+     */
+    public void setNewValue(String newValue) {
+        this.newValue = newValue;
+    }
 }
\ No newline at end of file
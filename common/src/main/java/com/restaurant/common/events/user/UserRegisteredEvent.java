@@ -12,17 +12,39 @@ public class UserRegisteredEvent extends BaseEvent implements UserEvent {
     /**
      * The unique identifier assigned to the newly registered user.
      */
-    private final String userId;
+    private String userId;
     
     /**
      * The username chosen by the user during registration.
      */
-    private final String username;
+    private String username;
     
     /**
      * The email address provided by the user during registration.
      */
-    private final String email;
+    private String email;
+
+    /**
+     * The first name entered during registration, if any.
+     */
+    private String firstName;
+
+    /**
+     * The last name entered during registration, if any.
+     */
+    private String lastName;
+
+    /**
+     * The phone number entered during registration, if any.
+     */
+    private String phoneNumber;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public UserRegisteredEvent() {
+        super();
+    }
     
     /**
      * Constructs a new UserRegisteredEvent with the user's registration details.
@@ -46,6 +68,15 @@ public class UserRegisteredEvent extends BaseEvent implements UserEvent {
         return userId;
     }
     
+    /**
+     * Sets the ID of the registered user.
+     *
+     * @param userId The user ID
+     */
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
     /**
      * Gets the username chosen by the user during registration.
      *
@@ -54,6 +85,15 @@ public class UserRegisteredEvent extends BaseEvent implements UserEvent {
     public String getUsername() {
         return username;
     }
+
+    /**
+     * Sets the username chosen by the user during registration.
+     *
+     * @param username The username
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
     
     /**
      * Gets the email address provided by the user during registration.
@@ -63,4 +103,67 @@ public class UserRegisteredEvent extends BaseEvent implements UserEvent {
     public String getEmail() {
         return email;
     }
+
+    /**
+     * Sets the email address provided by the user during registration.
+     *
+     * @param email The email address
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /**
+     * Gets the first name entered during registration.
+     *
+     * @return The first name, or null if none was entered
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Sets the first name entered during registration.
+     *
+     * @param firstName The first name
+     */
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    /**
+     * Gets the last name entered during registration.
+     *
+     * @return The last name, or null if none was entered
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Sets the last name entered during registration.
+     *
+     * @param lastName The last name
+     */
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    /**
+     * Gets the phone number entered during registration.
+     *
+     * @return The phone number, or null if none was entered
+     */
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    /**
+     * Sets the phone number entered during registration.
+     *
+     * @param phoneNumber The phone number
+     */
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
 }
\ No newline at end of file
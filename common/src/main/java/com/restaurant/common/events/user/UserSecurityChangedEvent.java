@@ -0,0 +1,141 @@
+package com.restaurant.common.events.user;
+
+import com.restaurant.common.events.BaseEvent;
+
+/**
+ * Event class that represents a change to a user's security state.
+ * This event is published whenever a user's roles change or the account is
+ * enabled, disabled, locked, unlocked or deleted. Tokens carry the security
+ * version they were issued at, so consumers caching security state can reject
+ * tokens issued before the change without loading the user.
+ * Extends BaseEvent with type "USER_SECURITY_CHANGED" and implements UserEvent interface.
+ */
+public class UserSecurityChangedEvent extends BaseEvent implements UserEvent {
+    /**
+     * The unique identifier of the user whose security state changed.
+     */
+    private String userId;
+
+    /**
+     * The user's security version after the change.
+     * Tokens issued at an older version are no longer accepted.
+     */
+    private long securityVersion;
+
+    /**
+     * Whether the account may still authenticate, that is it exists,
+     * is enabled and is not locked.
+     */
+    private boolean active;
+
+    /**
+     * Whether the account was deleted. Consumers holding copies of the
+     * user's personal details remove them when it is.
+     */
+    private boolean deleted;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public UserSecurityChangedEvent() {
+        super();
+    }
+
+    /**
+     * Constructs a new UserSecurityChangedEvent.
+     *
+     * @param userId          The ID of the user whose security state changed
+     * @param securityVersion The user's security version after the change
+     * @param active          Whether the account may still authenticate
+     */
+    public UserSecurityChangedEvent(String userId, long securityVersion, boolean active) {
+        this(userId, securityVersion, active, false);
+    }
+
+    /**
+     * Constructs a new UserSecurityChangedEvent.
+     *
+     * @param userId          The ID of the user whose security state changed
+     * @param securityVersion The user's security version after the change
+     * @param active          Whether the account may still authenticate
+     * @param deleted         Whether the account was deleted
+     */
+    public UserSecurityChangedEvent(String userId, long securityVersion, boolean active, boolean deleted) {
+        super("USER_SECURITY_CHANGED");
+        this.userId = userId;
+        this.securityVersion = securityVersion;
+        this.active = active;
+        this.deleted = deleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the ID of the user whose security state changed.
+     *
+     * @param userId The user ID
+     */
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the user's security version after the change.
+     *
+     * @return The security version
+     */
+    public long getSecurityVersion() {
+        return securityVersion;
+    }
+
+    /**
+     * Sets the user's security version after the change.
+     *
+     * @param securityVersion The security version
+     */
+    public void setSecurityVersion(long securityVersion) {
+        this.securityVersion = securityVersion;
+    }
+
+    /**
+     * Gets whether the account may still authenticate.
+     *
+     * @return true if the account exists, is enabled and is not locked
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Sets whether the account may still authenticate.
+     *
+     * @param active true if the account exists, is enabled and is not locked
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * Gets whether the account was deleted.
+     *
+     * @return true if the account no longer exists
+     */
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Sets whether the account was deleted.
+     *
+     * @param deleted true if the account no longer exists
+     */
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
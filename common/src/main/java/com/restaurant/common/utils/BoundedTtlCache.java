@@ -0,0 +1,171 @@
+package com.restaurant.common.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded map of values that expire at a fixed time.
+ * This class provides:
+ * - Lookup of values that have not expired, and of expired ones as a fallback
+ * - A bounded number of entries
+ * - Detection of loads that raced an invalidation, through a generation
+ *   taken before loading and checked when storing
+ *
+ * Expired entries stay until they are replaced or room is needed. When the
+ * cache is full, expired entries are removed first and then a tenth of the
+ * remaining entries is dropped in no particular order.
+ *
+ * @param <K> Type of the keys
+ * @param <V> Type of the values
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class BoundedTtlCache<K, V> {
+
+    /** Maximum number of entries */
+    private final int maxEntries;
+
+    /** Entries by key */
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** Number of invalidations so far */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries Maximum number of entries; nothing is cached if not positive
+     */
+    public BoundedTtlCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets a value that has not expired.
+     *
+     * @param key The key
+     * @return The value, or null if absent or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.value : null;
+    }
+
+    /**
+     * Gets a value whether or not it has expired.
+     *
+     * @param key The key
+     * @return The value, or null if absent
+     */
+    public V getIncludingExpired(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Gets the current generation, to be passed to {@link #putIfCurrent}
+     * by a caller about to load a value.
+     *
+     * @return The number of invalidations so far
+     */
+    public long generation() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a value until the given time.
+     *
+     * @param key The key
+     * @param value The value
+     * @param expiresAt Time in epoch milliseconds at which the value expires
+     */
+    public void put(K key, V value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (maxEntries <= 0 || expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Stores a value until the given time unless an invalidation happened
+     * since the generation was taken.
+     *
+     * @param key The key
+     * @param value The value
+     * @param expiresAt Time in epoch milliseconds at which the value expires
+     * @param generation The generation taken before the value was loaded
+     */
+    public void putIfCurrent(K key, V value, long expiresAt, long generation) {
+        if (invalidations.get() == generation) {
+            put(key, value, expiresAt);
+        }
+    }
+
+    /**
+     * Removes the value of a key and fails stores of loads in flight.
+     *
+     * @param key The key
+     */
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Gets the number of entries, including expired ones not yet removed.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes expired entries and, if the cache is still full, a tenth of the others.
+     *
+     * @param now The current time in epoch milliseconds
+     */
+    private void makeRoom(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * A cached value with its expiry time.
+     *
+     * @param <V> Type of the value
+     */
+    private static final class Entry<V> {
+
+        /** The cached value */
+        private final V value;
+
+        /** Time in epoch milliseconds at which the value expires */
+        private final long expiresAt;
+
+        /**
+         * Creates an entry.
+         *
+         * @param value The cached value
+         * @param expiresAt Time in epoch milliseconds at which the value expires
+         */
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.restaurant.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.restaurant.common.exceptions.ValidationException;
+
+/**
+ * Opaque cursor of a listing paged by keyset on a timestamp and an ID.
+ * The cursor holds the position of the last row of a page, so the next
+ * page starts right after it whatever was inserted in the meantime.
+ *
+ * Cursors are the URL-safe Base64 form of the timestamp and the ID joined
+ * by a separator. IDs may contain the separator, as only the first one is
+ * significant.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class KeysetCursor {
+
+    /** Separator between timestamp and ID */
+    private static final char SEPARATOR = '|';
+
+    /** Timestamp of the last row already returned */
+    private final LocalDateTime time;
+
+    /** ID of the last row already returned */
+    private final String id;
+
+    /**
+     * Creates a cursor.
+     *
+     * @param time Timestamp of the last row already returned
+     * @param id ID of the last row already returned
+     */
+    public KeysetCursor(LocalDateTime time, String id) {
+        this.time = time;
+        this.id = id;
+    }
+
+    /**
+     * Encodes the position of a row as a cursor.
+     *
+     * @param time Timestamp of the row
+     * @param id ID of the row
+     * @return The opaque cursor
+     */
+    public static String encode(LocalDateTime time, String id) {
+        String position = time + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor The opaque cursor, or null or empty for the first page
+     * @return The position, or null for the first page
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(position.substring(0, separator)),
+                    position.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+
+    /**
+     * Gets the timestamp of the last row already returned.
+     *
+     * @return The timestamp
+     */
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the ID of the last row already returned.
+     *
+     * @return The ID
+     */
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurant.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedTtlCache}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class BoundedTtlCacheTest {
+
+    /** Expiry time far enough ahead not to be reached during a test */
+    private static final long LATER = System.currentTimeMillis() + 60_000;
+
+    @Test
+    void valuesAreServedUntilTheyExpire() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+
+        cache.put("live", "a", LATER);
+        cache.put("expired", "b", System.currentTimeMillis() - 1);
+
+        assertThat(cache.get("live")).isEqualTo("a");
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("missing")).isNull();
+    }
+
+    @Test
+    void expiredValuesRemainAvailableAsAFallback() throws InterruptedException {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("key", "stale", System.currentTimeMillis() + 20);
+
+        Thread.sleep(40);
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.getIncludingExpired("key")).isEqualTo("stale");
+    }
+
+    @Test
+    void fullCacheDropsExpiredEntriesFirst() throws InterruptedException {
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>(20);
+        cache.put(0, "short-lived", System.currentTimeMillis() + 20);
+        for (int key = 1; key < 20; key++) {
+            cache.put(key, "value", LATER);
+        }
+        Thread.sleep(40);
+
+        cache.put(20, "value", LATER);
+
+        assertThat(cache.size()).isEqualTo(20);
+        assertThat(cache.getIncludingExpired(0)).isNull();
+        assertThat(cache.get(20)).isEqualTo("value");
+    }
+
+    @Test
+    void fullCacheDropsATenthOfItsEntries() {
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>(20);
+        for (int key = 0; key < 20; key++) {
+            cache.put(key, "value", LATER);
+        }
+
+        cache.put(20, "value", LATER);
+
+        assertThat(cache.size()).isEqualTo(19);
+        assertThat(cache.get(20)).isEqualTo("value");
+    }
+
+    @Test
+    void nothingIsCachedWithoutCapacity() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(0);
+
+        cache.put("key", "value", LATER);
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void loadsThatRacedAnInvalidationAreNotStored() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        long generation = cache.generation();
+
+        cache.invalidate("other");
+        cache.putIfCurrent("key", "stale", LATER, generation);
+        cache.putIfCurrent("key", "fresh", LATER, cache.generation());
+
+        assertThat(cache.get("key")).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidateRemovesTheEntry() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("key", "value", LATER);
+
+        cache.invalidate("key");
+
+        assertThat(cache.getIncludingExpired("key")).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.restaurant.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.common.exceptions.ValidationException;
+
+/**
+ * Unit tests for {@link KeysetCursor}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class KeysetCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000);
+
+    @Test
+    void encodedPositionDecodesToItself() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(TIME, "r-42"));
+
+        assertThat(cursor.getTime()).isEqualTo(TIME);
+        assertThat(cursor.getId()).isEqualTo("r-42");
+    }
+
+    @Test
+    void encodedCursorsAreUrlSafe() {
+        String cursor = KeysetCursor.encode(TIME, "??>>~~");
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void idsMayContainTheSeparator() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(TIME, "a|b|c"));
+
+        assertThat(cursor.getTime()).isEqualTo(TIME);
+        assertThat(cursor.getId()).isEqualTo("a|b|c");
+    }
+
+    @Test
+    void missingCursorMeansTheFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertRejected("not base64!");
+        // "no-separator"
+        assertRejected("bm8tc2VwYXJhdG9y");
+        // "yesterday|id"
+        assertRejected("eWVzdGVyZGF5fGlk");
+    }
+
+    private static void assertRejected(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOfSatisfying(ValidationException.class,
+                        e -> assertThat(e.getValidationErrors()).containsKey("cursor"));
+    }
+}
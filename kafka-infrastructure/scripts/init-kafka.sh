@@ -53,6 +53,11 @@ kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic rest
 kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic reservation-time-validation-request --partitions 3 --replication-factor 1
 kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic reservation-time-validation-response --partitions 3 --replication-factor 1
 
+# Restaurant Search Topics
+# Topics for handling restaurant search requests and paged responses
+kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic restaurant-search-request --partitions 3 --replication-factor 1
+kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic restaurant-search-response --partitions 3 --replication-factor 1
+
 # Notification Service Topics
 # Topics for handling notification-related events
 kafka-topics --bootstrap-server kafka:9092 --create --if-not-exists --topic notification-events --partitions 3 --replication-factor 1
@@ -1,13 +1,16 @@
 package com.restaurant.reservation.api.controllers;
 
+import java.time.LocalDate;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,12 +22,17 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.common.exceptions.EntityNotFoundException;
+import com.restaurant.reservation.dto.FloorTimelineDTO;
 import com.restaurant.reservation.dto.ReservationAddMenuItemsRequest;
 import com.restaurant.reservation.dto.ReservationCreateRequest;
 import com.restaurant.reservation.dto.ReservationDTO;
+import com.restaurant.reservation.dto.ReservationFieldSelection;
+import com.restaurant.reservation.dto.ReservationPageResponse;
 import com.restaurant.reservation.dto.ReservationUpdateRequest;
 import com.restaurant.reservation.security.CurrentUser;
+import com.restaurant.reservation.service.FloorTimelineService;
 import com.restaurant.reservation.service.ReservationService;
+import com.restaurant.reservation.service.RestaurantOwnershipService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -56,64 +64,154 @@ public class ReservationController {
     /** Service for reservation operations */
     private final ReservationService reservationService;
 
+    /** Service building floor timelines */
+    private final FloorTimelineService floorTimelineService;
+
+    /** Service checking restaurant ownership */
+    private final RestaurantOwnershipService restaurantOwnershipService;
+
     /**
-     * Constructs a new ReservationController with the specified ReservationService.
+     * Constructs a new ReservationController with the specified services.
      *
      * @param reservationService The service responsible for reservation business logic
+     * @param floorTimelineService The service building floor timelines
+     * @param restaurantOwnershipService The service checking restaurant ownership
      */
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, FloorTimelineService floorTimelineService,
+            RestaurantOwnershipService restaurantOwnershipService) {
         this.reservationService = reservationService;
+        this.floorTimelineService = floorTimelineService;
+        this.restaurantOwnershipService = restaurantOwnershipService;
     }
 
     /**
-     * Retrieves a paginated list of reservations for the currently authenticated user.
+     * Retrieves a page of reservations for the currently authenticated user, latest first.
+     * Further pages are requested with the nextCursor of the previous page.
      * Requires user authentication.
      *
      * @param userId The ID of the currently authenticated user
-     * @param pageable Pagination parameters (default page size: 10)
-     * @return ResponseEntity containing a paginated list of user's reservations
+     * @param status Status to filter by (optional)
+     * @param from First day of reservations to include (optional)
+     * @param to Last day of reservations to include (optional)
+     * @param cursor Cursor of the previous page (optional)
+     * @param size Maximum number of reservations in the page (default: 10)
+     * @param fields Comma-separated reservation fields to include (optional, default: all)
+     * @param expand Comma-separated associations to load: history, menuItems (optional, default: none)
+     * @return ResponseEntity containing a page of the user's reservations
      */
     @GetMapping("/user")
     @PreAuthorize("isAuthenticated()")
     @Operation(
         summary = "Get user's reservations",
-        description = "Retrieves a paginated list of reservations for the currently authenticated user"
+        description = "Retrieves a page of reservations for the currently authenticated user, latest first"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Reservations retrieved successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservationPageResponse.class))
         ),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, cursor or size"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - User not authenticated"),
         @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized")
     })
-    public ResponseEntity<ResponseDTO<Page<ReservationDTO>>> getReservationsByUser(
+    public ResponseEntity<MappingJacksonValue> getReservationsByUser(
             @Parameter(hidden = true) @CurrentUser String userId,
-            @Parameter(description = "Pagination parameters") @PageableDefault(size = 10) Pageable pageable) {
+            @Parameter(description = "Status to filter by") @RequestParam(required = false) String status,
+            @Parameter(description = "First day to include")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day to include")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Cursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Fields to include") @RequestParam(required = false) String fields,
+            @Parameter(description = "Associations to load") @RequestParam(required = false) String expand) {
         logger.info("Fetching reservations for user: {}", userId);
-        Page<ReservationDTO> reservations = reservationService.getReservationsByUserId(userId, pageable);
-        logger.debug("Found {} reservations for user {}", reservations.getTotalElements(), userId);
-        return ResponseEntity.ok(ResponseDTO.success(reservations));
+        ReservationFieldSelection selection = ReservationFieldSelection.parse(fields, expand, false);
+        ReservationPageResponse reservations = reservationService.getReservationsByUserId(
+                userId, status, from, to, cursor, size, selection);
+        logger.debug("Found {} reservations for user {}", reservations.getReservations().size(), userId);
+        return ResponseEntity.ok(withSelection(ResponseDTO.success(reservations), selection));
     }
 
     /**
-     * Retrieves a paginated list of reservations for a specific restaurant.
+     * Retrieves a page of reservations for a specific restaurant, latest first.
+     * Further pages are requested with the nextCursor of the previous page.
      * Requires ADMIN or RESTAURANT_OWNER role.
      *
      * @param restaurantId The ID of the restaurant
-     * @param pageable Pagination parameters (default page size: 20)
-     * @return ResponseEntity containing a paginated list of restaurant's reservations
+     * @param status Status to filter by (optional)
+     * @param from First day of reservations to include (optional)
+     * @param to Last day of reservations to include (optional)
+     * @param cursor Cursor of the previous page (optional)
+     * @param size Maximum number of reservations in the page (default: 20)
+     * @param fields Comma-separated reservation fields to include (optional, default: all)
+     * @param expand Comma-separated associations to load: history, menuItems (optional, default: none)
+     * @return ResponseEntity containing a page of the restaurant's reservations
      */
     @GetMapping("/restaurant/{restaurantId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('RESTAURANT_OWNER')")
-    public ResponseEntity<ResponseDTO<Page<ReservationDTO>>> getReservationsByRestaurant(
+    public ResponseEntity<MappingJacksonValue> getReservationsByRestaurant(
             @PathVariable String restaurantId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
         logger.info("Fetching reservations for restaurant: {}", restaurantId);
-        Page<ReservationDTO> reservations = reservationService.getReservationsByRestaurantId(restaurantId, pageable);
-        logger.debug("Found {} reservations for restaurant {}", reservations.getTotalElements(), restaurantId);
-        return ResponseEntity.ok(ResponseDTO.success(reservations));
+        ReservationFieldSelection selection = ReservationFieldSelection.parse(fields, expand, false);
+        ReservationPageResponse reservations = reservationService.getReservationsByRestaurantId(
+                restaurantId, status, from, to, cursor, size, selection);
+        logger.debug("Found {} reservations for restaurant {}", reservations.getReservations().size(), restaurantId);
+        return ResponseEntity.ok(withSelection(ResponseDTO.success(reservations), selection));
+    }
+
+    /**
+     * Retrieves the floor timeline of a restaurant for a day: the reservations
+     * of each table in chronological order. With a since version from a previous
+     * response, only the changes after it are returned.
+     * Requires ADMIN role, or RESTAURANT_OWNER role and ownership of the restaurant,
+     * since the timeline shows guests' names and contact details.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The day to show
+     * @param since Version of a previous timeline (optional)
+     * @param userId The ID of the currently authenticated user
+     * @param authentication The authentication of the current request
+     * @return ResponseEntity containing the full timeline or the changes since the version
+     * @throws AccessDeniedException if a non-admin caller does not own the restaurant
+     */
+    @GetMapping("/restaurant/{restaurantId}/timeline")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RESTAURANT_OWNER')")
+    @Operation(
+        summary = "Get floor timeline",
+        description = "Retrieves the reservations of each table of a restaurant on a day, or the changes since a version"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = FloorTimelineDTO.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid date or version"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - User not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized")
+    })
+    public ResponseEntity<ResponseDTO<FloorTimelineDTO>> getFloorTimeline(
+            @PathVariable String restaurantId,
+            @Parameter(description = "Day to show")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Version of a previous timeline") @RequestParam(required = false) Long since,
+            @Parameter(hidden = true) @CurrentUser String userId,
+            @Parameter(hidden = true) Authentication authentication) {
+        logger.info("Fetching floor timeline for restaurant {} on {}", restaurantId, date);
+        if (!isAdmin(authentication) && !restaurantOwnershipService.isUserRestaurantOwner(restaurantId, userId)) {
+            throw new AccessDeniedException("Only the owner of the restaurant can view its floor timeline");
+        }
+        FloorTimelineDTO timeline = floorTimelineService.getTimeline(restaurantId, date, since);
+        return ResponseEntity.ok(ResponseDTO.success(timeline));
     }
 
     /**
@@ -121,19 +219,25 @@ public class ReservationController {
      * Requires user authentication.
      *
      * @param id The ID of the reservation to retrieve
+     * @param fields Comma-separated reservation fields to include (optional, default: all)
+     * @param expand Comma-separated associations to load: history, menuItems (optional, default: both)
      * @return ResponseEntity containing the requested reservation
      */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ResponseDTO<ReservationDTO>> getReservationById(@PathVariable String id) {
+    public ResponseEntity<MappingJacksonValue> getReservationById(
+            @PathVariable String id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
         logger.info("Fetching reservation with ID: {}", id);
+        ReservationFieldSelection selection = ReservationFieldSelection.parse(fields, expand, true);
         try {
-            ReservationDTO reservation = reservationService.getReservationById(id);
-            return ResponseEntity.ok(ResponseDTO.success(reservation));
+            ReservationDTO reservation = reservationService.getReservationById(id, selection);
+            return ResponseEntity.ok(withSelection(ResponseDTO.success(reservation), selection));
         } catch (EntityNotFoundException e) {
             logger.warn("Reservation not found: {}", id);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ResponseDTO.error("Reservation not found with ID: " + id));
+                    .body(withSelection(ResponseDTO.error("Reservation not found with ID: " + id), selection));
         }
     }
 
@@ -366,4 +470,28 @@ public class ReservationController {
                     .body(ResponseDTO.error("Failed to add menu items to reservation: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Wraps a response body so only the selected reservation fields are serialized.
+     *
+     * @param body The response body
+     * @param selection Fields requested by the client
+     * @return The body with the reservation field filter for this response
+     */
+    private static MappingJacksonValue withSelection(Object body, ReservationFieldSelection selection) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(selection.toFilterProvider());
+        return value;
+    }
+
+    /**
+     * Checks if the authenticated caller has the ADMIN role.
+     *
+     * @param authentication The authentication of the current request
+     * @return true if the caller is an administrator
+     */
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
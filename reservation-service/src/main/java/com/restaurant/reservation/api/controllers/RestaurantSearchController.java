@@ -1,5 +1,6 @@
 package com.restaurant.reservation.api.controllers;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -9,11 +10,13 @@ import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.common.dto.restaurant.RestaurantDTO;
@@ -36,6 +39,9 @@ public class RestaurantSearchController {
     /** Logger for this controller */
     private static final Logger logger = LoggerFactory.getLogger(RestaurantSearchController.class);
 
+    /** Time in milliseconds a streaming search connection is kept open */
+    private static final long STREAM_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(20);
+
     /** Service for restaurant search operations */
     private final RestaurantSearchService restaurantSearchService;
 
@@ -97,4 +103,52 @@ public class RestaurantSearchController {
                     .body(ResponseDTO.error("Unexpected error during restaurant search. Please try again later."));
         }
     }
+
+    /**
+     * Searches for available restaurants and streams the results as server-sent events.
+     * Each page of results received from the restaurant service is sent as a
+     * "page" event as soon as it arrives. A final "complete" event carries the
+     * total number of results, or an "error" event describes why the search failed.
+     *
+     * @param criteria The search criteria
+     * @return SseEmitter streaming the result pages
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRestaurants(@Valid @RequestBody RestaurantSearchCriteriaDTO criteria) {
+        logger.info("Streaming restaurant search with criteria: date={}, time={}, partySize={}",
+                criteria.getDate(), criteria.getTime(), criteria.getPartySize());
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+
+        restaurantSearchService.searchRestaurants(criteria, page -> sendEvent(emitter, "page", page))
+                .whenComplete((restaurants, ex) -> {
+                    if (ex == null) {
+                        sendEvent(emitter, "complete", ResponseDTO.success(restaurants.size(),
+                                "Found " + restaurants.size() + " restaurants matching the criteria"));
+                    } else {
+                        logger.error("Error during streaming restaurant search: {}", ex.getMessage());
+                        sendEvent(emitter, "error", ResponseDTO.error("Restaurant search failed. Please try again later."));
+                    }
+                    emitter.complete();
+                });
+
+        return emitter;
+    }
+
+    /**
+     * Sends a named JSON event to a streaming client.
+     * Failures are logged and end the stream, typically because the client disconnected.
+     *
+     * @param emitter The emitter connected to the client
+     * @param name The event name
+     * @param data The event payload
+     */
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Could not send restaurant search event '{}': {}", name, e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,8 +21,10 @@ import org.springframework.web.bind.annotation.RestController;
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.dto.AvailabilityGridDTO;
 import com.restaurant.reservation.dto.ScheduleDTO;
 import com.restaurant.reservation.dto.ScheduleUpdateRequest;
+import com.restaurant.reservation.service.AvailabilityCalendarService;
 import com.restaurant.reservation.service.ScheduleService;
 
 import jakarta.validation.Valid;
@@ -46,13 +49,19 @@ public class ScheduleController {
     /** Service for schedule operations */
     private final ScheduleService scheduleService;
 
+    /** Service for availability grid queries */
+    private final AvailabilityCalendarService availabilityCalendarService;
+
     /**
-     * Constructs a new ScheduleController with the specified ScheduleService.
+     * Constructs a new ScheduleController with the required services.
      *
      * @param scheduleService The service responsible for schedule management
+     * @param availabilityCalendarService The service maintaining availability grids
      */
-    public ScheduleController(ScheduleService scheduleService) {
+    public ScheduleController(ScheduleService scheduleService,
+            AvailabilityCalendarService availabilityCalendarService) {
         this.scheduleService = scheduleService;
+        this.availabilityCalendarService = availabilityCalendarService;
     }
 
     /**
@@ -90,6 +99,39 @@ public class ScheduleController {
         }
     }
 
+    /**
+     * Retrieves the availability grid of a restaurant for a date.
+     * The grid lists 15-minute slots with the covers still bookable in each
+     * slot and which party-size bands fit. Responses carry an ETag; requests
+     * with a matching If-None-Match header receive 304 Not Modified.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the grid
+     * @return ResponseEntity containing the availability grid
+     */
+    @GetMapping("/restaurant/{restaurantId}/availability")
+    public ResponseEntity<ResponseDTO<AvailabilityGridDTO>> getAvailabilityGrid(
+            @PathVariable String restaurantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        logger.debug("Fetching availability grid for restaurant: {}, date: {}", restaurantId, date);
+
+        try {
+            AvailabilityGridDTO grid = availabilityCalendarService.getAvailabilityGrid(restaurantId, date);
+            return ResponseEntity.ok()
+                    .eTag("\"" + grid.getVersion() + "\"")
+                    .cacheControl(CacheControl.noCache())
+                    .body(ResponseDTO.success(grid));
+        } catch (ValidationException e) {
+            logger.warn("Invalid availability request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseDTO.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching availability grid: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDTO.error("Failed to fetch availability: " + e.getMessage()));
+        }
+    }
+
     /**
      * Updates the schedule for a specific restaurant on a given date.
      * Requires ADMIN or RESTAURANT_OWNER role.
@@ -11,15 +11,29 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import com.restaurant.common.events.kitchen.MenuItemEvent;
 import com.restaurant.common.events.reservation.FindAvailableTableResponseEvent;
+import com.restaurant.common.events.reservation.ReservationBookingChangedEvent;
+import com.restaurant.common.events.reservation.ScheduleChangedEvent;
+import com.restaurant.common.events.restaurant.CapacityChangedEvent;
+import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent;
 import com.restaurant.common.events.restaurant.ReservationTimeValidationResponseEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
+import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
 import com.restaurant.common.events.restaurant.RestaurantValidationResponseEvent;
+import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
+import com.restaurant.common.events.restaurant.TablesChangedEvent;
+import com.restaurant.common.events.user.ProfileUpdatedEvent;
 import com.restaurant.common.events.user.UserEvent;
+import com.restaurant.common.events.user.UserLoggedInEvent;
+import com.restaurant.common.events.user.UserRegisteredEvent;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
 
 /**
  * Configuration class for Kafka Consumer settings.
@@ -33,6 +47,7 @@ import com.restaurant.common.events.user.UserEvent;
  * - Table availability event consumers
  * - Restaurant validation event consumers
  * - Reservation time validation event consumers
+ * - Availability change consumers, one group per instance
  *
  * Each consumer type has its own factory and container factory with specific
  * settings for handling different event types.
@@ -65,6 +80,7 @@ public class KafkaConsumerConfig {
      * - Auto offset reset policy
      * - Error handling deserializers
      * - Trusted packages for deserialization
+     * - Mapping of the restaurant service's short type IDs to event classes
      *
      * @return Configured ConsumerFactory for general restaurant events
      */
@@ -80,6 +96,7 @@ public class KafkaConsumerConfig {
         props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
 
         JsonDeserializer<Object> deserializer = new JsonDeserializer<>(Object.class);
+        deserializer.setTypeMapper(restaurantEventTypeMapper());
         deserializer.addTrustedPackages("com.restaurant.common.events");
         deserializer.setUseTypeMapperForKey(true);
 
@@ -88,6 +105,34 @@ public class KafkaConsumerConfig {
                 new ErrorHandlingDeserializer<>(deserializer));
     }
 
+    /**
+     * Creates a type mapper for events sent by the restaurant service.
+     * The restaurant service sends short type IDs instead of class names,
+     * so every type ID it declares is mapped to its event class here.
+     *
+     * @return Type mapper resolving the restaurant service's type IDs
+     */
+    private DefaultJackson2JavaTypeMapper restaurantEventTypeMapper() {
+        Map<String, Class<?>> restaurantEventTypes = new HashMap<>();
+        restaurantEventTypes.put("RestaurantUpdatedEvent", RestaurantUpdatedEvent.class);
+        restaurantEventTypes.put("RestaurantChangedEvent", RestaurantChangedEvent.class);
+        restaurantEventTypes.put("CapacityChangedEvent", CapacityChangedEvent.class);
+        restaurantEventTypes.put("TablesChangedEvent", TablesChangedEvent.class);
+        restaurantEventTypes.put("TableStatusChangedEvent", TableStatusChangedEvent.class);
+        restaurantEventTypes.put("OperatingHoursChangedEvent", OperatingHoursChangedEvent.class);
+        restaurantEventTypes.put("FindAvailableTableResponseEvent", FindAvailableTableResponseEvent.class);
+        restaurantEventTypes.put("RestaurantValidationResponseEvent", RestaurantValidationResponseEvent.class);
+        restaurantEventTypes.put("ReservationTimeValidationResponseEvent",
+                ReservationTimeValidationResponseEvent.class);
+        restaurantEventTypes.put("ReservationTimeValidationRequestEvent",
+                ReservationTimeValidationRequestEvent.class);
+        restaurantEventTypes.put("RestaurantSearchResponseEvent", RestaurantSearchResponseEvent.class);
+
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setIdClassMapping(restaurantEventTypes);
+        return typeMapper;
+    }
+
     /**
      * Creates a container factory for restaurant event listeners.
      * Uses the restaurant event consumer factory for message consumption.
@@ -116,7 +161,17 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
 
+        // The user service sends short type IDs instead of class names
+        Map<String, Class<?>> userEventTypes = new HashMap<>();
+        userEventTypes.put("UserRegisteredEvent", UserRegisteredEvent.class);
+        userEventTypes.put("ProfileUpdatedEvent", ProfileUpdatedEvent.class);
+        userEventTypes.put("UserLoggedInEvent", UserLoggedInEvent.class);
+        userEventTypes.put("UserSecurityChangedEvent", UserSecurityChangedEvent.class);
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setIdClassMapping(userEventTypes);
+
         JsonDeserializer<UserEvent> deserializer = new JsonDeserializer<>(UserEvent.class);
+        deserializer.setTypeMapper(typeMapper);
         deserializer.addTrustedPackages("com.restaurant.common.events");
         deserializer.setUseTypeMapperForKey(true);
 
@@ -315,4 +370,55 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(menuItemConsumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a consumer factory for availability changes published by this service.
+     * Configures:
+     * - Bootstrap servers
+     * - Consumer group ID, which listeners replace with one per instance
+     * - Latest offset reset policy
+     * - Error handling deserializers
+     * - Mapping of the short type IDs of availability changes to event classes
+     *
+     * @return Configured ConsumerFactory for availability changes
+     */
+    @Bean
+    public ConsumerFactory<String, Object> availabilityEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        Map<String, Class<?>> availabilityEventTypes = new HashMap<>();
+        availabilityEventTypes.put("ReservationBookingChangedEvent", ReservationBookingChangedEvent.class);
+        availabilityEventTypes.put("ScheduleChangedEvent", ScheduleChangedEvent.class);
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setIdClassMapping(availabilityEventTypes);
+
+        JsonDeserializer<Object> deserializer = new JsonDeserializer<>(Object.class);
+        deserializer.setTypeMapper(typeMapper);
+        deserializer.addTrustedPackages("com.restaurant.common.events");
+        deserializer.setUseTypeMapperForKey(true);
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    /**
+     * Creates a container factory for availability change listeners.
+     * Uses the availability event consumer factory for message consumption.
+     *
+     * @return Configured ConcurrentKafkaListenerContainerFactory for availability changes
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> availabilityKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(availabilityEventConsumerFactory());
+        return factory;
+    }
+}
@@ -68,6 +68,8 @@ public class KafkaProducerConfig {
                 "ReservationConfirmedEvent:com.restaurant.common.events.reservation.ReservationConfirmedEvent",
                 "ReservationCancelledEvent:com.restaurant.common.events.reservation.ReservationCancelledEvent",
                 "ReservationModifiedEvent:com.restaurant.common.events.reservation.ReservationModifiedEvent",
+                "ReservationBookingChangedEvent:com.restaurant.common.events.reservation.ReservationBookingChangedEvent",
+                "ScheduleChangedEvent:com.restaurant.common.events.reservation.ScheduleChangedEvent",
                 "TableAssignedEvent:com.restaurant.common.events.reservation.TableAssignedEvent",
                 "TableStatusChangedEvent:com.restaurant.common.events.restaurant.TableStatusChangedEvent",
                 "TableStatusEvent:com.restaurant.common.events.reservation.TableStatusEvent",
@@ -9,7 +9,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import com.restaurant.reservation.service.AvailabilityCalendarService;
 import com.restaurant.reservation.service.ReservationService;
+import com.restaurant.reservation.service.RestaurantSearchService;
 
 /**
  * Configuration class for scheduled tasks in the reservation service.
@@ -20,6 +22,9 @@ import com.restaurant.reservation.service.ReservationService;
  * - Automatic processing of expired reservations
  * - Automatic completion of past reservations
  * - Scheduled cleanup of old data
+ * - Eviction of expired restaurant search results
+ * - Eviction of stale availability grids
+ * - Retrying the capacity of availability grids using the default
  * - Configurable execution intervals
  *
  * @author Restaurant Reservation Team
@@ -40,6 +45,12 @@ public class SchedulingConfig {
     /** Service responsible for reservation-related operations */
     private final ReservationService reservationService;
 
+    /** Service responsible for restaurant search operations */
+    private final RestaurantSearchService restaurantSearchService;
+
+    /** Service maintaining in-memory availability grids */
+    private final AvailabilityCalendarService availabilityCalendarService;
+
     /** Interval in milliseconds for processing expired reservations */
     @Value("${scheduling.expired-reservations.interval:60000}")
     private long expiredReservationsInterval;
@@ -53,12 +64,18 @@ public class SchedulingConfig {
     private int dataCleanupAgeDays;
 
     /**
-     * Constructs a new SchedulingConfig with the specified ReservationService.
+     * Constructs a new SchedulingConfig with the required services.
      *
      * @param reservationService The service responsible for reservation operations
+     * @param restaurantSearchService The service responsible for restaurant search operations
+     * @param availabilityCalendarService The service maintaining availability grids
      */
-    public SchedulingConfig(ReservationService reservationService) {
+    public SchedulingConfig(ReservationService reservationService,
+            RestaurantSearchService restaurantSearchService,
+            AvailabilityCalendarService availabilityCalendarService) {
         this.reservationService = reservationService;
+        this.restaurantSearchService = restaurantSearchService;
+        this.availabilityCalendarService = availabilityCalendarService;
     }
 
     /**
@@ -107,4 +124,45 @@ public class SchedulingConfig {
             logger.error("Error cleaning up old reservation data: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Scheduled task to evict expired restaurant search results.
+     * Runs every minute so that search results cached for queries that are
+     * never repeated do not accumulate in memory.
+     */
+    @Scheduled(fixedRateString = "${scheduling.search-cache-cleanup.interval:60000}")
+    public void evictExpiredSearchResults() {
+        try {
+            restaurantSearchService.evictExpiredResults();
+        } catch (Exception e) {
+            logger.error("Error evicting expired restaurant search results: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to evict stale availability grids.
+     * Runs every hour to drop grids for past dates and the least recently
+     * read grids beyond the configured maximum.
+     */
+    @Scheduled(fixedRateString = "${scheduling.availability-cleanup.interval:3600000}")
+    public void evictStaleAvailabilityGrids() {
+        try {
+            availabilityCalendarService.evictStaleGrids();
+        } catch (Exception e) {
+            logger.error("Error evicting stale availability grids: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to obtain the capacity of restaurants whose availability
+     * grids still use the default capacity, so reads never wait for it.
+     */
+    @Scheduled(fixedRateString = "${scheduling.availability-capacity-retry.interval:30000}")
+    public void retryProvisionalAvailabilityGrids() {
+        try {
+            availabilityCalendarService.retryProvisionalGrids();
+        } catch (Exception e) {
+            logger.error("Error retrying provisional availability grids: {}", e.getMessage(), e);
+        }
+    }
+}
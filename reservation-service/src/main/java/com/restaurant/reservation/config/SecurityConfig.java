@@ -76,7 +76,7 @@ public class SecurityConfig {
                 // Schedule endpoints
                 .requestMatchers(HttpMethod.GET, "/api/schedules/restaurant/**").permitAll()
                 // Restaurant search endpoint
-                .requestMatchers(HttpMethod.POST, "/api/restaurants/search").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/restaurants/search", "/api/restaurants/search/stream").permitAll()
                 // H2 console access (development only)
                 .requestMatchers("/h2-console/**").permitAll()
                 // Health check endpoint
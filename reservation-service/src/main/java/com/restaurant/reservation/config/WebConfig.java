@@ -1,6 +1,10 @@
 package com.restaurant.reservation.config;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.restaurant.reservation.dto.ReservationFieldSelection;
 import com.restaurant.reservation.security.CurrentUserArgumentResolver;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -52,4 +56,16 @@ public class WebConfig implements WebMvcConfigurer {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * Registers the default reservation field filter, which writes all fields.
+     * Endpoints supporting sparse fieldsets replace it per response.
+     *
+     * @return Customizer adding the default filter to the application ObjectMapper
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer reservationFieldFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(ReservationFieldSelection.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
 }
\ No newline at end of file
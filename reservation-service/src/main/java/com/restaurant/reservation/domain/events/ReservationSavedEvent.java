@@ -0,0 +1,34 @@
+package com.restaurant.reservation.domain.events;
+
+/**
+ * Application event published by the reservation repository each time a
+ * reservation is saved.
+ * Listeners use it to keep projections of reservations, such as the
+ * reservation view, in step with the reservation table.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class ReservationSavedEvent {
+
+    /** ID of the saved reservation */
+    private final String reservationId;
+
+    /**
+     * Creates an event for a saved reservation.
+     *
+     * @param reservationId ID of the saved reservation
+     */
+    public ReservationSavedEvent(String reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Gets the ID of the saved reservation.
+     *
+     * @return The reservation ID
+     */
+    public String getReservationId() {
+        return reservationId;
+    }
+}
@@ -3,13 +3,17 @@ package com.restaurant.reservation.domain.models;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.DomainEvents;
+
 import com.restaurant.common.constants.StatusCodes;
+import com.restaurant.reservation.domain.events.ReservationSavedEvent;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -178,6 +182,17 @@ public class Reservation {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Gets the events to publish when the reservation is saved through its repository.
+     * The saved event keeps projections such as the reservation view up to date.
+     *
+     * @return The events to publish
+     */
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return id != null ? List.of(new ReservationSavedEvent(id)) : List.of();
+    }
+
     /**
      * Adds a new history record to track changes to the reservation.
      *
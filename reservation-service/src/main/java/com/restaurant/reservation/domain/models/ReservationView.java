@@ -0,0 +1,354 @@
+package com.restaurant.reservation.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing the denormalized read model of a reservation.
+ * One row per reservation holds everything reservation listings show,
+ * including the flattened table assignment and the number and total price
+ * of pre-ordered menu items, so a page of reservations is read with a single
+ * indexed query instead of loading history and menu items per reservation.
+ *
+ * Rows are written only by the reservation view service, in the same
+ * transaction as the reservation they describe. Each write stamps the row
+ * with an increasing change version, so floor timelines can fetch only the
+ * rows of a restaurant that changed since a client's last refresh.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "reservation_view",
+       indexes = {
+           @Index(name = "idx_reservation_view_user_time_id", columnList = "userId, reservationTime, reservation_id"),
+           @Index(name = "idx_reservation_view_restaurant_time_id",
+                  columnList = "restaurantId, reservationTime, reservation_id"),
+           @Index(name = "idx_reservation_view_restaurant_status_time_id",
+                  columnList = "restaurantId, status, reservationTime, reservation_id"),
+           @Index(name = "idx_reservation_view_restaurant_version",
+                  columnList = "restaurantId, change_version")
+       })
+public class ReservationView {
+
+    /** ID of the reservation */
+    @Id
+    @Column(name = "reservation_id")
+    private String reservationId;
+
+    /** ID of the user who made the reservation */
+    @Column(nullable = false)
+    private String userId;
+
+    /** ID of the restaurant */
+    @Column(nullable = false)
+    private String restaurantId;
+
+    /** ID of the primary assigned table */
+    private String tableId;
+
+    /** Comma-separated IDs of all assigned tables */
+    @Column(name = "table_ids")
+    private String tableIds;
+
+    /** Start time of the reservation */
+    @Column(nullable = false)
+    private LocalDateTime reservationTime;
+
+    /** End time of the reservation */
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    /** Number of guests */
+    @Column(nullable = false)
+    private int partySize;
+
+    /** Duration of the reservation in minutes */
+    @Column(nullable = false)
+    private int durationMinutes;
+
+    /** Current status of the reservation */
+    @Column(nullable = false)
+    private String status;
+
+    /** Name given for the reservation */
+    @Column(nullable = false)
+    private String customerName;
+
+    /** Contact phone number given for the reservation */
+    private String customerPhone;
+
+    /** Contact email given for the reservation */
+    private String customerEmail;
+
+    /** Special requests of the customer */
+    @Column(length = 1000)
+    private String specialRequests;
+
+    /** Whether reminders are sent for the reservation */
+    @Column(nullable = false)
+    private boolean remindersEnabled;
+
+    /** Total quantity of pre-ordered menu items */
+    @Column(nullable = false)
+    private int menuItemCount;
+
+    /** Total price of pre-ordered menu items */
+    @Column(nullable = false)
+    private double menuItemTotal;
+
+    /** Time the reservation was created */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Time the reservation was last updated */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** Deadline for confirming a pending reservation */
+    private LocalDateTime confirmationDeadline;
+
+    /** Epoch milliseconds of the last write, increasing across writes; null for rows written before versioning */
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public ReservationView() {
+    }
+
+    /**
+     * Creates an empty view for a reservation.
+     *
+     * @param reservationId ID of the reservation
+     */
+    public ReservationView(String reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Copies the current state of a reservation into this view.
+     *
+     * @param reservation The reservation this view describes
+     * @param menuItemCount Total quantity of the reservation's menu items
+     * @param menuItemTotal Total price of the reservation's menu items
+     * @param changeVersion Change version of this write
+     */
+    public void apply(Reservation reservation, int menuItemCount, double menuItemTotal, long changeVersion) {
+        this.userId = reservation.getUserId();
+        this.restaurantId = reservation.getRestaurantId();
+        this.tableId = reservation.getTableId();
+        this.tableIds = reservation.hasCombinedTables() ? reservation.getCombinedTableIds() : reservation.getTableId();
+        this.reservationTime = reservation.getReservationTime();
+        this.endTime = reservation.getEndTime();
+        this.partySize = reservation.getPartySize();
+        this.durationMinutes = reservation.getDurationMinutes();
+        this.status = reservation.getStatus();
+        this.customerName = reservation.getCustomerName();
+        this.customerPhone = reservation.getCustomerPhone();
+        this.customerEmail = reservation.getCustomerEmail();
+        this.specialRequests = reservation.getSpecialRequests();
+        this.remindersEnabled = reservation.isRemindersEnabled();
+        this.menuItemCount = menuItemCount;
+        this.menuItemTotal = menuItemTotal;
+        this.createdAt = reservation.getCreatedAt();
+        this.updatedAt = reservation.getUpdatedAt();
+        this.confirmationDeadline = reservation.getConfirmationDeadline();
+        this.changeVersion = changeVersion;
+    }
+
+    /**
+     * Gets the ID of the reservation.
+     *
+     * @return The reservation ID
+     */
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Gets the ID of the user who made the reservation.
+     *
+     * @return The user ID
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the ID of the primary assigned table.
+     *
+     * @return The table ID, or null if no table is assigned
+     */
+    public String getTableId() {
+        return tableId;
+    }
+
+    /**
+     * Gets the comma-separated IDs of all assigned tables.
+     *
+     * @return The table IDs, or null if no table is assigned
+     */
+    public String getTableIds() {
+        return tableIds;
+    }
+
+    /**
+     * Gets the start time of the reservation.
+     *
+     * @return The reservation time
+     */
+    public LocalDateTime getReservationTime() {
+        return reservationTime;
+    }
+
+    /**
+     * Gets the end time of the reservation.
+     *
+     * @return The end time
+     */
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Gets the number of guests.
+     *
+     * @return The party size
+     */
+    public int getPartySize() {
+        return partySize;
+    }
+
+    /**
+     * Gets the duration of the reservation in minutes.
+     *
+     * @return The duration in minutes
+     */
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Gets the current status of the reservation.
+     *
+     * @return The status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the name given for the reservation.
+     *
+     * @return The customer name
+     */
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    /**
+     * Gets the contact phone number given for the reservation.
+     *
+     * @return The customer phone number
+     */
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    /**
+     * Gets the contact email given for the reservation.
+     *
+     * @return The customer email
+     */
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    /**
+     * Gets the special requests of the customer.
+     *
+     * @return The special requests
+     */
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+
+    /**
+     * Checks whether reminders are sent for the reservation.
+     *
+     * @return true if reminders are enabled
+     */
+    public boolean isRemindersEnabled() {
+        return remindersEnabled;
+    }
+
+    /**
+     * Gets the total quantity of pre-ordered menu items.
+     *
+     * @return The menu item count
+     */
+    public int getMenuItemCount() {
+        return menuItemCount;
+    }
+
+    /**
+     * Gets the total price of pre-ordered menu items.
+     *
+     * @return The menu item total
+     */
+    public double getMenuItemTotal() {
+        return menuItemTotal;
+    }
+
+    /**
+     * Gets the time the reservation was created.
+     *
+     * @return The creation time
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets the time the reservation was last updated.
+     *
+     * @return The last update time
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Gets the deadline for confirming a pending reservation.
+     *
+     * @return The confirmation deadline
+     */
+    public LocalDateTime getConfirmationDeadline() {
+        return confirmationDeadline;
+    }
+
+    /**
+     * Gets the change version of the last write.
+     *
+     * @return The change version, or 0 for rows written before versioning
+     */
+    public long getChangeVersion() {
+        return changeVersion != null ? changeVersion : 0L;
+    }
+}
@@ -0,0 +1,90 @@
+package com.restaurant.reservation.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing a restaurant's seating capacity.
+ * This is a local copy of the capacity owned by the restaurant service,
+ * kept next to the local operating hours. It is seeded from the restaurant
+ * service the first time a restaurant is seen and maintained from capacity
+ * change events afterwards, so it survives restarts.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "restaurant_capacity")
+public class RestaurantCapacity {
+
+    /** ID of the restaurant */
+    @Id
+    @Column(name = "restaurant_id")
+    private String restaurantId;
+
+    /** Total seating capacity of the restaurant */
+    @Column(nullable = false)
+    private int capacity;
+
+    /** Time the capacity was last written */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RestaurantCapacity() {
+    }
+
+    /**
+     * Creates the capacity record of a restaurant.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param capacity Total seating capacity
+     */
+    public RestaurantCapacity(String restaurantId, int capacity) {
+        this.restaurantId = restaurantId;
+        setCapacity(capacity);
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the total seating capacity.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the total seating capacity and records the time of the change.
+     *
+     * @param capacity The capacity to set
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Gets the time the capacity was last written.
+     *
+     * @return The last update time
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
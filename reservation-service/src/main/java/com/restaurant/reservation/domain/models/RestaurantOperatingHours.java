@@ -0,0 +1,181 @@
+package com.restaurant.reservation.domain.models;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Entity class representing a restaurant's regular operating hours for one day of the week.
+ * This is a local copy of the hours owned by the restaurant service, maintained from
+ * operating hours change events, and is used to derive default daily schedules.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "restaurant_operating_hours",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"restaurant_id", "day_of_week"}))
+public class RestaurantOperatingHours {
+
+    /** Unique identifier for the operating hours record */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the restaurant these hours belong to */
+    @NotBlank(message = "Restaurant ID is required")
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** Day of the week these hours apply to */
+    @NotNull(message = "Day of week is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    /** Opening time on this day */
+    private LocalTime openTime;
+
+    /** Closing time on this day */
+    private LocalTime closeTime;
+
+    /** Flag indicating if the restaurant is closed on this day */
+    @Column(nullable = false)
+    private boolean closed = false;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RestaurantOperatingHours() {
+    }
+
+    /**
+     * Creates new operating hours for a restaurant and day of the week.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param dayOfWeek Day of the week
+     */
+    public RestaurantOperatingHours(String restaurantId, DayOfWeek dayOfWeek) {
+        this.restaurantId = restaurantId;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Gets the unique identifier of the operating hours record.
+     *
+     * @return The record ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique identifier of the operating hours record.
+     *
+     * @param id The record ID to set
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Sets the ID of the restaurant.
+     *
+     * @param restaurantId The restaurant ID to set
+     */
+    public void setRestaurantId(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    /**
+     * Gets the day of the week.
+     *
+     * @return The day of the week
+     */
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * Sets the day of the week.
+     *
+     * @param dayOfWeek The day of the week to set
+     */
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Gets the opening time.
+     *
+     * @return The opening time
+     */
+    public LocalTime getOpenTime() {
+        return openTime;
+    }
+
+    /**
+     * Sets the opening time.
+     *
+     * @param openTime The opening time to set
+     */
+    public void setOpenTime(LocalTime openTime) {
+        this.openTime = openTime;
+    }
+
+    /**
+     * Gets the closing time.
+     *
+     * @return The closing time
+     */
+    public LocalTime getCloseTime() {
+        return closeTime;
+    }
+
+    /**
+     * Sets the closing time.
+     *
+     * @param closeTime The closing time to set
+     */
+    public void setCloseTime(LocalTime closeTime) {
+        this.closeTime = closeTime;
+    }
+
+    /**
+     * Checks if the restaurant is closed on this day.
+     *
+     * @return true if the restaurant is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Sets whether the restaurant is closed on this day.
+     *
+     * @param closed true if the restaurant is closed, false otherwise
+     */
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+}
@@ -0,0 +1,111 @@
+package com.restaurant.reservation.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class recording how far the local copies of a restaurant's data
+ * have followed the restaurant service.
+ * The applied change version is the version of the last coalesced restaurant
+ * change applied here. It is advanced with a conditional UPDATE in the
+ * transaction that applies the change, so redelivered or out-of-order
+ * changes are skipped even after a restart and by every instance.
+ * The ownership version is the restaurant change version at which the
+ * restaurant's owner last changed; token ownership claims taken from an
+ * earlier version are not trusted.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "restaurant_sync_state")
+public class RestaurantSyncState {
+
+    /** Unique identifier for the record */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false, unique = true)
+    private String restaurantId;
+
+    /** Version of the last restaurant change applied locally */
+    @Column(nullable = false)
+    private long appliedVersion;
+
+    /** Restaurant change version at which the owner last changed, or null if it never did */
+    @Column(name = "ownership_version")
+    private Long ownershipVersion;
+
+    /** Time the record was last written */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RestaurantSyncState() {
+    }
+
+    /**
+     * Creates the record of a restaurant with no change applied yet.
+     *
+     * @param restaurantId ID of the restaurant
+     */
+    public RestaurantSyncState(String restaurantId) {
+        this.restaurantId = restaurantId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Gets the unique identifier of the record.
+     *
+     * @return The record ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the version of the last restaurant change applied locally.
+     *
+     * @return The applied version
+     */
+    public long getAppliedVersion() {
+        return appliedVersion;
+    }
+
+    /**
+     * Gets the restaurant change version at which the owner last changed.
+     *
+     * @return The ownership version, or null if the owner never changed
+     */
+    public Long getOwnershipVersion() {
+        return ownershipVersion;
+    }
+
+    /**
+     * Gets the time the record was last written.
+     *
+     * @return The last update time
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
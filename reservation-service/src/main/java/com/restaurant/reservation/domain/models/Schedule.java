@@ -63,11 +63,19 @@ public class Schedule {
     @Column(nullable = false)
     private boolean closed = false;
 
+    /** Flag indicating if the closed flag was set explicitly for this date */
+    @Column(nullable = false)
+    private boolean customClosed = false;
+
     /** Description of special hours or events for this date */
     @Size(max = 500, message = "Special hours description must be at most 500 characters")
     @Column(length = 500)
     private String specialHoursDescription;
 
+    /** Flag indicating if a custom total capacity is set for this date */
+    @Column(nullable = false)
+    private boolean customCapacity = false;
+
     /** Total seating capacity of the restaurant for this date */
     @Min(value = 0, message = "Total capacity cannot be negative")
     private int totalCapacity;
@@ -292,6 +300,24 @@ public class Schedule {
         this.closed = closed;
     }
 
+    /**
+     * Checks if the closed flag was set explicitly for this date.
+     *
+     * @return true if the closed flag is a custom setting, false otherwise
+     */
+    public boolean isCustomClosed() {
+        return customClosed;
+    }
+
+    /**
+     * Sets whether the closed flag was set explicitly for this date.
+     *
+     * @param customClosed true if the closed flag is a custom setting, false otherwise
+     */
+    public void setCustomClosed(boolean customClosed) {
+        this.customClosed = customClosed;
+    }
+
     /**
      * Gets the description of special hours or events for this date.
      *
@@ -310,6 +336,24 @@ public class Schedule {
         this.specialHoursDescription = specialHoursDescription;
     }
 
+    /**
+     * Checks if a custom total capacity is set for this date.
+     *
+     * @return true if custom total capacity is set, false otherwise
+     */
+    public boolean isCustomCapacity() {
+        return customCapacity;
+    }
+
+    /**
+     * Sets whether a custom total capacity is used for this date.
+     *
+     * @param customCapacity true to use custom total capacity, false otherwise
+     */
+    public void setCustomCapacity(boolean customCapacity) {
+        this.customCapacity = customCapacity;
+    }
+
     /**
      * Gets the total seating capacity of the restaurant for this date.
      *
@@ -0,0 +1,261 @@
+package com.restaurant.reservation.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing the local snapshot of a user's contact details.
+ * The snapshot is a projection maintained from user registration and profile
+ * update events, so reservation views can show who booked without calling
+ * the user service. It holds only what staff need to recognize and reach
+ * a customer.
+ *
+ * When the user is deleted, the contact details are cleared and the row is
+ * kept as a marker, so registration or profile events that arrive late
+ * cannot bring them back.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "user_snapshots")
+public class UserSnapshot {
+
+    /** ID of the user in the user service */
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    /** Username chosen at registration */
+    private String username;
+
+    /** Email address of the user */
+    private String email;
+
+    /** First name from the user's profile */
+    private String firstName;
+
+    /** Last name from the user's profile */
+    private String lastName;
+
+    /** Phone number from the user's profile */
+    private String phoneNumber;
+
+    /** Language the user prefers to be addressed in */
+    private String preferredLanguage;
+
+    /** Time the user was deleted, or null while the user exists */
+    private LocalDateTime deletedAt;
+
+    /** Time of the last event applied to this snapshot */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public UserSnapshot() {
+    }
+
+    /**
+     * Creates an empty snapshot for a user.
+     *
+     * @param userId ID of the user
+     */
+    public UserSnapshot(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the name to show for the user: the profile name when known,
+     * otherwise the username.
+     *
+     * @return The display name, or null if nothing is known about the user yet
+     */
+    public String getDisplayName() {
+        String fullName = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        return !fullName.isEmpty() ? fullName : username;
+    }
+
+    /**
+     * Gets the ID of the user.
+     *
+     * @return The user ID
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the ID of the user.
+     *
+     * @param userId The user ID
+     */
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the username.
+     *
+     * @return The username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the username.
+     *
+     * @param username The username
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the email address.
+     *
+     * @return The email address
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Sets the email address.
+     *
+     * @param email The email address
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /**
+     * Gets the first name.
+     *
+     * @return The first name
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Sets the first name.
+     *
+     * @param firstName The first name
+     */
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    /**
+     * Gets the last name.
+     *
+     * @return The last name
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Sets the last name.
+     *
+     * @param lastName The last name
+     */
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    /**
+     * Gets the phone number.
+     *
+     * @return The phone number
+     */
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    /**
+     * Sets the phone number.
+     *
+     * @param phoneNumber The phone number
+     */
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    /**
+     * Gets the preferred language.
+     *
+     * @return The preferred language
+     */
+    public String getPreferredLanguage() {
+        return preferredLanguage;
+    }
+
+    /**
+     * Sets the preferred language.
+     *
+     * @param preferredLanguage The preferred language
+     */
+    public void setPreferredLanguage(String preferredLanguage) {
+        this.preferredLanguage = preferredLanguage;
+    }
+
+    /**
+     * Gets the time of the last event applied to this snapshot.
+     *
+     * @return The last update time
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Sets the time of the last event applied to this snapshot.
+     *
+     * @param updatedAt The last update time
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Clears the user's details and marks the user as deleted.
+     *
+     * @param deletedAt Time the deletion was applied
+     */
+    public void markDeleted(LocalDateTime deletedAt) {
+        this.username = null;
+        this.email = null;
+        this.firstName = null;
+        this.lastName = null;
+        this.phoneNumber = null;
+        this.preferredLanguage = null;
+        this.deletedAt = deletedAt;
+        this.updatedAt = deletedAt;
+    }
+
+    /**
+     * Checks whether the user was deleted.
+     *
+     * @return true if the snapshot only marks a deleted user
+     */
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    /**
+     * Gets the time the user was deleted.
+     *
+     * @return The deletion time, or null while the user exists
+     */
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurant.reservation.domain.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -117,4 +118,13 @@ public interface ReservationHistoryRepository extends JpaRepository<ReservationH
      */
     @Query("SELECT h FROM ReservationHistory h WHERE h.reservation.id = :reservationId ORDER BY h.timestamp DESC")
     ReservationHistory findMostRecentByReservationId(@Param("reservationId") String reservationId);
+
+    /**
+     * Finds the history records of several reservations with one query.
+     *
+     * @param reservationIds The IDs of the reservations
+     * @return History records of the reservations, ordered by timestamp descending
+     */
+    @Query("SELECT h FROM ReservationHistory h WHERE h.reservation.id IN :reservationIds ORDER BY h.timestamp DESC")
+    List<ReservationHistory> findByReservationIds(@Param("reservationIds") Collection<String> reservationIds);
 }
@@ -2,8 +2,11 @@ package com.restaurant.reservation.domain.repositories;
 
 import com.restaurant.reservation.domain.models.ReservationMenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -39,4 +42,44 @@ public interface ReservationMenuItemRepository extends JpaRepository<Reservation
      * @param reservationId The ID of the reservation
      */
     void deleteByReservationId(String reservationId);
+
+    /**
+     * Finds the menu items of several reservations together with their menu
+     * item details, using one query.
+     *
+     * @param reservationIds The IDs of the reservations
+     * @return Menu items of the reservations
+     */
+    @Query("SELECT m FROM ReservationMenuItem m JOIN FETCH m.menuItem WHERE m.reservation.id IN :reservationIds")
+    List<ReservationMenuItem> findWithMenuItemByReservationIds(@Param("reservationIds") Collection<String> reservationIds);
+
+    /**
+     * Sums the quantities and prices of the menu items of a reservation.
+     *
+     * @param reservationId The ID of the reservation
+     * @return The totals; zero for a reservation without menu items
+     */
+    @Query("SELECT COALESCE(SUM(m.quantity), 0) AS itemCount, COALESCE(SUM(m.price * m.quantity), 0.0) AS itemTotal " +
+           "FROM ReservationMenuItem m WHERE m.reservation.id = :reservationId")
+    MenuItemTotals sumByReservationId(@Param("reservationId") String reservationId);
+
+    /**
+     * Totals of the menu items of one reservation.
+     */
+    interface MenuItemTotals {
+
+        /**
+         * Gets the total quantity of the menu items.
+         *
+         * @return The total quantity
+         */
+        Number getItemCount();
+
+        /**
+         * Gets the total price of the menu items.
+         *
+         * @return The total price
+         */
+        Number getItemTotal();
+    }
 }
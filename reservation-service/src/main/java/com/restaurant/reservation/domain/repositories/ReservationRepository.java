@@ -97,6 +97,22 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
 
+    /**
+     * Finds active (pending or confirmed) reservations of a restaurant starting within a time range.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param startTime The start time of the range (inclusive)
+     * @param endTime The end time of the range (exclusive)
+     * @return List of active reservations starting within the range, ordered by reservation time
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.restaurantId = :restaurantId AND " +
+           "r.reservationTime >= :startTime AND r.reservationTime < :endTime AND " +
+           "r.status IN ('CONFIRMED', 'PENDING') ORDER BY r.reservationTime")
+    List<Reservation> findActiveReservationsInRange(
+            @Param("restaurantId") String restaurantId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
     /**
      * Finds all reservations that conflict with a given time slot for a specific table.
      * A conflict occurs when:
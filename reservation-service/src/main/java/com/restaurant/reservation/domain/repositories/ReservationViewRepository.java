@@ -0,0 +1,130 @@
+package com.restaurant.reservation.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.reservation.domain.models.ReservationView;
+
+/**
+ * Repository interface for the reservation read model.
+ * Listings are paged by keyset: rows are ordered by reservation time and ID,
+ * both descending, and a page starts after the last row of the previous one,
+ * so deep pages cost the same as the first and no count query is needed.
+ * The (userId, reservationTime, reservation_id), (restaurantId, reservationTime,
+ * reservation_id) and (restaurantId, status, reservationTime, reservation_id)
+ * indexes serve these queries with and without a status filter; the
+ * (restaurantId, change_version) index serves floor timeline refreshes.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface ReservationViewRepository extends JpaRepository<ReservationView, String> {
+
+    /**
+     * Finds a page of the reservation views of a user.
+     *
+     * @param userId The ID of the user
+     * @param status Status to filter by, or null for all
+     * @param from Earliest reservation time (inclusive), or null
+     * @param to Latest reservation time (exclusive), or null
+     * @param cursorTime Reservation time of the last row of the previous page, or null for the first page
+     * @param cursorId Reservation ID of the last row of the previous page, or null for the first page
+     * @param pageable Maximum number of rows to return
+     * @return Views ordered by reservation time and ID, both descending
+     */
+    @Query("SELECT v FROM ReservationView v WHERE v.userId = :userId " +
+           "AND (:status IS NULL OR v.status = :status) " +
+           "AND (:from IS NULL OR v.reservationTime >= :from) " +
+           "AND (:to IS NULL OR v.reservationTime < :to) " +
+           "AND (:cursorTime IS NULL OR v.reservationTime < :cursorTime " +
+           "OR (v.reservationTime = :cursorTime AND v.reservationId < :cursorId)) " +
+           "ORDER BY v.reservationTime DESC, v.reservationId DESC")
+    List<ReservationView> findUserPage(
+            @Param("userId") String userId,
+            @Param("status") String status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") String cursorId,
+            Pageable pageable);
+
+    /**
+     * Finds a page of the reservation views of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status Status to filter by, or null for all
+     * @param from Earliest reservation time (inclusive), or null
+     * @param to Latest reservation time (exclusive), or null
+     * @param cursorTime Reservation time of the last row of the previous page, or null for the first page
+     * @param cursorId Reservation ID of the last row of the previous page, or null for the first page
+     * @param pageable Maximum number of rows to return
+     * @return Views ordered by reservation time and ID, both descending
+     */
+    @Query("SELECT v FROM ReservationView v WHERE v.restaurantId = :restaurantId " +
+           "AND (:status IS NULL OR v.status = :status) " +
+           "AND (:from IS NULL OR v.reservationTime >= :from) " +
+           "AND (:to IS NULL OR v.reservationTime < :to) " +
+           "AND (:cursorTime IS NULL OR v.reservationTime < :cursorTime " +
+           "OR (v.reservationTime = :cursorTime AND v.reservationId < :cursorId)) " +
+           "ORDER BY v.reservationTime DESC, v.reservationId DESC")
+    List<ReservationView> findRestaurantPage(
+            @Param("restaurantId") String restaurantId,
+            @Param("status") String status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") String cursorId,
+            Pageable pageable);
+
+    /**
+     * Finds the reservation views of a restaurant overlapping a time window.
+     * Reservations start no earlier than {@code earliestStart}, which bounds
+     * the index range scan for reservations running into the window.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param earliestStart Earliest reservation time considered (inclusive)
+     * @param windowStart Start of the window; reservations must end after it
+     * @param windowEnd End of the window (exclusive); reservations must start before it
+     * @return Views ordered by reservation time and ID
+     */
+    @Query("SELECT v FROM ReservationView v WHERE v.restaurantId = :restaurantId " +
+           "AND v.reservationTime >= :earliestStart AND v.reservationTime < :windowEnd " +
+           "AND v.endTime > :windowStart " +
+           "ORDER BY v.reservationTime, v.reservationId")
+    List<ReservationView> findRestaurantWindow(
+            @Param("restaurantId") String restaurantId,
+            @Param("earliestStart") LocalDateTime earliestStart,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("windowEnd") LocalDateTime windowEnd);
+
+    /**
+     * Finds the reservation views of a restaurant written after a change version.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param sinceVersion Change version already seen by the caller (exclusive)
+     * @return Views ordered by reservation time and ID
+     */
+    @Query("SELECT v FROM ReservationView v WHERE v.restaurantId = :restaurantId " +
+           "AND v.changeVersion > :sinceVersion " +
+           "ORDER BY v.reservationTime, v.reservationId")
+    List<ReservationView> findRestaurantChangesSince(
+            @Param("restaurantId") String restaurantId,
+            @Param("sinceVersion") long sinceVersion);
+
+    /**
+     * Finds IDs of reservations that have no view yet.
+     *
+     * @param pageable Maximum number of IDs to return
+     * @return IDs of reservations without a view
+     */
+    @Query("SELECT r.id FROM Reservation r WHERE NOT EXISTS " +
+           "(SELECT v.reservationId FROM ReservationView v WHERE v.reservationId = r.id)")
+    List<String> findReservationIdsWithoutView(Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.restaurant.reservation.domain.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.reservation.domain.models.RestaurantCapacity;
+
+/**
+ * Repository interface for the local copy of restaurant seating capacities.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface RestaurantCapacityRepository extends JpaRepository<RestaurantCapacity, String> {
+}
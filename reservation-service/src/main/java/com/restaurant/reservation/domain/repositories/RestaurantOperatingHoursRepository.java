@@ -0,0 +1,38 @@
+package com.restaurant.reservation.domain.repositories;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.reservation.domain.models.RestaurantOperatingHours;
+
+/**
+ * Repository interface for managing the local copy of restaurant operating hours.
+ * Provides lookups by restaurant and day of week used to derive default schedules.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface RestaurantOperatingHoursRepository extends JpaRepository<RestaurantOperatingHours, String> {
+
+    /**
+     * Finds the operating hours of a restaurant for every known day of the week.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return List of operating hours for the restaurant
+     */
+    List<RestaurantOperatingHours> findByRestaurantId(String restaurantId);
+
+    /**
+     * Finds the operating hours of a restaurant for a specific day of the week.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param dayOfWeek The day of the week
+     * @return Optional containing the operating hours if known
+     */
+    Optional<RestaurantOperatingHours> findByRestaurantIdAndDayOfWeek(String restaurantId, DayOfWeek dayOfWeek);
+}
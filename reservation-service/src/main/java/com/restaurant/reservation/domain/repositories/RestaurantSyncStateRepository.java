@@ -0,0 +1,69 @@
+package com.restaurant.reservation.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.reservation.domain.models.RestaurantSyncState;
+
+/**
+ * Repository interface for the synchronization state of restaurants.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface RestaurantSyncStateRepository extends JpaRepository<RestaurantSyncState, String> {
+
+    /**
+     * Checks whether a restaurant has a synchronization record.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return true if the record exists
+     */
+    boolean existsByRestaurantId(String restaurantId);
+
+    /**
+     * Advances a restaurant's applied change version if the new version is newer.
+     * The row stays locked until the transaction ends, so concurrent deliveries
+     * of the same change cannot both advance it.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param version The version of the change being applied
+     * @param now The current time
+     * @return Number of updated rows, 0 if the change was already applied
+     */
+    @Modifying
+    @Query("UPDATE RestaurantSyncState s SET s.appliedVersion = :version, s.updatedAt = :now " +
+           "WHERE s.restaurantId = :restaurantId AND s.appliedVersion < :version")
+    int advanceAppliedVersion(@Param("restaurantId") String restaurantId,
+                              @Param("version") long version,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * Records the restaurant change version at which a restaurant's owner changed,
+     * keeping the higher of the stored and the new version.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param version The version of the change
+     * @return Number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE RestaurantSyncState s SET s.ownershipVersion = :version " +
+           "WHERE s.restaurantId = :restaurantId " +
+           "AND (s.ownershipVersion IS NULL OR s.ownershipVersion < :version)")
+    int recordOwnershipChange(@Param("restaurantId") String restaurantId,
+                              @Param("version") long version);
+
+    /**
+     * Finds the records of restaurants whose owner changed at some point.
+     *
+     * @return Records with an ownership version
+     */
+    List<RestaurantSyncState> findByOwnershipVersionIsNotNull();
+}
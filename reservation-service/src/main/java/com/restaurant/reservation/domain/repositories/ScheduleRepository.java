@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +22,7 @@ import com.restaurant.reservation.domain.models.Schedule;
  * - Date range filtering
  * - Specific date lookup
  * - Support for custom and special schedules
+ * - Atomic booked capacity and default capacity updates
  *
  * @author Restaurant Reservation Team
  * @version 1.1
@@ -64,6 +66,15 @@ public interface ScheduleRepository extends JpaRepository<Schedule, String> {
             @Param("restaurantId") String restaurantId,
             @Param("date") LocalDate date);
 
+    /**
+     * Checks whether a restaurant has a schedule on a given date.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date to check
+     * @return true if the schedule exists
+     */
+    boolean existsByRestaurantIdAndDate(String restaurantId, LocalDate date);
+
     /**
      * Finds all schedules for a specific restaurant where the restaurant is closed.
      *
@@ -97,4 +108,48 @@ public interface ScheduleRepository extends JpaRepository<Schedule, String> {
             @Param("restaurantId") String restaurantId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    /**
+     * Adds booked seats and tables to a schedule and recalculates its available capacity.
+     * Available capacity is assigned first so that it is computed from the
+     * previous booked capacity on every database. Counters never drop below zero.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the schedule
+     * @param covers The number of seats to add (negative to remove)
+     * @param tables The number of tables to add (negative to remove)
+     * @return The number of schedules updated (1 if the schedule exists)
+     */
+    @Modifying
+    @Query("UPDATE Schedule s SET " +
+           "s.availableCapacity = CASE WHEN s.totalCapacity - s.bookedCapacity - :covers > 0 " +
+           "THEN s.totalCapacity - s.bookedCapacity - :covers ELSE 0 END, " +
+           "s.bookedCapacity = CASE WHEN s.bookedCapacity + :covers > 0 THEN s.bookedCapacity + :covers ELSE 0 END, " +
+           "s.bookedTables = CASE WHEN s.bookedTables + :tables > 0 THEN s.bookedTables + :tables ELSE 0 END " +
+           "WHERE s.restaurantId = :restaurantId AND s.date = :date")
+    int addBookings(
+            @Param("restaurantId") String restaurantId,
+            @Param("date") LocalDate date,
+            @Param("covers") int covers,
+            @Param("tables") int tables);
+
+    /**
+     * Sets the total capacity of schedules from a date onward that have no custom capacity,
+     * and recalculates their available capacity.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param fromDate The first date to update (inclusive)
+     * @param totalCapacity The new total capacity
+     * @return The number of schedules updated
+     */
+    @Modifying
+    @Query("UPDATE Schedule s SET " +
+           "s.availableCapacity = CASE WHEN :totalCapacity - s.bookedCapacity > 0 " +
+           "THEN :totalCapacity - s.bookedCapacity ELSE 0 END, " +
+           "s.totalCapacity = :totalCapacity " +
+           "WHERE s.restaurantId = :restaurantId AND s.date >= :fromDate AND s.customCapacity = false")
+    int updateDefaultCapacity(
+            @Param("restaurantId") String restaurantId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("totalCapacity") int totalCapacity);
 }
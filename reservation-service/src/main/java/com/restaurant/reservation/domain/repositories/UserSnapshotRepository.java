@@ -0,0 +1,17 @@
+package com.restaurant.reservation.domain.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.reservation.domain.models.UserSnapshot;
+
+/**
+ * Repository interface for managing UserSnapshot entities.
+ * Snapshots are read in batches by user ID to enrich reservation listings.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface UserSnapshotRepository extends JpaRepository<UserSnapshot, String> {
+}
@@ -0,0 +1,146 @@
+package com.restaurant.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Data Transfer Object (DTO) for a restaurant's availability grid on one day.
+ * The grid divides the day into fixed-length slots and reports, for each
+ * slot, which party-size bands can still start a reservation.
+ *
+ * Features:
+ * - Party-size band labels shared by all slots (e.g. "1-2", "3-4")
+ * - Per-slot booked and available covers
+ * - A version that changes whenever the grid changes, used as the ETag
+ *
+ * Instances are immutable because grids are shared between concurrent
+ * requests once materialized.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class AvailabilityGridDTO {
+
+    /** ID of the restaurant this grid belongs to */
+    private final String restaurantId;
+
+    /** Date covered by this grid */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private final LocalDate date;
+
+    /** Flag indicating if the restaurant is closed on this date */
+    private final boolean closed;
+
+    /** Seating capacity used to compute availability */
+    private final int capacity;
+
+    /** Length of each slot in minutes */
+    private final int slotMinutes;
+
+    /** Labels of the party-size bands */
+    private final List<String> partySizeBands;
+
+    /** Slots of the day in chronological order */
+    private final List<AvailabilitySlotDTO> slots;
+
+    /** Version of the grid, changed on every update */
+    private final long version;
+
+    /**
+     * Creates a new availability grid.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param date Date covered by the grid
+     * @param closed Flag indicating if the restaurant is closed on this date
+     * @param capacity Seating capacity used to compute availability
+     * @param slotMinutes Length of each slot in minutes
+     * @param partySizeBands Labels of the party-size bands
+     * @param slots Slots of the day in chronological order
+     * @param version Version of the grid
+     */
+    public AvailabilityGridDTO(String restaurantId, LocalDate date, boolean closed, int capacity,
+            int slotMinutes, List<String> partySizeBands, List<AvailabilitySlotDTO> slots, long version) {
+        this.restaurantId = restaurantId;
+        this.date = date;
+        this.closed = closed;
+        this.capacity = capacity;
+        this.slotMinutes = slotMinutes;
+        this.partySizeBands = List.copyOf(partySizeBands);
+        this.slots = List.copyOf(slots);
+        this.version = version;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the date covered by the grid.
+     *
+     * @return The grid date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Checks if the restaurant is closed on this date.
+     *
+     * @return true if the restaurant is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets the seating capacity used to compute availability.
+     *
+     * @return The capacity in covers
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the length of each slot.
+     *
+     * @return The slot length in minutes
+     */
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    /**
+     * Gets the labels of the party-size bands.
+     *
+     * @return The band labels
+     */
+    public List<String> getPartySizeBands() {
+        return partySizeBands;
+    }
+
+    /**
+     * Gets the slots of the day.
+     *
+     * @return The slots in chronological order
+     */
+    public List<AvailabilitySlotDTO> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Gets the version of the grid.
+     *
+     * @return The grid version
+     */
+    public long getVersion() {
+        return version;
+    }
+}
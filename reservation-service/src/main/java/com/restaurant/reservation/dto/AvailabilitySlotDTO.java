@@ -0,0 +1,99 @@
+package com.restaurant.reservation.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Data Transfer Object (DTO) for one time slot of an availability grid.
+ * Each slot describes whether a reservation can start at that time and
+ * which party-size bands can still be seated for a full session.
+ *
+ * Instances are immutable because grids are shared between concurrent
+ * requests once materialized.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class AvailabilitySlotDTO {
+
+    /** Start time of the slot */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    private final LocalTime time;
+
+    /** Flag indicating if reservations may start in this slot */
+    private final boolean open;
+
+    /** Number of covers already booked during this slot */
+    private final int bookedCovers;
+
+    /** Largest party that can start in this slot and stay for a full session */
+    private final int availableCovers;
+
+    /** Availability per party-size band, in the order of the grid's bands */
+    private final List<Boolean> bands;
+
+    /**
+     * Creates a new availability slot.
+     *
+     * @param time Start time of the slot
+     * @param open Flag indicating if reservations may start in this slot
+     * @param bookedCovers Number of covers already booked during this slot
+     * @param availableCovers Largest party that can start in this slot
+     * @param bands Availability per party-size band
+     */
+    public AvailabilitySlotDTO(LocalTime time, boolean open, int bookedCovers, int availableCovers,
+            List<Boolean> bands) {
+        this.time = time;
+        this.open = open;
+        this.bookedCovers = bookedCovers;
+        this.availableCovers = availableCovers;
+        this.bands = List.copyOf(bands);
+    }
+
+    /**
+     * Gets the start time of the slot.
+     *
+     * @return The slot start time
+     */
+    public LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * Checks if reservations may start in this slot.
+     *
+     * @return true if the restaurant accepts reservations starting in this slot
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Gets the number of covers already booked during this slot.
+     *
+     * @return The booked covers
+     */
+    public int getBookedCovers() {
+        return bookedCovers;
+    }
+
+    /**
+     * Gets the largest party that can start in this slot and stay for a full session.
+     *
+     * @return The available covers, or 0 if the slot is closed
+     */
+    public int getAvailableCovers() {
+        return availableCovers;
+    }
+
+    /**
+     * Gets the availability per party-size band.
+     *
+     * @return One flag per band, in the order of the grid's bands
+     */
+    public List<Boolean> getBands() {
+        return bands;
+    }
+}
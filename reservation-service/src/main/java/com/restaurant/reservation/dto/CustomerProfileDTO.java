@@ -0,0 +1,121 @@
+package com.restaurant.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Data Transfer Object (DTO) with the registered details of the user who made
+ * a reservation, taken from the local user snapshot. Unlike the customer fields
+ * of a reservation, which hold what was typed when booking, these reflect the
+ * user's current profile.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerProfileDTO {
+
+    /** Name to show for the user */
+    private String displayName;
+
+    /** Email address of the user */
+    private String email;
+
+    /** Phone number of the user */
+    private String phoneNumber;
+
+    /** Language the user prefers to be addressed in */
+    private String preferredLanguage;
+
+    /**
+     * Default constructor.
+     */
+    public CustomerProfileDTO() {
+    }
+
+    /**
+     * Creates a customer profile.
+     *
+     * @param displayName Name to show for the user
+     * @param email Email address of the user
+     * @param phoneNumber Phone number of the user
+     * @param preferredLanguage Language the user prefers
+     */
+    public CustomerProfileDTO(String displayName, String email, String phoneNumber, String preferredLanguage) {
+        this.displayName = displayName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.preferredLanguage = preferredLanguage;
+    }
+
+    /**
+     * Gets the name to show for the user.
+     *
+     * @return The display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Sets the name to show for the user.
+     *
+     * @param displayName The display name
+     */
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the email address.
+     *
+     * @return The email address
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Sets the email address.
+     *
+     * @param email The email address
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /**
+     * Gets the phone number.
+     *
+     * @return The phone number
+     */
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    /**
+     * Sets the phone number.
+     *
+     * @param phoneNumber The phone number
+     */
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    /**
+     * Gets the preferred language.
+     *
+     * @return The preferred language
+     */
+    public String getPreferredLanguage() {
+        return preferredLanguage;
+    }
+
+    /**
+     * Sets the preferred language.
+     *
+     * @param preferredLanguage The preferred language
+     */
+    public void setPreferredLanguage(String preferredLanguage) {
+        this.preferredLanguage = preferredLanguage;
+    }
+}
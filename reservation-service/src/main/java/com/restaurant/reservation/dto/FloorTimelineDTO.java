@@ -0,0 +1,362 @@
+package com.restaurant.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Data Transfer Object (DTO) for the staff day view of a restaurant floor.
+ * The timeline lists, per table, the reservations overlapping one day in
+ * chronological order, so staff can see the seatings of every table at a glance.
+ *
+ * Features:
+ * - One lane per table with its number, seats, location and live status
+ * - Reservations without an assigned table in a separate list
+ * - A version to pass back as {@code since} to receive only later changes
+ *
+ * A full timeline contains every lane. An incremental timeline contains only
+ * the lanes of reservations changed since the requested version and the IDs
+ * of reservations that left the day; clients replace their copy of each
+ * listed reservation by ID, which also moves it between lanes, and drop the
+ * removed ones.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class FloorTimelineDTO {
+
+    /** ID of the restaurant */
+    private final String restaurantId;
+
+    /** Date covered by the timeline */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private final LocalDate date;
+
+    /** Version to request the next incremental timeline with */
+    private final long version;
+
+    /** Flag indicating if this is a full timeline rather than changes only */
+    private final boolean full;
+
+    /** Table lanes in the order of the restaurant's table list */
+    private final List<TableLane> tables;
+
+    /** Reservations without an assigned table, in chronological order */
+    private final List<Slot> unassigned;
+
+    /** IDs of reservations to remove from the timeline; empty for full timelines */
+    private final List<String> removedReservationIds;
+
+    /**
+     * Creates a timeline.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param date Date covered by the timeline
+     * @param version Version to request the next incremental timeline with
+     * @param full Flag indicating if this is a full timeline
+     * @param tables Table lanes in the order of the restaurant's table list
+     * @param unassigned Reservations without an assigned table
+     * @param removedReservationIds IDs of reservations to remove from the timeline
+     */
+    public FloorTimelineDTO(String restaurantId, LocalDate date, long version, boolean full,
+            List<TableLane> tables, List<Slot> unassigned, List<String> removedReservationIds) {
+        this.restaurantId = restaurantId;
+        this.date = date;
+        this.version = version;
+        this.full = full;
+        this.tables = tables;
+        this.unassigned = unassigned;
+        this.removedReservationIds = removedReservationIds;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the date covered by the timeline.
+     *
+     * @return The date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the version to request the next incremental timeline with.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if this is a full timeline rather than changes only.
+     *
+     * @return true if the timeline is full
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Gets the table lanes.
+     *
+     * @return The lanes in the order of the restaurant's table list
+     */
+    public List<TableLane> getTables() {
+        return tables;
+    }
+
+    /**
+     * Gets the reservations without an assigned table.
+     *
+     * @return The unassigned reservations in chronological order
+     */
+    public List<Slot> getUnassigned() {
+        return unassigned;
+    }
+
+    /**
+     * Gets the IDs of reservations to remove from the timeline.
+     *
+     * @return The removed reservation IDs
+     */
+    public List<String> getRemovedReservationIds() {
+        return removedReservationIds;
+    }
+
+    /**
+     * The reservations of one table on the timeline.
+     */
+    public static class TableLane {
+
+        /** ID of the table */
+        private final String tableId;
+
+        /** Number or name of the table, or null if the table is unknown */
+        private final String tableNumber;
+
+        /** Number of seats, or 0 if the table is unknown */
+        private final int capacity;
+
+        /** Area of the restaurant the table is in */
+        private final String location;
+
+        /** Live status of the table, or null if not known */
+        private final String status;
+
+        /** Reservations of the table in chronological order */
+        private final List<Slot> reservations;
+
+        /**
+         * Creates a table lane.
+         *
+         * @param tableId ID of the table
+         * @param tableNumber Number or name of the table
+         * @param capacity Number of seats
+         * @param location Area of the restaurant the table is in
+         * @param status Live status of the table
+         * @param reservations Reservations of the table in chronological order
+         */
+        public TableLane(String tableId, String tableNumber, int capacity, String location, String status,
+                List<Slot> reservations) {
+            this.tableId = tableId;
+            this.tableNumber = tableNumber;
+            this.capacity = capacity;
+            this.location = location;
+            this.status = status;
+            this.reservations = reservations;
+        }
+
+        /**
+         * Gets the ID of the table.
+         *
+         * @return The table ID
+         */
+        public String getTableId() {
+            return tableId;
+        }
+
+        /**
+         * Gets the number or name of the table.
+         *
+         * @return The table number, or null if the table is unknown
+         */
+        public String getTableNumber() {
+            return tableNumber;
+        }
+
+        /**
+         * Gets the number of seats.
+         *
+         * @return The capacity, or 0 if the table is unknown
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Gets the area of the restaurant the table is in.
+         *
+         * @return The location
+         */
+        public String getLocation() {
+            return location;
+        }
+
+        /**
+         * Gets the live status of the table.
+         *
+         * @return The status, or null if not known
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets the reservations of the table.
+         *
+         * @return The reservations in chronological order
+         */
+        public List<Slot> getReservations() {
+            return reservations;
+        }
+    }
+
+    /**
+     * One reservation interval on the timeline.
+     */
+    public static class Slot {
+
+        /** ID of the reservation */
+        private final String reservationId;
+
+        /** Start time of the reservation */
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private final LocalDateTime reservationTime;
+
+        /** End time of the reservation */
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private final LocalDateTime endTime;
+
+        /** Number of guests */
+        private final int partySize;
+
+        /** Current status of the reservation */
+        private final String status;
+
+        /** Name given for the reservation */
+        private final String customerName;
+
+        /** Special requests of the customer */
+        private final String specialRequests;
+
+        /** IDs of all tables assigned to the reservation */
+        private final List<String> tableIds;
+
+        /**
+         * Creates a slot.
+         *
+         * @param reservationId ID of the reservation
+         * @param reservationTime Start time of the reservation
+         * @param endTime End time of the reservation
+         * @param partySize Number of guests
+         * @param status Current status of the reservation
+         * @param customerName Name given for the reservation
+         * @param specialRequests Special requests of the customer
+         * @param tableIds IDs of all tables assigned to the reservation
+         */
+        public Slot(String reservationId, LocalDateTime reservationTime, LocalDateTime endTime, int partySize,
+                String status, String customerName, String specialRequests, List<String> tableIds) {
+            this.reservationId = reservationId;
+            this.reservationTime = reservationTime;
+            this.endTime = endTime;
+            this.partySize = partySize;
+            this.status = status;
+            this.customerName = customerName;
+            this.specialRequests = specialRequests;
+            this.tableIds = tableIds;
+        }
+
+        /**
+         * Gets the ID of the reservation.
+         *
+         * @return The reservation ID
+         */
+        public String getReservationId() {
+            return reservationId;
+        }
+
+        /**
+         * Gets the start time of the reservation.
+         *
+         * @return The start time
+         */
+        public LocalDateTime getReservationTime() {
+            return reservationTime;
+        }
+
+        /**
+         * Gets the end time of the reservation.
+         *
+         * @return The end time
+         */
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        /**
+         * Gets the number of guests.
+         *
+         * @return The party size
+         */
+        public int getPartySize() {
+            return partySize;
+        }
+
+        /**
+         * Gets the current status of the reservation.
+         *
+         * @return The status
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets the name given for the reservation.
+         *
+         * @return The customer name
+         */
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        /**
+         * Gets the special requests of the customer.
+         *
+         * @return The special requests
+         */
+        public String getSpecialRequests() {
+            return specialRequests;
+        }
+
+        /**
+         * Gets the IDs of all tables assigned to the reservation.
+         *
+         * @return The table IDs
+         */
+        public List<String> getTableIds() {
+            return tableIds;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -18,11 +19,13 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  * - Reservation status tracking
  * - History of changes to the reservation
  * - Null fields are excluded from JSON serialization
+ * - Fields can be selected per request through {@link ReservationFieldSelection}
  *
  * @author Restaurant Reservation Team
  * @version 1.1
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(ReservationFieldSelection.FILTER_ID)
 public class ReservationDTO {
 
     /** Unique identifier for the reservation */
@@ -37,6 +40,9 @@ public class ReservationDTO {
     /** ID of the table assigned to the reservation */
     private String tableId;
 
+    /** IDs of all tables assigned to the reservation */
+    private List<String> tableIds;
+
     /** Scheduled date and time of the reservation */
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime reservationTime;
@@ -81,12 +87,21 @@ public class ReservationDTO {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime confirmationDeadline;
 
-    /** List of history records tracking changes to the reservation */
+    /** List of history records tracking changes to the reservation; null in listings */
     private List<HistoryRecord> historyRecords = new ArrayList<>();
 
-    /** List of menu items included in the reservation */
+    /** List of menu items included in the reservation; null in listings */
     private List<ReservationMenuItemDTO> menuItems = new ArrayList<>();
 
+    /** Total quantity of menu items included in the reservation */
+    private Integer menuItemCount;
+
+    /** Total price of menu items included in the reservation */
+    private Double menuItemTotal;
+
+    /** Profile of the customer from the local user snapshot; only set in restaurant listings */
+    private CustomerProfileDTO customerProfile;
+
     /**
      * Nested class representing a history record for the reservation.
      * Tracks changes and actions performed on the reservation.
@@ -510,11 +525,84 @@ public class ReservationDTO {
 
     /**
      * Sets the list of menu items included in the reservation.
+     * Listings set null, so only the menu item count and total are serialized.
      *
      * @param menuItems The menu items to set
      */
     public void setMenuItems(List<ReservationMenuItemDTO> menuItems) {
-        this.menuItems = menuItems != null ? menuItems : new ArrayList<>();
+        this.menuItems = menuItems;
+    }
+
+    /**
+     * Gets the IDs of all tables assigned to the reservation.
+     *
+     * @return The table IDs
+     */
+    public List<String> getTableIds() {
+        return tableIds;
+    }
+
+    /**
+     * Sets the IDs of all tables assigned to the reservation.
+     *
+     * @param tableIds The table IDs to set
+     */
+    public void setTableIds(List<String> tableIds) {
+        this.tableIds = tableIds;
+    }
+
+    /**
+     * Gets the total quantity of menu items included in the reservation.
+     *
+     * @return The menu item count
+     */
+    public Integer getMenuItemCount() {
+        return menuItemCount;
+    }
+
+    /**
+     * Sets the total quantity of menu items included in the reservation.
+     *
+     * @param menuItemCount The menu item count to set
+     */
+    public void setMenuItemCount(Integer menuItemCount) {
+        this.menuItemCount = menuItemCount;
+    }
+
+    /**
+     * Gets the total price of menu items included in the reservation.
+     *
+     * @return The menu item total
+     */
+    public Double getMenuItemTotal() {
+        return menuItemTotal;
+    }
+
+    /**
+     * Sets the total price of menu items included in the reservation.
+     *
+     * @param menuItemTotal The menu item total to set
+     */
+    public void setMenuItemTotal(Double menuItemTotal) {
+        this.menuItemTotal = menuItemTotal;
+    }
+
+    /**
+     * Gets the profile of the customer who made the reservation.
+     *
+     * @return The customer profile, or null if not known
+     */
+    public CustomerProfileDTO getCustomerProfile() {
+        return customerProfile;
+    }
+
+    /**
+     * Sets the profile of the customer who made the reservation.
+     *
+     * @param customerProfile The customer profile to set
+     */
+    public void setCustomerProfile(CustomerProfileDTO customerProfile) {
+        this.customerProfile = customerProfile;
     }
 
     @Override
@@ -0,0 +1,157 @@
+package com.restaurant.reservation.dto;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.restaurant.common.exceptions.ValidationException;
+
+/**
+ * Selection of the {@link ReservationDTO} fields and associations a client asked for.
+ * This class provides:
+ * - Parsing and validation of the {@code fields} and {@code expand} request parameters
+ * - Checks used by the service to skip loading what was not requested
+ * - The Jackson filter that leaves unrequested fields out of the response
+ *
+ * {@code fields} is a comma-separated list of ReservationDTO properties; the ID
+ * is always included. {@code expand} names the associations to load:
+ * {@value #EXPAND_HISTORY} and {@value #EXPAND_MENU_ITEMS}. An association is
+ * loaded only if it is expanded and its property is selected.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class ReservationFieldSelection {
+
+    /** ID of the Jackson filter applied to ReservationDTO */
+    public static final String FILTER_ID = "reservationFields";
+
+    /** Expansion loading the reservation history */
+    public static final String EXPAND_HISTORY = "history";
+
+    /** Expansion loading the reservation menu items */
+    public static final String EXPAND_MENU_ITEMS = "menuItems";
+
+    /** Selection of all fields with both associations expanded */
+    public static final ReservationFieldSelection ALL = new ReservationFieldSelection(null, true, true);
+
+    /** Properties of ReservationDTO that can be selected */
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "userId", "restaurantId", "tableId", "tableIds", "reservationTime", "endTime",
+            "partySize", "durationMinutes", "status", "customerName", "customerPhone", "customerEmail",
+            "specialRequests", "remindersEnabled", "createdAt", "updatedAt", "confirmationDeadline",
+            "historyRecords", "menuItems", "menuItemCount", "menuItemTotal", "customerProfile");
+
+    /** Selected properties, or null for all */
+    private final Set<String> fields;
+
+    /** Whether the history is expanded */
+    private final boolean history;
+
+    /** Whether the menu items are expanded */
+    private final boolean menuItems;
+
+    /**
+     * Creates a selection.
+     *
+     * @param fields Selected properties, or null for all
+     * @param history Whether the history is expanded
+     * @param menuItems Whether the menu items are expanded
+     */
+    private ReservationFieldSelection(Set<String> fields, boolean history, boolean menuItems) {
+        this.fields = fields;
+        this.history = history;
+        this.menuItems = menuItems;
+    }
+
+    /**
+     * Parses the {@code fields} and {@code expand} request parameters.
+     *
+     * @param fields Comma-separated properties to include, or null for all
+     * @param expand Comma-separated associations to load, or null for the default
+     * @param expandByDefault Whether both associations are loaded when expand is absent
+     * @return The selection
+     * @throws ValidationException if a field or expansion is unknown
+     */
+    public static ReservationFieldSelection parse(String fields, String expand, boolean expandByDefault) {
+        Set<String> selectedFields = null;
+        if (fields != null && !fields.isBlank()) {
+            selectedFields = split(fields);
+            for (String field : selectedFields) {
+                if (!SELECTABLE_FIELDS.contains(field)) {
+                    throw new ValidationException("fields", "Unknown field: " + field);
+                }
+            }
+            selectedFields.add("id");
+        }
+
+        if (expand == null) {
+            return new ReservationFieldSelection(selectedFields, expandByDefault, expandByDefault);
+        }
+        Set<String> expansions = split(expand);
+        for (String expansion : expansions) {
+            if (!EXPAND_HISTORY.equals(expansion) && !EXPAND_MENU_ITEMS.equals(expansion)) {
+                throw new ValidationException("expand",
+                        "Unknown expansion: " + expansion + "; expected " + EXPAND_HISTORY + " or " + EXPAND_MENU_ITEMS);
+            }
+        }
+        return new ReservationFieldSelection(selectedFields,
+                expansions.contains(EXPAND_HISTORY), expansions.contains(EXPAND_MENU_ITEMS));
+    }
+
+    /**
+     * Checks whether a property is selected.
+     *
+     * @param field The ReservationDTO property
+     * @return true if the property is part of the response
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Checks whether the history has to be loaded.
+     *
+     * @return true if the history is expanded and selected
+     */
+    public boolean includesHistory() {
+        return history && includes("historyRecords");
+    }
+
+    /**
+     * Checks whether the menu items have to be loaded.
+     *
+     * @return true if the menu items are expanded and selected
+     */
+    public boolean includesMenuItems() {
+        return menuItems && includes("menuItems");
+    }
+
+    /**
+     * Creates the Jackson filters writing only the selected properties.
+     *
+     * @return The filter provider for the response
+     */
+    public FilterProvider toFilterProvider() {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, fields == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+
+    /**
+     * Splits a comma-separated parameter into trimmed, non-empty values.
+     *
+     * @param value The parameter value
+     * @return The values in request order
+     */
+    private static Set<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,73 @@
+package com.restaurant.reservation.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a reservation listing.
+ * Pages are requested with the opaque cursor of the previous page instead
+ * of a page number, so no total count is computed.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class ReservationPageResponse {
+
+    /** Reservations of this page */
+    private List<ReservationDTO> reservations;
+
+    /** Opaque cursor of the next page, or null on the last page */
+    private String nextCursor;
+
+    /**
+     * Default constructor.
+     */
+    public ReservationPageResponse() {
+    }
+
+    /**
+     * Creates a page of reservations.
+     *
+     * @param reservations Reservations of this page
+     * @param nextCursor Opaque cursor of the next page, or null on the last page
+     */
+    public ReservationPageResponse(List<ReservationDTO> reservations, String nextCursor) {
+        this.reservations = reservations;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the reservations of this page.
+     *
+     * @return The reservations
+     */
+    public List<ReservationDTO> getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Sets the reservations of this page.
+     *
+     * @param reservations The reservations to set
+     */
+    public void setReservations(List<ReservationDTO> reservations) {
+        this.reservations = reservations;
+    }
+
+    /**
+     * Gets the opaque cursor of the next page.
+     *
+     * @return The next cursor, or null on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the opaque cursor of the next page.
+     *
+     * @param nextCursor The next cursor to set
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
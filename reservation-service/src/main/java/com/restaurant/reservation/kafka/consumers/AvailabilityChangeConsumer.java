@@ -0,0 +1,98 @@
+package com.restaurant.reservation.kafka.consumers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.reservation.ReservationBookingChangedEvent;
+import com.restaurant.common.events.reservation.ScheduleChangedEvent;
+import com.restaurant.common.events.restaurant.CapacityChangedEvent;
+import com.restaurant.reservation.service.AvailabilityCalendarService;
+
+/**
+ * Kafka consumer keeping the availability grids of every instance current.
+ * Each instance consumes availability and capacity changes in consumer
+ * groups of its own, starting at the latest offset, so grids materialized
+ * on this instance reflect bookings, schedules and capacities changed by
+ * any instance. Changes made by this instance are received again and have
+ * no further effect.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class AvailabilityChangeConsumer {
+
+    /** Logger for this consumer */
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityChangeConsumer.class);
+
+    /** Service maintaining the availability grids */
+    private final AvailabilityCalendarService availabilityCalendarService;
+
+    /**
+     * Constructs a new AvailabilityChangeConsumer with required dependencies.
+     *
+     * @param availabilityCalendarService Service maintaining the availability grids
+     */
+    public AvailabilityChangeConsumer(AvailabilityCalendarService availabilityCalendarService) {
+        this.availabilityCalendarService = availabilityCalendarService;
+    }
+
+    /**
+     * Applies committed booking and schedule changes to the grids of this instance.
+     *
+     * @param event The availability change
+     */
+    @KafkaListener(
+            topics = KafkaTopics.AVAILABILITY_CHANGES,
+            groupId = "${spring.kafka.consumer.group-id}-availability-${random.uuid}",
+            containerFactory = "availabilityKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeAvailabilityChanges(Object event) {
+        try {
+            if (event instanceof ReservationBookingChangedEvent bookingEvent) {
+                availabilityCalendarService.applyBooking(bookingEvent.getReservationId(),
+                        bookingEvent.getRestaurantId(),
+                        bookingEvent.getReservationTime() != null
+                                ? LocalDateTime.parse(bookingEvent.getReservationTime()) : null,
+                        bookingEvent.getDurationMinutes(),
+                        bookingEvent.getPartySize(),
+                        bookingEvent.isActive());
+            } else if (event instanceof ScheduleChangedEvent scheduleEvent) {
+                availabilityCalendarService.reloadSchedules(scheduleEvent.getRestaurantId(),
+                        scheduleEvent.getDate() != null ? LocalDate.parse(scheduleEvent.getDate()) : null);
+            } else {
+                logger.warn("Unhandled availability event type: {}",
+                        event == null ? null : event.getClass().getSimpleName());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to apply availability change: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies capacity changes to the grids of this instance.
+     * Storing the capacity is left to {@link RestaurantEventConsumer}, which
+     * sees each change once across all instances.
+     *
+     * @param event The capacity changed event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.CAPACITY_CHANGE,
+            groupId = "${spring.kafka.consumer.group-id}-availability-capacity-${random.uuid}",
+            containerFactory = "restaurantKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeCapacityChanges(Object event) {
+        if (!(event instanceof CapacityChangedEvent capacityEvent) || capacityEvent.getRestaurantId() == null) {
+            return;
+        }
+        availabilityCalendarService.refreshCapacity(capacityEvent.getRestaurantId(), capacityEvent.getNewCapacity());
+    }
+}
@@ -1,16 +1,33 @@
 package com.restaurant.reservation.kafka.consumers;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.restaurant.common.constants.KafkaTopics;
 import com.restaurant.common.events.reservation.TableStatusEvent;
+import com.restaurant.common.events.restaurant.CapacityChangedEvent;
 import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.events.restaurant.RestaurantEvent;
 import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
 import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
+import com.restaurant.reservation.domain.models.RestaurantOperatingHours;
+import com.restaurant.reservation.domain.models.RestaurantSyncState;
+import com.restaurant.reservation.domain.repositories.RestaurantSyncStateRepository;
+import com.restaurant.reservation.service.RestaurantOwnershipService;
+import com.restaurant.reservation.service.ScheduleService;
 import com.restaurant.reservation.service.TableStatusCacheService;
 
 /**
@@ -19,9 +36,16 @@ import com.restaurant.reservation.service.TableStatusCacheService;
  * - Table status changes
  * - Operating hours updates
  * - Restaurant information updates
+ * - Coalesced restaurant changes with a field-level diff
+ * - Seating capacity changes
  *
- * The consumer maintains a cache of table statuses and can be extended
- * to handle additional restaurant-related events in the future.
+ * The consumer maintains a cache of table statuses and keeps the local copy
+ * of operating hours and capacity used by schedules up to date. The version
+ * of the last applied restaurant change is stored with the change itself,
+ * so redelivered changes are skipped across restarts. Owner changes are
+ * stored as well; every instance learns of them through its own
+ * {@link RestaurantOwnershipChangeConsumer}. Cached table lists are discarded
+ * on every instance by {@link RestaurantTablesChangeConsumer}.
  *
  * @author Restaurant Reservation Team
  * @version 1.0
@@ -35,13 +59,31 @@ public class RestaurantEventConsumer {
     /** Service for managing table status cache */
     private final TableStatusCacheService tableStatusCacheService;
 
+    /** Service maintaining restaurant schedules */
+    private final ScheduleService scheduleService;
+
+    /** Repository recording the last applied change version and owner change per restaurant */
+    private final RestaurantSyncStateRepository syncStateRepository;
+
+    /** Template applying a restaurant change together with its version */
+    private final TransactionTemplate transactionTemplate;
+
     /**
-     * Constructs a new RestaurantEventConsumer with the specified table status cache service.
+     * Constructs a new RestaurantEventConsumer with the required services.
      *
      * @param tableStatusCacheService The service for managing table status cache
+     * @param scheduleService The service maintaining restaurant schedules
+     * @param syncStateRepository Repository recording the last applied change version and owner change per restaurant
+     * @param transactionTemplate Template applying a restaurant change together with its version
      */
-    public RestaurantEventConsumer(TableStatusCacheService tableStatusCacheService) {
+    public RestaurantEventConsumer(TableStatusCacheService tableStatusCacheService,
+            ScheduleService scheduleService,
+            RestaurantSyncStateRepository syncStateRepository,
+            TransactionTemplate transactionTemplate) {
         this.tableStatusCacheService = tableStatusCacheService;
+        this.scheduleService = scheduleService;
+        this.syncStateRepository = syncStateRepository;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -66,6 +108,8 @@ public class RestaurantEventConsumer {
                 handleTableStatusChangedEvent((TableStatusChangedEvent) event);
             } else if (event instanceof OperatingHoursChangedEvent) {
                 handleOperatingHoursChangedEvent((OperatingHoursChangedEvent) event);
+            } else if (event instanceof RestaurantChangedEvent) {
+                handleRestaurantChangedEvent((RestaurantChangedEvent) event);
             } else if (event instanceof RestaurantUpdatedEvent) {
                 handleRestaurantUpdatedEvent((RestaurantUpdatedEvent) event);
             } else {
@@ -115,11 +159,33 @@ public class RestaurantEventConsumer {
     }
 
     /**
-     * Handles table status changed events by updating the table status cache.
-     * This method logs the status change and updates the cache with the new status.
+     * Consumes capacity change events from the Kafka topic.
+     * This method updates the seating capacity used by schedules and availability grids.
      *
-     * @param event The table status changed event containing status details
+     * @param event The capacity changed event to process
      */
+    @KafkaListener(topics = KafkaTopics.CAPACITY_CHANGE, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "restaurantKafkaListenerContainerFactory")
+    public void consumeCapacityChangedEvents(Object event) {
+        if (!(event instanceof CapacityChangedEvent)) {
+            logger.warn("Unhandled capacity event type: {}", event == null ? null : event.getClass().getSimpleName());
+            return;
+        }
+
+        CapacityChangedEvent capacityEvent = (CapacityChangedEvent) event;
+        logger.info("Capacity changed for restaurant {}: {} -> {} ({})",
+                capacityEvent.getRestaurantId(),
+                capacityEvent.getOldCapacity(),
+                capacityEvent.getNewCapacity(),
+                capacityEvent.getReason());
+
+        try {
+            scheduleService.applyCapacity(capacityEvent.getRestaurantId(), capacityEvent.getNewCapacity());
+        } catch (Exception e) {
+            logger.error("Failed to update schedule capacity: restaurantId={}, error={}",
+                    capacityEvent.getRestaurantId(), e.getMessage(), e);
+        }
+    }
+
     /**
      * Handles table status changed events by updating the table status cache.
      * This method logs the status change and updates the cache with the new status.
@@ -151,8 +217,8 @@ public class RestaurantEventConsumer {
 
     /**
      * Handles operating hours changed events.
-     * This method logs the operating hours change and can be extended to
-     * update cached operating hours information.
+     * This method updates the local copy of the operating hours and the
+     * schedules derived from them.
      *
      * @param event The operating hours changed event containing schedule details
      */
@@ -169,9 +235,101 @@ public class RestaurantEventConsumer {
                 event.getNewOpenTime(),
                 event.getNewCloseTime());
 
-        // Potential future implementation: Cache restaurant operating hours
-        // This could involve updating a local cache of restaurant operating hours
-        // to avoid having to query the restaurant service for this information
+        scheduleService.applyOperatingHours(event.getRestaurantId(), event.getDayOfWeek(),
+                event.getNewOpenTime(), event.getNewCloseTime());
+    }
+
+    /**
+     * Handles coalesced restaurant changed events.
+     * Events with a version not newer than the last applied one are ignored.
+     * The change is applied and its version recorded in one transaction.
+     *
+     * @param event The restaurant changed event containing the field-level diff
+     */
+    private void handleRestaurantChangedEvent(RestaurantChangedEvent event) {
+        if (event.getRestaurantId() == null || event.getChanges() == null) {
+            logger.warn("Received invalid restaurant changed event");
+            return;
+        }
+
+        if (event.getVersion() > 0 || event.hasChanged("ownerId")) {
+            ensureSyncState(event.getRestaurantId());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> applyRestaurantChange(event));
+    }
+
+    /**
+     * Creates the synchronization record of a restaurant if it has none.
+     * Checked with a plain read so the insert does not wait on a lock of
+     * an applying transaction.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    private void ensureSyncState(String restaurantId) {
+        if (syncStateRepository.existsByRestaurantId(restaurantId)) {
+            return;
+        }
+        try {
+            syncStateRepository.saveAndFlush(new RestaurantSyncState(restaurantId));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Sync state of restaurant {} was inserted concurrently", restaurantId);
+        }
+    }
+
+    /**
+     * Applies a coalesced restaurant change if its version is newer than the applied one.
+     * Must be called inside a transaction.
+     *
+     * Events can arrive out of version order, and an earlier version is skipped
+     * once a later one is applied. The operating hours are therefore taken from
+     * the state the event carries, which includes every earlier version, and
+     * only from the diff for events published without a state.
+     *
+     * @param event The restaurant changed event containing the field-level diff
+     */
+    private void applyRestaurantChange(RestaurantChangedEvent event) {
+        // The highest ownership version is kept, so an owner change is recorded even if the rest is stale
+        if (event.hasChanged("ownerId")) {
+            syncStateRepository.recordOwnershipChange(event.getRestaurantId(), event.getVersion() > 0
+                    ? event.getVersion() : RestaurantOwnershipService.UNVERSIONED_CHANGE);
+        }
+
+        if (event.getVersion() > 0 && syncStateRepository.advanceAppliedVersion(
+                event.getRestaurantId(), event.getVersion(), LocalDateTime.now()) == 0) {
+            logger.debug("Ignoring stale restaurant change: restaurantId={}, version={}",
+                    event.getRestaurantId(), event.getVersion());
+            return;
+        }
+
+        logger.info("Restaurant {} changed to version {}: {}",
+                event.getRestaurantId(), event.getVersion(), event.getChanges().keySet());
+
+        Map<String, String> hoursByField = new LinkedHashMap<>();
+        if (event.getState() != null) {
+            hoursByField.putAll(event.getState());
+        } else {
+            event.getChanges().forEach((field, change) -> hoursByField.put(field, change.getNewValue()));
+        }
+
+        List<RestaurantOperatingHours> changedDays = new ArrayList<>();
+        hoursByField.forEach((field, value) -> {
+            if (field.startsWith(RestaurantChangedEvent.OPERATING_HOURS_PREFIX) && value != null) {
+                DayOfWeek day = DayOfWeek.valueOf(
+                        field.substring(RestaurantChangedEvent.OPERATING_HOURS_PREFIX.length()));
+                RestaurantOperatingHours hours = new RestaurantOperatingHours(event.getRestaurantId(), day);
+                if (!RestaurantChangedEvent.CLOSED.equals(value)) {
+                    String[] times = value.split("-");
+                    hours.setOpenTime(LocalTime.parse(times[0]));
+                    hours.setCloseTime(LocalTime.parse(times[1]));
+                }
+                changedDays.add(hours);
+            }
+        });
+
+        if (!changedDays.isEmpty()) {
+            scheduleService.applyOperatingHours(event.getRestaurantId(), changedDays);
+        }
     }
 
     /**
@@ -193,6 +351,13 @@ public class RestaurantEventConsumer {
                 event.getFieldUpdated(),
                 event.getNewValue());
 
+        if ("ownerId".equals(event.getFieldUpdated())) {
+            ensureSyncState(event.getRestaurantId());
+            transactionTemplate.executeWithoutResult(status ->
+                    syncStateRepository.recordOwnershipChange(event.getRestaurantId(),
+                            RestaurantOwnershipService.UNVERSIONED_CHANGE));
+        }
+
         // Potential future implementation: Update cached restaurant details
         // This could involve updating a local cache of restaurant information
         // such as name, address, capacity, etc.
@@ -0,0 +1,73 @@
+package com.restaurant.reservation.kafka.consumers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantEvent;
+import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
+import com.restaurant.reservation.service.RestaurantOwnershipService;
+
+/**
+ * Kafka consumer for restaurant owner changes.
+ * Each instance consumes the restaurant events in a consumer group of its own,
+ * starting at the latest offset, so every instance stops trusting outdated
+ * token ownership claims for the restaurant. Storing the change for later
+ * startups is left to {@link RestaurantEventConsumer}, which sees each event
+ * once across all instances.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantOwnershipChangeConsumer {
+
+    /** Logger for this consumer */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantOwnershipChangeConsumer.class);
+
+    /** Service checking restaurant ownership */
+    private final RestaurantOwnershipService restaurantOwnershipService;
+
+    /**
+     * Constructs a new RestaurantOwnershipChangeConsumer with required dependencies.
+     *
+     * @param restaurantOwnershipService Service checking restaurant ownership
+     */
+    public RestaurantOwnershipChangeConsumer(RestaurantOwnershipService restaurantOwnershipService) {
+        this.restaurantOwnershipService = restaurantOwnershipService;
+    }
+
+    /**
+     * Records owner changes carried by restaurant events.
+     *
+     * @param event The restaurant event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.RESTAURANT_EVENTS,
+            groupId = "${spring.kafka.consumer.group-id}-ownership-${random.uuid}",
+            containerFactory = "restaurantKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeRestaurantEvents(RestaurantEvent event) {
+        if (event == null || event.getRestaurantId() == null) {
+            return;
+        }
+
+        if (event instanceof RestaurantChangedEvent changedEvent
+                && changedEvent.getChanges() != null && changedEvent.hasChanged("ownerId")) {
+            logger.debug("Owner change received for restaurant {} at version {}",
+                    event.getRestaurantId(), changedEvent.getVersion());
+            restaurantOwnershipService.recordOwnershipChange(event.getRestaurantId(),
+                    changedEvent.getVersion() > 0 ? changedEvent.getVersion()
+                            : RestaurantOwnershipService.UNVERSIONED_CHANGE);
+        } else if (event instanceof RestaurantUpdatedEvent updatedEvent
+                && "ownerId".equals(updatedEvent.getFieldUpdated())) {
+            logger.debug("Unversioned owner change received for restaurant {}", event.getRestaurantId());
+            restaurantOwnershipService.recordOwnershipChange(event.getRestaurantId(),
+                    RestaurantOwnershipService.UNVERSIONED_CHANGE);
+        }
+    }
+}
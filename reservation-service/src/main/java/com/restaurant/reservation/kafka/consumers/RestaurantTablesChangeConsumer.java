@@ -0,0 +1,60 @@
+package com.restaurant.reservation.kafka.consumers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.restaurant.TablesChangedEvent;
+import com.restaurant.reservation.service.RestaurantTableCache;
+
+/**
+ * Kafka consumer for changes to the tables of restaurants.
+ * Each instance consumes the table changes in a consumer group of its own,
+ * starting at the latest offset, so every instance discards its cached table
+ * list of the restaurant. The restaurant service publishes a change for every
+ * table added, updated or removed, whether or not the capacity changed.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantTablesChangeConsumer {
+
+    /** Logger for this consumer */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantTablesChangeConsumer.class);
+
+    /** Cache of restaurant table lists */
+    private final RestaurantTableCache restaurantTableCache;
+
+    /**
+     * Constructs a new RestaurantTablesChangeConsumer with required dependencies.
+     *
+     * @param restaurantTableCache Cache of restaurant table lists
+     */
+    public RestaurantTablesChangeConsumer(RestaurantTableCache restaurantTableCache) {
+        this.restaurantTableCache = restaurantTableCache;
+    }
+
+    /**
+     * Discards the cached tables of the restaurant whose tables changed.
+     *
+     * @param event The tables changed event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.TABLE_CHANGES,
+            groupId = "${spring.kafka.consumer.group-id}-tables-${random.uuid}",
+            containerFactory = "restaurantKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeTablesChangedEvents(Object event) {
+        if (!(event instanceof TablesChangedEvent tablesEvent) || tablesEvent.getRestaurantId() == null) {
+            logger.warn("Unhandled tables event type: {}", event == null ? null : event.getClass().getSimpleName());
+            return;
+        }
+
+        logger.debug("Tables changed for restaurant {} ({})", tablesEvent.getRestaurantId(), tablesEvent.getReason());
+        restaurantTableCache.invalidate(tablesEvent.getRestaurantId());
+    }
+}
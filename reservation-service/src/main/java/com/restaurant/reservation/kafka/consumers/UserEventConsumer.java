@@ -1,8 +1,11 @@
 package com.restaurant.reservation.kafka.consumers;
 
 import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.user.ProfileUpdatedEvent;
 import com.restaurant.common.events.user.UserEvent;
 import com.restaurant.common.events.user.UserRegisteredEvent;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
+import com.restaurant.reservation.service.UserSnapshotService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -13,6 +16,11 @@ import org.springframework.stereotype.Component;
  * This class handles various types of user events, such as user registration,
  * profile updates, and other user-related notifications.
  * 
+ * Registrations and profile updates are applied to the local user snapshot
+ * projection, which reservation listings use to show customer details
+ * without calling the user service. Deletions, announced as security
+ * changes, remove the user's details from it.
+ *
  * The consumer can be extended to handle additional user events as needed,
  * providing a centralized location for processing user-related changes
  * that may affect the reservation system.
@@ -26,6 +34,18 @@ public class UserEventConsumer {
     /** Logger instance for tracking user events */
     private static final Logger logger = LoggerFactory.getLogger(UserEventConsumer.class);
 
+    /** Service maintaining the local user snapshots */
+    private final UserSnapshotService userSnapshotService;
+
+    /**
+     * Constructs a new UserEventConsumer with required dependencies.
+     *
+     * @param userSnapshotService Service maintaining the local user snapshots
+     */
+    public UserEventConsumer(UserSnapshotService userSnapshotService) {
+        this.userSnapshotService = userSnapshotService;
+    }
+
     /**
      * Consumes user events from the Kafka topic.
      * This method processes various types of user events and routes them
@@ -34,7 +54,8 @@ public class UserEventConsumer {
      * @param event The user event to process
      */
     @KafkaListener(
-            topics = KafkaTopics.USER_EVENTS,
+            topics = {KafkaTopics.USER_EVENTS, KafkaTopics.USER_REGISTRATION, KafkaTopics.USER_PROFILE,
+                    KafkaTopics.USER_SECURITY},
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "userKafkaListenerContainerFactory"
     )
@@ -43,25 +64,53 @@ public class UserEventConsumer {
 
         if (event instanceof UserRegisteredEvent) {
             handleUserRegisteredEvent((UserRegisteredEvent) event);
+        } else if (event instanceof ProfileUpdatedEvent) {
+            handleProfileUpdatedEvent((ProfileUpdatedEvent) event);
+        } else if (event instanceof UserSecurityChangedEvent) {
+            handleUserSecurityChangedEvent((UserSecurityChangedEvent) event);
         }
         // Add more event handlers as needed
     }
 
     /**
      * Handles user registered events.
-     * This method processes new user registrations and can be extended to
-     * perform additional actions such as:
-     * - Creating an initial user profile
-     * - Sending welcome emails
-     * - Setting up default preferences
-     * - Initializing user-specific data
+     * Creates the user's snapshot with the details given at registration.
      *
      * @param event The user registered event containing user details
      */
     private void handleUserRegisteredEvent(UserRegisteredEvent event) {
         logger.info("User registered: {} ({})", event.getUsername(), event.getUserId());
-        
-        // Process the user registration event
-        // This could be used to create an initial profile, welcome email, etc.
+
+        if (event.getUserId() != null) {
+            userSnapshotService.applyRegistration(event);
+        }
+    }
+
+    /**
+     * Handles profile updated events.
+     * Applies the changed field to the user's snapshot.
+     *
+     * @param event The profile updated event
+     */
+    private void handleProfileUpdatedEvent(ProfileUpdatedEvent event) {
+        logger.info("Profile of user {} updated: {}", event.getUserId(), event.getFieldUpdated());
+
+        if (event.getUserId() != null) {
+            userSnapshotService.applyProfileUpdate(event);
+        }
+    }
+
+    /**
+     * Handles user security changed events.
+     * Removes the user's details from the snapshot when the user was deleted;
+     * other security changes do not affect the snapshot.
+     *
+     * @param event The user security changed event
+     */
+    private void handleUserSecurityChangedEvent(UserSecurityChangedEvent event) {
+        if (event.isDeleted() && event.getUserId() != null) {
+            logger.info("User deleted: {}", event.getUserId());
+            userSnapshotService.applyDeletion(event.getUserId());
+        }
     }
-}
\ No newline at end of file
+}
@@ -14,10 +14,12 @@ import org.springframework.stereotype.Component;
 import com.restaurant.common.constants.KafkaTopics;
 import com.restaurant.common.events.BaseEvent;
 import com.restaurant.common.events.reservation.FindAvailableTableRequestEvent;
+import com.restaurant.common.events.reservation.ReservationBookingChangedEvent;
 import com.restaurant.common.events.reservation.ReservationCancelledEvent;
 import com.restaurant.common.events.reservation.ReservationConfirmedEvent;
 import com.restaurant.common.events.reservation.ReservationCreatedEvent;
 import com.restaurant.common.events.reservation.ReservationModifiedEvent;
+import com.restaurant.common.events.reservation.ScheduleChangedEvent;
 import com.restaurant.common.events.reservation.TableAssignedEvent;
 import com.restaurant.common.events.reservation.TableStatusEvent;
 import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
@@ -29,6 +31,7 @@ import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
  * - Reservation lifecycle events (created, confirmed, cancelled, modified)
  * - Table assignment and status events
  * - Table availability requests
+ * - Booking and schedule changes for the availability grids of every instance
  *
  * Each event is published to a specific topic with appropriate message keys
  * for efficient partitioning and message routing.
@@ -404,4 +407,85 @@ public class ReservationEventProducer {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Publishes the current booking of a reservation after a committed change.
+     * This event is sent to the availability changes topic, keyed by restaurant
+     * so the changes of one restaurant are received in order.
+     *
+     * @param event The reservation booking changed event
+     * @return true if the event was successfully sent, false otherwise
+     */
+    public boolean publishReservationBookingChangedEvent(ReservationBookingChangedEvent event) {
+        if (event == null || event.getReservationId() == null || event.getRestaurantId() == null) {
+            logger.error("Cannot publish null reservation booking changed event or event with null IDs");
+            return false;
+        }
+
+        try {
+            logger.debug("Publishing reservation booking changed event: reservationId={}, restaurantId={}",
+                    event.getReservationId(), event.getRestaurantId());
+
+            Message<?> message = MessageBuilder
+                    .withPayload(event)
+                    .setHeader(KafkaHeaders.TOPIC, KafkaTopics.AVAILABILITY_CHANGES)
+                    .setHeader(KafkaHeaders.KEY, event.getRestaurantId())
+                    .build();
+
+            CompletableFuture<SendResult<String, BaseEvent>> future =
+                    kafkaTemplate.send(message);
+
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    logger.error("Failed to send reservation booking changed event: reservationId={}, error={}",
+                            event.getReservationId(), ex.getMessage(), ex);
+                }
+            });
+
+            return true;
+        } catch (Exception e) {
+            logger.error("Error publishing reservation booking changed event: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Publishes a committed change to the schedules or operating hours of a restaurant.
+     * This event is sent to the availability changes topic, keyed by restaurant.
+     *
+     * @param event The schedule changed event
+     * @return true if the event was successfully sent, false otherwise
+     */
+    public boolean publishScheduleChangedEvent(ScheduleChangedEvent event) {
+        if (event == null || event.getRestaurantId() == null) {
+            logger.error("Cannot publish null schedule changed event or event with null restaurant ID");
+            return false;
+        }
+
+        try {
+            logger.debug("Publishing schedule changed event: restaurantId={}, date={}",
+                    event.getRestaurantId(), event.getDate());
+
+            Message<?> message = MessageBuilder
+                    .withPayload(event)
+                    .setHeader(KafkaHeaders.TOPIC, KafkaTopics.AVAILABILITY_CHANGES)
+                    .setHeader(KafkaHeaders.KEY, event.getRestaurantId())
+                    .build();
+
+            CompletableFuture<SendResult<String, BaseEvent>> future =
+                    kafkaTemplate.send(message);
+
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    logger.error("Failed to send schedule changed event: restaurantId={}, error={}",
+                            event.getRestaurantId(), ex.getMessage(), ex);
+                }
+            });
+
+            return true;
+        } catch (Exception e) {
+            logger.error("Error publishing schedule changed event: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -48,10 +48,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
      * Processes each HTTP request to handle JWT authentication.
      * The method:
      * 1. Extracts the JWT token from the request
-     * 2. Validates the token if present
-     * 3. Creates an Authentication object if the token is valid
-     * 4. Sets the Authentication in the SecurityContext
-     * 5. Continues the filter chain
+     * 2. Validates the token and creates an Authentication object in a single
+     *    parse, or reuses the Authentication of a previously verified token
+     * 3. Sets the Authentication in the SecurityContext
+     * 4. Continues the filter chain
      *
      * @param request the HTTP request
      * @param response the HTTP response
@@ -69,16 +69,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             if (token != null) {
                 logger.debug("JWT token found in request");
 
-                if (jwtTokenProvider.validateToken(token)) {
-                    logger.debug("JWT token is valid");
-                    Authentication auth = jwtTokenProvider.getAuthentication(token);
+                // Verifies the token once, or reuses the authentication of a token seen before
+                Authentication auth = jwtTokenProvider.authenticate(token);
 
-                    if (auth != null) {
-                        logger.debug("Setting authentication in security context for user: {}", auth.getName());
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                    } else {
-                        logger.debug("Could not create authentication from token");
-                    }
+                if (auth != null) {
+                    logger.debug("Setting authentication in security context for user: {}", auth.getName());
+                    SecurityContextHolder.getContext().setAuthentication(auth);
                 } else {
                     logger.debug("JWT token is invalid");
                 }
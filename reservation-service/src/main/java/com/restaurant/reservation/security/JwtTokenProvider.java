@@ -1,36 +1,43 @@
 package com.restaurant.reservation.security;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 /**
  * JWT (JSON Web Token) provider for handling token operations in the reservation service.
  * This class is responsible for:
- * - Generating signing keys for JWT operations
+ * - Building the signing key and token parser once at startup
  * - Extracting user information from tokens
  * - Validating token authenticity
  * - Creating Spring Security Authentication objects from tokens
  *
  * The provider uses HMAC-SHA algorithm for token signing and validation.
- * It handles token parsing, validation, and authentication creation in a secure manner.
+ * Requests are authenticated with a single parse per token: the verified
+ * claims are cached as an immutable {@link VerifiedToken} until the token
+ * expires, so repeated requests with the same token skip verification and
+ * only build a new Authentication.
  *
  * @author Restaurant Reservation Team
  * @version 1.1
@@ -57,15 +64,64 @@ public class JwtTokenProvider {
     @Value("${jwt.prefix:Bearer }")
     private String tokenPrefix;
 
+    /** Cache of authentications built from verified tokens */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /** Parser verifying tokens against the signing key; thread-safe and reused */
+    private JwtParser jwtParser;
+
     /**
-     * Generates a signing key from the JWT secret.
-     * The key is used for both signing and validating JWT tokens.
+     * Constructs a new JwtTokenProvider with required dependencies.
      *
-     * @return A Key object suitable for JWT operations
+     * @param verifiedTokenCache Cache of authentications built from verified tokens
+     */
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Builds the signing key from the JWT secret and the parser using it.
+     * The key is used for validating JWT tokens.
      */
-    private Key getSigningKey() {
+    @PostConstruct
+    public void initialize() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(keyBytes))
+                .build();
+    }
+
+    /**
+     * Authenticates a request token.
+     * A token seen before is answered from the verified-token cache; otherwise it
+     * is parsed and verified once and the result is cached until the token
+     * expires. Every call returns a new Authentication.
+     *
+     * @param token The JWT token to authenticate
+     * @return The Authentication for the token, or null if the token is invalid or expired
+     */
+    public Authentication authenticate(String token) {
+        if (token == null) {
+            logger.debug("Token is null");
+            return null;
+        }
+
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached.toAuthentication();
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        VerifiedToken verifiedToken = verify(claims);
+        if (verifiedToken == null) {
+            return null;
+        }
+        verifiedTokenCache.put(token, verifiedToken, claims.getExpiration());
+        return verifiedToken.toAuthentication();
     }
 
     /**
@@ -76,18 +132,8 @@ public class JwtTokenProvider {
      * @return The user ID as a String, or null if the token is invalid
      */
     public String getUserIdFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims.getSubject();
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.warn("Invalid JWT token: {}", e.getMessage());
-            return null;
-        }
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     /**
@@ -98,73 +144,105 @@ public class JwtTokenProvider {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateToken(String token) {
-        if (token == null) {
-            logger.debug("Token is null");
-            return false;
-        }
+        return token != null && parseClaims(token) != null;
+    }
+
+    /**
+     * Creates a Spring Security Authentication object from a JWT token.
+     * This method extracts the user ID and roles from the token and creates
+     * an Authentication object that can be used by Spring Security.
+     * The token's issue time and owned restaurants are attached as {@link TokenDetails}.
+     *
+     * @param token The JWT token to create the Authentication from
+     * @return An Authentication object containing the user's ID and authorities, or null if the token is invalid
+     */
+    public Authentication getAuthentication(String token) {
+        Claims claims = parseClaims(token);
+        VerifiedToken verifiedToken = claims != null ? verify(claims) : null;
+        return verifiedToken != null ? verifiedToken.toAuthentication() : null;
+    }
 
+    /**
+     * Parses and verifies a token.
+     *
+     * @param token The JWT token to parse
+     * @return The verified claims, or null if the token is invalid or expired
+     */
+    private Claims parseClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
             // Check if token is expired
             Date expiration = claims.getExpiration();
             if (expiration != null && expiration.before(new Date())) {
                 logger.debug("Token is expired");
-                return false;
+                return null;
             }
 
-            return true;
+            return claims;
         } catch (JwtException e) {
             logger.debug("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             logger.debug("JWT token compact of handler are invalid: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
     /**
-     * Creates a Spring Security Authentication object from a JWT token.
-     * This method extracts the user ID and roles from the token and creates
-     * an Authentication object that can be used by Spring Security.
+     * Extracts the user, authorities and token details from verified claims.
      *
-     * @param token The JWT token to create the Authentication from
-     * @return An Authentication object containing the user's ID and authorities, or null if the token is invalid
+     * @param claims The verified token claims
+     * @return The verified token, or null if the claims have no subject
      */
-    public Authentication getAuthentication(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String userId = claims.getSubject();
-            if (userId == null) {
-                logger.warn("JWT token does not contain a subject");
-                return null;
-            }
+    private VerifiedToken verify(Claims claims) {
+        String userId = claims.getSubject();
+        if (userId == null) {
+            logger.warn("JWT token does not contain a subject");
+            return null;
+        }
 
-            List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
 
-            String roles = claims.get("roles", String.class);
-            if (roles != null && !roles.isEmpty()) {
-                authorities = Arrays.stream(roles.split(","))
-                        .filter(role -> role != null && !role.trim().isEmpty())
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.trim()))
-                        .collect(Collectors.toList());
-            }
+        String roles = claims.get("roles", String.class);
+        if (roles != null && !roles.isEmpty()) {
+            authorities = Arrays.stream(roles.split(","))
+                    .filter(role -> role != null && !role.trim().isEmpty())
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.trim()))
+                    .collect(Collectors.toList());
+        }
 
-            logger.debug("Created authentication for user: {} with {} authorities", userId, authorities.size());
-            return new UsernamePasswordAuthenticationToken(userId, "", authorities);
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.warn("Invalid JWT token: {}", e.getMessage());
-            return null;
+        // Restaurants owned at issue time allow ownership checks without a round trip
+        Set<String> ownedRestaurantIds = null;
+        String restaurants = claims.get("restaurants", String.class);
+        if (restaurants != null) {
+            ownedRestaurantIds = Arrays.stream(restaurants.split(","))
+                    .map(String::trim)
+                    .filter(restaurantId -> !restaurantId.isEmpty())
+                    .collect(Collectors.toSet());
+        }
+        // Versions of the restaurant changes the ownerships were taken from, as restaurantId:version pairs
+        Map<String, Long> ownershipVersions = null;
+        String restaurantVersions = claims.get("restaurantVersions", String.class);
+        if (restaurantVersions != null) {
+            ownershipVersions = new HashMap<>();
+            for (String entry : restaurantVersions.split(",")) {
+                int separator = entry.lastIndexOf(':');
+                if (separator <= 0) {
+                    continue;
+                }
+                try {
+                    ownershipVersions.put(entry.substring(0, separator).trim(),
+                            Long.parseLong(entry.substring(separator + 1).trim()));
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring malformed restaurant version claim entry: {}", entry);
+                }
+            }
         }
+        Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+
+        logger.debug("Verified token of user: {} with {} authorities", userId, authorities.size());
+        return new VerifiedToken(userId, authorities, new TokenDetails(issuedAt, ownedRestaurantIds, ownershipVersions));
     }
 
     /**
@@ -180,4 +258,4 @@ public class JwtTokenProvider {
         }
         return null;
     }
-}
\ No newline at end of file
+}
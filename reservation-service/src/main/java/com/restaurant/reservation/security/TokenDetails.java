@@ -0,0 +1,73 @@
+package com.restaurant.reservation.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable claims of a verified JWT token that are attached to the
+ * Spring Security Authentication as its details.
+ * This class provides:
+ * - The time the token was issued
+ * - The restaurants the user owned when the token was issued
+ * - The restaurant change version each ownership was taken from
+ *
+ * Owned restaurants are null for tokens issued before ownership claims
+ * were introduced, so callers can tell "no claim" from "owns nothing".
+ * Ownership versions are null for tokens issued before they were added.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class TokenDetails {
+
+    /** Time the token was issued, or null if the token has no issued-at claim */
+    private final Instant issuedAt;
+
+    /** IDs of the restaurants owned at issue time, or null if the token has no ownership claim */
+    private final Set<String> ownedRestaurantIds;
+
+    /** Restaurant change version of each owned restaurant's ownership, or null if the token has no such claim */
+    private final Map<String, Long> ownershipVersions;
+
+    /**
+     * Constructs new token details.
+     *
+     * @param issuedAt Time the token was issued
+     * @param ownedRestaurantIds IDs of the restaurants owned at issue time
+     * @param ownershipVersions Restaurant change version of each owned restaurant's ownership
+     */
+    public TokenDetails(Instant issuedAt, Set<String> ownedRestaurantIds, Map<String, Long> ownershipVersions) {
+        this.issuedAt = issuedAt;
+        this.ownedRestaurantIds = ownedRestaurantIds != null ? Set.copyOf(ownedRestaurantIds) : null;
+        this.ownershipVersions = ownershipVersions != null ? Map.copyOf(ownershipVersions) : null;
+    }
+
+    /**
+     * Gets the time the token was issued.
+     *
+     * @return The issue time, or null if unknown
+     */
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    /**
+     * Gets the IDs of the restaurants owned when the token was issued.
+     *
+     * @return The owned restaurant IDs, or null if the token has no ownership claim
+     */
+    public Set<String> getOwnedRestaurantIds() {
+        return ownedRestaurantIds;
+    }
+
+    /**
+     * Gets the restaurant change version the ownership of a restaurant was taken from.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The ownership version, or null if the token does not carry one for the restaurant
+     */
+    public Long getOwnershipVersion(String restaurantId) {
+        return ownershipVersions != null ? ownershipVersions.get(restaurantId) : null;
+    }
+}
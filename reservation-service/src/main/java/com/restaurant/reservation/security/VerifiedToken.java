@@ -0,0 +1,85 @@
+package com.restaurant.reservation.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Immutable result of verifying a JWT token.
+ * This class holds what an Authentication is built from:
+ * - The ID of the user the token was issued to
+ * - The user's authorities
+ * - The token details used for ownership checks
+ *
+ * Verified tokens are cached and shared between requests, so each request
+ * gets an Authentication of its own from {@link #toAuthentication()}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class VerifiedToken {
+
+    /** ID of the user the token was issued to */
+    private final String userId;
+
+    /** Authorities granted by the token */
+    private final List<GrantedAuthority> authorities;
+
+    /** Issue time, owned restaurants and ownership versions of the token */
+    private final TokenDetails details;
+
+    /**
+     * Constructs a verified token.
+     *
+     * @param userId ID of the user the token was issued to
+     * @param authorities Authorities granted by the token
+     * @param details Issue time, owned restaurants and ownership versions of the token
+     */
+    public VerifiedToken(String userId, Collection<? extends GrantedAuthority> authorities, TokenDetails details) {
+        this.userId = userId;
+        this.authorities = List.copyOf(authorities);
+        this.details = details;
+    }
+
+    /**
+     * Builds a new Authentication for one request.
+     *
+     * @return An authenticated token with the user ID as principal and the token details as details
+     */
+    public Authentication toAuthentication() {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId, "", authorities);
+        authentication.setDetails(details);
+        return authentication;
+    }
+
+    /**
+     * Gets the ID of the user the token was issued to.
+     *
+     * @return The user ID
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the authorities granted by the token.
+     *
+     * @return The unmodifiable authorities
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Gets the issue time, owned restaurants and ownership versions of the token.
+     *
+     * @return The token details
+     */
+    public TokenDetails getDetails() {
+        return details;
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.reservation.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.utils.BoundedTtlCache;
+
+/**
+ * Bounded cache of verified JWT tokens.
+ * This component provides:
+ * - Lookup of a previously verified token without re-checking its signature
+ * - Expiry of each entry when its token expires
+ * - A bounded number of entries
+ *
+ * Entries are keyed by the SHA-256 hash of the token, so bearer tokens are
+ * never kept in memory. The cached values are immutable; each request
+ * builds its own Authentication from them.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /** Time an entry is kept for tokens without an expiration claim */
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /** Verified tokens by token hash */
+    private final BoundedTtlCache<String, VerifiedToken> entries;
+
+    /**
+     * Constructs a new VerifiedTokenCache.
+     *
+     * @param maxEntries Maximum number of cached tokens
+     */
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * Gets a previously verified token.
+     *
+     * @param token The JWT token
+     * @return The verified token, or null if the token is unknown or expired
+     */
+    public VerifiedToken get(String token) {
+        return entries.get(hash(token));
+    }
+
+    /**
+     * Caches a verified token until it expires.
+     *
+     * @param token The JWT token
+     * @param verifiedToken The result of verifying the token
+     * @param expiration The token's expiration time, or null if it has none
+     */
+    public void put(String token, VerifiedToken verifiedToken, Date expiration) {
+        long expiresAt = expiration != null
+                ? expiration.getTime()
+                : System.currentTimeMillis() + DEFAULT_TTL_MILLIS;
+        entries.put(hash(token), verifiedToken, expiresAt);
+    }
+
+    /**
+     * Computes the cache key of a token.
+     *
+     * @param token The JWT token
+     * @return The Base64-encoded SHA-256 hash of the token
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
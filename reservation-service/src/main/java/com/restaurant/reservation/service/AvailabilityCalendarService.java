@@ -0,0 +1,676 @@
+package com.restaurant.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.events.reservation.ReservationBookingChangedEvent;
+import com.restaurant.common.events.reservation.ScheduleChangedEvent;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.domain.models.Reservation;
+import com.restaurant.reservation.domain.models.RestaurantOperatingHours;
+import com.restaurant.reservation.domain.models.Schedule;
+import com.restaurant.reservation.domain.repositories.ReservationRepository;
+import com.restaurant.reservation.domain.repositories.RestaurantOperatingHoursRepository;
+import com.restaurant.reservation.domain.repositories.ScheduleRepository;
+import com.restaurant.reservation.dto.AvailabilityGridDTO;
+import com.restaurant.reservation.dto.AvailabilitySlotDTO;
+import com.restaurant.reservation.kafka.producers.ReservationEventProducer;
+import com.restaurant.reservation.utils.TransactionUtils;
+
+/**
+ * Service maintaining in-memory availability grids per restaurant and day.
+ * Each grid divides the day into 15-minute slots and reports, for every slot,
+ * the largest party that can start a full-length session and which
+ * party-size bands are still available.
+ *
+ * A grid is materialized from the database the first time it is requested
+ * and is then kept current incrementally:
+ * - Reservation creation, modification, cancellation and expiry update the
+ *   booked covers of the affected slots
+ * - Restaurant capacity changes, operating hours changes and schedule
+ *   updates recompute the grid without touching the database for reservations
+ *
+ * Every instance keeps its own grids. Booking and schedule changes are
+ * applied locally once committed and published as availability changes,
+ * which every instance consumes in a consumer group of its own; applying a
+ * change twice has no effect. Capacity changes are likewise consumed by
+ * every instance.
+ *
+ * Capacities come from the locally stored copy kept by the restaurant
+ * capacity service and are never fetched while serving a read. While a
+ * restaurant's capacity is unknown, grids use the configured default; they
+ * are recomputed when the capacity arrives with a capacity change, or when
+ * a periodic retry obtains it from the restaurant service.
+ *
+ * Reads return the current immutable snapshot without locking or querying.
+ * Every change produces a new snapshot with a new version, which callers
+ * use as an ETag. Changes made inside a transaction are applied only after
+ * the transaction commits.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class AvailabilityCalendarService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityCalendarService.class);
+
+    /** Length of a grid slot in minutes */
+    private static final int SLOT_MINUTES = 15;
+
+    /** Number of minutes in a day */
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /** Number of slots in a day */
+    private static final int SLOTS_PER_DAY = MINUTES_PER_DAY / SLOT_MINUTES;
+
+    /** Repository for loading reservations when a grid is materialized */
+    private final ReservationRepository reservationRepository;
+
+    /** Repository for loading schedule overrides when a grid is materialized */
+    private final ScheduleRepository scheduleRepository;
+
+    /** Repository for loading regular operating hours when a grid is materialized */
+    private final RestaurantOperatingHoursRepository operatingHoursRepository;
+
+    /** Materialized grids by restaurant ID and date */
+    private final Map<String, Map<LocalDate, DayGrid>> grids = new ConcurrentHashMap<>();
+
+    /** Service keeping the local copy of restaurant seating capacities */
+    private final RestaurantCapacityService restaurantCapacityService;
+
+    /** Producer publishing committed changes to the grids of other instances */
+    private final ReservationEventProducer eventProducer;
+
+    /** Source of grid versions; seeded with the start time so versions differ across restarts */
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+
+    /** Default duration of a reservation session in minutes */
+    @Value("${reservation.default-session-length-minutes:120}")
+    private int sessionLengthMinutes;
+
+    /** Maximum allowed party size for a reservation */
+    @Value("${reservation.max-party-size:20}")
+    private int maxPartySize;
+
+    /** Maximum number of days in advance a reservation can be made */
+    @Value("${reservation.max-future-days:90}")
+    private int maxFutureDays;
+
+    /** Capacity assumed while a restaurant's capacity is neither stored nor obtainable */
+    @Value("${reservation.calendar.default-capacity:100}")
+    private int defaultCapacity;
+
+    /** Upper bounds of the party-size bands below the maximum party size */
+    @Value("${reservation.calendar.party-size-bands:2,4,6,8,12}")
+    private int[] partySizeBands;
+
+    /** Maximum number of materialized grids kept in memory */
+    @Value("${reservation.calendar.max-grids:5000}")
+    private int maxGrids;
+
+    /**
+     * Constructs a new AvailabilityCalendarService with required dependencies.
+     *
+     * @param reservationRepository Repository for loading reservations
+     * @param scheduleRepository Repository for loading schedule overrides
+     * @param operatingHoursRepository Repository for loading regular operating hours
+     * @param restaurantCapacityService Service keeping the local copy of restaurant capacities
+     * @param eventProducer Producer publishing committed changes to the grids of other instances
+     */
+    public AvailabilityCalendarService(ReservationRepository reservationRepository,
+            ScheduleRepository scheduleRepository,
+            RestaurantOperatingHoursRepository operatingHoursRepository,
+            RestaurantCapacityService restaurantCapacityService,
+            ReservationEventProducer eventProducer) {
+        this.reservationRepository = reservationRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.operatingHoursRepository = operatingHoursRepository;
+        this.restaurantCapacityService = restaurantCapacityService;
+        this.eventProducer = eventProducer;
+    }
+
+    /**
+     * Gets the availability grid of a restaurant for a date.
+     * The grid is materialized on first access and served from memory afterwards.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the grid
+     * @return The current availability grid
+     * @throws ValidationException if the date is outside the bookable range
+     */
+    public AvailabilityGridDTO getAvailabilityGrid(String restaurantId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date.isBefore(today) || date.isAfter(today.plusDays(maxFutureDays))) {
+            throw new ValidationException(
+                    String.format("Availability is only provided from today up to %d days ahead", maxFutureDays));
+        }
+
+        DayGrid grid = grids.computeIfAbsent(restaurantId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(date, d -> new DayGrid(restaurantId, d));
+        grid.lastAccess = System.currentTimeMillis();
+        grid.ensureLoaded();
+        return grid.snapshot;
+    }
+
+    /**
+     * Records the current state of a reservation in the affected grids.
+     * Active reservations occupy their session in every day they overlap;
+     * inactive reservations are removed. Recording is idempotent, so it can
+     * be called after any lifecycle change.
+     * When called inside a transaction the change is deferred until commit.
+     * Once applied, the change is published for the grids of other instances.
+     *
+     * @param reservation The reservation whose state changed
+     */
+    public void recordReservation(Reservation reservation) {
+        String reservationId = reservation.getId();
+        String restaurantId = reservation.getRestaurantId();
+        LocalDateTime reservationTime = reservation.getReservationTime();
+        int durationMinutes = reservation.getDurationMinutes();
+        int partySize = reservation.getPartySize();
+        List<String> tableIds = reservation.getTableIds();
+        boolean active = reservation.isActive();
+
+        TransactionUtils.afterCommit(() -> {
+            applyBooking(reservationId, restaurantId, reservationTime, durationMinutes, partySize, active);
+            eventProducer.publishReservationBookingChangedEvent(new ReservationBookingChangedEvent(
+                    reservationId, restaurantId, reservationTime != null ? reservationTime.toString() : null,
+                    durationMinutes, partySize, tableIds, active));
+        });
+    }
+
+    /**
+     * Applies the committed state of a reservation to the grids of this instance.
+     * Used for changes made by any instance; applying a state again has no effect.
+     *
+     * @param reservationId The ID of the reservation
+     * @param restaurantId The ID of the restaurant
+     * @param reservationTime The start time of the reservation
+     * @param durationMinutes The length of the reservation session in minutes
+     * @param partySize The number of guests
+     * @param active Whether the reservation occupies its session
+     */
+    public void applyBooking(String reservationId, String restaurantId, LocalDateTime reservationTime,
+            int durationMinutes, int partySize, boolean active) {
+        Map<LocalDate, DayGrid> restaurantGrids = grids.get(restaurantId);
+        if (restaurantGrids == null) {
+            return;
+        }
+        Map<LocalDate, Booking> bookings = active
+                ? toBookings(reservationTime, durationMinutes, partySize)
+                : Map.of();
+        for (DayGrid grid : restaurantGrids.values()) {
+            grid.putBooking(reservationId, bookings.get(grid.date));
+        }
+    }
+
+    /**
+     * Gets the latest known seating capacity of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The seating capacity, or the configured default if it is neither stored nor obtainable
+     */
+    public int getRestaurantCapacity(String restaurantId) {
+        Integer capacity = restaurantCapacityService.findCapacity(restaurantId);
+        return capacity != null ? capacity : defaultCapacity;
+    }
+
+    /**
+     * Updates the seating capacity of a restaurant and recomputes its grids.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The new seating capacity
+     */
+    public void updateCapacity(String restaurantId, int capacity) {
+        if (!restaurantCapacityService.updateCapacity(restaurantId, capacity)) {
+            return;
+        }
+        rebuildGrids(restaurantId);
+        logger.debug("Updated availability capacity for restaurant {}: {}", restaurantId, capacity);
+    }
+
+    /**
+     * Applies a seating capacity stored by another instance and recomputes
+     * the grids of this instance if it changed.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The new seating capacity
+     */
+    public void refreshCapacity(String restaurantId, int capacity) {
+        if (restaurantCapacityService.rememberCapacity(restaurantId, capacity)) {
+            rebuildGrids(restaurantId);
+        }
+    }
+
+    /**
+     * Retries obtaining the capacity of restaurants whose grids use the
+     * default capacity, and recomputes their grids once it is known.
+     * Failed fetches are retried no more often than the capacity service
+     * allows. This method should be called periodically.
+     */
+    public void retryProvisionalGrids() {
+        grids.forEach((restaurantId, restaurantGrids) -> {
+            if (restaurantGrids.values().stream().anyMatch(grid -> grid.provisional)
+                    && restaurantCapacityService.findCapacity(restaurantId) != null) {
+                restaurantGrids.values().stream().filter(grid -> grid.provisional).forEach(DayGrid::rebuild);
+            }
+        });
+    }
+
+    /**
+     * Recomputes every grid of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    private void rebuildGrids(String restaurantId) {
+        Map<LocalDate, DayGrid> restaurantGrids = grids.get(restaurantId);
+        if (restaurantGrids != null) {
+            restaurantGrids.values().forEach(DayGrid::rebuild);
+        }
+    }
+
+    /**
+     * Reloads the schedule of a restaurant for a date and recomputes its grid.
+     * When called inside a transaction the reload is deferred until commit.
+     * Once reloaded, the change is published with the date's overrides of the
+     * regular hours, for the grids of other instances and the restaurant service.
+     *
+     * @param schedule The schedule that changed
+     */
+    public void refreshSchedule(Schedule schedule) {
+        String restaurantId = schedule.getRestaurantId();
+        LocalDate date = schedule.getDate();
+        ScheduleChangedEvent event = new ScheduleChangedEvent(restaurantId, date.toString(),
+                schedule.isCustomClosed() ? schedule.isClosed() : null,
+                schedule.isCustomOpenTime() && schedule.getOpenTime() != null
+                        ? schedule.getOpenTime().toString() : null,
+                schedule.isCustomCloseTime() && schedule.getCloseTime() != null
+                        ? schedule.getCloseTime().toString() : null);
+
+        TransactionUtils.afterCommit(() -> {
+            reloadSchedules(restaurantId, date);
+            eventProducer.publishScheduleChangedEvent(event);
+        });
+    }
+
+    /**
+     * Reloads schedules and operating hours for every grid of a restaurant.
+     * When called inside a transaction the reload is deferred until commit.
+     * Once reloaded, the change is published for the grids of other instances.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    public void refreshRestaurant(String restaurantId) {
+        TransactionUtils.afterCommit(() -> {
+            reloadSchedules(restaurantId, null);
+            eventProducer.publishScheduleChangedEvent(new ScheduleChangedEvent(restaurantId, null, null, null, null));
+        });
+    }
+
+    /**
+     * Reloads committed schedules and operating hours into the grids of this instance.
+     * Used for changes made by any instance.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date whose schedule changed, or null to reload every grid of the restaurant
+     */
+    public void reloadSchedules(String restaurantId, LocalDate date) {
+        Map<LocalDate, DayGrid> restaurantGrids = grids.get(restaurantId);
+        if (restaurantGrids == null) {
+            return;
+        }
+        if (date == null) {
+            restaurantGrids.values().forEach(DayGrid::reloadSchedule);
+            return;
+        }
+        DayGrid grid = restaurantGrids.get(date);
+        if (grid != null) {
+            grid.reloadSchedule();
+        }
+    }
+
+    /**
+     * Removes grids for past dates and, if the number of grids exceeds the
+     * configured maximum, the least recently read grids.
+     * This method should be called periodically.
+     */
+    public void evictStaleGrids() {
+        LocalDate today = LocalDate.now();
+        List<DayGrid> remaining = new ArrayList<>();
+
+        grids.values().forEach(restaurantGrids -> {
+            restaurantGrids.values().removeIf(grid -> grid.date.isBefore(today));
+            remaining.addAll(restaurantGrids.values());
+        });
+
+        int excess = remaining.size() - maxGrids;
+        if (excess > 0) {
+            remaining.sort(Comparator.comparingLong(grid -> grid.lastAccess));
+            for (DayGrid grid : remaining.subList(0, excess)) {
+                Map<LocalDate, DayGrid> restaurantGrids = grids.get(grid.restaurantId);
+                if (restaurantGrids != null) {
+                    restaurantGrids.remove(grid.date, grid);
+                }
+            }
+        }
+        grids.values().removeIf(Map::isEmpty);
+    }
+
+    /**
+     * Splits a reservation session into per-day bookings.
+     * A session crossing midnight produces one booking for each day it touches.
+     *
+     * @param start The reservation start time
+     * @param durationMinutes The reservation duration in minutes
+     * @param partySize The number of guests
+     * @return Bookings keyed by the day they fall on
+     */
+    private Map<LocalDate, Booking> toBookings(LocalDateTime start, int durationMinutes, int partySize) {
+        Map<LocalDate, Booking> bookings = new HashMap<>();
+        if (start == null || durationMinutes <= 0 || partySize <= 0) {
+            return bookings;
+        }
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            int from = (int) Math.max(0, Duration.between(dayStart, start).toMinutes());
+            int to = (int) Math.min(MINUTES_PER_DAY, Duration.between(dayStart, end).toMinutes());
+            if (to > from) {
+                bookings.put(day, new Booking(from, to, partySize));
+            }
+        }
+        return bookings;
+    }
+
+    /**
+     * The part of a reservation session that falls on one day.
+     */
+    private static final class Booking {
+
+        /** First booked minute of the day (inclusive) */
+        private final int fromMinute;
+
+        /** Last booked minute of the day (exclusive) */
+        private final int toMinute;
+
+        /** Number of guests */
+        private final int partySize;
+
+        /**
+         * Creates a new booking.
+         *
+         * @param fromMinute First booked minute of the day (inclusive)
+         * @param toMinute Last booked minute of the day (exclusive)
+         * @param partySize Number of guests
+         */
+        Booking(int fromMinute, int toMinute, int partySize) {
+            this.fromMinute = fromMinute;
+            this.toMinute = toMinute;
+            this.partySize = partySize;
+        }
+
+        /**
+         * Checks whether another booking occupies the same slots with the same party.
+         *
+         * @param other The other booking
+         * @return true if both bookings have the same effect on the grid
+         */
+        boolean sameAs(Booking other) {
+            return other != null && fromMinute == other.fromMinute
+                    && toMinute == other.toMinute && partySize == other.partySize;
+        }
+    }
+
+    /**
+     * Materialized availability of one restaurant on one day.
+     * Booked covers per slot are maintained by applying booking deltas; the
+     * published snapshot is recomputed from them after every change.
+     */
+    private final class DayGrid {
+
+        /** ID of the restaurant */
+        private final String restaurantId;
+
+        /** Date of the grid */
+        private final LocalDate date;
+
+        /** Bookings on this day by reservation ID */
+        private final Map<String, Booking> bookings = new HashMap<>();
+
+        /** Booked covers per slot */
+        private final int[] bookedCovers = new int[SLOTS_PER_DAY];
+
+        /** Stored schedule for this date, if any */
+        private Schedule schedule;
+
+        /** Regular operating hours for this day of week, if known */
+        private RestaurantOperatingHours hours;
+
+        /** Whether the grid has been loaded from the database */
+        private volatile boolean loaded;
+
+        /** Current published snapshot */
+        private volatile AvailabilityGridDTO snapshot;
+
+        /** Whether the snapshot was computed with the default capacity because the real one was unknown */
+        private volatile boolean provisional;
+
+        /** Epoch milliseconds of the last read, used for eviction */
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        /**
+         * Creates a new, not yet loaded grid.
+         *
+         * @param restaurantId ID of the restaurant
+         * @param date Date of the grid
+         */
+        DayGrid(String restaurantId, LocalDate date) {
+            this.restaurantId = restaurantId;
+            this.date = date;
+        }
+
+        /**
+         * Loads the grid from the database on first use.
+         * Updates arriving while the load runs wait for it and are then applied on top.
+         */
+        void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                if (loaded) {
+                    return;
+                }
+                LocalDateTime dayStart = date.atStartOfDay();
+                // Sessions starting the previous evening may still occupy the early slots
+                for (Reservation reservation : reservationRepository.findActiveReservationsInRange(
+                        restaurantId, dayStart.minusDays(1), dayStart.plusDays(1))) {
+                    Booking booking = toBookings(reservation.getReservationTime(),
+                            reservation.getDurationMinutes(), reservation.getPartySize()).get(date);
+                    if (booking != null) {
+                        bookings.put(reservation.getId(), booking);
+                        applyDelta(booking, 1);
+                    }
+                }
+                loadSchedule();
+                publish();
+                loaded = true;
+            }
+        }
+
+        /**
+         * Adds, replaces or removes the booking of a reservation.
+         *
+         * @param reservationId The ID of the reservation
+         * @param booking The reservation's booking on this day, or null to remove it
+         */
+        synchronized void putBooking(String reservationId, Booking booking) {
+            if (!loaded) {
+                // The grid will include the committed state when it is loaded
+                return;
+            }
+            Booking previous = booking != null ? bookings.put(reservationId, booking) : bookings.remove(reservationId);
+            if (previous == null && booking == null || booking != null && booking.sameAs(previous)) {
+                return;
+            }
+            if (previous != null) {
+                applyDelta(previous, -1);
+            }
+            if (booking != null) {
+                applyDelta(booking, 1);
+            }
+            publish();
+        }
+
+        /**
+         * Reloads the schedule and operating hours and republishes the grid.
+         */
+        synchronized void reloadSchedule() {
+            if (!loaded) {
+                return;
+            }
+            loadSchedule();
+            publish();
+        }
+
+        /**
+         * Loads the stored schedule and the regular operating hours for this date.
+         */
+        private void loadSchedule() {
+            schedule = scheduleRepository.findByRestaurantIdAndDate(restaurantId, date).orElse(null);
+            hours = operatingHoursRepository.findByRestaurantIdAndDayOfWeek(restaurantId, date.getDayOfWeek())
+                    .orElse(null);
+        }
+
+        /**
+         * Republishes the grid, e.g. after a capacity change.
+         */
+        synchronized void rebuild() {
+            if (loaded) {
+                publish();
+            }
+        }
+
+        /**
+         * Adds or subtracts a booking's party from the slots it occupies.
+         *
+         * @param booking The booking
+         * @param sign 1 to add the booking, -1 to remove it
+         */
+        private void applyDelta(Booking booking, int sign) {
+            int firstSlot = booking.fromMinute / SLOT_MINUTES;
+            int lastSlot = (booking.toMinute - 1) / SLOT_MINUTES;
+            for (int slot = firstSlot; slot <= lastSlot; slot++) {
+                bookedCovers[slot] += sign * booking.partySize;
+            }
+        }
+
+        /**
+         * Computes and publishes a new snapshot from the booked covers.
+         * A party can start in a slot when every slot of a full session
+         * (truncated at midnight) has room for it.
+         */
+        private void publish() {
+            Integer knownCapacity = schedule != null && schedule.isCustomCapacity()
+                    ? Integer.valueOf(schedule.getTotalCapacity())
+                    : restaurantCapacityService.findStoredCapacity(restaurantId);
+            int capacity = knownCapacity != null ? knownCapacity : defaultCapacity;
+            provisional = knownCapacity == null;
+            boolean closed = schedule != null ? schedule.isClosed() : hours != null && hours.isClosed();
+            int sessionSlots = Math.max(1, (sessionLengthMinutes + SLOT_MINUTES - 1) / SLOT_MINUTES);
+            int[] bandLimits = bandUpperBounds();
+
+            List<AvailabilitySlotDTO> slots = new ArrayList<>(SLOTS_PER_DAY);
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                LocalTime time = LocalTime.MIN.plusMinutes((long) slot * SLOT_MINUTES);
+                boolean open = !closed && isWithinHours(time);
+
+                int peak = 0;
+                for (int s = slot; s < Math.min(slot + sessionSlots, SLOTS_PER_DAY); s++) {
+                    peak = Math.max(peak, bookedCovers[s]);
+                }
+                int available = open ? Math.max(0, Math.min(capacity - peak, maxPartySize)) : 0;
+
+                List<Boolean> bands = new ArrayList<>(bandLimits.length);
+                for (int limit : bandLimits) {
+                    bands.add(available >= limit);
+                }
+                slots.add(new AvailabilitySlotDTO(time, open, bookedCovers[slot], available, bands));
+            }
+
+            snapshot = new AvailabilityGridDTO(restaurantId, date, closed, capacity, SLOT_MINUTES,
+                    bandLabels(bandLimits), slots, versions.incrementAndGet());
+        }
+
+        /**
+         * Checks whether reservations may start at a time according to the
+         * stored schedule, or the regular operating hours if there is none.
+         * When no hours are known every slot is reported open; operating hours
+         * are still validated when a reservation is made.
+         *
+         * @param time The slot start time
+         * @return true if reservations may start at the time
+         */
+        private boolean isWithinHours(LocalTime time) {
+            LocalTime open = schedule != null ? schedule.getOpenTime() : hours != null ? hours.getOpenTime() : null;
+            LocalTime close = schedule != null ? schedule.getCloseTime() : hours != null ? hours.getCloseTime() : null;
+            if (open == null || close == null) {
+                return true;
+            }
+            if (close.isAfter(open)) {
+                return !time.isBefore(open) && time.isBefore(close);
+            }
+            // Closing after midnight
+            return !time.isBefore(open) || time.isBefore(close);
+        }
+    }
+
+    /**
+     * Gets the upper bound of every party-size band, ending with the maximum party size.
+     * A band is reported available when its largest party fits.
+     *
+     * @return The band upper bounds in ascending order
+     */
+    private int[] bandUpperBounds() {
+        List<Integer> limits = new ArrayList<>();
+        for (int limit : partySizeBands) {
+            if (limit > 0 && limit < maxPartySize && (limits.isEmpty() || limit > limits.get(limits.size() - 1))) {
+                limits.add(limit);
+            }
+        }
+        limits.add(maxPartySize);
+        return limits.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Builds display labels for party-size bands, e.g. "1-2", "3-4".
+     *
+     * @param bandLimits The band upper bounds in ascending order
+     * @return One label per band
+     */
+    private List<String> bandLabels(int[] bandLimits) {
+        List<String> labels = new ArrayList<>(bandLimits.length);
+        int lower = 1;
+        for (int limit : bandLimits) {
+            labels.add(lower == limit ? String.valueOf(limit) : lower + "-" + limit);
+            lower = limit + 1;
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,214 @@
+package com.restaurant.reservation.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.constants.StatusCodes;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.domain.models.ReservationView;
+import com.restaurant.reservation.dto.FloorTimelineDTO;
+import com.restaurant.reservation.service.RestaurantTableCache.TableInfo;
+
+/**
+ * Service building the staff day view of a restaurant floor.
+ * This service provides:
+ * - Per-table lanes of the reservations overlapping a day, from one range
+ *   query on the reservation view and the cached table list
+ * - Incremental timelines with only the reservations changed since a version
+ *
+ * Versions are change versions of the reservation view, lowered by a lag
+ * that covers the time between stamping a view and committing it, and clock
+ * skew between instances. Rows written close to a returned version may
+ * therefore be sent again in the next incremental timeline, which clients
+ * apply idempotently. Incremental timelines are only served for versions
+ * within the maximum delta age; older versions get a full timeline.
+ *
+ * Cancelled reservations are left off the timeline. Deleted reservations
+ * disappear with the next full timeline.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class FloorTimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FloorTimelineService.class);
+
+    /** Longest possible reservation in minutes, bounding how early a reservation overlapping the day can start */
+    private static final int MAX_DURATION_MINUTES = 480;
+
+    /** Service reading the reservation view */
+    private final ReservationViewService reservationViewService;
+
+    /** Cache of restaurant table lists */
+    private final RestaurantTableCache restaurantTableCache;
+
+    /** Cache of live table statuses */
+    private final TableStatusCacheService tableStatusCacheService;
+
+    /** Milliseconds subtracted from the query time to form the returned version */
+    @Value("${reservation.timeline.version-lag-ms:5000}")
+    private long versionLagMillis;
+
+    /** Age in minutes of the oldest version served incrementally */
+    @Value("${reservation.timeline.max-delta-age-minutes:60}")
+    private long maxDeltaAgeMinutes;
+
+    /**
+     * Constructs a new FloorTimelineService with required dependencies.
+     *
+     * @param reservationViewService Service reading the reservation view
+     * @param restaurantTableCache Cache of restaurant table lists
+     * @param tableStatusCacheService Cache of live table statuses
+     */
+    public FloorTimelineService(ReservationViewService reservationViewService,
+            RestaurantTableCache restaurantTableCache,
+            TableStatusCacheService tableStatusCacheService) {
+        this.reservationViewService = reservationViewService;
+        this.restaurantTableCache = restaurantTableCache;
+        this.tableStatusCacheService = tableStatusCacheService;
+    }
+
+    /**
+     * Gets the floor timeline of a restaurant for a day.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The day to show
+     * @param since Version of the client's copy of the timeline, or null for a full timeline
+     * @return The full timeline, or the changes since the given version
+     * @throws ValidationException if the version is negative
+     */
+    public FloorTimelineDTO getTimeline(String restaurantId, LocalDate date, Long since) {
+        if (since != null && since < 0) {
+            throw new ValidationException("since", "Version must not be negative");
+        }
+
+        long now = System.currentTimeMillis();
+        long version = Math.max(0, now - versionLagMillis);
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+
+        boolean incremental = since != null && since <= now
+                && since >= now - TimeUnit.MINUTES.toMillis(maxDeltaAgeMinutes);
+        if (!incremental) {
+            List<ReservationView> views = reservationViewService.getRestaurantWindow(restaurantId,
+                    dayStart.minusMinutes(MAX_DURATION_MINUTES), dayStart, dayEnd);
+            logger.debug("Building full timeline of restaurant {} on {} from {} reservations",
+                    restaurantId, date, views.size());
+            return build(restaurantId, date, version, true, views, Collections.emptyList());
+        }
+
+        List<ReservationView> onDay = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (ReservationView view : reservationViewService.getRestaurantChangesSince(restaurantId, since)) {
+            if (view.getReservationTime().isBefore(dayEnd) && view.getEndTime().isAfter(dayStart)) {
+                onDay.add(view);
+            } else {
+                removed.add(view.getReservationId());
+            }
+        }
+        logger.debug("Building incremental timeline of restaurant {} on {} since {}: {} changed, {} removed",
+                restaurantId, date, since, onDay.size(), removed.size());
+        return build(restaurantId, date, version, false, onDay, removed);
+    }
+
+    /**
+     * Builds a timeline from reservation views overlapping the day.
+     * Cancelled reservations are added to the removed IDs of incremental
+     * timelines and left out of full ones.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The day shown
+     * @param version Version of the timeline
+     * @param full Whether every table gets a lane
+     * @param views Reservation views overlapping the day, in chronological order
+     * @param removed IDs of reservations that left the day
+     * @return The timeline
+     */
+    private FloorTimelineDTO build(String restaurantId, LocalDate date, long version, boolean full,
+            List<ReservationView> views, List<String> removed) {
+        List<TableInfo> tables = restaurantTableCache.getTables(restaurantId);
+        Map<String, TableInfo> tablesById = new LinkedHashMap<>();
+        for (TableInfo table : tables) {
+            tablesById.put(table.getId(), table);
+        }
+
+        Map<String, List<FloorTimelineDTO.Slot>> slotsByTable = new LinkedHashMap<>();
+        if (full) {
+            tablesById.keySet().forEach(tableId -> slotsByTable.put(tableId, new ArrayList<>()));
+        }
+        List<FloorTimelineDTO.Slot> unassigned = new ArrayList<>();
+        List<String> removedReservationIds = new ArrayList<>(removed);
+
+        for (ReservationView view : views) {
+            if (StatusCodes.RESERVATION_CANCELLED.equals(view.getStatus())) {
+                if (!full) {
+                    removedReservationIds.add(view.getReservationId());
+                }
+                continue;
+            }
+
+            List<String> tableIds = splitTableIds(view.getTableIds());
+            FloorTimelineDTO.Slot slot = new FloorTimelineDTO.Slot(
+                    view.getReservationId(),
+                    view.getReservationTime(),
+                    view.getEndTime(),
+                    view.getPartySize(),
+                    view.getStatus(),
+                    view.getCustomerName(),
+                    view.getSpecialRequests(),
+                    tableIds);
+            if (tableIds.isEmpty()) {
+                unassigned.add(slot);
+                continue;
+            }
+            for (String tableId : tableIds) {
+                slotsByTable.computeIfAbsent(tableId, id -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        // Known tables keep the order of the table list; tables missing from it follow
+        List<FloorTimelineDTO.TableLane> lanes = new ArrayList<>(slotsByTable.size());
+        for (TableInfo table : tables) {
+            List<FloorTimelineDTO.Slot> slots = slotsByTable.remove(table.getId());
+            if (slots != null) {
+                lanes.add(new FloorTimelineDTO.TableLane(table.getId(), table.getTableNumber(), table.getCapacity(),
+                        table.getLocation(), tableStatusCacheService.getTableStatus(table.getId()), slots));
+            }
+        }
+        slotsByTable.forEach((tableId, slots) -> lanes.add(new FloorTimelineDTO.TableLane(
+                tableId, null, 0, null, tableStatusCacheService.getTableStatus(tableId), slots)));
+
+        return new FloorTimelineDTO(restaurantId, date, version, full, lanes, unassigned, removedReservationIds);
+    }
+
+    /**
+     * Splits the comma-separated table IDs of a reservation view.
+     *
+     * @param tableIds Comma-separated table IDs, or null
+     * @return The table IDs, empty if none are assigned
+     */
+    private static List<String> splitTableIds(String tableIds) {
+        if (tableIds == null || tableIds.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(tableIds.split(","))
+                .map(String::trim)
+                .filter(tableId -> !tableId.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
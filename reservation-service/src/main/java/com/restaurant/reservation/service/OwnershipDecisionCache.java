@@ -0,0 +1,189 @@
+package com.restaurant.reservation.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of restaurant ownership decisions.
+ * This component provides:
+ * - Least-recently-used eviction of (restaurant, user) decisions
+ * - Separate time-to-live for positive and negative decisions
+ * - Single-flight loading, so concurrent identical lookups share one request
+ * - Invalidation of all decisions for a restaurant when its owner changes
+ *
+ * Loaders return null when no decision could be made, for example on a
+ * timeout; such results are passed to the waiting callers but never cached.
+ * A decision whose loading overlapped an invalidation is not cached either,
+ * so a lookup in flight during an ownership change cannot reinstate it.
+ *
+ * Invalidations reach every instance through
+ * {@code RestaurantOwnershipChangeConsumer}, whose consumer group is private
+ * to the instance. Its group starts at the latest offset, so a change made
+ * while the instance was starting can be missed; positive decisions are
+ * therefore never cached longer than {@link #MAX_TTL_SECONDS}, which bounds
+ * how long a former owner keeps access in that case.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class OwnershipDecisionCache {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(OwnershipDecisionCache.class);
+
+    /** Separator between restaurant and user ID in cache keys */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /** Upper bound in seconds on the time a positive decision is served from the cache */
+    static final long MAX_TTL_SECONDS = 300;
+
+    /** Maximum number of cached decisions */
+    @Value("${restaurant.ownership.cache-max-entries:10000}")
+    private int maxEntries;
+
+    /** Time in seconds a positive decision is served from the cache, capped at {@link #MAX_TTL_SECONDS} */
+    @Value("${restaurant.ownership.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /** Time in seconds a negative decision is served from the cache */
+    @Value("${restaurant.ownership.negative-cache-ttl-seconds:60}")
+    private long negativeTtlSeconds;
+
+    /** Cached decisions in access order, guarded by its own monitor */
+    private final LinkedHashMap<String, Decision> decisions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Decision> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /** Lookups currently in flight by cache key */
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    /** Number of invalidations so far, used to detect loads that raced an invalidation */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Gets the ownership decision for a restaurant and user, loading it if needed.
+     * Concurrent calls for the same restaurant and user wait for a single load.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param userId The ID of the user
+     * @param loader Loads the decision; returns null if no decision could be made
+     * @return The decision, or null if the loader could not make one
+     */
+    public Boolean get(String restaurantId, String userId, Supplier<Boolean> loader) {
+        String key = restaurantId + KEY_SEPARATOR + userId;
+
+        Boolean cached = lookup(key);
+        if (cached != null) {
+            logger.debug("Ownership decision served from cache: restaurantId={}, userId={}", restaurantId, userId);
+            return cached;
+        }
+
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            logger.debug("Joining ownership lookup in flight: restaurantId={}, userId={}", restaurantId, userId);
+            return existing.join();
+        }
+
+        Boolean decision = null;
+        try {
+            long generation = invalidations.get();
+            decision = loader.get();
+            if (decision != null && invalidations.get() == generation) {
+                store(key, decision);
+            }
+            return decision;
+        } finally {
+            inFlight.remove(key, pending);
+            pending.complete(decision);
+        }
+    }
+
+    /**
+     * Discards all cached decisions for a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    public void invalidateRestaurant(String restaurantId) {
+        String prefix = restaurantId + KEY_SEPARATOR;
+        invalidations.incrementAndGet();
+        synchronized (decisions) {
+            decisions.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+        logger.debug("Invalidated ownership decisions for restaurant {}", restaurantId);
+    }
+
+    /**
+     * Gets a cached decision that has not expired.
+     *
+     * @param key The cache key
+     * @return The decision, or null if absent or expired
+     */
+    private Boolean lookup(String key) {
+        synchronized (decisions) {
+            Decision decision = decisions.get(key);
+            if (decision == null) {
+                return null;
+            }
+            if (decision.expiresAt <= System.currentTimeMillis()) {
+                decisions.remove(key);
+                return null;
+            }
+            return decision.owner;
+        }
+    }
+
+    /**
+     * Stores a decision with the time-to-live for its outcome.
+     *
+     * @param key The cache key
+     * @param owner Whether the user owns the restaurant
+     */
+    private void store(String key, boolean owner) {
+        long ttl = owner ? Math.min(ttlSeconds, MAX_TTL_SECONDS) : negativeTtlSeconds;
+        if (ttl <= 0 || maxEntries <= 0) {
+            return;
+        }
+        Decision decision = new Decision(owner, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttl));
+        synchronized (decisions) {
+            decisions.put(key, decision);
+        }
+    }
+
+    /**
+     * A cached ownership decision with its expiry time.
+     */
+    private static final class Decision {
+
+        /** Whether the user owns the restaurant */
+        private final boolean owner;
+
+        /** Time in epoch milliseconds after which the decision is stale */
+        private final long expiresAt;
+
+        /**
+         * Creates a decision.
+         *
+         * @param owner Whether the user owns the restaurant
+         * @param expiresAt Time in epoch milliseconds after which the decision is stale
+         */
+        private Decision(boolean owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
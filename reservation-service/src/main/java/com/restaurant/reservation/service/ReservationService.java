@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -15,8 +16,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.constants.StatusCodes;
@@ -26,20 +25,26 @@ import com.restaurant.common.events.reservation.ReservationCreatedEvent;
 import com.restaurant.common.events.reservation.ReservationModifiedEvent;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.common.utils.KeysetCursor;
 import com.restaurant.reservation.domain.models.MenuItem;
 import com.restaurant.reservation.domain.models.Reservation;
 import com.restaurant.reservation.domain.models.ReservationHistory;
 import com.restaurant.reservation.domain.models.ReservationMenuItem;
 import com.restaurant.reservation.domain.models.ReservationQuota;
+import com.restaurant.reservation.domain.models.ReservationView;
 import com.restaurant.reservation.domain.repositories.MenuItemRepository;
+import com.restaurant.reservation.domain.repositories.ReservationHistoryRepository;
 import com.restaurant.reservation.domain.repositories.ReservationMenuItemRepository;
 import com.restaurant.reservation.domain.repositories.ReservationQuotaRepository;
 import com.restaurant.reservation.domain.repositories.ReservationRepository;
+import com.restaurant.reservation.dto.CustomerProfileDTO;
 import com.restaurant.reservation.dto.MenuItemSelectionDTO;
 import com.restaurant.reservation.dto.ReservationAddMenuItemsRequest;
 import com.restaurant.reservation.dto.ReservationCreateRequest;
 import com.restaurant.reservation.dto.ReservationDTO;
+import com.restaurant.reservation.dto.ReservationFieldSelection;
 import com.restaurant.reservation.dto.ReservationMenuItemDTO;
+import com.restaurant.reservation.dto.ReservationPageResponse;
 import com.restaurant.reservation.dto.ReservationUpdateRequest;
 import com.restaurant.reservation.exception.RestaurantCapacityException;
 import com.restaurant.reservation.kafka.producers.ReservationEventProducer;
@@ -59,6 +64,17 @@ public class ReservationService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationService.class);
 
+    /** Largest page size of reservation listings */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** Statuses reservation listings can be filtered by */
+    private static final List<String> LISTING_STATUSES = List.of(
+            StatusCodes.RESERVATION_PENDING,
+            StatusCodes.RESERVATION_CONFIRMED,
+            StatusCodes.RESERVATION_CANCELLED,
+            StatusCodes.RESERVATION_COMPLETED,
+            StatusCodes.RESERVATION_NO_SHOW);
+
     /** Repository for managing reservation data */
     private final ReservationRepository reservationRepository;
 
@@ -71,6 +87,9 @@ public class ReservationService {
     /** Repository for managing reservation menu items */
     private final ReservationMenuItemRepository reservationMenuItemRepository;
 
+    /** Repository for reservation history records */
+    private final ReservationHistoryRepository reservationHistoryRepository;
+
     /** Service for managing table availability */
     private final TableAvailabilityService tableAvailabilityService;
 
@@ -83,6 +102,18 @@ public class ReservationService {
     /** Service for validating restaurant ownership */
     private final RestaurantOwnershipService restaurantOwnershipService;
 
+    /** Service maintaining in-memory availability grids */
+    private final AvailabilityCalendarService availabilityCalendarService;
+
+    /** Service maintaining booked capacity in restaurant schedules */
+    private final ScheduleService scheduleService;
+
+    /** Service providing customer profiles from the local user snapshots */
+    private final UserSnapshotService userSnapshotService;
+
+    /** Service reading the reservation view read model */
+    private final ReservationViewService reservationViewService;
+
     /** Time in minutes before a reservation expires if not confirmed */
     @Value("${reservation.confirmation-expiration-minutes:15}")
     private int confirmationExpirationMinutes;
@@ -110,64 +141,162 @@ public class ReservationService {
      * @param quotaRepository Repository for reservation quota data
      * @param menuItemRepository Repository for menu items
      * @param reservationMenuItemRepository Repository for reservation menu items
+     * @param reservationHistoryRepository Repository for reservation history records
      * @param tableAvailabilityService Service for managing table availability
      * @param eventProducer Producer for reservation events
      * @param restaurantValidationService Service for restaurant validation
      * @param restaurantOwnershipService Service for validating restaurant ownership
+     * @param availabilityCalendarService Service maintaining in-memory availability grids
+     * @param scheduleService Service maintaining booked capacity in restaurant schedules
+     * @param userSnapshotService Service providing customer profiles from the local user snapshots
+     * @param reservationViewService Service reading the reservation view read model
      */
     public ReservationService(ReservationRepository reservationRepository,
             ReservationQuotaRepository quotaRepository,
             MenuItemRepository menuItemRepository,
             ReservationMenuItemRepository reservationMenuItemRepository,
+            ReservationHistoryRepository reservationHistoryRepository,
             TableAvailabilityService tableAvailabilityService,
             ReservationEventProducer eventProducer,
             RestaurantValidationService restaurantValidationService,
-            RestaurantOwnershipService restaurantOwnershipService) {
+            RestaurantOwnershipService restaurantOwnershipService,
+            AvailabilityCalendarService availabilityCalendarService,
+            ScheduleService scheduleService,
+            UserSnapshotService userSnapshotService,
+            ReservationViewService reservationViewService) {
         this.reservationRepository = reservationRepository;
         this.quotaRepository = quotaRepository;
         this.menuItemRepository = menuItemRepository;
         this.reservationMenuItemRepository = reservationMenuItemRepository;
+        this.reservationHistoryRepository = reservationHistoryRepository;
         this.tableAvailabilityService = tableAvailabilityService;
         this.eventProducer = eventProducer;
         this.restaurantValidationService = restaurantValidationService;
         this.restaurantOwnershipService = restaurantOwnershipService;
+        this.availabilityCalendarService = availabilityCalendarService;
+        this.scheduleService = scheduleService;
+        this.userSnapshotService = userSnapshotService;
+        this.reservationViewService = reservationViewService;
     }
 
     /**
-     * Retrieves all reservations for a specific user with pagination.
+     * Retrieves one page of a user's reservations, latest first.
+     * Reservations are read from the reservation view, so they carry menu item
+     * counts and totals; history and menu item details are loaded for the whole
+     * page only when expanded. Pages are continued with the cursor of the
+     * previous page and no total is counted.
      *
      * @param userId The ID of the user whose reservations to retrieve
-     * @param pageable Pagination information
-     * @return Page of ReservationDTO objects
+     * @param status Status to filter by, or null for all
+     * @param from First day of reservations to include, or null
+     * @param to Last day of reservations to include, or null
+     * @param cursor Cursor of the previous page, or null for the first page
+     * @param size Maximum number of reservations in the page
+     * @param selection Fields and associations requested by the client
+     * @return The page of reservations with the cursor of the next page
+     * @throws ValidationException if a filter, the cursor or the size is invalid
      */
-    public Page<ReservationDTO> getReservationsByUserId(String userId, Pageable pageable) {
-        return reservationRepository.findByUserId(userId, pageable)
-                .map(this::convertToDTO);
+    public ReservationPageResponse getReservationsByUserId(String userId, String status, LocalDate from,
+            LocalDate to, String cursor, int size, ReservationFieldSelection selection) {
+        ListingQuery query = new ListingQuery(status, from, to, cursor, size);
+        List<ReservationView> views = reservationViewService.getUserViews(userId, query.status,
+                query.from, query.to, query.cursorTime, query.cursorId, size + 1);
+        return toPage(views, size, selection);
     }
 
     /**
-     * Retrieves all reservations for a specific restaurant with pagination.
+     * Retrieves one page of a restaurant's reservations, latest first.
+     * Reservations are read from the reservation view, so they carry menu item
+     * counts and totals; history and menu item details are loaded for the whole
+     * page only when expanded. Unless deselected, each reservation carries the
+     * customer's profile from the local user snapshots, looked up with one
+     * query for the whole page.
      *
      * @param restaurantId The ID of the restaurant whose reservations to retrieve
-     * @param pageable Pagination information
-     * @return Page of ReservationDTO objects
+     * @param status Status to filter by, or null for all
+     * @param from First day of reservations to include, or null
+     * @param to Last day of reservations to include, or null
+     * @param cursor Cursor of the previous page, or null for the first page
+     * @param size Maximum number of reservations in the page
+     * @param selection Fields and associations requested by the client
+     * @return The page of reservations with the cursor of the next page
+     * @throws ValidationException if a filter, the cursor or the size is invalid
+     */
+    public ReservationPageResponse getReservationsByRestaurantId(String restaurantId, String status, LocalDate from,
+            LocalDate to, String cursor, int size, ReservationFieldSelection selection) {
+        ListingQuery query = new ListingQuery(status, from, to, cursor, size);
+        List<ReservationView> views = reservationViewService.getRestaurantViews(restaurantId, query.status,
+                query.from, query.to, query.cursorTime, query.cursorId, size + 1);
+        ReservationPageResponse page = toPage(views, size, selection);
+        if (!selection.includes("customerProfile")) {
+            return page;
+        }
+
+        Map<String, CustomerProfileDTO> profiles = userSnapshotService.getCustomerProfiles(
+                page.getReservations().stream().map(ReservationDTO::getUserId).collect(Collectors.toList()));
+        for (ReservationDTO reservation : page.getReservations()) {
+            reservation.setCustomerProfile(profiles.get(reservation.getUserId()));
+        }
+        return page;
+    }
+
+    /**
+     * Builds a listing page from views fetched with one row more than the page size.
+     * The extra row only tells that a next page exists and is not returned.
+     * Expanded associations are loaded for all reservations of the page at once.
+     *
+     * @param views The fetched views
+     * @param size The page size
+     * @param selection Fields and associations requested by the client
+     * @return The page with the cursor of the next page, if any
      */
-    public Page<ReservationDTO> getReservationsByRestaurantId(String restaurantId, Pageable pageable) {
-        return reservationRepository.findByRestaurantId(restaurantId, pageable)
-                .map(this::convertToDTO);
+    private ReservationPageResponse toPage(List<ReservationView> views, int size, ReservationFieldSelection selection) {
+        String nextCursor = null;
+        if (views.size() > size) {
+            views = views.subList(0, size);
+            ReservationView last = views.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getReservationTime(), last.getReservationId());
+        }
+        List<ReservationDTO> reservations = views.stream().map(this::convertViewToDTO).collect(Collectors.toList());
+        if (reservations.isEmpty()) {
+            return new ReservationPageResponse(reservations, nextCursor);
+        }
+        List<String> reservationIds = reservations.stream().map(ReservationDTO::getId).collect(Collectors.toList());
+
+        if (selection.includesHistory()) {
+            Map<String, List<ReservationDTO.HistoryRecord>> history = new HashMap<>();
+            for (ReservationHistory record : reservationHistoryRepository.findByReservationIds(reservationIds)) {
+                history.computeIfAbsent(record.getReservation().getId(), id -> new ArrayList<>())
+                        .add(new ReservationDTO.HistoryRecord(record.getAction(), record.getTimestamp(), record.getDetails()));
+            }
+            reservations.forEach(dto -> dto.setHistoryRecords(history.getOrDefault(dto.getId(), new ArrayList<>())));
+        }
+
+        if (selection.includesMenuItems()) {
+            Map<String, List<ReservationMenuItemDTO>> menuItems = new HashMap<>();
+            for (ReservationMenuItem item : reservationMenuItemRepository.findWithMenuItemByReservationIds(reservationIds)) {
+                menuItems.computeIfAbsent(item.getReservation().getId(), id -> new ArrayList<>())
+                        .add(convertMenuItemToDTO(item));
+            }
+            reservations.forEach(dto -> dto.setMenuItems(menuItems.getOrDefault(dto.getId(), new ArrayList<>())));
+        }
+
+        return new ReservationPageResponse(reservations, nextCursor);
     }
 
     /**
      * Retrieves a specific reservation by its ID.
+     * Associations that were not requested are not loaded.
      *
      * @param id The ID of the reservation to retrieve
+     * @param selection Fields and associations requested by the client
      * @return ReservationDTO object
      * @throws EntityNotFoundException if the reservation is not found
      */
-    public ReservationDTO getReservationById(String id) {
+    public ReservationDTO getReservationById(String id, ReservationFieldSelection selection) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation", id));
-        return convertToDTO(reservation);
+        return convertToDTO(reservation, selection);
     }
 
     /**
@@ -247,6 +376,8 @@ public class ReservationService {
 
         // Update reservation quota
         updateReservationQuota(reservation, true);
+        recordScheduleBookings(reservation, 1);
+        availabilityCalendarService.recordReservation(reservation);
 
         // Publish event
         eventProducer.publishReservationCreatedEvent(new ReservationCreatedEvent(
@@ -339,10 +470,10 @@ public class ReservationService {
                 .orElseThrow(() -> new EntityNotFoundException("Reservation", id));
 
         // Check if the user is the one who created the reservation or the restaurant owner
+        // The ownership check is only needed when the caller did not create the reservation
         boolean isCreator = reservation.getUserId().equals(userId);
-        boolean isRestaurantOwner = restaurantOwnershipService.isUserRestaurantOwner(reservation.getRestaurantId(), userId);
 
-        if (!isCreator && !isRestaurantOwner) {
+        if (!isCreator && !restaurantOwnershipService.isUserRestaurantOwner(reservation.getRestaurantId(), userId)) {
             throw new ValidationException("userId",
                     "Only the user who created the reservation or the restaurant owner can cancel it");
         }
@@ -371,6 +502,8 @@ public class ReservationService {
 
         // Update reservation quota
         updateReservationQuota(updatedReservation, false);
+        recordScheduleBookings(updatedReservation, -1);
+        availabilityCalendarService.recordReservation(updatedReservation);
 
         // Release assigned table if any
         if (updatedReservation.getTableId() != null) {
@@ -422,6 +555,7 @@ public class ReservationService {
         boolean partySizeChanged = false;
         LocalDateTime oldReservationTime = reservation.getReservationTime();
         int oldPartySize = reservation.getPartySize();
+        int oldTableCount = countTables(reservation);
 
         // Check if time is being updated
         if (updateRequest.getReservationTime() != null &&
@@ -661,6 +795,15 @@ public class ReservationService {
             }
         }
 
+        if (timeChanged || partySizeChanged) {
+            if (oldReservationTime != null) {
+                scheduleService.recordBookings(updatedReservation.getRestaurantId(),
+                        oldReservationTime.toLocalDate(), -oldPartySize, -oldTableCount);
+            }
+            recordScheduleBookings(updatedReservation, 1);
+        }
+        availabilityCalendarService.recordReservation(updatedReservation);
+
         // Publish event
         eventProducer.publishReservationModifiedEvent(new ReservationModifiedEvent(
                 updatedReservation.getId(),
@@ -703,6 +846,8 @@ public class ReservationService {
 
             // Update quota
             updateReservationQuota(reservation, false);
+            recordScheduleBookings(reservation, -1);
+            availabilityCalendarService.recordReservation(reservation);
 
             // Release assigned table(s) if any
             if (reservation.getTableId() != null || reservation.hasCombinedTables()) {
@@ -736,6 +881,7 @@ public class ReservationService {
 
                 // Save reservation
                 reservationRepository.save(reservation);
+                availabilityCalendarService.recordReservation(reservation);
 
                 // Release table(s)
                 if (reservation.getTableId() != null || reservation.hasCombinedTables()) {
@@ -806,6 +952,29 @@ public class ReservationService {
         return true;
     }
 
+    /**
+     * Adds or removes a reservation's seats and tables in the schedule of its date.
+     *
+     * @param reservation The reservation to record
+     * @param sign 1 to add the reservation, -1 to remove it
+     */
+    private void recordScheduleBookings(Reservation reservation, int sign) {
+        scheduleService.recordBookings(reservation.getRestaurantId(),
+                reservation.getReservationTime().toLocalDate(),
+                sign * reservation.getPartySize(),
+                sign * countTables(reservation));
+    }
+
+    /**
+     * Counts the tables assigned to a reservation, including combined tables.
+     *
+     * @param reservation The reservation
+     * @return The number of assigned tables
+     */
+    private int countTables(Reservation reservation) {
+        return Math.max(reservation.getTableIds().size(), reservation.getTableId() != null ? 1 : 0);
+    }
+
     /**
      * Updates the reservation quota for a specific reservation.
      * This affects the restaurant's capacity tracking for the reservation time.
@@ -1127,13 +1296,25 @@ public class ReservationService {
     }
 
     /**
-     * Converts a Reservation entity to a ReservationDTO.
-     * Maps all relevant fields from the entity to the DTO.
+     * Converts a Reservation entity to a ReservationDTO with history and menu items.
      *
      * @param reservation The reservation entity to convert
      * @return A new ReservationDTO object
      */
     private ReservationDTO convertToDTO(Reservation reservation) {
+        return convertToDTO(reservation, ReservationFieldSelection.ALL);
+    }
+
+    /**
+     * Converts a Reservation entity to a ReservationDTO.
+     * Maps all relevant fields from the entity to the DTO. History and menu
+     * items are only loaded when the selection asks for them.
+     *
+     * @param reservation The reservation entity to convert
+     * @param selection Fields and associations to include
+     * @return A new ReservationDTO object
+     */
+    private ReservationDTO convertToDTO(Reservation reservation, ReservationFieldSelection selection) {
         ReservationDTO dto = new ReservationDTO();
         dto.setId(reservation.getId());
         dto.setUserId(reservation.getUserId());
@@ -1153,25 +1334,82 @@ public class ReservationService {
         dto.setUpdatedAt(reservation.getUpdatedAt());
         dto.setConfirmationDeadline(reservation.getConfirmationDeadline());
 
-        // Include history if needed
-        if (reservation.getHistory() != null && !reservation.getHistory().isEmpty()) {
+        List<String> tableIds = reservation.hasCombinedTables() ? reservation.getTableIds()
+                : reservation.getTableId() != null ? List.of(reservation.getTableId()) : List.of();
+        dto.setTableIds(tableIds);
+
+        // Include history if requested
+        if (!selection.includesHistory()) {
+            dto.setHistoryRecords(null);
+        } else if (reservation.getHistory() != null && !reservation.getHistory().isEmpty()) {
             dto.setHistoryRecords(reservation.getHistory().stream()
                     .map(h -> new ReservationDTO.HistoryRecord(
                             h.getAction(), h.getTimestamp(), h.getDetails()))
                     .collect(Collectors.toList()));
         }
 
-        // Include menu items if any
-        if (reservation.getMenuItems() != null && !reservation.getMenuItems().isEmpty()) {
-            List<ReservationMenuItemDTO> menuItemDTOs = reservation.getMenuItems().stream()
+        // Include menu items if requested, loading their menu item details in the same query
+        if (selection.includesMenuItems()) {
+            List<ReservationMenuItemDTO> menuItemDTOs = reservationMenuItemRepository
+                    .findWithMenuItemByReservationIds(List.of(reservation.getId())).stream()
                     .map(this::convertMenuItemToDTO)
                     .collect(Collectors.toList());
             dto.setMenuItems(menuItemDTOs);
+            dto.setMenuItemCount(menuItemDTOs.stream().mapToInt(ReservationMenuItemDTO::getQuantity).sum());
+            dto.setMenuItemTotal(menuItemDTOs.stream()
+                    .mapToDouble(item -> item.getPrice() * item.getQuantity()).sum());
+        } else {
+            dto.setMenuItems(null);
+            if (selection.includes("menuItemCount") || selection.includes("menuItemTotal")) {
+                ReservationMenuItemRepository.MenuItemTotals totals =
+                        reservationMenuItemRepository.sumByReservationId(reservation.getId());
+                dto.setMenuItemCount(totals != null && totals.getItemCount() != null
+                        ? totals.getItemCount().intValue() : 0);
+                dto.setMenuItemTotal(totals != null && totals.getItemTotal() != null
+                        ? totals.getItemTotal().doubleValue() : 0.0);
+            }
         }
 
         return dto;
     }
 
+    /**
+     * Converts a reservation view to a ReservationDTO for listings.
+     * History and menu item details are left out; the view's menu item
+     * count and total stand in for them.
+     *
+     * @param view The reservation view to convert
+     * @return A new ReservationDTO object
+     */
+    private ReservationDTO convertViewToDTO(ReservationView view) {
+        ReservationDTO dto = new ReservationDTO();
+        dto.setId(view.getReservationId());
+        dto.setUserId(view.getUserId());
+        dto.setRestaurantId(view.getRestaurantId());
+        dto.setTableId(view.getTableId());
+        dto.setTableIds(view.getTableIds() != null && !view.getTableIds().isEmpty()
+                ? Arrays.stream(view.getTableIds().split(",")).map(String::trim).collect(Collectors.toList())
+                : List.of());
+        dto.setReservationTime(view.getReservationTime());
+        dto.setEndTime(view.getEndTime());
+        dto.setPartySize(view.getPartySize());
+        dto.setDurationMinutes(view.getDurationMinutes());
+        dto.setStatus(view.getStatus());
+        dto.setCustomerName(view.getCustomerName());
+        dto.setCustomerPhone(view.getCustomerPhone());
+        dto.setCustomerEmail(view.getCustomerEmail());
+        dto.setSpecialRequests(view.getSpecialRequests());
+        dto.setRemindersEnabled(view.isRemindersEnabled());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        dto.setConfirmationDeadline(view.getConfirmationDeadline());
+        dto.setHistoryRecords(null);
+        dto.setMenuItems(null);
+        dto.setMenuItemCount(view.getMenuItemCount());
+        dto.setMenuItemTotal(view.getMenuItemTotal());
+        return dto;
+    }
+
     /**
      * Converts a ReservationMenuItem entity to a ReservationMenuItemDTO.
      *
@@ -1191,4 +1429,58 @@ public class ReservationService {
         dto.setUpdatedAt(menuItem.getUpdatedAt());
         return dto;
     }
-}
\ No newline at end of file
+
+    /**
+     * Validated filters and keyset position of a reservation listing request.
+     */
+    private static final class ListingQuery {
+
+        /** Status to filter by, or null for all */
+        private final String status;
+
+        /** Earliest reservation time (inclusive), or null */
+        private final LocalDateTime from;
+
+        /** Latest reservation time (exclusive), or null */
+        private final LocalDateTime to;
+
+        /** Reservation time of the last row of the previous page, or null */
+        private final LocalDateTime cursorTime;
+
+        /** Reservation ID of the last row of the previous page, or null */
+        private final String cursorId;
+
+        /**
+         * Validates and converts the parameters of a listing request.
+         *
+         * @param status Status to filter by, or null for all
+         * @param from First day of reservations to include, or null
+         * @param to Last day of reservations to include, or null
+         * @param cursor Cursor of the previous page, or null for the first page
+         * @param size Maximum number of reservations in the page
+         * @throws ValidationException if a parameter is invalid
+         */
+        private ListingQuery(String status, LocalDate from, LocalDate to, String cursor, int size) {
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new ValidationException("size", "Size must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            if (status != null && !status.isEmpty()) {
+                this.status = status.toUpperCase();
+                if (!LISTING_STATUSES.contains(this.status)) {
+                    throw new ValidationException("status", "Status must be one of " + LISTING_STATUSES);
+                }
+            } else {
+                this.status = null;
+            }
+            if (from != null && to != null && to.isBefore(from)) {
+                throw new ValidationException("to", "End date must not be before start date");
+            }
+            this.from = from != null ? from.atStartOfDay() : null;
+            this.to = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            this.cursorTime = position != null ? position.getTime() : null;
+            this.cursorId = position != null ? position.getId() : null;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.restaurant.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurant.reservation.domain.events.ReservationSavedEvent;
+import com.restaurant.reservation.domain.models.Reservation;
+import com.restaurant.reservation.domain.models.ReservationView;
+import com.restaurant.reservation.domain.repositories.ReservationMenuItemRepository;
+import com.restaurant.reservation.domain.repositories.ReservationMenuItemRepository.MenuItemTotals;
+import com.restaurant.reservation.domain.repositories.ReservationRepository;
+import com.restaurant.reservation.domain.repositories.ReservationViewRepository;
+
+/**
+ * Service maintaining and reading the reservation view read model.
+ * This service provides:
+ * - Projection of saved reservations into the view in the writing transaction
+ * - Keyset-paged reads of the view for reservation listings
+ * - A backfill of views for reservations saved before the view existed
+ *
+ * Every save of a reservation publishes a {@link ReservationSavedEvent}. The
+ * IDs are collected per transaction and projected once each just before the
+ * transaction commits, when the reservation and its menu items have reached
+ * their final state, so the view commits or rolls back together with them.
+ * Saves outside a transaction are projected immediately in a transaction of
+ * their own. Every projection stamps the view with a change version taken
+ * from the wall clock and forced to increase within this instance.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class ReservationViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationViewService.class);
+
+    /** Transaction resource key of the IDs pending projection */
+    private static final Object PENDING_KEY = new Object();
+
+    /** Repository for reservations */
+    private final ReservationRepository reservationRepository;
+
+    /** Repository for reservation menu items */
+    private final ReservationMenuItemRepository reservationMenuItemRepository;
+
+    /** Repository for reservation views */
+    private final ReservationViewRepository reservationViewRepository;
+
+    /** Template for projections and backfill batches outside a caller's transaction */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Last change version handed out by this instance */
+    private final AtomicLong lastChangeVersion = new AtomicLong();
+
+    /** Number of reservations projected per backfill transaction */
+    @Value("${reservation.view.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    /**
+     * Constructs a new ReservationViewService with required dependencies.
+     *
+     * @param reservationRepository Repository for reservations
+     * @param reservationMenuItemRepository Repository for reservation menu items
+     * @param reservationViewRepository Repository for reservation views
+     * @param transactionTemplate Template for transactions of the service's own
+     */
+    public ReservationViewService(ReservationRepository reservationRepository,
+            ReservationMenuItemRepository reservationMenuItemRepository,
+            ReservationViewRepository reservationViewRepository,
+            TransactionTemplate transactionTemplate) {
+        this.reservationRepository = reservationRepository;
+        this.reservationMenuItemRepository = reservationMenuItemRepository;
+        this.reservationViewRepository = reservationViewRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Gets views of a user's reservations following a keyset position.
+     *
+     * @param userId The ID of the user
+     * @param status Status to filter by, or null for all
+     * @param from Earliest reservation time (inclusive), or null
+     * @param to Latest reservation time (exclusive), or null
+     * @param cursorTime Reservation time of the last row already returned, or null to start at the latest
+     * @param cursorId Reservation ID of the last row already returned, or null to start at the latest
+     * @param limit Maximum number of views to return
+     * @return Views, latest reservation first
+     */
+    public List<ReservationView> getUserViews(String userId, String status, LocalDateTime from, LocalDateTime to,
+            LocalDateTime cursorTime, String cursorId, int limit) {
+        return reservationViewRepository.findUserPage(userId, status, from, to,
+                cursorTime, cursorId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Gets views of a restaurant's reservations following a keyset position.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status Status to filter by, or null for all
+     * @param from Earliest reservation time (inclusive), or null
+     * @param to Latest reservation time (exclusive), or null
+     * @param cursorTime Reservation time of the last row already returned, or null to start at the latest
+     * @param cursorId Reservation ID of the last row already returned, or null to start at the latest
+     * @param limit Maximum number of views to return
+     * @return Views, latest reservation first
+     */
+    public List<ReservationView> getRestaurantViews(String restaurantId, String status, LocalDateTime from,
+            LocalDateTime to, LocalDateTime cursorTime, String cursorId, int limit) {
+        return reservationViewRepository.findRestaurantPage(restaurantId, status, from, to,
+                cursorTime, cursorId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Gets views of a restaurant's reservations overlapping a time window.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param earliestStart Earliest reservation time considered (inclusive)
+     * @param windowStart Start of the window; reservations must end after it
+     * @param windowEnd End of the window (exclusive); reservations must start before it
+     * @return Views, earliest reservation first
+     */
+    public List<ReservationView> getRestaurantWindow(String restaurantId, LocalDateTime earliestStart,
+            LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return reservationViewRepository.findRestaurantWindow(restaurantId, earliestStart, windowStart, windowEnd);
+    }
+
+    /**
+     * Gets views of a restaurant's reservations written after a change version.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param sinceVersion Change version already seen by the caller (exclusive)
+     * @return Views, earliest reservation first
+     */
+    public List<ReservationView> getRestaurantChangesSince(String restaurantId, long sinceVersion) {
+        return reservationViewRepository.findRestaurantChangesSince(restaurantId, sinceVersion);
+    }
+
+    /**
+     * Schedules the projection of a saved reservation.
+     *
+     * @param event The event published when the reservation was saved
+     */
+    @EventListener
+    @SuppressWarnings("unchecked")
+    public void onReservationSaved(ReservationSavedEvent event) {
+        String reservationId = event.getReservationId();
+        if (reservationId == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> project(reservationId));
+            return;
+        }
+
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<String> reservationIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, reservationIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    reservationIds.forEach(ReservationViewService.this::project);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = reservationIds;
+        }
+        pending.add(reservationId);
+    }
+
+    /**
+     * Creates views for reservations that have none, in batches.
+     * Runs once the application has started, so reservations made before
+     * the read model was introduced appear in listings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int batchSize = Math.max(1, backfillBatchSize);
+        while (true) {
+            Integer projected = transactionTemplate.execute(status -> {
+                List<String> reservationIds = reservationViewRepository
+                        .findReservationIdsWithoutView(PageRequest.of(0, batchSize));
+                reservationIds.forEach(this::project);
+                return reservationIds.size();
+            });
+            if (projected == null || projected == 0) {
+                break;
+            }
+            total += projected;
+            if (projected < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Created reservation views for {} existing reservations", total);
+        }
+    }
+
+    /**
+     * Writes the current state of a reservation to its view.
+     * Must be called inside a transaction.
+     *
+     * @param reservationId The ID of the reservation
+     */
+    private void project(String reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null) {
+            reservationViewRepository.findById(reservationId).ifPresent(reservationViewRepository::delete);
+            return;
+        }
+
+        MenuItemTotals totals = reservationMenuItemRepository.sumByReservationId(reservationId);
+        ReservationView view = reservationViewRepository.findById(reservationId)
+                .orElseGet(() -> new ReservationView(reservationId));
+        view.apply(reservation,
+                totals != null && totals.getItemCount() != null ? totals.getItemCount().intValue() : 0,
+                totals != null && totals.getItemTotal() != null ? totals.getItemTotal().doubleValue() : 0.0,
+                nextChangeVersion());
+        reservationViewRepository.save(view);
+        logger.debug("Projected reservation {} into the reservation view", reservationId);
+    }
+
+    /**
+     * Hands out the next change version: the current time in epoch
+     * milliseconds, or one more than the previous version if the clock
+     * has not moved past it.
+     *
+     * @return The change version
+     */
+    private long nextChangeVersion() {
+        long now = System.currentTimeMillis();
+        return lastChangeVersion.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+}
@@ -0,0 +1,255 @@
+package com.restaurant.reservation.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.restaurant.reservation.domain.models.RestaurantCapacity;
+import com.restaurant.reservation.domain.repositories.RestaurantCapacityRepository;
+import com.restaurant.reservation.domain.repositories.ScheduleRepository;
+
+/**
+ * Service keeping the local copy of restaurant seating capacities.
+ * This service provides:
+ * - Capacities read from memory, then from the restaurant_capacity table
+ * - Seeding from the restaurant service for restaurants not stored yet
+ * - Updates from capacity change events, stored by one instance and
+ *   remembered by all others
+ *
+ * Capacity rows are written in transactions of their own, so a concurrent
+ * first write by another request or instance cannot fail the caller's
+ * transaction. A seed never overwrites a stored capacity, so an older value
+ * fetched from the restaurant service cannot replace a newer one from an
+ * event. Stored schedules created while the capacity was unknown take the
+ * seeded capacity. If the restaurant service cannot be reached, the fetch
+ * is retried after a delay and callers fall back to their own default.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class RestaurantCapacityService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantCapacityService.class);
+
+    /** Repository for stored capacities */
+    private final RestaurantCapacityRepository capacityRepository;
+
+    /** Repository for schedules that take the default capacity */
+    private final ScheduleRepository scheduleRepository;
+
+    /** REST client for the restaurant service */
+    private final RestTemplate restTemplate;
+
+    /** Template running capacity writes in a transaction of their own */
+    private final TransactionTemplate newTransaction;
+
+    /** Template joining the caller's transaction, or starting one */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Known capacities by restaurant ID */
+    private final Map<String, Integer> capacities = new ConcurrentHashMap<>();
+
+    /** Time in epoch milliseconds before which a failed fetch is not retried, by restaurant ID */
+    private final Map<String, Long> fetchRetryAt = new ConcurrentHashMap<>();
+
+    /** Base URL for the restaurant service REST API */
+    @Value("${restaurant-service.url:http://localhost:8082}")
+    private String restaurantServiceUrl;
+
+    /** Time in seconds before a failed capacity fetch is retried */
+    @Value("${reservation.capacity.fetch-retry-seconds:60}")
+    private long fetchRetrySeconds;
+
+    /**
+     * Constructs a new RestaurantCapacityService with required dependencies.
+     *
+     * @param capacityRepository Repository for stored capacities
+     * @param scheduleRepository Repository for schedules that take the default capacity
+     * @param restTemplate REST client for the restaurant service
+     * @param transactionManager Transaction manager for the service's own transactions
+     */
+    public RestaurantCapacityService(RestaurantCapacityRepository capacityRepository,
+            ScheduleRepository scheduleRepository,
+            RestTemplate restTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.capacityRepository = capacityRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.restTemplate = restTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Gets the seating capacity of a restaurant.
+     * A restaurant not stored yet is seeded from the restaurant service.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The capacity, or null if it is not stored and could not be fetched
+     */
+    public Integer findCapacity(String restaurantId) {
+        Integer capacity = findStoredCapacity(restaurantId);
+        if (capacity != null) {
+            return capacity;
+        }
+
+        capacity = seed(restaurantId);
+        if (capacity != null) {
+            capacities.putIfAbsent(restaurantId, capacity);
+        }
+        return capacity;
+    }
+
+    /**
+     * Gets the seating capacity of a restaurant if it is stored, without
+     * contacting the restaurant service.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The capacity, or null if it is not stored
+     */
+    public Integer findStoredCapacity(String restaurantId) {
+        Integer capacity = capacities.get(restaurantId);
+        if (capacity != null) {
+            return capacity;
+        }
+
+        capacity = capacityRepository.findById(restaurantId).map(RestaurantCapacity::getCapacity).orElse(null);
+        if (capacity != null) {
+            capacities.putIfAbsent(restaurantId, capacity);
+        }
+        return capacity;
+    }
+
+    /**
+     * Remembers a seating capacity stored by another instance, without writing it.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The new seating capacity
+     * @return true if the capacity differs from the previously known one
+     */
+    public boolean rememberCapacity(String restaurantId, int capacity) {
+        fetchRetryAt.remove(restaurantId);
+        Integer previous = capacities.put(restaurantId, capacity);
+        return previous == null || previous != capacity;
+    }
+
+    /**
+     * Stores a new seating capacity of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The new seating capacity
+     * @return true if the capacity differs from the previously known one
+     */
+    public boolean updateCapacity(String restaurantId, int capacity) {
+        try {
+            write(restaurantId, capacity);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent seed inserted the row first; overwrite it
+            write(restaurantId, capacity);
+        }
+        fetchRetryAt.remove(restaurantId);
+        Integer previous = capacities.put(restaurantId, capacity);
+        return previous == null || previous != capacity;
+    }
+
+    /**
+     * Fetches the capacity of a restaurant from the restaurant service and
+     * stores it unless a capacity was stored in the meantime.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The capacity, or null if it could not be fetched
+     */
+    private Integer seed(String restaurantId) {
+        Long retryAt = fetchRetryAt.get(restaurantId);
+        if (retryAt != null && retryAt > System.currentTimeMillis()) {
+            return null;
+        }
+
+        Integer fetched = fetch(restaurantId);
+        if (fetched == null) {
+            fetchRetryAt.put(restaurantId, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(fetchRetrySeconds));
+            return null;
+        }
+        fetchRetryAt.remove(restaurantId);
+
+        Integer stored;
+        try {
+            stored = newTransaction.execute(status -> capacityRepository.findById(restaurantId)
+                    .map(RestaurantCapacity::getCapacity)
+                    .orElseGet(() -> capacityRepository.save(new RestaurantCapacity(restaurantId, fetched)).getCapacity()));
+        } catch (DataIntegrityViolationException e) {
+            stored = capacityRepository.findById(restaurantId).map(RestaurantCapacity::getCapacity).orElse(fetched);
+        }
+
+        int capacity = stored != null ? stored : fetched;
+        transactionTemplate.executeWithoutResult(status ->
+                scheduleRepository.updateDefaultCapacity(restaurantId, LocalDate.now(), capacity));
+        logger.info("Seeded capacity {} for restaurant {} from the restaurant service", capacity, restaurantId);
+        return capacity;
+    }
+
+    /**
+     * Inserts or updates the stored capacity of a restaurant in a transaction of its own.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The capacity to store
+     */
+    private void write(String restaurantId, int capacity) {
+        newTransaction.executeWithoutResult(status -> {
+            RestaurantCapacity record = capacityRepository.findById(restaurantId)
+                    .orElseGet(() -> new RestaurantCapacity(restaurantId, capacity));
+            record.setCapacity(capacity);
+            capacityRepository.save(record);
+        });
+    }
+
+    /**
+     * Loads the capacity of a restaurant from the restaurant service.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The capacity, or null if the restaurant service could not be reached
+     */
+    private Integer fetch(String restaurantId) {
+        try {
+            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                    restaurantServiceUrl + "/api/restaurants/public/" + restaurantId,
+                    HttpMethod.GET,
+                    HttpEntity.EMPTY,
+                    new ParameterizedTypeReference<Map<String, Object>>() {});
+
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                logger.warn("Failed to fetch capacity of restaurant {}: status={}", restaurantId, response.getStatusCode());
+                return null;
+            }
+
+            Object data = response.getBody().get("data");
+            Object capacity = data instanceof Map ? ((Map<?, ?>) data).get("capacity") : null;
+            if (!(capacity instanceof Number)) {
+                logger.warn("Restaurant service returned no capacity for restaurant {}", restaurantId);
+                return null;
+            }
+            return ((Number) capacity).intValue();
+        } catch (RestClientException e) {
+            logger.warn("Failed to fetch capacity of restaurant {}: {}", restaurantId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,25 +1,45 @@
 package com.restaurant.reservation.service;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.events.restaurant.RestaurantOwnershipRequestEvent;
 import com.restaurant.common.events.restaurant.RestaurantOwnershipResponseEvent;
-import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.domain.models.RestaurantSyncState;
+import com.restaurant.reservation.domain.repositories.RestaurantSyncStateRepository;
 import com.restaurant.reservation.kafka.producers.RestaurantEventProducer;
+import com.restaurant.reservation.security.TokenDetails;
 
 /**
  * Service responsible for validating restaurant ownership through Kafka-based communication.
  * This service handles checking if a user is the owner of a specific restaurant.
  *
- * The service uses a request-response pattern over Kafka to communicate with the restaurant service,
- * with built-in timeout handling and error management.
+ * Ownership is first answered from the restaurants listed in the caller's JWT token.
+ * The token carries, for each listed restaurant, the restaurant change version the
+ * user service took the ownership from. A listed restaurant is trusted unless its
+ * owner changed at a later version; such tokens should be refreshed through the
+ * user service. Versions are assigned by the restaurant service, so a token issued
+ * before the user service caught up with a change is recognised however late it
+ * was issued. Owner changes
+ * are stored by the shared restaurant event consumer and loaded at startup, and
+ * every instance hears of new ones through a consumer group of its own. Until the
+ * stored changes are loaded no token claim is trusted. Otherwise the
+ * service uses a request-response pattern over Kafka to communicate with the
+ * restaurant service, with built-in timeout handling and error management.
+ * Decisions from the restaurant service are cached until they expire or the
+ * restaurant's owner changes.
  *
  * @author Restaurant Reservation Team
  * @version 1.0
@@ -36,25 +56,85 @@ public class RestaurantOwnershipService {
     /** Manager for handling validation responses */
     private final RestaurantResponseManager responseManager;
 
+    /** Cache of ownership decisions received from the restaurant service */
+    private final OwnershipDecisionCache decisionCache;
+
+    /**
+     * Ownership version recorded for owner changes that carry no version.
+     * No token claim for the restaurant is trusted after such a change.
+     */
+    public static final long UNVERSIONED_CHANGE = Long.MAX_VALUE;
+
     /** Timeout in seconds for waiting for validation responses */
     @Value("${restaurant.validation.request.timeout:5}")
     private long requestTimeoutSeconds;
 
+    /** Repository holding the stored ownership versions */
+    private final RestaurantSyncStateRepository syncStateRepository;
+
+    /** Restaurant change version of the latest ownership change by restaurant ID */
+    private final Map<String, Long> ownershipChanges = new ConcurrentHashMap<>();
+
+    /** Whether the stored ownership changes have been loaded */
+    private volatile boolean ownershipChangesLoaded;
+
     /**
      * Constructs a new RestaurantOwnershipService with required dependencies.
      *
      * @param eventProducer Producer for sending validation requests
      * @param responseManager Manager for handling validation responses
+     * @param decisionCache Cache of ownership decisions received from the restaurant service
+     * @param syncStateRepository Repository holding the stored ownership versions
      */
     public RestaurantOwnershipService(RestaurantEventProducer eventProducer,
-            RestaurantResponseManager responseManager) {
+            RestaurantResponseManager responseManager,
+            OwnershipDecisionCache decisionCache,
+            RestaurantSyncStateRepository syncStateRepository) {
         this.eventProducer = eventProducer;
         this.responseManager = responseManager;
+        this.decisionCache = decisionCache;
+        this.syncStateRepository = syncStateRepository;
+    }
+
+    /**
+     * Loads the stored ownership versions once the application has started.
+     * Changes heard of in the meantime are kept if they are later.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOwnershipChanges() {
+        for (RestaurantSyncState state : syncStateRepository.findByOwnershipVersionIsNotNull()) {
+            ownershipChanges.merge(state.getRestaurantId(), state.getOwnershipVersion(), Math::max);
+        }
+        ownershipChangesLoaded = true;
+        logger.info("Loaded ownership changes of {} restaurants", ownershipChanges.size());
     }
 
     /**
      * Checks if a user is the owner of a restaurant.
      * This method:
+     * 1. Accepts ownership proven by the caller's token claims
+     * 2. Serves a cached decision if one is available
+     * 3. Otherwise requests the decision from the restaurant service, sharing
+     *    the request with concurrent identical lookups
+     *
+     * @param restaurantId the restaurant ID to check
+     * @param userId the user ID to check ownership for
+     * @return true if the user is the owner, false otherwise or if no decision could be made
+     */
+    public boolean isUserRestaurantOwner(String restaurantId, String userId) {
+        if (isOwnerByTokenClaims(restaurantId, userId)) {
+            logger.debug("Restaurant ownership confirmed from token claims: restaurantId={}, userId={}",
+                    restaurantId, userId);
+            return true;
+        }
+
+        Boolean owner = decisionCache.get(restaurantId, userId, () -> requestOwnership(restaurantId, userId));
+        return Boolean.TRUE.equals(owner);
+    }
+
+    /**
+     * Requests an ownership decision from the restaurant service.
+     * This method:
      * 1. Generates a correlation ID for the request
      * 2. Creates a pending response entry
      * 3. Sends an ownership validation request via Kafka
@@ -64,10 +144,9 @@ public class RestaurantOwnershipService {
      *
      * @param restaurantId the restaurant ID to check
      * @param userId the user ID to check ownership for
-     * @return true if the user is the owner, false otherwise
-     * @throws ValidationException if there's an error during validation or timeout occurs
+     * @return the decision, or null if it timed out or failed
      */
-    public boolean isUserRestaurantOwner(String restaurantId, String userId) {
+    private Boolean requestOwnership(String restaurantId, String userId) {
         // Generate correlation ID for this request
         String correlationId = UUID.randomUUID().toString();
 
@@ -92,7 +171,7 @@ public class RestaurantOwnershipService {
             if (response == null) {
                 logger.error("Timeout waiting for restaurant ownership validation response: correlationId={}",
                         correlationId);
-                return false;
+                return null;
             }
 
             logger.info("Restaurant ownership validation response received: isOwner={}", response.isOwner());
@@ -101,13 +180,59 @@ public class RestaurantOwnershipService {
         } catch (TimeoutException e) {
             logger.error("Timeout waiting for restaurant ownership validation response: correlationId={}",
                     correlationId);
-            return false;
+            return null;
         } catch (Exception e) {
             logger.error("Error validating restaurant ownership: {}", e.getMessage(), e);
-            return false;
+            return null;
         } finally {
             // Clean up pending response
             responseManager.cancelPendingResponse(correlationId, "Request completed or failed");
         }
     }
+
+    /**
+     * Records that the owner of a restaurant changed.
+     * Ownership claims taken from an earlier restaurant version are no longer
+     * trusted for the restaurant, and cached decisions for the restaurant are discarded.
+     *
+     * @param restaurantId the restaurant whose owner changed
+     * @param version the restaurant change version of the owner change, or
+     *        {@link #UNVERSIONED_CHANGE} if the change carries none
+     */
+    public void recordOwnershipChange(String restaurantId, long version) {
+        ownershipChanges.merge(restaurantId, version, Math::max);
+        decisionCache.invalidateRestaurant(restaurantId);
+        logger.info("Restaurant ownership changed: restaurantId={}, version={}", restaurantId, version);
+    }
+
+    /**
+     * Checks if the current request's token lists the restaurant as owned by the user.
+     * Only positive answers are taken from the token; a missing entry may simply
+     * mean the token predates the ownership.
+     *
+     * @param restaurantId the restaurant ID to check
+     * @param userId the user ID to check ownership for
+     * @return true if the token proves ownership, false if it cannot
+     */
+    private boolean isOwnerByTokenClaims(String restaurantId, String userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || userId == null || !userId.equals(authentication.getName())
+                || !(authentication.getDetails() instanceof TokenDetails details)) {
+            return false;
+        }
+        if (details.getOwnedRestaurantIds() == null || !details.getOwnedRestaurantIds().contains(restaurantId)) {
+            return false;
+        }
+        if (!ownershipChangesLoaded) {
+            return false;
+        }
+
+        Long changedVersion = ownershipChanges.get(restaurantId);
+        Long claimVersion = details.getOwnershipVersion(restaurantId);
+        if (changedVersion != null && (claimVersion == null || claimVersion < changedVersion)) {
+            logger.debug("Token ownership claim is outdated: restaurantId={}, userId={}", restaurantId, userId);
+            return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,208 @@
+package com.restaurant.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.dto.restaurant.RestaurantDTO;
+import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
+
+/**
+ * Manages asynchronous, paged responses for restaurant search requests.
+ * This component:
+ * - Tracks pending search requests using correlation IDs
+ * - Accumulates result pages as they arrive from the restaurant service
+ * - Notifies page listeners immediately so results can be streamed to callers
+ * - Completes the aggregated result once the final page has been received
+ *
+ * Unlike the single-response managers, a search may be answered by several
+ * response events sharing the same correlation ID.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantSearchResponseManager {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantSearchResponseManager.class);
+
+    /** Thread-safe map to store pending searches by correlation ID */
+    private final Map<String, PendingSearch> pendingSearches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new pending search entry for a search request.
+     *
+     * @param correlationId unique identifier for the request-response exchange
+     * @return the pending search that will collect the result pages
+     */
+    public PendingSearch createPendingSearch(String correlationId) {
+        PendingSearch pendingSearch = new PendingSearch(correlationId);
+        pendingSearches.put(correlationId, pendingSearch);
+        pendingSearch.getResult().whenComplete((results, ex) -> pendingSearches.remove(correlationId));
+        return pendingSearch;
+    }
+
+    /**
+     * Adds a received result page to its pending search.
+     * The pending search is completed when the page is flagged as the last one,
+     * or completed exceptionally when the restaurant service reports a failure.
+     *
+     * @param response the search response event containing one page of results
+     */
+    public void acceptPage(RestaurantSearchResponseEvent response) {
+        String correlationId = response.getCorrelationId();
+        PendingSearch pendingSearch = correlationId != null ? pendingSearches.get(correlationId) : null;
+
+        if (pendingSearch == null) {
+            logger.warn("Received restaurant search response for unknown correlationId: {}", correlationId);
+            return;
+        }
+
+        pendingSearch.addPage(response);
+    }
+
+    /**
+     * Cancels a pending search and removes it from the pending searches map.
+     * The aggregated result is completed exceptionally with a RuntimeException.
+     *
+     * @param correlationId unique identifier for the request-response exchange
+     * @param reason description of why the search was cancelled
+     */
+    public void cancelPendingSearch(String correlationId, String reason) {
+        PendingSearch pendingSearch = pendingSearches.remove(correlationId);
+
+        if (pendingSearch != null) {
+            pendingSearch.getResult().completeExceptionally(new RuntimeException("Request cancelled: " + reason));
+            logger.warn("Cancelled pending restaurant search for correlationId: {} - Reason: {}",
+                    correlationId, reason);
+        }
+    }
+
+    /**
+     * Represents a search whose result pages are still arriving.
+     * Page listeners registered after some pages have arrived are replayed
+     * the pages received so far, so every listener sees the full result set.
+     */
+    public static class PendingSearch {
+
+        /** Correlation ID shared by the request and all response pages */
+        private final String correlationId;
+
+        /** Pages received so far, in arrival order */
+        private final List<List<RestaurantDTO>> pages = new ArrayList<>();
+
+        /** Listeners notified for each received page */
+        private final List<Consumer<List<RestaurantDTO>>> pageListeners = new ArrayList<>();
+
+        /** Aggregated result completed when the last page arrives */
+        private final CompletableFuture<List<RestaurantDTO>> result = new CompletableFuture<>();
+
+        /**
+         * Creates a new pending search.
+         *
+         * @param correlationId Correlation ID of the search request
+         */
+        PendingSearch(String correlationId) {
+            this.correlationId = correlationId;
+        }
+
+        /**
+         * Gets the correlation ID of the search request.
+         *
+         * @return The correlation ID
+         */
+        public String getCorrelationId() {
+            return correlationId;
+        }
+
+        /**
+         * Gets the aggregated search result.
+         *
+         * @return CompletableFuture completed with all results once the last page arrives
+         */
+        public CompletableFuture<List<RestaurantDTO>> getResult() {
+            return result;
+        }
+
+        /**
+         * Registers a listener that receives each result page as it arrives.
+         * Pages that were already received are delivered immediately.
+         *
+         * @param listener the page listener to register
+         */
+        public void addPageListener(Consumer<List<RestaurantDTO>> listener) {
+            List<List<RestaurantDTO>> received;
+            synchronized (this) {
+                received = new ArrayList<>(pages);
+                pageListeners.add(listener);
+            }
+            received.forEach(page -> notifyListener(listener, page));
+        }
+
+        /**
+         * Records a received result page and notifies the page listeners.
+         *
+         * @param response the search response event containing the page
+         */
+        void addPage(RestaurantSearchResponseEvent response) {
+            if (!response.isSuccess()) {
+                result.completeExceptionally(new RuntimeException(response.getErrorMessage() != null
+                        ? response.getErrorMessage()
+                        : "Restaurant search failed"));
+                return;
+            }
+
+            List<RestaurantDTO> page = response.getRestaurants() != null
+                    ? Collections.unmodifiableList(new ArrayList<>(response.getRestaurants()))
+                    : List.of();
+
+            List<Consumer<List<RestaurantDTO>>> listeners;
+            List<RestaurantDTO> allResults = null;
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                pages.add(page);
+                listeners = new ArrayList<>(pageListeners);
+                if (response.isLastPage()) {
+                    allResults = new ArrayList<>();
+                    for (List<RestaurantDTO> received : pages) {
+                        allResults.addAll(received);
+                    }
+                }
+            }
+
+            listeners.forEach(listener -> notifyListener(listener, page));
+
+            if (allResults != null) {
+                result.complete(Collections.unmodifiableList(allResults));
+                logger.info("Completed restaurant search for correlationId: {}, pages={}, results={}",
+                        correlationId, response.getPage() + 1, allResults.size());
+            }
+        }
+
+        /**
+         * Delivers a page to a listener, isolating failures of individual listeners.
+         *
+         * @param listener the listener to notify
+         * @param page the result page
+         */
+        private void notifyListener(Consumer<List<RestaurantDTO>> listener, List<RestaurantDTO> page) {
+            try {
+                listener.accept(page);
+            } catch (Exception e) {
+                logger.warn("Restaurant search page listener failed for correlationId: {} - {}",
+                        correlationId, e.getMessage());
+            }
+        }
+    }
+}
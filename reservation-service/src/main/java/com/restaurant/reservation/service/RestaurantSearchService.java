@@ -1,25 +1,40 @@
 package com.restaurant.reservation.service;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.dto.restaurant.RestaurantDTO;
+import com.restaurant.common.events.restaurant.RestaurantSearchRequestEvent;
 import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
 import com.restaurant.reservation.dto.RestaurantSearchCriteriaDTO;
 import com.restaurant.reservation.kafka.producers.RestaurantEventProducer;
+import com.restaurant.reservation.service.RestaurantSearchResponseManager.PendingSearch;
 
 /**
  * Service responsible for searching restaurants based on reservation criteria.
- * This service provides mock data for testing purposes.
+ * Searches are delegated to the restaurant service over Kafka using a
+ * scatter-gather pattern:
+ * - A RestaurantSearchRequestEvent is published with a fresh correlation ID
+ * - The restaurant service answers with one response event per result page
+ * - Pages are handed to callers as they arrive and aggregated into a final result
+ *
+ * Results are cached per normalized query for a short time, and identical
+ * queries issued while a search is in flight share that search instead of
+ * publishing another request.
  *
  * @author Restaurant Reservation Team
- * @version 1.0
+ * @version 1.1
  */
 @Service
 public class RestaurantSearchService {
@@ -30,109 +45,257 @@ public class RestaurantSearchService {
     /** Producer for sending restaurant search requests */
     private final RestaurantEventProducer eventProducer;
 
+    /** Manager for collecting paged search responses */
+    private final RestaurantSearchResponseManager responseManager;
+
+    /** Searches currently waiting for responses, keyed by normalized query */
+    private final Map<String, PendingSearch> inFlightSearches = new ConcurrentHashMap<>();
+
+    /** Recently completed search results, keyed by normalized query */
+    private final Map<String, CachedSearchResult> resultCache = new ConcurrentHashMap<>();
+
+    /** Time in seconds a completed search result is served from the cache */
+    @Value("${restaurant.search.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    /** Maximum number of cached search results */
+    @Value("${restaurant.search.cache-max-entries:1000}")
+    private int cacheMaxEntries;
+
+    /** Timeout in seconds for receiving the last page of a search */
+    @Value("${restaurant.search.request.timeout:15}")
+    private long requestTimeoutSeconds;
+
+    /** Number of restaurants requested per response page */
+    @Value("${restaurant.search.page-size:20}")
+    private int pageSize;
+
     /**
      * Constructs a new RestaurantSearchService with required dependencies.
      *
      * @param eventProducer Producer for sending restaurant search requests
+     * @param responseManager Manager for collecting paged search responses
      */
-    public RestaurantSearchService(RestaurantEventProducer eventProducer) {
+    public RestaurantSearchService(RestaurantEventProducer eventProducer,
+            RestaurantSearchResponseManager responseManager) {
         this.eventProducer = eventProducer;
+        this.responseManager = responseManager;
     }
 
     /**
      * Searches for available restaurants based on the provided criteria.
-     * This method returns mock data for testing purposes.
      *
      * @param criteria The search criteria including date, time, party size, etc.
      * @return CompletableFuture containing a list of matching restaurants
      */
     public CompletableFuture<List<RestaurantDTO>> searchRestaurants(RestaurantSearchCriteriaDTO criteria) {
-        // Log search criteria based on what's provided
-        if (criteria.getRestaurantId() != null) {
-            logger.info("Searching for restaurant by ID: {}", criteria.getRestaurantId());
-        } else if (criteria.getRestaurantName() != null) {
-            logger.info("Searching for restaurants by name: {}", criteria.getRestaurantName());
-        } else {
-            logger.info("Searching restaurants with criteria: date={}, time={}, partySize={}, cuisineType={}",
-                    criteria.getDate(), criteria.getTime(), criteria.getPartySize(), criteria.getCuisineType());
-        }
-
-        // For testing/development, return mock data immediately
-        CompletableFuture<List<RestaurantDTO>> future = new CompletableFuture<>();
+        return searchRestaurants(criteria, null);
+    }
 
-        // Create mock restaurant data
-        List<RestaurantDTO> mockRestaurants = createMockRestaurants(criteria);
+    /**
+     * Searches for available restaurants and streams result pages as they arrive.
+     * Cached results are delivered to the page listener as a single page.
+     *
+     * @param criteria The search criteria including date, time, party size, etc.
+     * @param pageListener Listener receiving each page of results, or null
+     * @return CompletableFuture containing the complete list of matching restaurants
+     */
+    public CompletableFuture<List<RestaurantDTO>> searchRestaurants(RestaurantSearchCriteriaDTO criteria,
+            Consumer<List<RestaurantDTO>> pageListener) {
+        String queryKey = normalizeQuery(criteria);
 
-        // Complete the future with mock data
-        future.complete(mockRestaurants);
+        CachedSearchResult cached = resultCache.get(queryKey);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                logger.debug("Serving restaurant search from cache: query={}", queryKey);
+                if (pageListener != null) {
+                    pageListener.accept(cached.getRestaurants());
+                }
+                return CompletableFuture.completedFuture(cached.getRestaurants());
+            }
+            resultCache.remove(queryKey, cached);
+        }
 
-        return future;
+        PendingSearch pendingSearch = inFlightSearches.get(queryKey);
+        if (pendingSearch == null) {
+            PendingSearch newSearch = responseManager.createPendingSearch(UUID.randomUUID().toString());
+            pendingSearch = inFlightSearches.putIfAbsent(queryKey, newSearch);
+            if (pendingSearch == null) {
+                pendingSearch = newSearch;
+                startSearch(queryKey, newSearch, criteria);
+            } else {
+                responseManager.cancelPendingSearch(newSearch.getCorrelationId(), "Joined in-flight search");
+            }
+        }
+        if (pageListener != null) {
+            pendingSearch.addPageListener(pageListener);
+        }
+        return pendingSearch.getResult();
     }
 
     /**
-     * Creates mock restaurant data for testing purposes.
+     * Publishes the search request for a query that is neither cached nor in flight.
+     * The pending search removes itself from the in-flight map when it completes
+     * and populates the cache on success.
      *
+     * @param queryKey The normalized query key
+     * @param pendingSearch The pending search that will collect the responses
      * @param criteria The search criteria
-     * @return List of mock restaurants
      */
-    private List<RestaurantDTO> createMockRestaurants(RestaurantSearchCriteriaDTO criteria) {
-        List<RestaurantDTO> restaurants = new ArrayList<>();
-
-        // Create fixed IDs for consistent lookup
-        String[] fixedIds = {
-            "f47ac10b-58cc-4372-a567-0e02b2c3d479",
-            "550e8400-e29b-41d4-a716-446655440000",
-            "6ba7b810-9dad-11d1-80b4-00c04fd430c8"
-        };
-
-        // Create 3 mock restaurants
-        for (int i = 1; i <= 3; i++) {
-            RestaurantDTO restaurant = new RestaurantDTO();
-            restaurant.setId(fixedIds[i-1]);
-            restaurant.setName("Restaurant " + i);
-            restaurant.setDescription("A great place to eat with delicious food");
-            restaurant.setAddress("123 Main St, City " + i);
-            restaurant.setPhoneNumber("123-456-789" + i);
-            restaurant.setEmail("info@restaurant" + i + ".com");
-            restaurant.setWebsite("https://www.restaurant" + i + ".com");
-            restaurant.setLatitude(40.7128 + (i * 0.01));
-            restaurant.setLongitude(-74.0060 + (i * 0.01));
-            restaurant.setCuisineType(criteria.getCuisineType() != null ? criteria.getCuisineType() : "Italian");
-            restaurant.setCapacity(50 + (i * 10));
-            restaurant.setAverageRating(new BigDecimal("4." + i));
-            restaurant.setActive(true);
-
-            restaurants.add(restaurant);
-        }
+    private void startSearch(String queryKey, PendingSearch pendingSearch, RestaurantSearchCriteriaDTO criteria) {
+        String correlationId = pendingSearch.getCorrelationId();
+
+        logger.info("Publishing restaurant search: correlationId={}, query={}", correlationId, queryKey);
+
+        pendingSearch.getResult()
+                .orTimeout(requestTimeoutSeconds, TimeUnit.SECONDS)
+                .whenComplete((restaurants, ex) -> {
+                    inFlightSearches.remove(queryKey, pendingSearch);
+                    if (ex == null) {
+                        cacheResult(queryKey, restaurants);
+                    }
+                });
+
+        RestaurantSearchRequestEvent requestEvent = new RestaurantSearchRequestEvent(
+                criteria.getDate(), criteria.getTime(),
+                criteria.getPartySize() != null ? criteria.getPartySize() : 0,
+                correlationId);
+        requestEvent.setRestaurantId(criteria.getRestaurantId());
+        requestEvent.setRestaurantName(criteria.getRestaurantName());
+        requestEvent.setCuisineType(criteria.getCuisineType());
+        requestEvent.setCity(criteria.getCity());
+        requestEvent.setLatitude(criteria.getLatitude());
+        requestEvent.setLongitude(criteria.getLongitude());
+        requestEvent.setDistance(criteria.getDistance());
+        requestEvent.setPageSize(pageSize);
 
-        // Filter by ID if provided
-        if (criteria.getRestaurantId() != null && !criteria.getRestaurantId().isEmpty()) {
-            String searchId = criteria.getRestaurantId();
-            return restaurants.stream()
-                    .filter(r -> r.getId().equals(searchId))
-                    .toList();
+        if (!eventProducer.publishRestaurantSearchRequest(requestEvent)) {
+            responseManager.cancelPendingSearch(correlationId, "Failed to publish search request");
         }
+    }
 
-        // Filter by name if provided
-        if (criteria.getRestaurantName() != null && !criteria.getRestaurantName().isEmpty()) {
-            String searchName = criteria.getRestaurantName().toLowerCase();
-            return restaurants.stream()
-                    .filter(r -> r.getName().toLowerCase().contains(searchName))
-                    .toList();
+    /**
+     * Stores a completed search result in the cache.
+     * When the cache is full, expired entries are evicted first; if it is still
+     * full the result is simply not cached.
+     *
+     * @param queryKey The normalized query key
+     * @param restaurants The complete search result
+     */
+    private void cacheResult(String queryKey, List<RestaurantDTO> restaurants) {
+        if (cacheTtlSeconds <= 0) {
+            return;
         }
+        if (resultCache.size() >= cacheMaxEntries) {
+            evictExpiredResults();
+            if (resultCache.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        resultCache.put(queryKey, new CachedSearchResult(restaurants,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(cacheTtlSeconds)));
+    }
+
+    /**
+     * Removes expired entries from the search result cache.
+     * This method should be called periodically to release memory held by stale results.
+     */
+    public void evictExpiredResults() {
+        resultCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+    }
 
-        logger.info("Created {} mock restaurants for testing", restaurants.size());
-        return restaurants;
+    /**
+     * Builds the cache key for a search.
+     * Only criteria that affect the restaurant service's answer are included.
+     * Text filters are trimmed and lower-cased and coordinates are rounded to
+     * about ten meters so that equivalent queries share one cache entry.
+     *
+     * @param criteria The search criteria
+     * @return The normalized query key
+     */
+    private String normalizeQuery(RestaurantSearchCriteriaDTO criteria) {
+        return String.join("|",
+                normalizeText(criteria.getRestaurantId()),
+                normalizeText(criteria.getRestaurantName()),
+                normalizeText(criteria.getCuisineType()),
+                normalizeText(criteria.getCity()),
+                criteria.getPartySize() != null ? criteria.getPartySize().toString() : "",
+                roundCoordinate(criteria.getLatitude(), 10_000),
+                roundCoordinate(criteria.getLongitude(), 10_000),
+                roundCoordinate(criteria.getDistance(), 100));
+    }
+
+    /**
+     * Normalizes a text filter for use in a cache key.
+     *
+     * @param value The raw value
+     * @return The trimmed, lower-cased value, or an empty string if absent
+     */
+    private String normalizeText(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Rounds a numeric filter for use in a cache key.
+     *
+     * @param value The raw value
+     * @param scale The rounding scale (e.g. 10000 for four decimal places)
+     * @return The rounded value as a string, or an empty string if absent
+     */
+    private String roundCoordinate(Double value, int scale) {
+        return value == null ? "" : Long.toString(Math.round(value * scale));
     }
 
     /**
      * Processes a restaurant search response event.
-     * This method is a placeholder for future implementation when Kafka communication is set up.
+     * Each event carries one page of results for a pending search.
      *
      * @param event The restaurant search response event
      */
     public void processSearchResponse(RestaurantSearchResponseEvent event) {
-        logger.info("Received restaurant search response: correlationId={}", event.getCorrelationId());
-        // This method is a placeholder for future implementation
+        logger.debug("Received restaurant search page: correlationId={}, page={}, lastPage={}",
+                event.getCorrelationId(), event.getPage(), event.isLastPage());
+        responseManager.acceptPage(event);
+    }
+
+    /**
+     * Cached result of a completed search together with its expiry time.
+     */
+    private static final class CachedSearchResult {
+
+        /** The complete search result */
+        private final List<RestaurantDTO> restaurants;
+
+        /** Epoch milliseconds after which the result is stale */
+        private final long expiresAt;
+
+        /**
+         * Creates a new cached search result.
+         *
+         * @param restaurants The complete search result
+         * @param expiresAt Epoch milliseconds after which the result is stale
+         */
+        CachedSearchResult(List<RestaurantDTO> restaurants, long expiresAt) {
+            this.restaurants = restaurants;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Gets the cached restaurants.
+         *
+         * @return The cached search result
+         */
+        List<RestaurantDTO> getRestaurants() {
+            return restaurants;
+        }
+
+        /**
+         * Checks whether the cached result has expired.
+         *
+         * @return true if the result is stale
+         */
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
     }
 }
@@ -0,0 +1,217 @@
+package com.restaurant.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.restaurant.common.utils.BoundedTtlCache;
+
+/**
+ * Bounded cache of the table lists of restaurants.
+ * This component provides:
+ * - The tables of a restaurant, loaded from the restaurant service on first use
+ * - Expiry of each list after a configurable time-to-live
+ * - Invalidation on every instance whenever tables of the restaurant are
+ *   added, updated or removed
+ *
+ * If the restaurant service cannot be reached, an expired list is served
+ * until a reload succeeds. A list whose loading overlapped an invalidation
+ * is returned to the caller but not cached.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantTableCache {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantTableCache.class);
+
+    /** REST client for the restaurant service */
+    private final RestTemplate restTemplate;
+
+    /** Base URL for the restaurant service REST API */
+    @Value("${restaurant-service.url:http://localhost:8082}")
+    private String restaurantServiceUrl;
+
+    /** Time in seconds a table list is served from the cache */
+    @Value("${restaurant.tables.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /** Cached table lists by restaurant ID */
+    private final BoundedTtlCache<String, List<TableInfo>> entries;
+
+    /**
+     * Constructs a new RestaurantTableCache with required dependencies.
+     *
+     * @param restTemplate REST client for the restaurant service
+     * @param maxEntries Maximum number of cached table lists
+     */
+    public RestaurantTableCache(RestTemplate restTemplate,
+            @Value("${restaurant.tables.cache-max-entries:1000}") int maxEntries) {
+        this.restTemplate = restTemplate;
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * Gets the tables of a restaurant, loading them if not cached or expired.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The tables, or an empty list if they could not be loaded
+     */
+    public List<TableInfo> getTables(String restaurantId) {
+        List<TableInfo> cached = entries.get(restaurantId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = entries.generation();
+        List<TableInfo> tables = load(restaurantId);
+        if (tables == null) {
+            List<TableInfo> expired = entries.getIncludingExpired(restaurantId);
+            return expired != null ? expired : Collections.emptyList();
+        }
+
+        if (ttlSeconds > 0) {
+            entries.putIfCurrent(restaurantId, tables,
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds), generation);
+        }
+        return tables;
+    }
+
+    /**
+     * Discards the cached tables of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    public void invalidate(String restaurantId) {
+        entries.invalidate(restaurantId);
+        logger.debug("Invalidated cached tables of restaurant {}", restaurantId);
+    }
+
+    /**
+     * Loads the tables of a restaurant from the restaurant service.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The tables, or null if the restaurant service could not be reached
+     */
+    private List<TableInfo> load(String restaurantId) {
+        try {
+            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                    restaurantServiceUrl + "/api/restaurants/" + restaurantId + "/tables/public",
+                    HttpMethod.GET,
+                    HttpEntity.EMPTY,
+                    new ParameterizedTypeReference<Map<String, Object>>() {});
+
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                logger.warn("Failed to load tables of restaurant {}: status={}", restaurantId, response.getStatusCode());
+                return null;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> data = (List<Map<String, Object>>) response.getBody().get("data");
+            List<TableInfo> tables = new ArrayList<>();
+            if (data != null) {
+                for (Map<String, Object> table : data) {
+                    Object id = table.get("id");
+                    if (id == null) {
+                        continue;
+                    }
+                    Object capacity = table.get("capacity");
+                    tables.add(new TableInfo(
+                            id.toString(),
+                            table.get("tableNumber") != null ? table.get("tableNumber").toString() : null,
+                            capacity instanceof Number ? ((Number) capacity).intValue() : 0,
+                            table.get("location") != null ? table.get("location").toString() : null));
+                }
+            }
+            logger.debug("Loaded {} tables of restaurant {}", tables.size(), restaurantId);
+            return Collections.unmodifiableList(tables);
+        } catch (RestClientException | ClassCastException e) {
+            logger.warn("Failed to load tables of restaurant {}: {}", restaurantId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Immutable description of a restaurant table.
+     */
+    public static final class TableInfo {
+
+        /** ID of the table */
+        private final String id;
+
+        /** Number or name of the table shown to staff */
+        private final String tableNumber;
+
+        /** Number of seats */
+        private final int capacity;
+
+        /** Area of the restaurant the table is in */
+        private final String location;
+
+        /**
+         * Creates a table description.
+         *
+         * @param id ID of the table
+         * @param tableNumber Number or name of the table shown to staff
+         * @param capacity Number of seats
+         * @param location Area of the restaurant the table is in
+         */
+        public TableInfo(String id, String tableNumber, int capacity, String location) {
+            this.id = id;
+            this.tableNumber = tableNumber;
+            this.capacity = capacity;
+            this.location = location;
+        }
+
+        /**
+         * Gets the ID of the table.
+         *
+         * @return The table ID
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the number or name of the table shown to staff.
+         *
+         * @return The table number
+         */
+        public String getTableNumber() {
+            return tableNumber;
+        }
+
+        /**
+         * Gets the number of seats.
+         *
+         * @return The capacity
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Gets the area of the restaurant the table is in.
+         *
+         * @return The location
+         */
+        public String getLocation() {
+            return location;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.restaurant.reservation.service;
 
-import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.domain.models.RestaurantOperatingHours;
 import com.restaurant.reservation.domain.models.Schedule;
+import com.restaurant.reservation.domain.repositories.RestaurantOperatingHoursRepository;
 import com.restaurant.reservation.domain.repositories.ScheduleRepository;
 import com.restaurant.reservation.dto.ScheduleDTO;
 import com.restaurant.reservation.dto.ScheduleUpdateRequest;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -15,88 +23,123 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Service class responsible for managing restaurant schedules and operating hours.
  * This service handles:
  * - Retrieving and managing restaurant schedules
- * - Setting default operating hours based on day of week
+ * - Deriving default schedules from the restaurant's regular operating hours
  * - Updating schedule information including special hours and capacity
+ * - Maintaining booked capacity and tables from the reservation lifecycle
  * - Converting schedule entities to DTOs with formatted time information
- * 
- * The service ensures that restaurants have consistent operating hours while allowing
- * for custom schedules and special hours when needed.
- * 
+ *
+ * Schedules form a projection keyed by restaurant and date. A schedule row is
+ * stored once a date has bookings or custom settings; other dates are derived
+ * from the locally kept operating hours and have nothing booked. Booked
+ * counters are adjusted with atomic increments in the same transaction as
+ * the reservation change, so they never need to be recounted.
+ *
  * @author Restaurant Reservation Team
- * @version 1.0
+ * @version 1.1
  */
 @Service
 public class ScheduleService {
 
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleService.class);
+
+    /** Largest number of days returned by a single schedule query */
+    private static final int MAX_RANGE_DAYS = 366;
+
     /** Repository for managing schedule data */
     private final ScheduleRepository scheduleRepository;
 
+    /** Repository for the local copy of restaurant operating hours */
+    private final RestaurantOperatingHoursRepository operatingHoursRepository;
+
+    /** Service maintaining in-memory availability grids */
+    private final AvailabilityCalendarService availabilityCalendarService;
+
+    /** Template inserting missing schedule rows in a transaction of their own */
+    private final TransactionTemplate newTransaction;
+
+    /** Maximum number of days in advance a reservation can be made */
+    @Value("${reservation.max-future-days:90}")
+    private int maxFutureDays;
+
     /**
      * Constructs a new ScheduleService with required dependencies.
      *
      * @param scheduleRepository Repository for schedule data
+     * @param operatingHoursRepository Repository for the local copy of operating hours
+     * @param availabilityCalendarService Service maintaining in-memory availability grids
+     * @param transactionManager Transaction manager for inserting missing schedule rows
      */
-    public ScheduleService(ScheduleRepository scheduleRepository) {
+    public ScheduleService(ScheduleRepository scheduleRepository,
+            RestaurantOperatingHoursRepository operatingHoursRepository,
+            AvailabilityCalendarService availabilityCalendarService,
+            PlatformTransactionManager transactionManager) {
         this.scheduleRepository = scheduleRepository;
+        this.operatingHoursRepository = operatingHoursRepository;
+        this.availabilityCalendarService = availabilityCalendarService;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
      * Retrieves the schedule for a restaurant over a specified date range.
      * This method:
-     * 1. Fetches existing schedules from the database
-     * 2. Creates default schedules for any missing dates
-     * 3. Sets default operating hours based on day of week
-     * 4. Returns a sorted list of schedule DTOs
+     * 1. Fetches stored schedules for the range with a single query
+     * 2. Derives schedules for the remaining dates from the restaurant's operating hours
+     * 3. Returns the schedule DTOs in date order
      *
      * @param restaurantId The ID of the restaurant
      * @param startDate The start date of the schedule range
      * @param endDate The end date of the schedule range
      * @return List of ScheduleDTO objects for the specified date range
+     * @throws ValidationException if the date range is invalid
      */
     public List<ScheduleDTO> getScheduleForRestaurant(String restaurantId, LocalDate startDate, LocalDate endDate) {
-        List<Schedule> schedules = scheduleRepository.findByRestaurantIdAndDateBetween(
-                restaurantId, startDate, endDate);
-        
-        // Create entries for any missing dates
-        LocalDate currentDate = startDate;
-        List<LocalDate> existingDates = schedules.stream()
-                .map(Schedule::getDate)
-                .collect(Collectors.toList());
-        
-        List<Schedule> allSchedules = new ArrayList<>(schedules);
-        
-        while (!currentDate.isAfter(endDate)) {
-            if (!existingDates.contains(currentDate)) {
-                Schedule newSchedule = new Schedule(restaurantId, currentDate);
-                
-                // Set default operating hours based on day of week
-                setDefaultHours(newSchedule, currentDate.getDayOfWeek());
-                
-                allSchedules.add(newSchedule);
+        if (endDate.isBefore(startDate)) {
+            throw new ValidationException("End date must not be before start date");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new ValidationException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<LocalDate, Schedule> storedSchedules = new HashMap<>();
+        for (Schedule schedule : scheduleRepository.findByRestaurantIdAndDateBetween(
+                restaurantId, startDate, endDate)) {
+            storedSchedules.put(schedule.getDate(), schedule);
+        }
+        Map<DayOfWeek, RestaurantOperatingHours> weeklyHours = loadWeeklyHours(restaurantId);
+        int defaultCapacity = availabilityCalendarService.getRestaurantCapacity(restaurantId);
+
+        List<ScheduleDTO> result = new ArrayList<>((int) days);
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            Schedule schedule = storedSchedules.get(date);
+            if (schedule == null) {
+                schedule = createDefaultSchedule(restaurantId, date,
+                        weeklyHours.get(date.getDayOfWeek()), defaultCapacity);
             }
-            currentDate = currentDate.plusDays(1);
+            result.add(convertToDTO(schedule));
         }
-        
-        return allSchedules.stream()
-                .sorted((s1, s2) -> s1.getDate().compareTo(s2.getDate()))
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return result;
     }
 
     /**
      * Updates the schedule for a specific restaurant and date.
      * This method:
-     * 1. Retrieves or creates a new schedule for the specified date
+     * 1. Retrieves the stored schedule or derives a new one from operating hours
      * 2. Updates schedule properties based on the update request
-     * 3. Handles special cases like custom operating hours
+     * 3. Marks updated properties as custom so operating hours and capacity
+     *    changes no longer override them
      * 4. Saves and returns the updated schedule as a DTO
      *
      * @param restaurantId The ID of the restaurant
@@ -105,63 +148,236 @@ public class ScheduleService {
      * @return Updated ScheduleDTO object
      */
     @Transactional
-    public ScheduleDTO updateSchedule(String restaurantId, LocalDate date, 
+    public ScheduleDTO updateSchedule(String restaurantId, LocalDate date,
                                     ScheduleUpdateRequest updateRequest) {
         Schedule schedule = scheduleRepository.findByRestaurantIdAndDate(restaurantId, date)
-                .orElse(new Schedule(restaurantId, date));
-        
+                .orElseGet(() -> createDefaultSchedule(restaurantId, date));
+
         if (updateRequest.isClosed() != schedule.isClosed()) {
             schedule.setClosed(updateRequest.isClosed());
+            schedule.setCustomClosed(true);
         }
-        
+
         if (updateRequest.getOpenTime() != null) {
             schedule.setOpenTime(updateRequest.getOpenTime());
             schedule.setCustomOpenTime(true);
         }
-        
+
         if (updateRequest.getCloseTime() != null) {
             schedule.setCloseTime(updateRequest.getCloseTime());
             schedule.setCustomCloseTime(true);
         }
-        
+
         if (updateRequest.getSpecialHoursDescription() != null) {
             schedule.setSpecialHoursDescription(updateRequest.getSpecialHoursDescription());
         }
-        
+
         if (updateRequest.getTotalCapacity() > 0) {
             schedule.setTotalCapacity(updateRequest.getTotalCapacity());
+            schedule.setCustomCapacity(true);
         }
-        
-        return convertToDTO(scheduleRepository.save(schedule));
+        schedule.updateAvailableCapacity();
+
+        Schedule savedSchedule = scheduleRepository.save(schedule);
+        availabilityCalendarService.refreshSchedule(savedSchedule);
+
+        return convertToDTO(savedSchedule);
     }
 
     /**
-     * Sets default operating hours for a schedule based on the day of week.
-     * Default hours are:
-     * - Weekdays: 10:00 AM - 10:00 PM
-     * - Friday/Saturday: 10:00 AM - 11:00 PM
-     * - Monday: Closed
+     * Adds booked seats and tables to the schedule of a date.
+     * Called within the transaction that changes the reservation.
+     *
+     * If the schedule does not exist yet, an empty one with default settings
+     * is inserted in a transaction of its own and the increment is applied
+     * to it. Two first bookings of a day may both try the insert; the loser's
+     * unique key violation is ignored and its increment goes to the row the
+     * other one inserted, so neither reservation fails. The existence check
+     * is a plain read rather than the increment itself, because an UPDATE
+     * that matches no row leaves a gap lock in the caller's transaction that
+     * the separate insert would wait on. Removing bookings from a date
+     * without a schedule changes nothing.
      *
-     * @param schedule The schedule to set default hours for
-     * @param dayOfWeek The day of week to determine default hours
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the reservation
+     * @param covers The number of seats to add (negative to remove)
+     * @param tables The number of tables to add (negative to remove)
      */
-    private void setDefaultHours(Schedule schedule, DayOfWeek dayOfWeek) {
-        // Default hours: 10 AM - 10 PM
-        LocalTime defaultOpenTime = LocalTime.of(10, 0);
-        LocalTime defaultCloseTime = LocalTime.of(22, 0);
-        
-        // Adjust for weekends
-        if (dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY) {
-            defaultCloseTime = LocalTime.of(23, 0);
+    @Transactional
+    public void recordBookings(String restaurantId, LocalDate date, int covers, int tables) {
+        if (covers == 0 && tables == 0) {
+            return;
         }
-        
-        // Default closed on Mondays
-        if (dayOfWeek == DayOfWeek.MONDAY) {
-            schedule.setClosed(true);
+        if ((covers > 0 || tables > 0) && !scheduleRepository.existsByRestaurantIdAndDate(restaurantId, date)) {
+            Schedule schedule = createDefaultSchedule(restaurantId, date);
+            try {
+                newTransaction.executeWithoutResult(status -> scheduleRepository.saveAndFlush(schedule));
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Schedule of restaurant {} on {} was inserted concurrently", restaurantId, date);
+            }
         }
-        
-        schedule.setOpenTime(defaultOpenTime);
-        schedule.setCloseTime(defaultCloseTime);
+        scheduleRepository.addBookings(restaurantId, date, covers, tables);
+    }
+
+    /**
+     * Applies a change to a restaurant's regular operating hours.
+     * The local copy of the hours is updated, and stored schedules from today
+     * onward on the same day of the week take the new hours unless they have
+     * custom settings.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param dayOfWeek The day of the week that changed
+     * @param openTime The new opening time, or null if the restaurant is now closed that day
+     * @param closeTime The new closing time, or null if the restaurant is now closed that day
+     */
+    @Transactional
+    public void applyOperatingHours(String restaurantId, DayOfWeek dayOfWeek,
+                                    LocalTime openTime, LocalTime closeTime) {
+        RestaurantOperatingHours hours = new RestaurantOperatingHours(restaurantId, dayOfWeek);
+        hours.setOpenTime(openTime);
+        hours.setCloseTime(closeTime);
+        applyOperatingHours(restaurantId, List.of(hours));
+    }
+
+    /**
+     * Applies changes to several days of a restaurant's regular operating hours at once.
+     * The local copy of the hours is updated, and stored schedules from today
+     * onward on the changed days take the new hours unless they have custom
+     * settings. Schedules are loaded and availability refreshed only once.
+     * Days whose hours are already stored are skipped, so the same hours can
+     * be applied repeatedly without touching schedules.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param changedDays The new hours per day; missing open or close times mean closed
+     */
+    @Transactional
+    public void applyOperatingHours(String restaurantId, List<RestaurantOperatingHours> changedDays) {
+        if (changedDays.isEmpty()) {
+            return;
+        }
+
+        Map<DayOfWeek, RestaurantOperatingHours> byDay = new EnumMap<>(DayOfWeek.class);
+        for (RestaurantOperatingHours existing : operatingHoursRepository.findByRestaurantId(restaurantId)) {
+            byDay.put(existing.getDayOfWeek(), existing);
+        }
+
+        List<RestaurantOperatingHours> saved = new ArrayList<>();
+        for (RestaurantOperatingHours change : changedDays) {
+            boolean closed = change.getOpenTime() == null || change.getCloseTime() == null;
+            RestaurantOperatingHours existing = byDay.get(change.getDayOfWeek());
+            if (existing != null && existing.isClosed() == closed
+                    && Objects.equals(existing.getOpenTime(), change.getOpenTime())
+                    && Objects.equals(existing.getCloseTime(), change.getCloseTime())) {
+                continue;
+            }
+            RestaurantOperatingHours hours = byDay.computeIfAbsent(change.getDayOfWeek(),
+                    day -> new RestaurantOperatingHours(restaurantId, day));
+            hours.setOpenTime(change.getOpenTime());
+            hours.setCloseTime(change.getCloseTime());
+            hours.setClosed(closed);
+            saved.add(hours);
+        }
+        if (saved.isEmpty()) {
+            return;
+        }
+        operatingHoursRepository.saveAll(saved);
+
+        LocalDate today = LocalDate.now();
+        List<Schedule> affected = new ArrayList<>();
+        for (Schedule schedule : scheduleRepository.findByRestaurantIdAndDateBetween(
+                restaurantId, today, today.plusDays(maxFutureDays))) {
+            RestaurantOperatingHours hours = byDay.get(schedule.getDate().getDayOfWeek());
+            if (hours != null && saved.contains(hours)) {
+                applyDefaultHours(schedule, hours);
+                affected.add(schedule);
+            }
+        }
+        scheduleRepository.saveAll(affected);
+        availabilityCalendarService.refreshRestaurant(restaurantId);
+
+        logger.debug("Applied operating hours for restaurant {} on {} days to {} schedules",
+                restaurantId, saved.size(), affected.size());
+    }
+
+    /**
+     * Applies a change to a restaurant's seating capacity.
+     * Stored schedules from today onward take the new capacity unless they
+     * have a custom capacity.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param capacity The new seating capacity
+     */
+    @Transactional
+    public void applyCapacity(String restaurantId, int capacity) {
+        int updated = scheduleRepository.updateDefaultCapacity(restaurantId, LocalDate.now(), capacity);
+        availabilityCalendarService.updateCapacity(restaurantId, capacity);
+
+        logger.debug("Applied capacity {} for restaurant {} to {} schedules", capacity, restaurantId, updated);
+    }
+
+    /**
+     * Creates an unsaved schedule with the restaurant's default settings for a date.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the schedule
+     * @return A new schedule with default hours and capacity
+     */
+    private Schedule createDefaultSchedule(String restaurantId, LocalDate date) {
+        return createDefaultSchedule(restaurantId, date,
+                operatingHoursRepository.findByRestaurantIdAndDayOfWeek(restaurantId, date.getDayOfWeek())
+                        .orElse(null),
+                availabilityCalendarService.getRestaurantCapacity(restaurantId));
+    }
+
+    /**
+     * Creates an unsaved schedule with the given default settings.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date of the schedule
+     * @param hours The operating hours for the day of week, or null if unknown
+     * @param capacity The restaurant's seating capacity
+     * @return A new schedule with default hours and capacity
+     */
+    private Schedule createDefaultSchedule(String restaurantId, LocalDate date,
+                                           RestaurantOperatingHours hours, int capacity) {
+        Schedule schedule = new Schedule(restaurantId, date);
+        applyDefaultHours(schedule, hours);
+        schedule.setTotalCapacity(capacity);
+        schedule.updateAvailableCapacity();
+        return schedule;
+    }
+
+    /**
+     * Applies regular operating hours to the non-custom settings of a schedule.
+     * Unknown hours leave the opening and closing times unset.
+     *
+     * @param schedule The schedule to update
+     * @param hours The operating hours for the schedule's day of week, or null if unknown
+     */
+    private void applyDefaultHours(Schedule schedule, RestaurantOperatingHours hours) {
+        if (!schedule.isCustomOpenTime()) {
+            schedule.setOpenTime(hours != null ? hours.getOpenTime() : null);
+        }
+        if (!schedule.isCustomCloseTime()) {
+            schedule.setCloseTime(hours != null ? hours.getCloseTime() : null);
+        }
+        if (!schedule.isCustomClosed()) {
+            schedule.setClosed(hours != null && hours.isClosed());
+        }
+    }
+
+    /**
+     * Loads the known operating hours of a restaurant keyed by day of week.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Operating hours by day of week
+     */
+    private Map<DayOfWeek, RestaurantOperatingHours> loadWeeklyHours(String restaurantId) {
+        Map<DayOfWeek, RestaurantOperatingHours> weeklyHours = new EnumMap<>(DayOfWeek.class);
+        for (RestaurantOperatingHours hours : operatingHoursRepository.findByRestaurantId(restaurantId)) {
+            weeklyHours.put(hours.getDayOfWeek(), hours);
+        }
+        return weeklyHours;
     }
 
     /**
@@ -0,0 +1,178 @@
+package com.restaurant.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.events.user.ProfileUpdatedEvent;
+import com.restaurant.common.events.user.UserRegisteredEvent;
+import com.restaurant.reservation.domain.models.UserSnapshot;
+import com.restaurant.reservation.domain.repositories.UserSnapshotRepository;
+import com.restaurant.reservation.dto.CustomerProfileDTO;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Service maintaining the local projection of user details.
+ * This service provides:
+ * - Snapshot updates from user registration and profile update events
+ * - Removal of a deleted user's details
+ * - Batch lookup of customer profiles for reservation listings
+ *
+ * Registration and profile events arrive on different topics and may be
+ * applied in either order, so registration never overwrites profile fields
+ * that a profile update has already set. For the same reason a deleted
+ * user's snapshot is kept without details and ignores later events.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class UserSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSnapshotService.class);
+
+    /** Repository for user snapshots */
+    private final UserSnapshotRepository userSnapshotRepository;
+
+    /**
+     * Constructs a new UserSnapshotService with required dependencies.
+     *
+     * @param userSnapshotRepository Repository for user snapshots
+     */
+    public UserSnapshotService(UserSnapshotRepository userSnapshotRepository) {
+        this.userSnapshotRepository = userSnapshotRepository;
+    }
+
+    /**
+     * Records a newly registered user.
+     *
+     * @param event The user registered event
+     */
+    @Transactional
+    public void applyRegistration(UserRegisteredEvent event) {
+        UserSnapshot snapshot = getOrCreate(event.getUserId());
+        if (snapshot.isDeleted()) {
+            logger.debug("Ignoring registration of deleted user {}", event.getUserId());
+            return;
+        }
+        snapshot.setUsername(event.getUsername());
+        snapshot.setEmail(event.getEmail());
+        if (snapshot.getFirstName() == null) {
+            snapshot.setFirstName(event.getFirstName());
+        }
+        if (snapshot.getLastName() == null) {
+            snapshot.setLastName(event.getLastName());
+        }
+        if (snapshot.getPhoneNumber() == null) {
+            snapshot.setPhoneNumber(event.getPhoneNumber());
+        }
+        snapshot.setUpdatedAt(LocalDateTime.now());
+        userSnapshotRepository.save(snapshot);
+    }
+
+    /**
+     * Applies a change of one profile field.
+     * Fields that are not part of the snapshot are ignored.
+     *
+     * @param event The profile updated event
+     */
+    @Transactional
+    public void applyProfileUpdate(ProfileUpdatedEvent event) {
+        String field = event.getFieldUpdated();
+        if (field == null) {
+            return;
+        }
+
+        UserSnapshot snapshot = getOrCreate(event.getUserId());
+        if (snapshot.isDeleted()) {
+            logger.debug("Ignoring profile update of deleted user {}", event.getUserId());
+            return;
+        }
+        switch (field) {
+            case "firstName":
+                snapshot.setFirstName(event.getNewValue());
+                break;
+            case "lastName":
+                snapshot.setLastName(event.getNewValue());
+                break;
+            case "phoneNumber":
+                snapshot.setPhoneNumber(event.getNewValue());
+                break;
+            case "email":
+                snapshot.setEmail(event.getNewValue());
+                break;
+            case "preferredLanguage":
+                snapshot.setPreferredLanguage(event.getNewValue());
+                break;
+            default:
+                logger.debug("Ignoring update of profile field {} for user {}", field, event.getUserId());
+                return;
+        }
+        snapshot.setUpdatedAt(LocalDateTime.now());
+        userSnapshotRepository.save(snapshot);
+    }
+
+    /**
+     * Removes the details of a deleted user.
+     * The snapshot is kept without details so that events arriving after
+     * the deletion cannot restore them.
+     *
+     * @param userId ID of the deleted user
+     */
+    @Transactional
+    public void applyDeletion(String userId) {
+        UserSnapshot snapshot = getOrCreate(userId);
+        if (snapshot.isDeleted()) {
+            return;
+        }
+        snapshot.markDeleted(LocalDateTime.now());
+        userSnapshotRepository.save(snapshot);
+        logger.info("Removed the details of deleted user {}", userId);
+    }
+
+    /**
+     * Gets the customer profiles of several users with one query.
+     *
+     * @param userIds IDs of the users
+     * @return Profiles by user ID; users without a snapshot or deleted are absent
+     */
+    public Map<String, CustomerProfileDTO> getCustomerProfiles(Collection<String> userIds) {
+        Map<String, CustomerProfileDTO> profiles = new HashMap<>();
+        Set<String> ids = new HashSet<>(userIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return profiles;
+        }
+
+        for (UserSnapshot snapshot : userSnapshotRepository.findAllById(ids)) {
+            if (snapshot.isDeleted()) {
+                continue;
+            }
+            profiles.put(snapshot.getUserId(), new CustomerProfileDTO(
+                    snapshot.getDisplayName(),
+                    snapshot.getEmail(),
+                    snapshot.getPhoneNumber(),
+                    snapshot.getPreferredLanguage()
+            ));
+        }
+        return profiles;
+    }
+
+    /**
+     * Gets the snapshot of a user, creating an empty one if none exists.
+     *
+     * @param userId ID of the user
+     * @return The snapshot
+     */
+    private UserSnapshot getOrCreate(String userId) {
+        return userSnapshotRepository.findById(userId).orElseGet(() -> new UserSnapshot(userId));
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.restaurant.reservation.domain.repositories.ReservationRepository;
+import com.restaurant.reservation.domain.repositories.RestaurantOperatingHoursRepository;
+import com.restaurant.reservation.domain.repositories.ScheduleRepository;
+import com.restaurant.reservation.dto.AvailabilityGridDTO;
+import com.restaurant.reservation.kafka.producers.ReservationEventProducer;
+
+/**
+ * Unit tests for how {@link AvailabilityCalendarService} grids change.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class AvailabilityCalendarServiceTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+    private RestaurantCapacityService restaurantCapacityService;
+
+    private AvailabilityCalendarService calendarService;
+
+    @BeforeEach
+    void setUp() {
+        restaurantCapacityService = mock(RestaurantCapacityService.class);
+        when(restaurantCapacityService.findStoredCapacity(anyString())).thenReturn(null);
+        when(restaurantCapacityService.findCapacity(anyString())).thenReturn(null);
+        calendarService = new AvailabilityCalendarService(
+                mock(ReservationRepository.class),
+                mock(ScheduleRepository.class),
+                mock(RestaurantOperatingHoursRepository.class),
+                restaurantCapacityService,
+                mock(ReservationEventProducer.class));
+        ReflectionTestUtils.setField(calendarService, "sessionLengthMinutes", 120);
+        ReflectionTestUtils.setField(calendarService, "maxPartySize", 20);
+        ReflectionTestUtils.setField(calendarService, "maxFutureDays", 90);
+        ReflectionTestUtils.setField(calendarService, "defaultCapacity", 100);
+        ReflectionTestUtils.setField(calendarService, "partySizeBands", new int[] {2, 4, 6, 8, 12});
+        ReflectionTestUtils.setField(calendarService, "maxGrids", 5000);
+    }
+
+    @Test
+    void readsOfAProvisionalGridNeitherChangeItsVersionNorFetchTheCapacity() {
+        AvailabilityGridDTO first = calendarService.getAvailabilityGrid("r1", TOMORROW);
+        AvailabilityGridDTO second = calendarService.getAvailabilityGrid("r1", TOMORROW);
+
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(second.getCapacity()).isEqualTo(100);
+        verify(restaurantCapacityService, never()).findCapacity(anyString());
+    }
+
+    @Test
+    void provisionalGridsAreRebuiltOnceTheCapacityIsObtained() {
+        long version = calendarService.getAvailabilityGrid("r1", TOMORROW).getVersion();
+        // A successful fetch stores the capacity
+        when(restaurantCapacityService.findCapacity("r1")).thenReturn(40);
+        when(restaurantCapacityService.findStoredCapacity("r1")).thenReturn(40);
+
+        calendarService.retryProvisionalGrids();
+
+        AvailabilityGridDTO grid = calendarService.getAvailabilityGrid("r1", TOMORROW);
+        assertThat(grid.getVersion()).isGreaterThan(version);
+        assertThat(grid.getCapacity()).isEqualTo(40);
+    }
+
+    @Test
+    void bookingsReceivedAgainAreAppliedOnce() {
+        calendarService.getAvailabilityGrid("r1", TOMORROW);
+
+        calendarService.applyBooking("res1", "r1", TOMORROW.atTime(19, 0), 120, 4, true);
+        AvailabilityGridDTO booked = calendarService.getAvailabilityGrid("r1", TOMORROW);
+        calendarService.applyBooking("res1", "r1", TOMORROW.atTime(19, 0), 120, 4, true);
+
+        AvailabilityGridDTO grid = calendarService.getAvailabilityGrid("r1", TOMORROW);
+        assertThat(grid.getVersion()).isEqualTo(booked.getVersion());
+        assertThat(grid.getSlots().get(19 * 4).getBookedCovers()).isEqualTo(4);
+
+        calendarService.applyBooking("res1", "r1", TOMORROW.atTime(19, 0), 120, 4, false);
+        assertThat(calendarService.getAvailabilityGrid("r1", TOMORROW).getSlots().get(19 * 4).getBookedCovers())
+                .isZero();
+    }
+}
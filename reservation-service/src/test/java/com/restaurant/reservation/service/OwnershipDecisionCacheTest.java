@@ -0,0 +1,178 @@
+package com.restaurant.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link OwnershipDecisionCache}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class OwnershipDecisionCacheTest {
+
+    private OwnershipDecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OwnershipDecisionCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 60L);
+    }
+
+    @Test
+    void decisionsAreServedFromTheCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("r1", "u1", counting(loads, true))).isTrue();
+        assertThat(cache.get("r1", "u1", counting(loads, false))).isTrue();
+        assertThat(cache.get("r1", "u2", counting(loads, false))).isFalse();
+        assertThat(cache.get("r1", "u2", counting(loads, true))).isFalse();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void concurrentLookupsShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> cache.get("r1", "u1", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Boolean> second = new CompletableFuture<>();
+        Thread joiner = new Thread(() -> second.complete(cache.get("r1", "u1", counting(loads, false))));
+        joiner.start();
+        awaitWaiting(joiner);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void undecidedLookupsArePassedToWaitersButNotCached() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> cache.get("r1", "u1", () -> {
+            loading.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Boolean> second = new CompletableFuture<>();
+        Thread joiner = new Thread(() -> second.complete(cache.get("r1", "u1", () -> true)));
+        joiner.start();
+        awaitWaiting(joiner);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isNull();
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get("r1", "u1", counting(loads, true))).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void decisionsLoadedDuringAnInvalidationAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Boolean decision = cache.get("r1", "u1", () -> {
+            loads.incrementAndGet();
+            cache.invalidateRestaurant("r1");
+            return true;
+        });
+        cache.get("r1", "u1", counting(loads, false));
+
+        assertThat(decision).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationOnlyDiscardsTheRestaurantsDecisions() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("r1", "u1", counting(loads, true));
+        cache.get("r2", "u1", counting(loads, true));
+
+        cache.invalidateRestaurant("r1");
+
+        assertThat(cache.get("r1", "u1", counting(loads, false))).isFalse();
+        assertThat(cache.get("r2", "u1", counting(loads, false))).isTrue();
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void outcomesWithoutATimeToLiveAreNotCached() {
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 0L);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("r1", "u1", counting(loads, false));
+        cache.get("r1", "u1", counting(loads, false));
+        cache.get("r1", "u2", counting(loads, true));
+        cache.get("r1", "u2", counting(loads, true));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void leastRecentlyUsedDecisionIsEvicted() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("r1", "u1", counting(loads, true));
+        cache.get("r1", "u2", counting(loads, true));
+        cache.get("r1", "u1", counting(loads, true));
+
+        cache.get("r1", "u3", counting(loads, true));
+
+        assertThat(cache.get("r1", "u1", counting(loads, true))).isTrue();
+        assertThat(loads).hasValue(3);
+        cache.get("r1", "u2", counting(loads, true));
+        assertThat(loads).hasValue(4);
+    }
+
+    private static Supplier<Boolean> counting(AtomicInteger loads, Boolean decision) {
+        return () -> {
+            loads.incrementAndGet();
+            return decision;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until a thread parks, which for these tests means it joined the lookup in flight.
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
@@ -0,0 +1,138 @@
+package com.restaurant.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.reservation.domain.models.ReservationView;
+import com.restaurant.reservation.domain.repositories.MenuItemRepository;
+import com.restaurant.reservation.domain.repositories.ReservationHistoryRepository;
+import com.restaurant.reservation.domain.repositories.ReservationMenuItemRepository;
+import com.restaurant.reservation.domain.repositories.ReservationQuotaRepository;
+import com.restaurant.reservation.domain.repositories.ReservationRepository;
+import com.restaurant.reservation.dto.ReservationDTO;
+import com.restaurant.reservation.dto.ReservationFieldSelection;
+import com.restaurant.reservation.dto.ReservationPageResponse;
+import com.restaurant.reservation.kafka.producers.ReservationEventProducer;
+
+/**
+ * Unit tests for the keyset pagination of {@link ReservationService} listings.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class ReservationServiceListingTest {
+
+    /** Selection without expanded associations, so only the view service is queried */
+    private static final ReservationFieldSelection SELECTION = ReservationFieldSelection.parse(null, null, false);
+
+    private ReservationViewService reservationViewService;
+
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationViewService = mock(ReservationViewService.class);
+        reservationService = new ReservationService(
+                mock(ReservationRepository.class),
+                mock(ReservationQuotaRepository.class),
+                mock(MenuItemRepository.class),
+                mock(ReservationMenuItemRepository.class),
+                mock(ReservationHistoryRepository.class),
+                mock(TableAvailabilityService.class),
+                mock(ReservationEventProducer.class),
+                mock(RestaurantValidationService.class),
+                mock(RestaurantOwnershipService.class),
+                mock(AvailabilityCalendarService.class),
+                mock(ScheduleService.class),
+                mock(UserSnapshotService.class),
+                reservationViewService);
+    }
+
+    @Test
+    void nextPageStartsAfterTheLastReservationOfThePage() {
+        LocalDateTime time = LocalDateTime.of(2026, 5, 1, 19, 30);
+        when(reservationViewService.getUserViews(eq("u1"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(views(time, "c", "b", "a"));
+
+        ReservationPageResponse first = reservationService.getReservationsByUserId("u1", null, null, null,
+                null, 2, SELECTION);
+
+        assertThat(first.getReservations()).extracting(ReservationDTO::getId).containsExactly("c", "b");
+        assertThat(first.getNextCursor()).isNotNull();
+
+        when(reservationViewService.getUserViews(eq("u1"), isNull(), isNull(), isNull(), eq(time), eq("b"), eq(3)))
+                .thenReturn(views(time, "a"));
+
+        ReservationPageResponse second = reservationService.getReservationsByUserId("u1", null, null, null,
+                first.getNextCursor(), 2, SELECTION);
+
+        assertThat(second.getReservations()).extracting(ReservationDTO::getId).containsExactly("a");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void lastReservationOfTheRestaurantEndsThePaging() {
+        when(reservationViewService.getRestaurantViews(eq("r1"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(3))).thenReturn(views(LocalDateTime.of(2026, 5, 1, 12, 0), "b", "a"));
+
+        ReservationPageResponse page = reservationService.getReservationsByRestaurantId("r1", null, null, null,
+                null, 2, ReservationFieldSelection.parse("id,status", null, false));
+
+        assertThat(page.getReservations()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void filtersAreConvertedToAnInclusiveDayRange() {
+        when(reservationViewService.getUserViews(any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        reservationService.getReservationsByUserId("u1", "confirmed", LocalDate.of(2026, 5, 1),
+                LocalDate.of(2026, 5, 3), null, 10, SELECTION);
+
+        verify(reservationViewService).getUserViews("u1", "CONFIRMED", LocalDateTime.of(2026, 5, 1, 0, 0),
+                LocalDateTime.of(2026, 5, 4, 0, 0), null, null, 11);
+    }
+
+    @Test
+    void invalidFiltersAndSizesAreRejected() {
+        assertInvalid("size", null, null, null, 0);
+        assertInvalid("size", null, null, null, 101);
+        assertInvalid("status", "seated", null, null, 10);
+        assertInvalid("to", null, LocalDate.of(2026, 5, 3), LocalDate.of(2026, 5, 1), 10);
+    }
+
+    private void assertInvalid(String field, String status, LocalDate from, LocalDate to, int size) {
+        assertThatThrownBy(() -> reservationService.getReservationsByUserId("u1", status, from, to,
+                null, size, SELECTION))
+                .isInstanceOfSatisfying(ValidationException.class,
+                        e -> assertThat(e.getValidationErrors()).containsKey(field));
+    }
+
+    private static List<ReservationView> views(LocalDateTime time, String... ids) {
+        List<ReservationView> views = new ArrayList<>();
+        for (String id : ids) {
+            ReservationView view = new ReservationView(id);
+            ReflectionTestUtils.setField(view, "reservationTime", time);
+            views.add(view);
+        }
+        return views;
+    }
+}
@@ -0,0 +1,91 @@
+package com.restaurant.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.restaurant.reservation.domain.repositories.RestaurantSyncStateRepository;
+import com.restaurant.reservation.kafka.producers.RestaurantEventProducer;
+import com.restaurant.reservation.security.TokenDetails;
+import com.restaurant.reservation.security.VerifiedToken;
+
+/**
+ * Unit tests for the token claim checks of {@link RestaurantOwnershipService}.
+ * The restaurant service never answers, so only token claims can prove ownership.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class RestaurantOwnershipServiceTest {
+
+    private RestaurantOwnershipService ownershipService;
+
+    @BeforeEach
+    void setUp() {
+        OwnershipDecisionCache decisionCache = new OwnershipDecisionCache();
+        ReflectionTestUtils.setField(decisionCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(decisionCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(decisionCache, "negativeTtlSeconds", 60L);
+
+        RestaurantSyncStateRepository syncStateRepository = mock(RestaurantSyncStateRepository.class);
+        when(syncStateRepository.findByOwnershipVersionIsNotNull()).thenReturn(List.of());
+
+        ownershipService = new RestaurantOwnershipService(mock(RestaurantEventProducer.class),
+                mock(RestaurantResponseManager.class), decisionCache, syncStateRepository);
+        ownershipService.loadOwnershipChanges();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimIsTrustedUntilTheOwnerChangesAtALaterVersion() {
+        authenticate("u1", Map.of("r1", 3L));
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isTrue();
+
+        ownershipService.recordOwnershipChange("r1", 3);
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isTrue();
+
+        ownershipService.recordOwnershipChange("r1", 5);
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isFalse();
+    }
+
+    @Test
+    void lateIssuedTokenWithAnOutdatedClaimIsNotTrusted() {
+        ownershipService.recordOwnershipChange("r1", 5);
+
+        // Issued after the change was seen here, but from a projection still at version 3
+        authenticate("u1", Map.of("r1", 3L));
+
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isFalse();
+    }
+
+    @Test
+    void claimWithoutAVersionIsNotTrustedAfterAnOwnerChange() {
+        authenticate("u1", null);
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isTrue();
+
+        ownershipService.recordOwnershipChange("r1", RestaurantOwnershipService.UNVERSIONED_CHANGE);
+
+        assertThat(ownershipService.isUserRestaurantOwner("r1", "u1")).isFalse();
+    }
+
+    private static void authenticate(String userId, Map<String, Long> ownershipVersions) {
+        TokenDetails details = new TokenDetails(Instant.now(), Set.of("r1"), ownershipVersions);
+        SecurityContextHolder.getContext().setAuthentication(
+                new VerifiedToken(userId, List.of(), details).toAuthentication());
+    }
+}
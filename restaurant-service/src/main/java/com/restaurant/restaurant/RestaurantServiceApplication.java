@@ -3,6 +3,7 @@ package com.restaurant.restaurant;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Restaurant Service.
@@ -17,6 +18,7 @@ import org.springframework.context.annotation.ComponentScan;
  */
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.restaurant.restaurant", "com.restaurant.common"})
+@EnableScheduling
 public class RestaurantServiceApplication {
 
     /**
@@ -1,6 +1,9 @@
 package com.restaurant.restaurant.api.controllers;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,8 +13,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.restaurant.common.dto.ResponseDTO;
+import com.restaurant.common.exceptions.ValidationException;
 import com.restaurant.restaurant.domain.models.Branch;
 import com.restaurant.restaurant.domain.repositories.BranchRepository;
+import com.restaurant.restaurant.service.LocationIndex;
+import com.restaurant.restaurant.utils.GeoPointIndex.Neighbor;
 
 /**
  * REST Controller for managing restaurant branch information.
@@ -32,13 +38,18 @@ public class BranchController {
     /** Repository for branch data access */
     private final BranchRepository branchRepository;
 
+    /** In-process spatial index for location queries */
+    private final LocationIndex locationIndex;
+
     /**
      * Constructs a new BranchController with required dependencies.
      *
      * @param branchRepository Repository for branch data access
+     * @param locationIndex In-process spatial index for location queries
      */
-    public BranchController(BranchRepository branchRepository) {
+    public BranchController(BranchRepository branchRepository, LocationIndex locationIndex) {
         this.branchRepository = branchRepository;
+        this.locationIndex = locationIndex;
     }
 
     /**
@@ -57,11 +68,11 @@ public class BranchController {
     }
 
     /**
-     * Finds branches near a specified location.
-     * This endpoint returns branches within a specified distance
-     * (in kilometers) from the given coordinates.
-     * The distance is converted to meters for the database query.
+     * Finds branches of a restaurant near a specified location.
+     * This endpoint returns the restaurant's branches within a specified
+     * distance (in kilometers) from the given coordinates, nearest first.
      *
+     * @param restaurantId The ID of the restaurant
      * @param latitude The latitude coordinate
      * @param longitude The longitude coordinate
      * @param distance Maximum distance in kilometers (default: 5.0)
@@ -69,13 +80,57 @@ public class BranchController {
      */
     @GetMapping("/nearby")
     public ResponseEntity<ResponseDTO<List<Branch>>> findNearbyBranches(
+            @PathVariable String restaurantId,
             @RequestParam double latitude,
             @RequestParam double longitude,
             @RequestParam(defaultValue = "5.0") double distance) {
-        // Convert km to meters
-        double distanceInMeters = distance * 1000;
-        List<Branch> branches = branchRepository.findNearbyBranches(latitude, longitude, distanceInMeters);
-        return ResponseEntity.ok(ResponseDTO.success(branches));
+        List<Neighbor> nearby = locationIndex.findBranchesWithin(restaurantId, latitude, longitude, distance);
+        return ResponseEntity.ok(ResponseDTO.success(loadInOrder(nearby)));
+    }
+
+    /**
+     * Finds the branches of a restaurant nearest to a specified location.
+     * This endpoint returns up to the requested number of branches ordered
+     * by distance, optionally limited to a maximum distance (in kilometers).
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param latitude The latitude coordinate
+     * @param longitude The longitude coordinate
+     * @param limit Maximum number of branches to return (default: 5)
+     * @param maxDistance Maximum distance in kilometers, or 0 for no limit (default: 0)
+     * @return ResponseEntity containing a list of the nearest Branch objects
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<ResponseDTO<List<Branch>>> findNearestBranches(
+            @PathVariable String restaurantId,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(defaultValue = "0") double maxDistance) {
+        if (limit < 1 || limit > 100) {
+            throw new ValidationException("limit", "Limit must be between 1 and 100");
+        }
+        List<Neighbor> nearest = locationIndex.findNearestBranches(restaurantId, latitude, longitude,
+                limit, maxDistance);
+        return ResponseEntity.ok(ResponseDTO.success(loadInOrder(nearest)));
+    }
+
+    /**
+     * Loads the branches returned by a location query with a single query,
+     * preserving the distance order.
+     *
+     * @param neighbors Branch IDs ordered by distance
+     * @return Active branches in distance order
+     */
+    private List<Branch> loadInOrder(List<Neighbor> neighbors) {
+        List<String> ids = neighbors.stream().map(Neighbor::getId).collect(Collectors.toList());
+        Map<String, Branch> branchesById = branchRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Branch::getId, b -> b));
+        return ids.stream()
+                .map(branchesById::get)
+                .filter(Objects::nonNull)
+                .filter(Branch::isActive)
+                .collect(Collectors.toList());
     }
 
     // Add more endpoints as needed for branch management
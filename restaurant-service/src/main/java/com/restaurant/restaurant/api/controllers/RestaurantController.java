@@ -1,10 +1,12 @@
 package com.restaurant.restaurant.api.controllers;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,10 +23,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.common.dto.restaurant.RestaurantDTO;
 import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.dto.AvailableRestaurantDTO;
 import com.restaurant.restaurant.dto.RestaurantCreateRequest;
 import com.restaurant.restaurant.dto.RestaurantSearchCriteria;
+import com.restaurant.restaurant.dto.RestaurantSearchFacetsDTO;
 import com.restaurant.restaurant.dto.RestaurantUpdateRequest;
 import com.restaurant.restaurant.security.CurrentUser;
+import com.restaurant.restaurant.service.AvailabilitySearchService;
 import com.restaurant.restaurant.service.RestaurantService;
 
 import jakarta.validation.Valid;
@@ -50,13 +55,19 @@ public class RestaurantController {
     /** Service layer for restaurant operations */
     private final RestaurantService restaurantService;
 
+    /** Service for combined location, opening hours and availability searches */
+    private final AvailabilitySearchService availabilitySearchService;
+
     /**
      * Constructs a new RestaurantController with required dependencies.
      *
      * @param restaurantService Service layer for restaurant operations
+     * @param availabilitySearchService Service for combined location, opening hours and availability searches
      */
-    public RestaurantController(RestaurantService restaurantService) {
+    public RestaurantController(RestaurantService restaurantService,
+            AvailabilitySearchService availabilitySearchService) {
         this.restaurantService = restaurantService;
+        this.availabilitySearchService = availabilitySearchService;
     }
 
     /**
@@ -116,6 +127,21 @@ public class RestaurantController {
         return ResponseEntity.ok(ResponseDTO.success(restaurants));
     }
 
+    /**
+     * Returns facet counts by cuisine type and city for a restaurant search.
+     * This endpoint is publicly accessible and accepts the same criteria as
+     * the search endpoint, so clients can show filter options with counts.
+     *
+     * @param criteria Search criteria (keyword, cuisine type, city)
+     * @return ResponseEntity containing the facet counts
+     */
+    @GetMapping("/public/search/facets")
+    public ResponseEntity<ResponseDTO<RestaurantSearchFacetsDTO>> getSearchFacets(
+            @Valid RestaurantSearchCriteria criteria) {
+        RestaurantSearchFacetsDTO facets = restaurantService.getSearchFacets(criteria);
+        return ResponseEntity.ok(ResponseDTO.success(facets));
+    }
+
     /**
      * Finds restaurants near a specified location.
      * This endpoint is publicly accessible and returns restaurants within
@@ -135,6 +161,60 @@ public class RestaurantController {
         return ResponseEntity.ok(ResponseDTO.success(restaurants));
     }
 
+    /**
+     * Finds the restaurants nearest to a specified location.
+     * Returns up to the requested number of restaurants ordered by distance,
+     * optionally limited to a maximum distance (in kilometers).
+     *
+     * @param latitude The latitude coordinate
+     * @param longitude The longitude coordinate
+     * @param limit Maximum number of restaurants to return (default: 10)
+     * @param maxDistance Maximum distance in kilometers, or 0 for no limit (default: 0)
+     * @return ResponseEntity containing a list of the nearest RestaurantDTOs
+     */
+    @GetMapping("/public/nearest")
+    public ResponseEntity<ResponseDTO<List<RestaurantDTO>>> findNearestRestaurants(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0") double maxDistance) {
+        if (limit < 1 || limit > 100) {
+            throw new ValidationException("limit", "Limit must be between 1 and 100");
+        }
+        List<RestaurantDTO> restaurants = restaurantService.findNearestRestaurants(
+                latitude, longitude, limit, maxDistance);
+        return ResponseEntity.ok(ResponseDTO.success(restaurants));
+    }
+
+    /**
+     * Finds nearby restaurants that can seat a party at a given time.
+     * Combines the location search, an operating-hours check and a table
+     * availability probe on the server, so clients need a single request.
+     * Table availability is based on the tables' current status, not on
+     * bookings at the requested time, so results for later times are an
+     * approximation. Times in the past are rejected.
+     *
+     * @param latitude The latitude coordinate
+     * @param longitude The longitude coordinate
+     * @param radius Search radius in kilometers (default: 3.0)
+     * @param dateTime Requested reservation date and time (ISO format)
+     * @param partySize Number of guests
+     * @param limit Maximum number of results (default: 20)
+     * @return ResponseEntity containing available restaurants ranked by distance
+     */
+    @GetMapping("/public/available-nearby")
+    public ResponseEntity<ResponseDTO<List<AvailableRestaurantDTO>>> findAvailableNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3.0") double radius,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTime,
+            @RequestParam int partySize,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<AvailableRestaurantDTO> restaurants = availabilitySearchService.findAvailableNearby(
+                latitude, longitude, radius, dateTime, partySize, limit);
+        return ResponseEntity.ok(ResponseDTO.success(restaurants));
+    }
+
     /**
      * Creates a new restaurant.
      * This endpoint requires authentication and sets the current user as the owner.
@@ -1,14 +1,22 @@
 package com.restaurant.restaurant.api.controllers;
 
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.restaurant.common.dto.ResponseDTO;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.dto.OccupancyReportDTO;
 import com.restaurant.restaurant.dto.RestaurantStatisticsDTO;
+import com.restaurant.restaurant.service.OccupancyAnalyticsService;
 import com.restaurant.restaurant.service.RestaurantStatisticsService;
+import com.restaurant.restaurant.utils.OccupancySeries.Resolution;
 
 /**
  * REST Controller for managing restaurant statistics.
@@ -16,6 +24,7 @@ import com.restaurant.restaurant.service.RestaurantStatisticsService;
  * - Retrieving comprehensive statistics about a restaurant's performance
  * - Analyzing reservation patterns and customer behavior
  * - Monitoring table utilization and revenue metrics
+ * - Reporting occupancy, covers and table turn times over time
  * 
  * All endpoints are prefixed with '/api/restaurants/{restaurantId}/statistics'.
  * 
@@ -29,13 +38,19 @@ public class RestaurantStatisticsController {
     /** Service layer for restaurant statistics operations */
     private final RestaurantStatisticsService statisticsService;
 
+    /** Service maintaining occupancy time series */
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
     /**
      * Constructs a new RestaurantStatisticsController with required dependencies.
      *
      * @param statisticsService Service layer for restaurant statistics operations
+     * @param occupancyAnalyticsService Service maintaining occupancy time series
      */
-    public RestaurantStatisticsController(RestaurantStatisticsService statisticsService) {
+    public RestaurantStatisticsController(RestaurantStatisticsService statisticsService,
+                                          OccupancyAnalyticsService occupancyAnalyticsService) {
         this.statisticsService = statisticsService;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
     }
 
     /**
@@ -56,4 +71,32 @@ public class RestaurantStatisticsController {
         RestaurantStatisticsDTO statistics = statisticsService.getRestaurantStatistics(restaurantId);
         return ResponseEntity.ok(ResponseDTO.success(statistics));
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the occupancy time series of a restaurant.
+     * Minute buckets are kept for one day, hour and day buckets for 90 days;
+     * the range is clipped to what is retained.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param from The start of the range (inclusive)
+     * @param to The end of the range (exclusive)
+     * @param resolution The bucket resolution: MINUTE, HOUR or DAY
+     * @return ResponseEntity containing the OccupancyReportDTO
+     */
+    @GetMapping("/occupancy")
+    public ResponseEntity<ResponseDTO<OccupancyReportDTO>> getOccupancy(
+            @PathVariable String restaurantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") String resolution) {
+        Resolution bucketResolution;
+        try {
+            bucketResolution = Resolution.valueOf(resolution.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Resolution must be one of MINUTE, HOUR or DAY");
+        }
+        OccupancyReportDTO report = occupancyAnalyticsService.getOccupancyReport(
+                restaurantId, from, to, bucketResolution);
+        return ResponseEntity.ok(ResponseDTO.success(report));
+    }
+}
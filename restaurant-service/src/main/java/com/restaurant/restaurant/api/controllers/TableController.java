@@ -3,6 +3,7 @@ package com.restaurant.restaurant.api.controllers;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +17,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.restaurant.common.dto.ResponseDTO;
+import com.restaurant.restaurant.dto.FloorPlanImportRequest;
+import com.restaurant.restaurant.dto.FloorPlanImportResultDTO;
 import com.restaurant.restaurant.dto.TableCreateRequest;
 import com.restaurant.restaurant.dto.TableDTO;
 import com.restaurant.restaurant.dto.TableUpdateRequest;
+import com.restaurant.restaurant.service.FloorPlanService;
 import com.restaurant.restaurant.service.TableService;
+import com.restaurant.restaurant.utils.FloorPlanCsvParser;
 
 import jakarta.validation.Valid;
 
@@ -29,6 +34,7 @@ import jakarta.validation.Valid;
  * - Managing restaurant tables (CRUD operations)
  * - Checking table availability
  * - Updating table status
+ * - Importing complete floor plans as JSON or CSV
  * 
  * All endpoints are prefixed with '/api/restaurants/{restaurantId}/tables'.
  * Public endpoints are further prefixed with '/public'.
@@ -43,13 +49,18 @@ public class TableController {
     /** Service layer for table operations */
     private final TableService tableService;
 
+    /** Service layer for bulk floor plan imports */
+    private final FloorPlanService floorPlanService;
+
     /**
      * Constructs a new TableController with required dependencies.
      *
      * @param tableService Service layer for table operations
+     * @param floorPlanService Service layer for bulk floor plan imports
      */
-    public TableController(TableService tableService) {
+    public TableController(TableService tableService, FloorPlanService floorPlanService) {
         this.tableService = tableService;
+        this.floorPlanService = floorPlanService;
     }
 
     /**
@@ -164,4 +175,40 @@ public class TableController {
         tableService.deleteTable(tableId);
         return ResponseEntity.ok(ResponseDTO.success(null, "Table deleted successfully"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Imports a complete floor plan from JSON.
+     * Tables are matched by table number and created, updated or removed in a single transaction.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param importRequest The floor plan to import
+     * @return ResponseEntity containing a summary of the applied changes
+     */
+    @PutMapping(value = "/floor-plan", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseDTO<FloorPlanImportResultDTO>> importFloorPlan(
+            @PathVariable String restaurantId,
+            @RequestBody FloorPlanImportRequest importRequest) {
+        FloorPlanImportResultDTO result = floorPlanService.importFloorPlan(
+                restaurantId, importRequest.getTables(), importRequest.isRemoveMissing());
+        return ResponseEntity.ok(ResponseDTO.success(result, "Floor plan imported successfully"));
+    }
+
+    /**
+     * Imports a complete floor plan from CSV.
+     * The first line must be a header containing at least tableNumber and capacity.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param csv The floor plan as CSV
+     * @param removeMissing Whether existing tables missing from the file are removed
+     * @return ResponseEntity containing a summary of the applied changes
+     */
+    @PutMapping(value = "/floor-plan", consumes = "text/csv")
+    public ResponseEntity<ResponseDTO<FloorPlanImportResultDTO>> importFloorPlanCsv(
+            @PathVariable String restaurantId,
+            @RequestBody String csv,
+            @RequestParam(defaultValue = "true") boolean removeMissing) {
+        FloorPlanImportResultDTO result = floorPlanService.importFloorPlan(
+                restaurantId, FloorPlanCsvParser.parse(csv), removeMissing);
+        return ResponseEntity.ok(ResponseDTO.success(result, "Floor plan imported successfully"));
+    }
+}
@@ -11,10 +11,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import com.restaurant.common.events.reservation.FindAvailableTableRequestEvent;
+import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantOwnershipRequestEvent;
+import com.restaurant.common.events.restaurant.RestaurantSearchRequestEvent;
 import com.restaurant.common.events.restaurant.RestaurantValidationRequestEvent;
 import com.restaurant.common.events.user.UserEvent;
 
@@ -24,9 +29,13 @@ import com.restaurant.common.events.user.UserEvent;
  * listener container factories for different types of events:
  * - User events
  * - Table status updates
+ * - Reservation lifecycle events for occupancy analytics
  * - Table availability requests
  * - Restaurant validation requests
  * - Reservation time validation requests
+ * - Restaurant ownership requests
+ * - Restaurant search requests
+ * - Restaurant events published by this service, for per-instance caches
  * 
  * Each consumer configuration includes:
  * - Bootstrap servers
@@ -35,6 +44,10 @@ import com.restaurant.common.events.user.UserEvent;
  * - Deserializers for keys and values
  * - Error handling
  * 
+ * Validation, time validation and ownership requests are consumed in
+ * batches of up to {@code kafka.validation.max-poll-records} records, so
+ * their consumers can load all restaurants of a poll with one query.
+ * 
  * @author Restaurant Reservation Team
  * @version 1.0
  */
@@ -49,6 +62,10 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    /** Maximum number of validation requests handled in one batch */
+    @Value("${kafka.validation.max-poll-records:500}")
+    private int validationMaxPollRecords;
+
     /**
      * Creates a consumer factory for UserEvent messages.
      * This factory is configured to:
@@ -124,6 +141,41 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    /**
+     * Creates a consumer factory for reservation lifecycle messages.
+     * This factory is configured to:
+     * - Use the specified bootstrap servers
+     * - Use a group ID specific to occupancy analytics
+     * - Start from the earliest offset
+     * - Use String deserializer for both keys and values
+     *
+     * @return ConsumerFactory configured for reservation lifecycle messages
+     */
+    @Bean
+    public ConsumerFactory<String, String> reservationEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-occupancy-analytics");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    /**
+     * Creates a Kafka listener container factory for reservation lifecycle messages.
+     * This factory uses the reservationEventConsumerFactory for message consumption.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory for reservation lifecycle messages
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> reservationEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(reservationEventConsumerFactory());
+        return factory;
+    }
+
     /**
      * Creates a consumer factory for table availability request messages.
      * This factory is configured to:
@@ -186,6 +238,7 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-restaurant-validation");
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, validationMaxPollRecords);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
@@ -203,7 +256,8 @@ public class KafkaConsumerConfig {
 
     /**
      * Creates a Kafka listener container factory for restaurant validation request messages.
-     * This factory uses the restaurantValidationConsumerFactory for message consumption.
+     * This factory uses the restaurantValidationConsumerFactory for message consumption
+     * and delivers each poll to the listener as one batch.
      *
      * @return ConcurrentKafkaListenerContainerFactory for restaurant validation request messages
      */
@@ -211,6 +265,7 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, RestaurantValidationRequestEvent> restaurantValidationKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, RestaurantValidationRequestEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(restaurantValidationConsumerFactory());
+        factory.setBatchListener(true);
         return factory;
     }
     
@@ -231,6 +286,7 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-time-validation");
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, validationMaxPollRecords);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
@@ -248,7 +304,8 @@ public class KafkaConsumerConfig {
 
     /**
      * Creates a Kafka listener container factory for reservation time validation request messages.
-     * This factory uses the reservationTimeValidationConsumerFactory for message consumption.
+     * This factory uses the reservationTimeValidationConsumerFactory for message consumption
+     * and delivers each poll to the listener as one batch.
      *
      * @return ConcurrentKafkaListenerContainerFactory for reservation time validation request messages
      */
@@ -257,6 +314,151 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent> factory = 
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(reservationTimeValidationConsumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    /**
+     * Creates a consumer factory for restaurant ownership request messages.
+     * This factory is configured to:
+     * - Use the specified bootstrap servers
+     * - Use the configured group ID
+     * - Start from the earliest offset
+     * - Use error handling deserializers
+     * - Use JSON deserializer for values
+     *
+     * @return ConsumerFactory configured for restaurant ownership request messages
+     */
+    @Bean
+    public ConsumerFactory<String, RestaurantOwnershipRequestEvent> restaurantOwnershipConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, validationMaxPollRecords);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        JsonDeserializer<RestaurantOwnershipRequestEvent> deserializer = new JsonDeserializer<>(
+                RestaurantOwnershipRequestEvent.class);
+        deserializer.addTrustedPackages("com.restaurant.common.events");
+        deserializer.setUseTypeMapperForKey(true);
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    /**
+     * Creates a Kafka listener container factory for restaurant ownership request messages.
+     * This factory uses the restaurantOwnershipConsumerFactory for message consumption
+     * and delivers each poll to the listener as one batch.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory for restaurant ownership request messages
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, RestaurantOwnershipRequestEvent> restaurantOwnershipKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, RestaurantOwnershipRequestEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(restaurantOwnershipConsumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    /**
+     * Creates a consumer factory for restaurant search request messages.
+     * This factory is configured to:
+     * - Use the specified bootstrap servers
+     * - Use a group ID specific to restaurant search
+     * - Start from the earliest offset
+     * - Use error handling deserializers
+     * - Use JSON deserializer for values
+     *
+     * @return ConsumerFactory configured for restaurant search request messages
+     */
+    @Bean
+    public ConsumerFactory<String, RestaurantSearchRequestEvent> restaurantSearchConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-restaurant-search");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        JsonDeserializer<RestaurantSearchRequestEvent> deserializer = new JsonDeserializer<>(
+                RestaurantSearchRequestEvent.class);
+        deserializer.addTrustedPackages("com.restaurant.common.events");
+        deserializer.setUseTypeMapperForKey(true);
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    /**
+     * Creates a Kafka listener container factory for restaurant search request messages.
+     * This factory uses the restaurantSearchConsumerFactory for message consumption.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory for restaurant search request messages
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, RestaurantSearchRequestEvent> restaurantSearchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, RestaurantSearchRequestEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(restaurantSearchConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * Creates a consumer factory for the restaurant events this service publishes.
+     * This factory is configured to:
+     * - Use the specified bootstrap servers
+     * - Use the configured group ID, which listeners replace with one per instance
+     * - Start from the latest offset
+     * - Use error handling deserializers
+     * - Map the short type IDs of restaurant events to their classes
+     *
+     * @return ConsumerFactory configured for restaurant event messages
+     */
+    @Bean
+    public ConsumerFactory<String, Object> restaurantEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        Map<String, Class<?>> restaurantEventTypes = new HashMap<>();
+        restaurantEventTypes.put("RestaurantChangedEvent", RestaurantChangedEvent.class);
+        restaurantEventTypes.put("OperatingHoursChangedEvent", OperatingHoursChangedEvent.class);
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setIdClassMapping(restaurantEventTypes);
+
+        JsonDeserializer<Object> deserializer = new JsonDeserializer<>(Object.class);
+        deserializer.setTypeMapper(typeMapper);
+        deserializer.addTrustedPackages("com.restaurant.common.events");
+        deserializer.setUseTypeMapperForKey(true);
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    /**
+     * Creates a Kafka listener container factory for restaurant event messages.
+     * This factory uses the restaurantEventConsumerFactory for message consumption.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory for restaurant event messages
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> restaurantEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(restaurantEventConsumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+}
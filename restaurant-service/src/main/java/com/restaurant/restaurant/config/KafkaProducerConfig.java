@@ -26,6 +26,7 @@ import com.restaurant.common.events.BaseEvent;
  * - Table availability responses
  * - Restaurant validation responses
  * - Reservation time validation responses and requests
+ * - Restaurant search responses
  * 
  * The configuration includes:
  * - Bootstrap servers
@@ -52,13 +53,16 @@ public class KafkaProducerConfig {
      * 
      * The type mappings include:
      * - RestaurantUpdatedEvent
+     * - RestaurantChangedEvent
      * - CapacityChangedEvent
+     * - TablesChangedEvent
      * - TableStatusChangedEvent
      * - OperatingHoursChangedEvent
      * - FindAvailableTableResponseEvent
      * - RestaurantValidationResponseEvent
      * - ReservationTimeValidationResponseEvent
      * - ReservationTimeValidationRequestEvent
+     * - RestaurantSearchResponseEvent
      *
      * @return ProducerFactory configured for BaseEvent messages
      */
@@ -70,7 +74,9 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(JsonSerializer.TYPE_MAPPINGS,
                 "RestaurantUpdatedEvent:com.restaurant.common.events.restaurant.RestaurantUpdatedEvent," +
+                        "RestaurantChangedEvent:com.restaurant.common.events.restaurant.RestaurantChangedEvent," +
                         "CapacityChangedEvent:com.restaurant.common.events.restaurant.CapacityChangedEvent," +
+                        "TablesChangedEvent:com.restaurant.common.events.restaurant.TablesChangedEvent," +
                         "TableStatusChangedEvent:com.restaurant.common.events.restaurant.TableStatusChangedEvent," +
                         "OperatingHoursChangedEvent:com.restaurant.common.events.restaurant.OperatingHoursChangedEvent,"
                         +
@@ -80,7 +86,9 @@ public class KafkaProducerConfig {
                         +
                         "ReservationTimeValidationResponseEvent:com.restaurant.common.events.restaurant.ReservationTimeValidationResponseEvent,"
                         +
-                        "ReservationTimeValidationRequestEvent:com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent");
+                        "ReservationTimeValidationRequestEvent:com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent,"
+                        +
+                        "RestaurantSearchResponseEvent:com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent");
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -0,0 +1,132 @@
+package com.restaurant.restaurant.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.restaurant.restaurant.service.OccupancyAnalyticsService;
+import com.restaurant.restaurant.service.ReservationCalendarService;
+import com.restaurant.restaurant.service.RestaurantCapacityTracker;
+import com.restaurant.restaurant.service.TableStatusCounters;
+
+/**
+ * Configuration class for scheduled tasks in the restaurant service.
+ * Uses Spring's scheduling framework for task execution.
+ *
+ * This class handles:
+ * - Periodic reconciliation of table status counters
+ * - Periodic reconciliation of restaurant total capacities
+ * - Periodic sampling of restaurant occupancy
+ * - Periodic removal of expired occupancy rollups
+ * - Periodic removal of past table bookings and schedule overrides
+ * - Configurable execution intervals
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /** Logger for this class */
+    private static final Logger logger = LoggerFactory.getLogger(SchedulingConfig.class);
+
+    /** In-memory counters of tables per restaurant and status */
+    private final TableStatusCounters tableStatusCounters;
+
+    /** Tracker of restaurant total capacities */
+    private final RestaurantCapacityTracker capacityTracker;
+
+    /** Service maintaining occupancy time series */
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+    /** Service keeping the copy of the reservation calendar */
+    private final ReservationCalendarService reservationCalendarService;
+
+    /**
+     * Constructs a new SchedulingConfig with the required components.
+     *
+     * @param tableStatusCounters In-memory counters of tables per restaurant and status
+     * @param capacityTracker Tracker of restaurant total capacities
+     * @param occupancyAnalyticsService Service maintaining occupancy time series
+     * @param reservationCalendarService Service keeping the copy of the reservation calendar
+     */
+    public SchedulingConfig(TableStatusCounters tableStatusCounters,
+                            RestaurantCapacityTracker capacityTracker,
+                            OccupancyAnalyticsService occupancyAnalyticsService,
+                            ReservationCalendarService reservationCalendarService) {
+        this.tableStatusCounters = tableStatusCounters;
+        this.capacityTracker = capacityTracker;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.reservationCalendarService = reservationCalendarService;
+    }
+
+    /**
+     * Scheduled task to reconcile table status counters with the database.
+     * Runs every five minutes by default.
+     */
+    @Scheduled(fixedRateString = "${scheduling.table-counters-reconcile.interval:300000}",
+            initialDelayString = "${scheduling.table-counters-reconcile.interval:300000}")
+    public void reconcileTableStatusCounters() {
+        try {
+            tableStatusCounters.reconcile();
+        } catch (Exception e) {
+            logger.error("Error reconciling table status counters: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to reconcile restaurant total capacities with the seats of their tables.
+     * Runs every hour by default.
+     */
+    @Scheduled(fixedRateString = "${scheduling.capacity-reconcile.interval:3600000}",
+            initialDelayString = "${scheduling.capacity-reconcile.interval:3600000}")
+    public void reconcileRestaurantCapacities() {
+        try {
+            capacityTracker.reconcile();
+        } catch (Exception e) {
+            logger.error("Error reconciling restaurant capacities: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to sample the occupancy of all restaurants and store the rollups.
+     * Runs every minute by default.
+     */
+    @Scheduled(fixedRateString = "${scheduling.occupancy-sample.interval:60000}")
+    public void sampleOccupancy() {
+        try {
+            occupancyAnalyticsService.sampleOccupancy();
+        } catch (Exception e) {
+            logger.error("Error sampling restaurant occupancy: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to delete occupancy rollups past their retention.
+     * Runs every hour by default.
+     */
+    @Scheduled(fixedRateString = "${scheduling.occupancy-purge.interval:3600000}",
+            initialDelayString = "${scheduling.occupancy-purge.interval:3600000}")
+    public void purgeExpiredOccupancyRollups() {
+        try {
+            occupancyAnalyticsService.purgeExpiredRollups();
+        } catch (Exception e) {
+            logger.error("Error purging occupancy rollups: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to delete table bookings that have ended and schedule overrides of past dates.
+     * Runs every hour by default.
+     */
+    @Scheduled(fixedRateString = "${scheduling.reservation-calendar-purge.interval:3600000}",
+            initialDelayString = "${scheduling.reservation-calendar-purge.interval:3600000}")
+    public void purgePastReservationCalendar() {
+        try {
+            reservationCalendarService.purgePast();
+        } catch (Exception e) {
+            logger.error("Error purging the reservation calendar: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.locationtech.jts.geom.Point;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -28,6 +29,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "branches")
+@EntityListeners(BranchLocationListener.class)
 public class Branch {
 
     /** Unique identifier for the branch */
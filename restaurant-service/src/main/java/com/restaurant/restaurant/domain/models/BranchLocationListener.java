@@ -0,0 +1,57 @@
+package com.restaurant.restaurant.domain.models;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.restaurant.restaurant.service.LocationIndex;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that keeps the location index in sync with branches.
+ * Branches have no dedicated service, so the index is maintained from the
+ * entity lifecycle and stays correct for every code path that writes them.
+ *
+ * Instances are created by Hibernate through the Spring bean container while
+ * JPA starts, before the index exists, so the index is looked up lazily on
+ * each change.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class BranchLocationListener {
+
+    /** Lazy lookup of the spatial index of restaurant and branch locations */
+    private final ObjectProvider<LocationIndex> locationIndex;
+
+    /**
+     * Constructs a new BranchLocationListener with required dependencies.
+     *
+     * @param locationIndex Lazy lookup of the spatial index of restaurant and branch locations
+     */
+    public BranchLocationListener(ObjectProvider<LocationIndex> locationIndex) {
+        this.locationIndex = locationIndex;
+    }
+
+    /**
+     * Indexes a branch after it has been inserted or updated.
+     *
+     * @param branch The saved branch
+     */
+    @PostPersist
+    @PostUpdate
+    public void onSave(Branch branch) {
+        locationIndex.ifAvailable(index -> index.indexBranch(branch));
+    }
+
+    /**
+     * Removes a branch from the index after it has been deleted.
+     *
+     * @param branch The deleted branch
+     */
+    @PostRemove
+    public void onRemove(Branch branch) {
+        locationIndex.ifAvailable(index -> index.removeBranch(branch.getId()));
+    }
+}
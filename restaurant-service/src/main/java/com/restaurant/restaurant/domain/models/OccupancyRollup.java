@@ -0,0 +1,199 @@
+package com.restaurant.restaurant.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entity class representing an hourly or daily occupancy rollup of a restaurant.
+ * This class provides:
+ * - Occupancy sample sums and peaks
+ * - Covers and reservation counts
+ * - Table turn counts and lengths
+ *
+ * Rows are only ever incremented with single UPDATE statements, so every
+ * instance of the service can add its share of a bucket without losing the
+ * contributions of the others.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "occupancy_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"restaurant_id", "resolution", "bucket_start"}))
+public class OccupancyRollup {
+
+    /** Unique identifier for the rollup */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** Resolution of the bucket (HOUR or DAY) */
+    @Column(nullable = false, length = 10)
+    private String resolution;
+
+    /** Start of the bucket */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /** Number of occupancy samples */
+    private int samples;
+
+    /** Sum of occupied tables over all samples */
+    private long occupiedSum;
+
+    /** Sum of total tables over all samples */
+    private long tableSum;
+
+    /** Highest number of occupied tables in a sample */
+    private int peakOccupied;
+
+    /** Number of guests of reservations starting in the bucket */
+    private int covers;
+
+    /** Number of reservations starting in the bucket */
+    private int reservations;
+
+    /** Number of table turns ending in the bucket */
+    private int turns;
+
+    /** Sum of the lengths of those turns in minutes */
+    private long turnMinutes;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public OccupancyRollup() {
+    }
+
+    /**
+     * Creates an empty rollup.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param resolution Resolution of the bucket
+     * @param bucketStart Start of the bucket
+     */
+    public OccupancyRollup(String restaurantId, String resolution, LocalDateTime bucketStart) {
+        this.restaurantId = restaurantId;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * Gets the unique identifier of the rollup.
+     *
+     * @return The rollup ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the resolution of the bucket.
+     *
+     * @return The resolution name
+     */
+    public String getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Gets the start of the bucket.
+     *
+     * @return The bucket start
+     */
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Gets the number of occupancy samples.
+     *
+     * @return The number of occupancy samples
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets the sum of occupied tables over all samples.
+     *
+     * @return The sum of occupied tables over all samples
+     */
+    public long getOccupiedSum() {
+        return occupiedSum;
+    }
+
+    /**
+     * Gets the sum of total tables over all samples.
+     *
+     * @return The sum of total tables over all samples
+     */
+    public long getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Gets the highest number of occupied tables in a sample.
+     *
+     * @return The highest number of occupied tables in a sample
+     */
+    public int getPeakOccupied() {
+        return peakOccupied;
+    }
+
+    /**
+     * Gets the number of guests of reservations starting in the bucket.
+     *
+     * @return The number of guests of reservations starting in the bucket
+     */
+    public int getCovers() {
+        return covers;
+    }
+
+    /**
+     * Gets the number of reservations starting in the bucket.
+     *
+     * @return The number of reservations starting in the bucket
+     */
+    public int getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Gets the number of table turns ending in the bucket.
+     *
+     * @return The number of table turns ending in the bucket
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the sum of the lengths of those turns in minutes.
+     *
+     * @return The sum of the lengths of those turns in minutes
+     */
+    public long getTurnMinutes() {
+        return turnMinutes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.restaurant.restaurant.domain.models;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entity class representing one bin of a restaurant's daily turn-time histogram.
+ * Like occupancy rollups, rows are only ever incremented with single UPDATE
+ * statements so several instances can contribute to the same day.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "occupancy_turn_bins",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"restaurant_id", "turn_date", "bin"}))
+public class OccupancyTurnBin {
+
+    /** Unique identifier for the bin */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** Day the turns ended */
+    @Column(name = "turn_date", nullable = false)
+    private LocalDate day;
+
+    /** Index of the histogram bin */
+    @Column(nullable = false)
+    private int bin;
+
+    /** Number of turns in the bin */
+    private int turns;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public OccupancyTurnBin() {
+    }
+
+    /**
+     * Creates an empty histogram bin.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param day Day the turns ended
+     * @param bin Index of the histogram bin
+     */
+    public OccupancyTurnBin(String restaurantId, LocalDate day, int bin) {
+        this.restaurantId = restaurantId;
+        this.day = day;
+        this.bin = bin;
+    }
+
+    /**
+     * Gets the unique identifier of the bin.
+     *
+     * @return The bin ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the day the turns ended.
+     *
+     * @return The day
+     */
+    public LocalDate getDay() {
+        return day;
+    }
+
+    /**
+     * Gets the index of the histogram bin.
+     *
+     * @return The bin index
+     */
+    public int getBin() {
+        return bin;
+    }
+
+    /**
+     * Gets the number of turns in the bin.
+     *
+     * @return The number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+}
@@ -0,0 +1,96 @@
+package com.restaurant.restaurant.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing the covers of a reservation that has not started yet.
+ * Occupancy analytics records the covers once the reservation starts; until
+ * then the row follows modifications and is dropped on cancellation.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "pending_reservation_covers")
+public class PendingReservationCovers {
+
+    /** ID of the reservation */
+    @Id
+    @Column(name = "reservation_id")
+    private String reservationId;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** Start time of the reservation */
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    /** Number of guests */
+    @Column(nullable = false)
+    private int partySize;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public PendingReservationCovers() {
+    }
+
+    /**
+     * Creates the pending covers of a reservation.
+     *
+     * @param reservationId ID of the reservation
+     * @param restaurantId ID of the restaurant
+     * @param startTime Start time of the reservation
+     * @param partySize Number of guests
+     */
+    public PendingReservationCovers(String reservationId, String restaurantId, LocalDateTime startTime,
+                                    int partySize) {
+        this.reservationId = reservationId;
+        this.restaurantId = restaurantId;
+        this.startTime = startTime;
+        this.partySize = partySize;
+    }
+
+    /**
+     * Gets the ID of the reservation.
+     *
+     * @return The reservation ID
+     */
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the start time of the reservation.
+     *
+     * @return The start time
+     */
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the number of guests.
+     *
+     * @return The party size
+     */
+    public int getPartySize() {
+        return partySize;
+    }
+}
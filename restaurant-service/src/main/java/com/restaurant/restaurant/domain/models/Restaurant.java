@@ -107,6 +107,13 @@ public class Restaurant {
     /** Active status of the restaurant */
     private boolean active = true;
 
+    /**
+     * Version of the restaurant's published changes.
+     * Maintained only by atomic increments in RestaurantRepository.
+     */
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     /** Set of tables in the restaurant */
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<RestaurantTable> tables = new HashSet<>();
@@ -681,6 +688,15 @@ public class Restaurant {
         return updatedAt;
     }
 
+    /**
+     * Gets the version of the restaurant's published changes.
+     *
+     * @return The change version, 0 if no change was published yet
+     */
+    public long getChangeVersion() {
+        return changeVersion != null ? changeVersion : 0;
+    }
+
     /**
      * Gets the ID of the restaurant owner.
      *
@@ -1,5 +1,7 @@
 package com.restaurant.restaurant.domain.models;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -50,6 +52,9 @@ public class RestaurantTable {
     @Column(nullable = false)
     private String status;
 
+    /** Time the table last became occupied, or null when it is not occupied */
+    private LocalDateTime occupiedSince;
+
     /** Location of the table (INDOOR, OUTDOOR, PRIVATE_ROOM, etc.) */
     private String location;
 
@@ -184,6 +189,24 @@ public class RestaurantTable {
         this.status = status;
     }
 
+    /**
+     * Gets the time the table last became occupied.
+     *
+     * @return The time the table became occupied, or null when it is not occupied
+     */
+    public LocalDateTime getOccupiedSince() {
+        return occupiedSince;
+    }
+
+    /**
+     * Sets the time the table last became occupied.
+     *
+     * @param occupiedSince The time the table became occupied, or null when it is not occupied
+     */
+    public void setOccupiedSince(LocalDateTime occupiedSince) {
+        this.occupiedSince = occupiedSince;
+    }
+
     /**
      * Gets the location of the table.
      *
@@ -0,0 +1,191 @@
+package com.restaurant.restaurant.domain.models;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entity class representing a restaurant's closure or special hours on a date.
+ * Date schedules are owned by the reservation service; these rows are a copy
+ * of the dates whose schedule overrides the regular operating hours. Each
+ * override is optional: a null value leaves the regular hours in effect.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "schedule_overrides",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"restaurant_id", "date"}))
+public class ScheduleOverride {
+
+    /** Unique identifier for the override */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** Date the override applies to */
+    @Column(nullable = false)
+    private LocalDate date;
+
+    /** Whether the restaurant is closed on the date, or null if the regular hours decide */
+    private Boolean closed;
+
+    /** Opening time on the date, or null if the regular hours decide */
+    private LocalTime openTime;
+
+    /** Closing time on the date, or null if the regular hours decide */
+    private LocalTime closeTime;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public ScheduleOverride() {
+    }
+
+    /**
+     * Creates an empty override of a restaurant's hours on a date.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param date Date the override applies to
+     */
+    public ScheduleOverride(String restaurantId, LocalDate date) {
+        this.restaurantId = restaurantId;
+        this.date = date;
+    }
+
+    /**
+     * Checks whether the restaurant is open at a time on the date.
+     * Overridden opening and closing times replace the regular ones; a
+     * break in the regular hours no longer applies once either is replaced.
+     *
+     * @param hours The regular operating hours for the day of the week, or null if there are none
+     * @param time The time to check
+     * @return true if the restaurant is open at the time
+     */
+    public boolean isOpenAt(OperatingHours hours, LocalTime time) {
+        if (Boolean.TRUE.equals(closed)) {
+            return false;
+        }
+        if (openTime == null && closeTime == null) {
+            return hours != null && hours.isOpenAt(time);
+        }
+        LocalTime open = openTime;
+        LocalTime close = closeTime;
+        if (hours != null && !hours.isClosed()) {
+            open = open != null ? open : hours.getOpenTime();
+            close = close != null ? close : hours.getCloseTime();
+        }
+        return open != null && close != null && !time.isBefore(open) && time.isBefore(close);
+    }
+
+    /**
+     * Gets the closing time on the date.
+     *
+     * @param hours The regular operating hours for the day of the week, or null if there are none
+     * @return The closing time, or null if it is unknown
+     */
+    public LocalTime getCloseTime(OperatingHours hours) {
+        return closeTime != null ? closeTime : hours != null ? hours.getCloseTime() : null;
+    }
+
+    /**
+     * Checks whether the override no longer changes anything.
+     *
+     * @return true if the regular hours decide everything on the date
+     */
+    public boolean isEmpty() {
+        return closed == null && openTime == null && closeTime == null;
+    }
+
+    /**
+     * Gets the unique identifier of the override.
+     *
+     * @return The override ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the date the override applies to.
+     *
+     * @return The date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Gets whether the restaurant is closed on the date.
+     *
+     * @return The closure override, or null if the regular hours decide
+     */
+    public Boolean getClosed() {
+        return closed;
+    }
+
+    /**
+     * Sets whether the restaurant is closed on the date.
+     *
+     * @param closed The closure override, or null if the regular hours decide
+     */
+    public void setClosed(Boolean closed) {
+        this.closed = closed;
+    }
+
+    /**
+     * Gets the opening time on the date.
+     *
+     * @return The opening time, or null if the regular hours decide
+     */
+    public LocalTime getOpenTime() {
+        return openTime;
+    }
+
+    /**
+     * Sets the opening time on the date.
+     *
+     * @param openTime The opening time, or null if the regular hours decide
+     */
+    public void setOpenTime(LocalTime openTime) {
+        this.openTime = openTime;
+    }
+
+    /**
+     * Gets the closing time on the date.
+     *
+     * @return The closing time, or null if the regular hours decide
+     */
+    public LocalTime getCloseTime() {
+        return closeTime;
+    }
+
+    /**
+     * Sets the closing time on the date.
+     *
+     * @param closeTime The closing time, or null if the regular hours decide
+     */
+    public void setCloseTime(LocalTime closeTime) {
+        this.closeTime = closeTime;
+    }
+}
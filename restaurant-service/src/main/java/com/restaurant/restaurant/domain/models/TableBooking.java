@@ -0,0 +1,127 @@
+package com.restaurant.restaurant.domain.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing the session during which a reservation holds a table.
+ * Reservations are owned by the reservation service; these rows are a copy of
+ * the bookings of active reservations, one per assigned table, kept so that
+ * availability searches can tell which tables are free at a requested time.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "table_bookings")
+public class TableBooking {
+
+    /** Unique identifier for the booking */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    /** ID of the reservation */
+    @Column(name = "reservation_id", nullable = false)
+    private String reservationId;
+
+    /** ID of the restaurant */
+    @Column(name = "restaurant_id", nullable = false)
+    private String restaurantId;
+
+    /** ID of the booked table */
+    @Column(name = "table_id", nullable = false)
+    private String tableId;
+
+    /** Start of the reservation session */
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    /** End of the reservation session */
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public TableBooking() {
+    }
+
+    /**
+     * Creates the booking of a table by a reservation.
+     *
+     * @param reservationId ID of the reservation
+     * @param restaurantId ID of the restaurant
+     * @param tableId ID of the booked table
+     * @param startTime Start of the reservation session
+     * @param endTime End of the reservation session
+     */
+    public TableBooking(String reservationId, String restaurantId, String tableId, LocalDateTime startTime,
+                        LocalDateTime endTime) {
+        this.reservationId = reservationId;
+        this.restaurantId = restaurantId;
+        this.tableId = tableId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Gets the unique identifier of the booking.
+     *
+     * @return The booking ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the reservation.
+     *
+     * @return The reservation ID
+     */
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Gets the ID of the booked table.
+     *
+     * @return The table ID
+     */
+    public String getTableId() {
+        return tableId;
+    }
+
+    /**
+     * Gets the start of the reservation session.
+     *
+     * @return The start time
+     */
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the end of the reservation session.
+     *
+     * @return The end time
+     */
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+}
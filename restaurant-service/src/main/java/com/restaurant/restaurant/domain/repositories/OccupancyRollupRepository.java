@@ -0,0 +1,105 @@
+package com.restaurant.restaurant.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.restaurant.restaurant.domain.models.OccupancyRollup;
+
+/**
+ * Repository interface for hourly and daily occupancy rollups.
+ * This interface provides:
+ * - Existence checks before an empty rollup is inserted
+ * - Atomic increments of an existing rollup
+ * - Range reads for occupancy reports
+ * - Removal of rollups past their retention
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface OccupancyRollupRepository extends JpaRepository<OccupancyRollup, String> {
+
+    /**
+     * Checks whether a rollup exists.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param resolution The resolution of the bucket
+     * @param bucketStart The start of the bucket
+     * @return true if the rollup exists
+     */
+    boolean existsByRestaurantIdAndResolutionAndBucketStart(String restaurantId, String resolution,
+                                                            LocalDateTime bucketStart);
+
+    /**
+     * Atomically adds counts to an existing rollup, keeping the higher peak.
+     * Runs as a single UPDATE so several instances can add to the same bucket.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param resolution The resolution of the bucket
+     * @param bucketStart The start of the bucket
+     * @param samples Number of occupancy samples to add
+     * @param occupiedSum Sum of occupied tables to add
+     * @param tableSum Sum of total tables to add
+     * @param peakOccupied Peak of occupied tables to merge
+     * @param covers Number of guests to add
+     * @param reservations Number of reservations to add
+     * @param turns Number of table turns to add
+     * @param turnMinutes Turn minutes to add
+     * @return Number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OccupancyRollup r SET r.samples = r.samples + :samples, " +
+           "r.occupiedSum = r.occupiedSum + :occupiedSum, r.tableSum = r.tableSum + :tableSum, " +
+           "r.peakOccupied = CASE WHEN r.peakOccupied < :peakOccupied THEN :peakOccupied ELSE r.peakOccupied END, " +
+           "r.covers = r.covers + :covers, r.reservations = r.reservations + :reservations, " +
+           "r.turns = r.turns + :turns, r.turnMinutes = r.turnMinutes + :turnMinutes " +
+           "WHERE r.restaurantId = :restaurantId AND r.resolution = :resolution AND r.bucketStart = :bucketStart")
+    int addToRollup(@Param("restaurantId") String restaurantId,
+                    @Param("resolution") String resolution,
+                    @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("samples") int samples,
+                    @Param("occupiedSum") long occupiedSum,
+                    @Param("tableSum") long tableSum,
+                    @Param("peakOccupied") int peakOccupied,
+                    @Param("covers") int covers,
+                    @Param("reservations") int reservations,
+                    @Param("turns") int turns,
+                    @Param("turnMinutes") long turnMinutes);
+
+    /**
+     * Finds the rollups of a restaurant and resolution starting in a time range.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param resolution The resolution of the buckets
+     * @param from The earliest bucket start (inclusive)
+     * @param to The latest bucket start (exclusive)
+     * @return Rollups, oldest first
+     */
+    @Query("SELECT r FROM OccupancyRollup r WHERE r.restaurantId = :restaurantId " +
+           "AND r.resolution = :resolution AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart")
+    List<OccupancyRollup> findRange(@Param("restaurantId") String restaurantId,
+                                    @Param("resolution") String resolution,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    /**
+     * Deletes the rollups of a resolution starting before a time.
+     *
+     * @param resolution The resolution of the buckets
+     * @param before The earliest bucket start to keep
+     * @return Number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OccupancyRollup r WHERE r.resolution = :resolution AND r.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") String resolution, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,76 @@
+package com.restaurant.restaurant.domain.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.restaurant.restaurant.domain.models.OccupancyTurnBin;
+
+/**
+ * Repository interface for daily turn-time histogram bins.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface OccupancyTurnBinRepository extends JpaRepository<OccupancyTurnBin, String> {
+
+    /**
+     * Checks whether a histogram bin exists.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param day The day the turns ended
+     * @param bin The index of the histogram bin
+     * @return true if the bin exists
+     */
+    boolean existsByRestaurantIdAndDayAndBin(String restaurantId, LocalDate day, int bin);
+
+    /**
+     * Atomically adds turns to an existing histogram bin.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param day The day the turns ended
+     * @param bin The index of the histogram bin
+     * @param turns Number of turns to add
+     * @return Number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OccupancyTurnBin b SET b.turns = b.turns + :turns " +
+           "WHERE b.restaurantId = :restaurantId AND b.day = :day AND b.bin = :bin")
+    int addTurns(@Param("restaurantId") String restaurantId,
+                 @Param("day") LocalDate day,
+                 @Param("bin") int bin,
+                 @Param("turns") int turns);
+
+    /**
+     * Sums the turns of a restaurant per histogram bin over a range of days.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param from The first day (inclusive)
+     * @param to The last day (inclusive)
+     * @return Rows of [bin, turns]
+     */
+    @Query("SELECT b.bin, SUM(b.turns) FROM OccupancyTurnBin b WHERE b.restaurantId = :restaurantId " +
+           "AND b.day >= :from AND b.day <= :to GROUP BY b.bin")
+    List<Object[]> sumByBin(@Param("restaurantId") String restaurantId,
+                            @Param("from") LocalDate from,
+                            @Param("to") LocalDate to);
+
+    /**
+     * Deletes the histogram bins of days before a date.
+     *
+     * @param before The earliest day to keep
+     * @return Number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OccupancyTurnBin b WHERE b.day < :before")
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
@@ -1,6 +1,7 @@
 package com.restaurant.restaurant.domain.repositories;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,14 @@ public interface OperatingHoursRepository extends JpaRepository<OperatingHours,
      * @return List of operating hours for the restaurant
      */
     List<OperatingHours> findByRestaurantId(String restaurantId);
+
+    /**
+     * Finds all operating hours of several restaurants.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @return List of operating hours for the restaurants
+     */
+    List<OperatingHours> findByRestaurantIdIn(Collection<String> restaurantIds);
     
     /**
      * Finds operating hours for a specific day of the week at a restaurant.
@@ -41,4 +50,13 @@ public interface OperatingHoursRepository extends JpaRepository<OperatingHours,
      * @return Optional containing the operating hours if found
      */
     Optional<OperatingHours> findByRestaurantIdAndDayOfWeek(String restaurantId, DayOfWeek dayOfWeek);
+
+    /**
+     * Finds operating hours for a specific day of the week across several restaurants.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @param dayOfWeek The day of the week to find hours for
+     * @return List of operating hours for the restaurants on that day
+     */
+    List<OperatingHours> findByRestaurantIdInAndDayOfWeek(Collection<String> restaurantIds, DayOfWeek dayOfWeek);
 }
\ No newline at end of file
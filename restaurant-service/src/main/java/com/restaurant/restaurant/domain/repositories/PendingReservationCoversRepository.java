@@ -0,0 +1,60 @@
+package com.restaurant.restaurant.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.restaurant.restaurant.domain.models.PendingReservationCovers;
+
+/**
+ * Repository interface for covers of reservations that have not started yet.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface PendingReservationCoversRepository extends JpaRepository<PendingReservationCovers, String> {
+
+    /**
+     * Finds pending covers of reservations that have started.
+     *
+     * @param time The current time
+     * @return Pending covers starting at or before the time
+     */
+    List<PendingReservationCovers> findByStartTimeLessThanEqual(LocalDateTime time);
+
+    /**
+     * Moves or resizes the pending covers of a reservation.
+     *
+     * @param reservationId The ID of the reservation
+     * @param startTime The new start time, or null when unchanged
+     * @param partySize The new number of guests, or 0 when unchanged
+     * @return Number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingReservationCovers p SET p.startTime = COALESCE(:startTime, p.startTime), " +
+           "p.partySize = CASE WHEN :partySize > 0 THEN :partySize ELSE p.partySize END " +
+           "WHERE p.reservationId = :reservationId")
+    int updatePending(@Param("reservationId") String reservationId,
+                      @Param("startTime") LocalDateTime startTime,
+                      @Param("partySize") int partySize);
+
+    /**
+     * Deletes the pending covers of a reservation.
+     * Only one caller sees a deleted row, so this also claims covers for recording.
+     *
+     * @param reservationId The ID of the reservation
+     * @return Number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PendingReservationCovers p WHERE p.reservationId = :reservationId")
+    int deletePending(@Param("reservationId") String reservationId);
+}
@@ -5,9 +5,11 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.restaurant.restaurant.domain.models.Restaurant;
 
@@ -29,6 +31,14 @@ import com.restaurant.restaurant.domain.models.Restaurant;
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, String> {
 
+    /** Keyword, cuisine type and city predicates shared by the search queries */
+    String SEARCH_PREDICATES =
+           "(:keyword IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(r.cuisineType) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(r.city) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "(:cuisineType IS NULL OR LOWER(r.cuisineType) = LOWER(:cuisineType)) AND " +
+           "(:city IS NULL OR LOWER(r.city) = LOWER(:city))";
+
     /**
      * Finds all active restaurants in the system.
      *
@@ -58,31 +68,140 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, String>
      * - Restaurant name
      * - Cuisine type
      * - City
+     * Cuisine type and city filters are case-insensitive exact matches.
+     * Every parameter is optional; a null parameter disables the corresponding predicate.
      *
      * @param keyword The search term
+     * @param cuisineType Cuisine type to match
+     * @param city City to match
      * @param pageable Pagination information
      * @return Page of matching restaurants
      */
-    @Query("SELECT r FROM Restaurant r WHERE r.active = true AND " +
-           "(LOWER(r.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.cuisineType) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.city) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Restaurant> searchRestaurants(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT r FROM Restaurant r WHERE r.active = true AND " + SEARCH_PREDICATES)
+    Page<Restaurant> searchRestaurants(@Param("keyword") String keyword,
+                                       @Param("cuisineType") String cuisineType,
+                                       @Param("city") String city,
+                                       Pageable pageable);
+
+    /**
+     * Counts the restaurants matching a search per cuisine type and city.
+     * Takes the same parameters as {@link #searchRestaurants}.
+     *
+     * @param keyword The search term
+     * @param cuisineType Cuisine type to match
+     * @param city City to match
+     * @return Rows of [cuisine type, city, count]
+     */
+    @Query("SELECT r.cuisineType, r.city, COUNT(r) FROM Restaurant r WHERE r.active = true AND " +
+           SEARCH_PREDICATES + " GROUP BY r.cuisineType, r.city")
+    List<Object[]> countSearchFacets(@Param("keyword") String keyword,
+                                     @Param("cuisineType") String cuisineType,
+                                     @Param("city") String city);
     
     /**
-     * Finds restaurants within a specified distance from given coordinates.
-     * This method uses PostGIS spatial functions to calculate distances
-     * between geographic points.
+     * Searches active restaurants for reservation search requests.
+     * Every filter is optional; a null parameter disables the corresponding predicate.
+     * Location searches are narrowed with a latitude/longitude bounding box, which
+     * the coordinate columns can serve, and then checked exactly with the haversine
+     * formula: a row is within the radius when its haversine term does not exceed
+     * {@code sin²(distance / 2R)}, which the caller passes as {@code maxHaversine}.
+     * Pages and totals therefore only count restaurants inside the radius.
+     *
+     * @param name Partial restaurant name to match, case-insensitive
+     * @param cuisineType Cuisine type to match exactly, case-insensitive
+     * @param city City to match exactly, case-insensitive
+     * @param minLatitude Southern edge of the bounding box
+     * @param maxLatitude Northern edge of the bounding box
+     * @param minLongitude Western edge of the bounding box
+     * @param maxLongitude Eastern edge of the bounding box
+     * @param latitude Latitude of the search center
+     * @param longitude Longitude of the search center
+     * @param maxHaversine Largest haversine term within the search radius
+     * @param minCapacity Minimum total seating capacity
+     * @param pageable Pagination information
+     * @return Page of matching restaurants
+     */
+    @Query("SELECT r FROM Restaurant r WHERE r.active = true AND " +
+           "(:name IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
+           "(:cuisineType IS NULL OR LOWER(r.cuisineType) = LOWER(:cuisineType)) AND " +
+           "(:city IS NULL OR LOWER(r.city) = LOWER(:city)) AND " +
+           "(:minLatitude IS NULL OR r.latitude BETWEEN :minLatitude AND :maxLatitude) AND " +
+           "(:minLongitude IS NULL OR r.longitude BETWEEN :minLongitude AND :maxLongitude) AND " +
+           "(:maxHaversine IS NULL OR " +
+           "POWER(SIN(RADIANS(r.latitude - :latitude) / 2), 2) + " +
+           "COS(RADIANS(:latitude)) * COS(RADIANS(r.latitude)) * " +
+           "POWER(SIN(RADIANS(r.longitude - :longitude) / 2), 2) <= :maxHaversine) AND " +
+           "(:minCapacity IS NULL OR r.totalCapacity >= :minCapacity)")
+    Page<Restaurant> searchForReservation(@Param("name") String name,
+                                          @Param("cuisineType") String cuisineType,
+                                          @Param("city") String city,
+                                          @Param("minLatitude") Double minLatitude,
+                                          @Param("maxLatitude") Double maxLatitude,
+                                          @Param("minLongitude") Double minLongitude,
+                                          @Param("maxLongitude") Double maxLongitude,
+                                          @Param("latitude") Double latitude,
+                                          @Param("longitude") Double longitude,
+                                          @Param("maxHaversine") Double maxHaversine,
+                                          @Param("minCapacity") Integer minCapacity,
+                                          Pageable pageable);
+
+    /**
+     * Atomically adds a delta to a restaurant's total capacity, never going below zero.
+     * Runs as a single UPDATE so concurrent table changes cannot lose increments.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param delta The number of seats to add (negative to remove)
+     * @return Number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.totalCapacity = " +
+           "CASE WHEN r.totalCapacity + :delta < 0 THEN 0 ELSE r.totalCapacity + :delta END " +
+           "WHERE r.id = :restaurantId")
+    int adjustTotalCapacity(@Param("restaurantId") String restaurantId, @Param("delta") int delta);
+
+    /**
+     * Reads the total capacity of every restaurant.
+     *
+     * @return Rows of [restaurant ID, total capacity]
+     */
+    @Query("SELECT r.id, r.totalCapacity FROM Restaurant r")
+    List<Object[]> findTotalCapacities();
+
+    /**
+     * Replaces a restaurant's total capacity if it still has an expected value.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param expected The total capacity the caller read
+     * @param capacity The new total capacity
+     * @return Number of updated rows, 0 if the capacity changed in the meantime
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.totalCapacity = :capacity " +
+           "WHERE r.id = :restaurantId AND r.totalCapacity = :expected")
+    int replaceTotalCapacity(@Param("restaurantId") String restaurantId,
+                             @Param("expected") int expected,
+                             @Param("capacity") int capacity);
+
+    /**
+     * Atomically increments a restaurant's change version.
+     * The row stays locked until the transaction ends, so concurrent changes
+     * of the same restaurant receive distinct, ordered versions.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.changeVersion = COALESCE(r.changeVersion, 0) + 1 WHERE r.id = :restaurantId")
+    int incrementChangeVersion(@Param("restaurantId") String restaurantId);
+
+    /**
+     * Reads a restaurant's current change version from the database.
      *
-     * @param latitude The latitude coordinate of the search center
-     * @param longitude The longitude coordinate of the search center
-     * @param distanceInMeters The maximum distance in meters from the search center
-     * @return List of restaurants within the specified distance
+     * @param restaurantId The ID of the restaurant
+     * @return The change version, or null if none was published yet
      */
-    @Query(value = "SELECT * FROM restaurants r WHERE active = true AND " +
-                  "ST_DistanceSphere(location, ST_MakePoint(:longitude, :latitude)) <= :distance", 
-           nativeQuery = true)
-    List<Restaurant> findNearbyRestaurants(@Param("latitude") double latitude, 
-                                          @Param("longitude") double longitude, 
-                                          @Param("distance") double distanceInMeters);
-}
\ No newline at end of file
+    @Query("SELECT r.changeVersion FROM Restaurant r WHERE r.id = :restaurantId")
+    Long findChangeVersion(@Param("restaurantId") String restaurantId);
+}
@@ -1,5 +1,6 @@
 package com.restaurant.restaurant.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +16,7 @@ import com.restaurant.restaurant.domain.models.RestaurantTable;
  * This interface provides:
  * - CRUD operations through JpaRepository
  * - Custom queries for finding tables by restaurant
- * - Status-based table filtering
+ * - Status-based table filtering and counting
  * - Capacity-based table search
  * - Table number lookup
  * 
@@ -44,6 +45,43 @@ public interface RestaurantTableRepository extends JpaRepository<RestaurantTable
      * @return List of tables with the specified status
      */
     List<RestaurantTable> findByRestaurantIdAndStatus(String restaurantId, String status);
+
+    /**
+     * Finds active tables across several restaurants.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @return List of active tables
+     */
+    List<RestaurantTable> findByRestaurantIdInAndActiveTrue(Collection<String> restaurantIds);
+
+    /**
+     * Counts tables and sums their seats grouped by restaurant and status.
+     * Each row contains the restaurant ID, the status, the table count and the seat count.
+     *
+     * @return Table and seat counts per restaurant and status
+     */
+    @Query("SELECT t.restaurant.id, t.status, COUNT(t), SUM(t.capacity) FROM RestaurantTable t " +
+           "GROUP BY t.restaurant.id, t.status")
+    List<Object[]> countByRestaurantAndStatus();
+
+    /**
+     * Sums the seats of all tables per restaurant, regardless of status.
+     *
+     * @return Rows of [restaurant ID, seats]
+     */
+    @Query("SELECT t.restaurant.id, SUM(t.capacity) FROM RestaurantTable t GROUP BY t.restaurant.id")
+    List<Object[]> sumCapacityByRestaurant();
+
+    /**
+     * Counts the tables of a restaurant and sums their seats grouped by status.
+     * Each row contains the status, the table count and the seat count.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Table and seat counts per status
+     */
+    @Query("SELECT t.status, COUNT(t), SUM(t.capacity) FROM RestaurantTable t " +
+           "WHERE t.restaurant.id = :restaurantId GROUP BY t.status")
+    List<Object[]> countByStatusForRestaurant(@Param("restaurantId") String restaurantId);
     
     /**
      * Finds tables within a specific capacity range at a restaurant.
@@ -0,0 +1,52 @@
+package com.restaurant.restaurant.domain.repositories;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.restaurant.domain.models.ScheduleOverride;
+
+/**
+ * Repository interface for closures and special hours on specific dates.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface ScheduleOverrideRepository extends JpaRepository<ScheduleOverride, String> {
+
+    /**
+     * Finds the override of a restaurant's hours on a date.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date
+     * @return Optional containing the override if one exists
+     */
+    Optional<ScheduleOverride> findByRestaurantIdAndDate(String restaurantId, LocalDate date);
+
+    /**
+     * Finds the overrides of several restaurants' hours on a date.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @param date The date
+     * @return Overrides on the date
+     */
+    List<ScheduleOverride> findByRestaurantIdInAndDate(Collection<String> restaurantIds, LocalDate date);
+
+    /**
+     * Deletes overrides for dates before a date.
+     *
+     * @param date The cutoff date
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduleOverride o WHERE o.date < :date")
+    int deleteBefore(@Param("date") LocalDate date);
+}
@@ -0,0 +1,58 @@
+package com.restaurant.restaurant.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurant.restaurant.domain.models.TableBooking;
+
+/**
+ * Repository interface for the table bookings of active reservations.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface TableBookingRepository extends JpaRepository<TableBooking, String> {
+
+    /**
+     * Finds the IDs of the tables of several restaurants that are booked
+     * during any part of a time range.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @param start The start of the range
+     * @param end The end of the range
+     * @return IDs of the booked tables
+     */
+    @Query("SELECT DISTINCT b.tableId FROM TableBooking b WHERE b.restaurantId IN :restaurantIds " +
+           "AND b.startTime < :end AND b.endTime > :start")
+    List<String> findBookedTableIds(@Param("restaurantIds") Collection<String> restaurantIds,
+                                    @Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end);
+
+    /**
+     * Deletes the table bookings of a reservation.
+     *
+     * @param reservationId The ID of the reservation
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM TableBooking b WHERE b.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") String reservationId);
+
+    /**
+     * Deletes table bookings that ended before a time.
+     *
+     * @param time The cutoff time
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM TableBooking b WHERE b.endTime < :time")
+    int deleteEndedBefore(@Param("time") LocalDateTime time);
+}
@@ -0,0 +1,154 @@
+package com.restaurant.restaurant.dto;
+
+import java.time.LocalTime;
+
+import com.restaurant.common.dto.restaurant.RestaurantDTO;
+
+/**
+ * Data Transfer Object for a restaurant returned by an availability search.
+ * This class provides:
+ * - The restaurant details
+ * - The distance from the search location
+ * - The closing time on the requested day
+ * - The tables and seats currently free for the party
+ *
+ * Used by diners to pick a restaurant that is open and can seat their party
+ * without trying reservations one restaurant at a time.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class AvailableRestaurantDTO {
+
+    /** The restaurant details */
+    private RestaurantDTO restaurant;
+
+    /** Distance from the search location in kilometers */
+    private double distanceKm;
+
+    /** Closing time on the requested day */
+    private LocalTime closeTime;
+
+    /** Number of tables currently available */
+    private int availableTables;
+
+    /** Number of seats across the available tables */
+    private int availableSeats;
+
+    /** Whether the party can only be seated by combining tables */
+    private boolean combinedTablesRequired;
+
+    /**
+     * Default constructor for AvailableRestaurantDTO.
+     */
+    public AvailableRestaurantDTO() {
+    }
+
+    /**
+     * Gets the restaurant details.
+     *
+     * @return The restaurant details
+     */
+    public RestaurantDTO getRestaurant() {
+        return restaurant;
+    }
+
+    /**
+     * Sets the restaurant details.
+     *
+     * @param restaurant The restaurant details
+     */
+    public void setRestaurant(RestaurantDTO restaurant) {
+        this.restaurant = restaurant;
+    }
+
+    /**
+     * Gets the distance from the search location.
+     *
+     * @return The distance in kilometers
+     */
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    /**
+     * Sets the distance from the search location.
+     *
+     * @param distanceKm The distance in kilometers
+     */
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
+    /**
+     * Gets the closing time on the requested day.
+     *
+     * @return The closing time
+     */
+    public LocalTime getCloseTime() {
+        return closeTime;
+    }
+
+    /**
+     * Sets the closing time on the requested day.
+     *
+     * @param closeTime The closing time
+     */
+    public void setCloseTime(LocalTime closeTime) {
+        this.closeTime = closeTime;
+    }
+
+    /**
+     * Gets the number of tables currently available.
+     *
+     * @return The number of available tables
+     */
+    public int getAvailableTables() {
+        return availableTables;
+    }
+
+    /**
+     * Sets the number of tables currently available.
+     *
+     * @param availableTables The number of available tables
+     */
+    public void setAvailableTables(int availableTables) {
+        this.availableTables = availableTables;
+    }
+
+    /**
+     * Gets the number of seats across the available tables.
+     *
+     * @return The number of available seats
+     */
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+
+    /**
+     * Sets the number of seats across the available tables.
+     *
+     * @param availableSeats The number of available seats
+     */
+    public void setAvailableSeats(int availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+
+    /**
+     * Checks whether the party can only be seated by combining tables.
+     *
+     * @return true if no single available table fits the party
+     */
+    public boolean isCombinedTablesRequired() {
+        return combinedTablesRequired;
+    }
+
+    /**
+     * Sets whether the party can only be seated by combining tables.
+     *
+     * @param combinedTablesRequired true if no single available table fits the party
+     */
+    public void setCombinedTablesRequired(boolean combinedTablesRequired) {
+        this.combinedTablesRequired = combinedTablesRequired;
+    }
+}
@@ -0,0 +1,61 @@
+package com.restaurant.restaurant.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for importing a restaurant's complete floor plan.
+ * This class provides:
+ * - The full list of tables the restaurant should have
+ * - Control over whether tables missing from the list are removed
+ *
+ * Tables are matched to existing tables by table number. Used to replace
+ * many individual table requests with a single bulk operation.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class FloorPlanImportRequest {
+
+    /** Tables of the floor plan, identified by table number */
+    private List<TableCreateRequest> tables = new ArrayList<>();
+
+    /** Flag indicating if existing tables missing from the floor plan are removed */
+    private boolean removeMissing = true;
+
+    /**
+     * Gets the tables of the floor plan.
+     *
+     * @return List of table definitions
+     */
+    public List<TableCreateRequest> getTables() {
+        return tables;
+    }
+
+    /**
+     * Sets the tables of the floor plan.
+     *
+     * @param tables List of table definitions
+     */
+    public void setTables(List<TableCreateRequest> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Checks if existing tables missing from the floor plan are removed.
+     *
+     * @return true if missing tables are removed, false if they are kept
+     */
+    public boolean isRemoveMissing() {
+        return removeMissing;
+    }
+
+    /**
+     * Sets whether existing tables missing from the floor plan are removed.
+     *
+     * @param removeMissing true to remove missing tables, false to keep them
+     */
+    public void setRemoveMissing(boolean removeMissing) {
+        this.removeMissing = removeMissing;
+    }
+}
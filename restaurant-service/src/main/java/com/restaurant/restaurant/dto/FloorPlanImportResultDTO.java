@@ -0,0 +1,175 @@
+package com.restaurant.restaurant.dto;
+
+/**
+ * Data Transfer Object summarizing the result of a floor plan import.
+ * This class provides:
+ * - Counts of created, updated, removed and unchanged tables
+ * - The restaurant's total capacity before and after the import
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class FloorPlanImportResultDTO {
+
+    /** ID of the restaurant the floor plan was imported for */
+    private String restaurantId;
+
+    /** Number of tables created */
+    private int created;
+
+    /** Number of existing tables updated */
+    private int updated;
+
+    /** Number of existing tables removed */
+    private int removed;
+
+    /** Number of existing tables left unchanged */
+    private int unchanged;
+
+    /** Total capacity before the import */
+    private int oldCapacity;
+
+    /** Total capacity after the import */
+    private int newCapacity;
+
+    /**
+     * Default constructor for FloorPlanImportResultDTO.
+     */
+    public FloorPlanImportResultDTO() {
+    }
+
+    /**
+     * Constructor for FloorPlanImportResultDTO with the restaurant ID.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    public FloorPlanImportResultDTO(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Sets the ID of the restaurant.
+     *
+     * @param restaurantId The restaurant ID
+     */
+    public void setRestaurantId(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    /**
+     * Gets the number of tables created.
+     *
+     * @return The number of created tables
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Sets the number of tables created.
+     *
+     * @param created The number of created tables
+     */
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    /**
+     * Gets the number of existing tables updated.
+     *
+     * @return The number of updated tables
+     */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Sets the number of existing tables updated.
+     *
+     * @param updated The number of updated tables
+     */
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * Gets the number of existing tables removed.
+     *
+     * @return The number of removed tables
+     */
+    public int getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Sets the number of existing tables removed.
+     *
+     * @param removed The number of removed tables
+     */
+    public void setRemoved(int removed) {
+        this.removed = removed;
+    }
+
+    /**
+     * Gets the number of existing tables left unchanged.
+     *
+     * @return The number of unchanged tables
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Sets the number of existing tables left unchanged.
+     *
+     * @param unchanged The number of unchanged tables
+     */
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * Gets the total capacity before the import.
+     *
+     * @return The previous total capacity
+     */
+    public int getOldCapacity() {
+        return oldCapacity;
+    }
+
+    /**
+     * Sets the total capacity before the import.
+     *
+     * @param oldCapacity The previous total capacity
+     */
+    public void setOldCapacity(int oldCapacity) {
+        this.oldCapacity = oldCapacity;
+    }
+
+    /**
+     * Gets the total capacity after the import.
+     *
+     * @return The new total capacity
+     */
+    public int getNewCapacity() {
+        return newCapacity;
+    }
+
+    /**
+     * Sets the total capacity after the import.
+     *
+     * @param newCapacity The new total capacity
+     */
+    public void setNewCapacity(int newCapacity) {
+        this.newCapacity = newCapacity;
+    }
+}
@@ -0,0 +1,212 @@
+package com.restaurant.restaurant.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one bucket of a restaurant occupancy time series.
+ * This class provides:
+ * - Average and peak occupied tables during the bucket
+ * - Table utilization during the bucket
+ * - Covers and reservations starting in the bucket
+ * - Table turns ending in the bucket and their average length
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class OccupancyPointDTO {
+
+    /** The start of the bucket */
+    private LocalDateTime start;
+
+    /** The number of occupancy samples in the bucket */
+    private int samples;
+
+    /** The average number of occupied tables */
+    private double averageOccupiedTables;
+
+    /** The highest number of occupied tables */
+    private int peakOccupiedTables;
+
+    /** The share of tables occupied, from 0 to 1 */
+    private double utilization;
+
+    /** The number of guests of reservations starting in the bucket */
+    private int covers;
+
+    /** The number of reservations starting in the bucket */
+    private int reservations;
+
+    /** The number of table turns ending in the bucket */
+    private int turns;
+
+    /** The average length of those turns in minutes */
+    private double averageTurnMinutes;
+
+    /**
+     * Default constructor for OccupancyPointDTO.
+     */
+    public OccupancyPointDTO() {
+    }
+
+    /**
+     * Gets the start of the bucket.
+     *
+     * @return The start of the bucket
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Sets the start of the bucket.
+     *
+     * @param start The start of the bucket
+     */
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    /**
+     * Gets the number of occupancy samples in the bucket.
+     *
+     * @return The number of samples
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Sets the number of occupancy samples in the bucket.
+     *
+     * @param samples The number of samples
+     */
+    public void setSamples(int samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * Gets the average number of occupied tables.
+     *
+     * @return The average occupied tables
+     */
+    public double getAverageOccupiedTables() {
+        return averageOccupiedTables;
+    }
+
+    /**
+     * Sets the average number of occupied tables.
+     *
+     * @param averageOccupiedTables The average occupied tables
+     */
+    public void setAverageOccupiedTables(double averageOccupiedTables) {
+        this.averageOccupiedTables = averageOccupiedTables;
+    }
+
+    /**
+     * Gets the highest number of occupied tables.
+     *
+     * @return The peak occupied tables
+     */
+    public int getPeakOccupiedTables() {
+        return peakOccupiedTables;
+    }
+
+    /**
+     * Sets the highest number of occupied tables.
+     *
+     * @param peakOccupiedTables The peak occupied tables
+     */
+    public void setPeakOccupiedTables(int peakOccupiedTables) {
+        this.peakOccupiedTables = peakOccupiedTables;
+    }
+
+    /**
+     * Gets the share of tables occupied, from 0 to 1.
+     *
+     * @return The utilization
+     */
+    public double getUtilization() {
+        return utilization;
+    }
+
+    /**
+     * Sets the share of tables occupied, from 0 to 1.
+     *
+     * @param utilization The utilization
+     */
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+
+    /**
+     * Gets the number of guests of reservations starting in the bucket.
+     *
+     * @return The number of covers
+     */
+    public int getCovers() {
+        return covers;
+    }
+
+    /**
+     * Sets the number of guests of reservations starting in the bucket.
+     *
+     * @param covers The number of covers
+     */
+    public void setCovers(int covers) {
+        this.covers = covers;
+    }
+
+    /**
+     * Gets the number of reservations starting in the bucket.
+     *
+     * @return The number of reservations
+     */
+    public int getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Sets the number of reservations starting in the bucket.
+     *
+     * @param reservations The number of reservations
+     */
+    public void setReservations(int reservations) {
+        this.reservations = reservations;
+    }
+
+    /**
+     * Gets the number of table turns ending in the bucket.
+     *
+     * @return The number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Sets the number of table turns ending in the bucket.
+     *
+     * @param turns The number of turns
+     */
+    public void setTurns(int turns) {
+        this.turns = turns;
+    }
+
+    /**
+     * Gets the average length of those turns in minutes.
+     *
+     * @return The average turn length
+     */
+    public double getAverageTurnMinutes() {
+        return averageTurnMinutes;
+    }
+
+    /**
+     * Sets the average length of those turns in minutes.
+     *
+     * @param averageTurnMinutes The average turn length
+     */
+    public void setAverageTurnMinutes(double averageTurnMinutes) {
+        this.averageTurnMinutes = averageTurnMinutes;
+    }
+}
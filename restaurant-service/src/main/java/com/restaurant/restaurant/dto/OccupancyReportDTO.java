@@ -0,0 +1,341 @@
+package com.restaurant.restaurant.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a restaurant occupancy report over a time range.
+ * This class provides:
+ * - The occupancy time series at the requested resolution
+ * - Covers, reservations and turns over the whole range
+ * - Average and percentile table utilization across the buckets
+ * - Average and percentile table turn times
+ *
+ * Used by owner dashboards to show trends without querying reservation data.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class OccupancyReportDTO {
+
+    /** The ID of the restaurant */
+    private String restaurantId;
+
+    /** The bucket resolution */
+    private String resolution;
+
+    /** The start of the range */
+    private LocalDateTime from;
+
+    /** The end of the range */
+    private LocalDateTime to;
+
+    /** The buckets of the time series */
+    private List<OccupancyPointDTO> points;
+
+    /** The number of covers in the range */
+    private int totalCovers;
+
+    /** The number of reservations in the range */
+    private int totalReservations;
+
+    /** The number of table turns in the range */
+    private int totalTurns;
+
+    /** The average utilization across sampled buckets */
+    private double averageUtilization;
+
+    /** The median utilization across sampled buckets */
+    private double utilizationP50;
+
+    /** The 90th percentile utilization across sampled buckets */
+    private double utilizationP90;
+
+    /** The 99th percentile utilization across sampled buckets */
+    private double utilizationP99;
+
+    /** The average table turn time in minutes */
+    private double averageTurnMinutes;
+
+    /** The median table turn time in minutes */
+    private int turnMinutesP50;
+
+    /** The 90th percentile table turn time in minutes */
+    private int turnMinutesP90;
+
+    /**
+     * Default constructor for OccupancyReportDTO.
+     */
+    public OccupancyReportDTO() {
+    }
+
+    /**
+     * Gets the ID of the restaurant.
+     *
+     * @return The restaurant ID
+     */
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    /**
+     * Sets the ID of the restaurant.
+     *
+     * @param restaurantId The restaurant ID
+     */
+    public void setRestaurantId(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    /**
+     * Gets the bucket resolution.
+     *
+     * @return The resolution (MINUTE, HOUR or DAY)
+     */
+    public String getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Sets the bucket resolution.
+     *
+     * @param resolution The resolution (MINUTE, HOUR or DAY)
+     */
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    /**
+     * Gets the start of the range.
+     *
+     * @return The start of the range (inclusive)
+     */
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * Sets the start of the range.
+     *
+     * @param from The start of the range (inclusive)
+     */
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    /**
+     * Gets the end of the range.
+     *
+     * @return The end of the range (exclusive)
+     */
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    /**
+     * Sets the end of the range.
+     *
+     * @param to The end of the range (exclusive)
+     */
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    /**
+     * Gets the buckets of the time series.
+     *
+     * @return The buckets, oldest first
+     */
+    public List<OccupancyPointDTO> getPoints() {
+        return points;
+    }
+
+    /**
+     * Sets the buckets of the time series.
+     *
+     * @param points The buckets, oldest first
+     */
+    public void setPoints(List<OccupancyPointDTO> points) {
+        this.points = points;
+    }
+
+    /**
+     * Gets the number of covers in the range.
+     *
+     * @return The total covers
+     */
+    public int getTotalCovers() {
+        return totalCovers;
+    }
+
+    /**
+     * Sets the number of covers in the range.
+     *
+     * @param totalCovers The total covers
+     */
+    public void setTotalCovers(int totalCovers) {
+        this.totalCovers = totalCovers;
+    }
+
+    /**
+     * Gets the number of reservations in the range.
+     *
+     * @return The total reservations
+     */
+    public int getTotalReservations() {
+        return totalReservations;
+    }
+
+    /**
+     * Sets the number of reservations in the range.
+     *
+     * @param totalReservations The total reservations
+     */
+    public void setTotalReservations(int totalReservations) {
+        this.totalReservations = totalReservations;
+    }
+
+    /**
+     * Gets the number of table turns in the range.
+     *
+     * @return The total turns
+     */
+    public int getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Sets the number of table turns in the range.
+     *
+     * @param totalTurns The total turns
+     */
+    public void setTotalTurns(int totalTurns) {
+        this.totalTurns = totalTurns;
+    }
+
+    /**
+     * Gets the average utilization across sampled buckets.
+     *
+     * @return The average utilization
+     */
+    public double getAverageUtilization() {
+        return averageUtilization;
+    }
+
+    /**
+     * Sets the average utilization across sampled buckets.
+     *
+     * @param averageUtilization The average utilization
+     */
+    public void setAverageUtilization(double averageUtilization) {
+        this.averageUtilization = averageUtilization;
+    }
+
+    /**
+     * Gets the median utilization across sampled buckets.
+     *
+     * @return The 50th percentile utilization
+     */
+    public double getUtilizationP50() {
+        return utilizationP50;
+    }
+
+    /**
+     * Sets the median utilization across sampled buckets.
+     *
+     * @param utilizationP50 The 50th percentile utilization
+     */
+    public void setUtilizationP50(double utilizationP50) {
+        this.utilizationP50 = utilizationP50;
+    }
+
+    /**
+     * Gets the 90th percentile utilization across sampled buckets.
+     *
+     * @return The 90th percentile utilization
+     */
+    public double getUtilizationP90() {
+        return utilizationP90;
+    }
+
+    /**
+     * Sets the 90th percentile utilization across sampled buckets.
+     *
+     * @param utilizationP90 The 90th percentile utilization
+     */
+    public void setUtilizationP90(double utilizationP90) {
+        this.utilizationP90 = utilizationP90;
+    }
+
+    /**
+     * Gets the 99th percentile utilization across sampled buckets.
+     *
+     * @return The 99th percentile utilization
+     */
+    public double getUtilizationP99() {
+        return utilizationP99;
+    }
+
+    /**
+     * Sets the 99th percentile utilization across sampled buckets.
+     *
+     * @param utilizationP99 The 99th percentile utilization
+     */
+    public void setUtilizationP99(double utilizationP99) {
+        this.utilizationP99 = utilizationP99;
+    }
+
+    /**
+     * Gets the average table turn time in minutes.
+     *
+     * @return The average turn time
+     */
+    public double getAverageTurnMinutes() {
+        return averageTurnMinutes;
+    }
+
+    /**
+     * Sets the average table turn time in minutes.
+     *
+     * @param averageTurnMinutes The average turn time
+     */
+    public void setAverageTurnMinutes(double averageTurnMinutes) {
+        this.averageTurnMinutes = averageTurnMinutes;
+    }
+
+    /**
+     * Gets the median table turn time in minutes.
+     *
+     * @return The 50th percentile turn time
+     */
+    public int getTurnMinutesP50() {
+        return turnMinutesP50;
+    }
+
+    /**
+     * Sets the median table turn time in minutes.
+     *
+     * @param turnMinutesP50 The 50th percentile turn time
+     */
+    public void setTurnMinutesP50(int turnMinutesP50) {
+        this.turnMinutesP50 = turnMinutesP50;
+    }
+
+    /**
+     * Gets the 90th percentile table turn time in minutes.
+     *
+     * @return The 90th percentile turn time
+     */
+    public int getTurnMinutesP90() {
+        return turnMinutesP90;
+    }
+
+    /**
+     * Sets the 90th percentile table turn time in minutes.
+     *
+     * @param turnMinutesP90 The 90th percentile turn time
+     */
+    public void setTurnMinutesP90(int turnMinutesP90) {
+        this.turnMinutesP90 = turnMinutesP90;
+    }
+}
@@ -0,0 +1,102 @@
+package com.restaurant.restaurant.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for restaurant search facets.
+ * This class provides:
+ * - The total number of restaurants matching a search
+ * - Match counts grouped by cuisine type
+ * - Match counts grouped by city
+ * 
+ * Used by clients to render filter options alongside keyword search results.
+ * Facet maps are ordered by descending count.
+ * 
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class RestaurantSearchFacetsDTO {
+
+    /** Total number of restaurants matching the search */
+    private long totalMatches;
+
+    /** Number of matching restaurants per cuisine type */
+    private Map<String, Long> cuisineTypes = new LinkedHashMap<>();
+
+    /** Number of matching restaurants per city */
+    private Map<String, Long> cities = new LinkedHashMap<>();
+
+    /**
+     * Default constructor for RestaurantSearchFacetsDTO.
+     */
+    public RestaurantSearchFacetsDTO() {
+    }
+
+    /**
+     * Constructor for RestaurantSearchFacetsDTO with all facet data.
+     *
+     * @param totalMatches Total number of restaurants matching the search
+     * @param cuisineTypes Number of matching restaurants per cuisine type
+     * @param cities Number of matching restaurants per city
+     */
+    public RestaurantSearchFacetsDTO(long totalMatches, Map<String, Long> cuisineTypes, Map<String, Long> cities) {
+        this.totalMatches = totalMatches;
+        this.cuisineTypes = cuisineTypes;
+        this.cities = cities;
+    }
+
+    /**
+     * Gets the total number of restaurants matching the search.
+     *
+     * @return The total number of matches
+     */
+    public long getTotalMatches() {
+        return totalMatches;
+    }
+
+    /**
+     * Sets the total number of restaurants matching the search.
+     *
+     * @param totalMatches The total number of matches
+     */
+    public void setTotalMatches(long totalMatches) {
+        this.totalMatches = totalMatches;
+    }
+
+    /**
+     * Gets the number of matching restaurants per cuisine type.
+     *
+     * @return The cuisine type facet counts
+     */
+    public Map<String, Long> getCuisineTypes() {
+        return cuisineTypes;
+    }
+
+    /**
+     * Sets the number of matching restaurants per cuisine type.
+     *
+     * @param cuisineTypes The cuisine type facet counts
+     */
+    public void setCuisineTypes(Map<String, Long> cuisineTypes) {
+        this.cuisineTypes = cuisineTypes;
+    }
+
+    /**
+     * Gets the number of matching restaurants per city.
+     *
+     * @return The city facet counts
+     */
+    public Map<String, Long> getCities() {
+        return cities;
+    }
+
+    /**
+     * Sets the number of matching restaurants per city.
+     *
+     * @param cities The city facet counts
+     */
+    public void setCities(Map<String, Long> cities) {
+        this.cities = cities;
+    }
+}
@@ -29,6 +29,9 @@ public class RestaurantStatisticsDTO {
     /** Total seating capacity across all tables */
     private int totalCapacity;
 
+    /** Number of seats at tables currently available for reservation */
+    private int availableCapacity;
+
     /** Number of tables currently available for reservation */
     private int availableTables;
 
@@ -134,6 +137,24 @@ public class RestaurantStatisticsDTO {
         this.totalCapacity = totalCapacity;
     }
 
+    /**
+     * Gets the number of seats at tables currently available for reservation.
+     *
+     * @return The number of free seats
+     */
+    public int getAvailableCapacity() {
+        return availableCapacity;
+    }
+
+    /**
+     * Sets the number of seats at tables currently available for reservation.
+     *
+     * @param availableCapacity The number of free seats
+     */
+    public void setAvailableCapacity(int availableCapacity) {
+        this.availableCapacity = availableCapacity;
+    }
+
     /**
      * Gets the number of tables currently available for reservation.
      *
@@ -63,7 +63,11 @@ public class RestaurantUpdateRequest {
     /** Type of cuisine served at the restaurant */
     private String cuisineType;
 
-    /** Total seating capacity of the restaurant */
+    /**
+     * Total seating capacity of the restaurant.
+     * Note: This value is not used during restaurant updates. The restaurant's
+     * total capacity is maintained from the tables of the restaurant.
+     */
     private int totalCapacity;
 
     /**
@@ -0,0 +1,65 @@
+package com.restaurant.restaurant.kafka.consumers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
+import com.restaurant.restaurant.service.OperatingHoursCache;
+
+/**
+ * Kafka consumer keeping compiled operating hours current on every instance.
+ * Each instance consumes the restaurant events in a consumer group of its own,
+ * starting at the latest offset, and discards its compiled hours of a
+ * restaurant whose operating hours, breaks or active status changed, including
+ * changes made by other instances.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class OperatingHoursChangeConsumer {
+
+    /** Logger for this consumer */
+    private static final Logger logger = LoggerFactory.getLogger(OperatingHoursChangeConsumer.class);
+
+    /** Cache of compiled operating hours per restaurant */
+    private final OperatingHoursCache operatingHoursCache;
+
+    /**
+     * Constructs a new OperatingHoursChangeConsumer with required dependencies.
+     *
+     * @param operatingHoursCache Cache of compiled operating hours per restaurant
+     */
+    public OperatingHoursChangeConsumer(OperatingHoursCache operatingHoursCache) {
+        this.operatingHoursCache = operatingHoursCache;
+    }
+
+    /**
+     * Discards the compiled hours of restaurants whose hours or status changed.
+     *
+     * @param event The restaurant event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.RESTAURANT_EVENTS,
+            groupId = "${spring.kafka.consumer.group-id}-hours-${random.uuid}",
+            containerFactory = "restaurantEventKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeRestaurantEvents(Object event) {
+        if (!(event instanceof RestaurantChangedEvent changedEvent) || changedEvent.getRestaurantId() == null
+                || changedEvent.getChanges() == null) {
+            return;
+        }
+
+        boolean hoursChanged = changedEvent.hasChanged("active") || changedEvent.getChanges().keySet().stream()
+                .anyMatch(field -> field.startsWith(RestaurantChangedEvent.OPERATING_HOURS_PREFIX)
+                        || field.startsWith(RestaurantChangedEvent.BREAK_TIME_PREFIX));
+        if (hoursChanged) {
+            logger.debug("Operating hours change received for restaurant {}", changedEvent.getRestaurantId());
+            operatingHoursCache.invalidate(changedEvent.getRestaurantId());
+        }
+    }
+}
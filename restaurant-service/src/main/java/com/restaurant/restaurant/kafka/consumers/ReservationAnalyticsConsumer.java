@@ -0,0 +1,120 @@
+package com.restaurant.restaurant.kafka.consumers;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.restaurant.service.OccupancyAnalyticsService;
+
+/**
+ * Kafka consumer for reservation lifecycle events used by occupancy analytics.
+ * This consumer handles:
+ * - Reservation creation, recording covers per reservation start
+ * - Reservation modification, moving or resizing pending covers
+ * - Reservation cancellation, dropping pending covers
+ *
+ * Events are consumed with a dedicated consumer group so analytics never
+ * compete with other listeners of the reservation topics. Within the group
+ * each event reaches one instance, which writes it to the shared pending
+ * covers or rollups, so every instance reports the same figures. Uses JSON
+ * parsing for flexible event handling, like the table status consumer.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class ReservationAnalyticsConsumer {
+
+    /** Logger for reservation analytics event processing */
+    private static final Logger logger = LoggerFactory.getLogger(ReservationAnalyticsConsumer.class);
+
+    /** Service maintaining occupancy time series */
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+    /** Mapper for JSON processing with date/time support */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new ReservationAnalyticsConsumer with required dependencies.
+     *
+     * @param occupancyAnalyticsService Service maintaining occupancy time series
+     */
+    public ReservationAnalyticsConsumer(OccupancyAnalyticsService occupancyAnalyticsService) {
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Consumes reservation lifecycle events and records them for occupancy analytics.
+     *
+     * @param messageJson The JSON string containing the reservation event
+     * @param topic The topic the event was received from
+     */
+    @KafkaListener(topics = {KafkaTopics.RESERVATION_CREATE, KafkaTopics.RESERVATION_UPDATE,
+                             KafkaTopics.RESERVATION_CANCEL},
+                   containerFactory = "reservationEventKafkaListenerContainerFactory")
+    public void consumeReservationEvent(String messageJson,
+                                        @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        try {
+            JsonNode rootNode = objectMapper.readTree(messageJson);
+            String reservationId = text(rootNode, "reservationId");
+            if (reservationId == null) {
+                logger.warn("Reservation event without reservation ID on {}: {}", topic, messageJson);
+                return;
+            }
+
+            switch (topic) {
+                case KafkaTopics.RESERVATION_CREATE:
+                    occupancyAnalyticsService.recordReservationCreated(reservationId,
+                            text(rootNode, "restaurantId"),
+                            time(rootNode, "reservationTime"),
+                            rootNode.path("partySize").asInt());
+                    break;
+                case KafkaTopics.RESERVATION_UPDATE:
+                    occupancyAnalyticsService.recordReservationModified(reservationId,
+                            time(rootNode, "newTime"),
+                            rootNode.path("newPartySize").asInt());
+                    break;
+                default:
+                    occupancyAnalyticsService.recordReservationCancelled(reservationId);
+                    break;
+            }
+        } catch (Exception e) {
+            logger.error("Error processing reservation analytics event: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a text field from an event.
+     *
+     * @param node The event JSON
+     * @param field The field name
+     * @return The field value, or null when missing
+     */
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Reads a date-time field from an event.
+     *
+     * @param node The event JSON
+     * @param field The field name
+     * @return The parsed date-time, or null when missing
+     */
+    private LocalDateTime time(JsonNode node, String field) {
+        String value = text(node, field);
+        return value == null || value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+}
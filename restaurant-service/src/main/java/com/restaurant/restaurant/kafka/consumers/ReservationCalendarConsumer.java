@@ -0,0 +1,126 @@
+package com.restaurant.restaurant.kafka.consumers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.restaurant.service.ReservationCalendarService;
+
+/**
+ * Kafka consumer for the availability changes of the reservation service.
+ * This consumer handles:
+ * - Reservation booking changes, recording the tables each reservation holds
+ * - Schedule changes of a single date, recording closures and special hours
+ *
+ * Schedule changes without a date only concern the regular operating hours,
+ * which this service owns, and are ignored. Events are consumed with a
+ * dedicated consumer group, so each reaches one instance, which writes it to
+ * the shared calendar. Uses JSON parsing like the occupancy analytics consumer.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class ReservationCalendarConsumer {
+
+    /** Logger for availability change processing */
+    private static final Logger logger = LoggerFactory.getLogger(ReservationCalendarConsumer.class);
+
+    /** Service keeping the copy of the reservation calendar */
+    private final ReservationCalendarService reservationCalendarService;
+
+    /** Mapper for JSON processing */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Constructs a new ReservationCalendarConsumer with required dependencies.
+     *
+     * @param reservationCalendarService Service keeping the copy of the reservation calendar
+     */
+    public ReservationCalendarConsumer(ReservationCalendarService reservationCalendarService) {
+        this.reservationCalendarService = reservationCalendarService;
+    }
+
+    /**
+     * Consumes availability changes and applies them to the calendar.
+     *
+     * @param messageJson The JSON string containing the availability change
+     */
+    @KafkaListener(
+            topics = KafkaTopics.AVAILABILITY_CHANGES,
+            groupId = "${spring.kafka.consumer.group-id}-reservation-calendar",
+            containerFactory = "reservationEventKafkaListenerContainerFactory"
+    )
+    public void consumeAvailabilityChange(String messageJson) {
+        try {
+            JsonNode rootNode = objectMapper.readTree(messageJson);
+            String restaurantId = text(rootNode, "restaurantId");
+            if (restaurantId == null) {
+                logger.warn("Availability change without restaurant ID: {}", messageJson);
+                return;
+            }
+
+            String reservationId = text(rootNode, "reservationId");
+            if (reservationId != null) {
+                String reservationTime = text(rootNode, "reservationTime");
+                reservationCalendarService.applyBooking(reservationId, restaurantId,
+                        reservationTime != null ? LocalDateTime.parse(reservationTime) : null,
+                        rootNode.path("durationMinutes").asInt(),
+                        tableIds(rootNode),
+                        rootNode.path("active").asBoolean());
+                return;
+            }
+
+            String date = text(rootNode, "date");
+            if (date != null) {
+                JsonNode closed = rootNode.get("closed");
+                String openTime = text(rootNode, "openTime");
+                String closeTime = text(rootNode, "closeTime");
+                reservationCalendarService.applySchedule(restaurantId, LocalDate.parse(date),
+                        closed == null || closed.isNull() ? null : closed.asBoolean(),
+                        openTime != null ? LocalTime.parse(openTime) : null,
+                        closeTime != null ? LocalTime.parse(closeTime) : null);
+            }
+        } catch (Exception e) {
+            logger.error("Error processing availability change: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the assigned table IDs from a booking change.
+     *
+     * @param node The event JSON
+     * @return The table IDs, or null when missing
+     */
+    private List<String> tableIds(JsonNode node) {
+        JsonNode value = node.get("tableIds");
+        if (value == null || !value.isArray()) {
+            return null;
+        }
+        List<String> tableIds = new ArrayList<>();
+        value.forEach(tableId -> tableIds.add(tableId.asText()));
+        return tableIds;
+    }
+
+    /**
+     * Reads a text field from an event.
+     *
+     * @param node The event JSON
+     * @param field The field name
+     * @return The field value, or null when missing
+     */
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
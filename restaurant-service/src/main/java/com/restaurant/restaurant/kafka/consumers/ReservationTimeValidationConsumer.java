@@ -1,9 +1,12 @@
 package com.restaurant.restaurant.kafka.consumers;
 
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,11 +17,9 @@ import com.restaurant.common.constants.ErrorCodes;
 import com.restaurant.common.constants.KafkaTopics;
 import com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent;
 import com.restaurant.common.events.restaurant.ReservationTimeValidationResponseEvent;
-import com.restaurant.restaurant.domain.models.OperatingHours;
-import com.restaurant.restaurant.domain.models.Restaurant;
-import com.restaurant.restaurant.domain.repositories.OperatingHoursRepository;
-import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
 import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
+import com.restaurant.restaurant.service.OperatingHoursCache;
+import com.restaurant.restaurant.utils.WeeklyHoursMask;
 
 /**
  * Kafka consumer for handling reservation time validation requests.
@@ -27,11 +28,14 @@ import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
  * - Break time validation
  * - Restaurant availability checking
  * - Response event publishing
- * 
+ *
  * Processes reservation time validation requests and ensures
  * the requested time is within the restaurant's operating hours
- * and not during break times.
- * 
+ * and not during break times. Hours are checked against a compiled
+ * weekly minute mask, so valid requests need no database queries.
+ * Requests are consumed in batches: restaurants missing from the
+ * cache are loaded together, and all responses are flushed at once.
+ *
  * @author Restaurant Reservation Team
  * @version 1.0
  */
@@ -40,174 +44,134 @@ public class ReservationTimeValidationConsumer {
 
     /** Logger instance for tracking validation events */
     private static final Logger logger = LoggerFactory.getLogger(ReservationTimeValidationConsumer.class);
-    
-    /** Repository for accessing restaurant data */
-    private final RestaurantRepository restaurantRepository;
-    
-    /** Repository for accessing operating hours data */
-    private final OperatingHoursRepository operatingHoursRepository;
-    
+
+    /** Cache of compiled operating hours per restaurant */
+    private final OperatingHoursCache operatingHoursCache;
+
     /** Producer for publishing validation response events */
     private final RestaurantEventProducer restaurantEventProducer;
-    
+
     /**
      * Constructs a new ReservationTimeValidationConsumer with required dependencies.
      *
-     * @param restaurantRepository Repository for accessing restaurant data
-     * @param operatingHoursRepository Repository for accessing operating hours data
+     * @param operatingHoursCache Cache of compiled operating hours per restaurant
      * @param restaurantEventProducer Producer for publishing validation responses
      */
     public ReservationTimeValidationConsumer(
-            RestaurantRepository restaurantRepository,
-            OperatingHoursRepository operatingHoursRepository,
+            OperatingHoursCache operatingHoursCache,
             RestaurantEventProducer restaurantEventProducer) {
-        this.restaurantRepository = restaurantRepository;
-        this.operatingHoursRepository = operatingHoursRepository;
+        this.operatingHoursCache = operatingHoursCache;
         this.restaurantEventProducer = restaurantEventProducer;
     }
-    
+
     /**
-     * Consumes and processes reservation time validation requests.
-     * Validates the requested reservation time against:
+     * Consumes and processes a batch of reservation time validation requests.
+     * Validates each requested reservation time against:
      * - Restaurant existence and active status
      * - Operating hours for the specific day
      * - Break time restrictions
-     * 
-     * Publishes appropriate validation response events based on the validation result.
      *
-     * @param event The reservation time validation request event
+     * Publishes one validation response per request, all in a single flush.
+     *
+     * @param events The reservation time validation request events of one poll
      */
     @KafkaListener(
             topics = KafkaTopics.RESERVATION_TIME_VALIDATION_REQUEST,
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "restaurantKafkaListenerContainerFactory"
     )
-    public void consumeReservationTimeValidationRequest(ReservationTimeValidationRequestEvent event) {
-        logger.info("Received reservation time validation request: correlationId={}, restaurantId={}, time={}", 
-                event.getCorrelationId(), event.getRestaurantId(), event.getReservationTime());
-        
+    public void consumeReservationTimeValidationRequests(List<ReservationTimeValidationRequestEvent> events) {
+        List<ReservationTimeValidationRequestEvent> requests = events.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (requests.isEmpty()) {
+            return;
+        }
+        logger.info("Received {} reservation time validation requests", requests.size());
+
+        Set<String> restaurantIds = new HashSet<>();
+        for (ReservationTimeValidationRequestEvent event : requests) {
+            if (event.getRestaurantId() != null) {
+                restaurantIds.add(event.getRestaurantId());
+            }
+        }
+
+        List<ReservationTimeValidationResponseEvent> responses = new ArrayList<>(requests.size());
         try {
-            // Parse the reservation time
-            LocalDateTime reservationTime = LocalDateTime.parse(event.getReservationTime());
-            
-            // Check if restaurant exists and is active
-            Restaurant restaurant = restaurantRepository.findById(event.getRestaurantId()).orElse(null);
-            if (restaurant == null) {
-                sendInvalidResponse(event, "Restaurant not found");
-                return;
+            Map<String, WeeklyHoursMask> masks = operatingHoursCache.getMasks(restaurantIds);
+            for (ReservationTimeValidationRequestEvent event : requests) {
+                responses.add(validate(event, masks.get(event.getRestaurantId())));
             }
-            
-            if (!restaurant.isActive()) {
-                sendInvalidResponse(event, "Restaurant is not active", ErrorCodes.RESTAURANT_NOT_ACTIVE);
-                return;
+        } catch (Exception e) {
+            logger.error("Error loading operating hours for time validation: {}", e.getMessage(), e);
+            responses.clear();
+            for (ReservationTimeValidationRequestEvent event : requests) {
+                responses.add(invalidResponse(event, "Error processing validation request: " + e.getMessage(),
+                        ErrorCodes.INVALID_RESERVATION_TIME));
             }
-            
-            // Get day of week from reservation time
-            DayOfWeek dayOfWeek = reservationTime.getDayOfWeek();
-            
-            // Get operating hours for that day
-            OperatingHours hours = operatingHoursRepository
-                    .findByRestaurantIdAndDayOfWeek(event.getRestaurantId(), dayOfWeek)
-                    .orElse(null);
-            
+        }
+
+        restaurantEventProducer.publishReservationTimeValidationResponses(responses);
+        logger.info("Sent {} time validation responses", responses.size());
+    }
+
+    /**
+     * Validates one reservation time against the compiled hours of its restaurant.
+     *
+     * @param event The validation request event
+     * @param hours The compiled hours of the restaurant, or null if it does not exist
+     * @return The validation response
+     */
+    private ReservationTimeValidationResponseEvent validate(ReservationTimeValidationRequestEvent event,
+                                                            WeeklyHoursMask hours) {
+        try {
+            // Parse the reservation time
+            LocalDateTime reservationTime = LocalDateTime.parse(event.getReservationTime());
+
             if (hours == null) {
-                sendInvalidResponse(event, "Operating hours not found for the requested day");
-                return;
-            }
-            
-            if (hours.isClosed()) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEEE");
-                String dayName = dayOfWeek.toString();
-                sendInvalidResponse(event, 
-                        "Restaurant is closed on " + dayName, 
-                        ErrorCodes.OUTSIDE_OPERATING_HOURS);
-                return;
-            }
-            
-            // Get reservation time as LocalTime
-            LocalTime time = reservationTime.toLocalTime();
-            
-            // Check if time is within operating hours
-            boolean isWithinHours = hours.isOpenAt(time);
-            
-            if (!isWithinHours) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a");
-                String openTimeStr = hours.getOpenTime().format(formatter);
-                String closeTimeStr = hours.getCloseTime().format(formatter);
-                
-                sendInvalidResponse(event, 
-                        "Reservation time must be between " + openTimeStr + " and " + closeTimeStr, 
-                        ErrorCodes.OUTSIDE_OPERATING_HOURS);
-                return;
+                return invalidResponse(event, "Restaurant not found", ErrorCodes.INVALID_RESERVATION_TIME);
             }
-            
-            // Check for break time if applicable
-            if (hours.getBreakStartTime() != null && hours.getBreakEndTime() != null) {
-                if (time.isAfter(hours.getBreakStartTime()) && time.isBefore(hours.getBreakEndTime())) {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a");
-                    String breakStartStr = hours.getBreakStartTime().format(formatter);
-                    String breakEndStr = hours.getBreakEndTime().format(formatter);
-                    
-                    sendInvalidResponse(event, 
-                            "Restaurant is on break between " + breakStartStr + " and " + breakEndStr, 
-                            ErrorCodes.OUTSIDE_OPERATING_HOURS);
-                    return;
-                }
+
+            WeeklyHoursMask.Rejection rejection = hours.check(reservationTime.getDayOfWeek(),
+                    reservationTime.getHour() * 60 + reservationTime.getMinute());
+            if (rejection != null) {
+                return invalidResponse(event, rejection.getMessage(), rejection.getErrorCode());
             }
-            
+
             // If all checks pass, send valid response
-            sendValidResponse(event);
-            
+            logger.debug("Valid time validation response: correlationId={}", event.getCorrelationId());
+            return new ReservationTimeValidationResponseEvent(
+                    event.getRestaurantId(),
+                    event.getCorrelationId(),
+                    true // valid
+            );
+
         } catch (Exception e) {
             logger.error("Error processing reservation time validation request: {}", e.getMessage(), e);
-            sendInvalidResponse(event, "Error processing validation request: " + e.getMessage());
+            return invalidResponse(event, "Error processing validation request: " + e.getMessage(),
+                    ErrorCodes.INVALID_RESERVATION_TIME);
         }
     }
-    
-    /**
-     * Sends a valid reservation time validation response.
-     * Creates and publishes a response event indicating the requested time is valid.
-     *
-     * @param request The original validation request event
-     */
-    private void sendValidResponse(ReservationTimeValidationRequestEvent request) {
-        ReservationTimeValidationResponseEvent response = new ReservationTimeValidationResponseEvent(
-                request.getRestaurantId(),
-                request.getCorrelationId(),
-                true // valid
-        );
-        
-        restaurantEventProducer.publishReservationTimeValidationResponse(response);
-        logger.info("Sent valid time validation response: correlationId={}", request.getCorrelationId());
-    }
-    
-    /**
-     * Sends an invalid reservation time validation response with default error code.
-     *
-     * @param request The original validation request event
-     * @param errorMessage The error message describing why the time is invalid
-     */
-    private void sendInvalidResponse(ReservationTimeValidationRequestEvent request, String errorMessage) {
-        sendInvalidResponse(request, errorMessage, ErrorCodes.INVALID_RESERVATION_TIME);
-    }
-    
+
     /**
-     * Sends an invalid reservation time validation response with custom error code.
+     * Creates an invalid reservation time validation response.
      *
      * @param request The original validation request event
      * @param errorMessage The error message describing why the time is invalid
      * @param errorCode The specific error code for this validation failure
+     * @return The validation response
      */
-    private void sendInvalidResponse(ReservationTimeValidationRequestEvent request, String errorMessage, String errorCode) {
+    private ReservationTimeValidationResponseEvent invalidResponse(ReservationTimeValidationRequestEvent request,
+                                                                   String errorMessage, String errorCode) {
         ReservationTimeValidationResponseEvent response = new ReservationTimeValidationResponseEvent(
                 request.getRestaurantId(),
                 request.getCorrelationId(),
                 false // invalid
         );
         response.setErrorMessage(errorMessage);
-        
-        restaurantEventProducer.publishReservationTimeValidationResponse(response);
-        logger.info("Sent invalid time validation response: correlationId={}, error={}", 
-                request.getCorrelationId(), errorMessage);
+
+        logger.debug("Invalid time validation response: correlationId={}, code={}, error={}",
+                request.getCorrelationId(), errorCode, errorMessage);
+        return response;
     }
-}
\ No newline at end of file
+}
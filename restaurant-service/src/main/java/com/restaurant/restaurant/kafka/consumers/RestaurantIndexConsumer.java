@@ -0,0 +1,90 @@
+package com.restaurant.restaurant.kafka.consumers;
+
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.service.LocationIndex;
+import com.restaurant.restaurant.service.RestaurantSearchIndex;
+
+/**
+ * Kafka consumer keeping the in-process search and location indexes current on every instance.
+ * Each instance consumes the restaurant events in a consumer group of its own,
+ * starting at the latest offset. When a restaurant's indexed fields or active
+ * status changed, including on other instances, the committed restaurant is
+ * reloaded and indexed again, or removed if it no longer exists.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantIndexConsumer {
+
+    /** Logger for this consumer */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantIndexConsumer.class);
+
+    /** Restaurant fields held by the search or location index */
+    private static final Set<String> INDEXED_FIELDS = Set.of("name", "description", "cuisineType", "city",
+            "address", "latitude", "longitude", "active");
+
+    /** Repository used to reload changed restaurants */
+    private final RestaurantRepository restaurantRepository;
+
+    /** In-process keyword search index */
+    private final RestaurantSearchIndex searchIndex;
+
+    /** In-process spatial index */
+    private final LocationIndex locationIndex;
+
+    /**
+     * Constructs a new RestaurantIndexConsumer with required dependencies.
+     *
+     * @param restaurantRepository Repository used to reload changed restaurants
+     * @param searchIndex In-process keyword search index
+     * @param locationIndex In-process spatial index
+     */
+    public RestaurantIndexConsumer(RestaurantRepository restaurantRepository,
+                                   RestaurantSearchIndex searchIndex,
+                                   LocationIndex locationIndex) {
+        this.restaurantRepository = restaurantRepository;
+        this.searchIndex = searchIndex;
+        this.locationIndex = locationIndex;
+    }
+
+    /**
+     * Reindexes restaurants whose indexed fields changed.
+     *
+     * @param event The restaurant event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.RESTAURANT_EVENTS,
+            groupId = "${spring.kafka.consumer.group-id}-index-${random.uuid}",
+            containerFactory = "restaurantEventKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeRestaurantEvents(Object event) {
+        if (!(event instanceof RestaurantChangedEvent changedEvent) || changedEvent.getRestaurantId() == null
+                || changedEvent.getChanges() == null
+                || changedEvent.getChanges().keySet().stream().noneMatch(INDEXED_FIELDS::contains)) {
+            return;
+        }
+
+        String restaurantId = changedEvent.getRestaurantId();
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).orElse(null);
+        if (restaurant == null) {
+            searchIndex.remove(restaurantId);
+            locationIndex.removeRestaurant(restaurantId);
+        } else {
+            searchIndex.index(restaurant);
+            locationIndex.indexRestaurant(restaurant);
+        }
+        logger.debug("Reindexed restaurant {} after change to version {}", restaurantId, changedEvent.getVersion());
+    }
+}
@@ -1,5 +1,12 @@
 package com.restaurant.restaurant.kafka.consumers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -15,23 +22,25 @@ import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
 /**
  * Kafka consumer for restaurant ownership validation requests.
  * This consumer listens for ownership validation requests and checks if a user
- * is the owner of a specific restaurant.
- * 
+ * is the owner of a specific restaurant. Requests are consumed in batches: all
+ * restaurants of a poll are loaded with one query and all responses are
+ * flushed at once.
+ *
  * @author Restaurant Reservation Team
  * @version 1.0
  */
 @Component
 public class RestaurantOwnershipConsumer {
-    
+
     /** Logger for this consumer */
     private static final Logger logger = LoggerFactory.getLogger(RestaurantOwnershipConsumer.class);
-    
+
     /** Repository for restaurant data access */
     private final RestaurantRepository restaurantRepository;
-    
+
     /** Producer for sending validation responses */
     private final RestaurantEventProducer eventProducer;
-    
+
     /**
      * Constructs a new RestaurantOwnershipConsumer with required dependencies.
      *
@@ -42,61 +51,81 @@ public class RestaurantOwnershipConsumer {
         this.restaurantRepository = restaurantRepository;
         this.eventProducer = eventProducer;
     }
-    
+
     /**
-     * Listens for restaurant ownership validation requests.
-     * Checks if the specified user is the owner of the restaurant and sends a response.
+     * Listens for batches of restaurant ownership validation requests.
+     * Checks if the specified user is the owner of each restaurant and sends
+     * all responses together.
      *
-     * @param event The ownership validation request event
+     * @param events The ownership validation request events of one poll
      */
-    @KafkaListener(topics = KafkaTopics.RESTAURANT_OWNERSHIP_REQUEST, groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeOwnershipRequest(RestaurantOwnershipRequestEvent event) {
-        if (event == null || event.getCorrelationId() == null || event.getRestaurantId() == null || event.getUserId() == null) {
-            logger.error("Received null ownership request or request with null IDs");
+    @KafkaListener(
+            topics = KafkaTopics.RESTAURANT_OWNERSHIP_REQUEST,
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "restaurantOwnershipKafkaListenerContainerFactory"
+    )
+    public void consumeOwnershipRequests(List<RestaurantOwnershipRequestEvent> events) {
+        List<RestaurantOwnershipRequestEvent> requests = new ArrayList<>(events.size());
+        Set<String> restaurantIds = new HashSet<>();
+        for (RestaurantOwnershipRequestEvent event : events) {
+            if (event == null || event.getCorrelationId() == null || event.getRestaurantId() == null || event.getUserId() == null) {
+                logger.error("Received null ownership request or request with null IDs");
+                continue;
+            }
+            requests.add(event);
+            restaurantIds.add(event.getRestaurantId());
+        }
+        if (requests.isEmpty()) {
             return;
         }
-        
-        logger.info("Received restaurant ownership validation request: correlationId={}, restaurantId={}, userId={}",
-                event.getCorrelationId(), event.getRestaurantId(), event.getUserId());
-        
+        logger.info("Received {} restaurant ownership validation requests", requests.size());
+
+        List<RestaurantOwnershipResponseEvent> responses = new ArrayList<>(requests.size());
         try {
-            // Check if the user is the owner of the restaurant
-            Restaurant restaurant = restaurantRepository.findById(event.getRestaurantId()).orElse(null);
-            boolean isOwner = false;
-            
-            if (restaurant != null) {
-                isOwner = restaurant.getOwnerId().equals(event.getUserId());
+            Map<String, Restaurant> restaurants = new HashMap<>();
+            for (Restaurant restaurant : restaurantRepository.findAllById(restaurantIds)) {
+                restaurants.put(restaurant.getId(), restaurant);
             }
-            
-            // Create and send response
-            RestaurantOwnershipResponseEvent response = new RestaurantOwnershipResponseEvent(
-                    event.getRestaurantId(),
-                    event.getUserId(),
-                    event.getCorrelationId(),
-                    isOwner
-            );
-            
-            if (restaurant == null) {
-                response.setErrorMessage("Restaurant not found");
+
+            for (RestaurantOwnershipRequestEvent event : requests) {
+                // Check if the user is the owner of the restaurant
+                Restaurant restaurant = restaurants.get(event.getRestaurantId());
+                boolean isOwner = restaurant != null && event.getUserId().equals(restaurant.getOwnerId());
+
+                RestaurantOwnershipResponseEvent response = new RestaurantOwnershipResponseEvent(
+                        event.getRestaurantId(),
+                        event.getUserId(),
+                        event.getCorrelationId(),
+                        isOwner
+                );
+
+                if (restaurant == null) {
+                    response.setErrorMessage("Restaurant not found");
+                }
+                responses.add(response);
+
+                logger.debug("Restaurant ownership validation response: correlationId={}, isOwner={}",
+                        event.getCorrelationId(), isOwner);
             }
-            
-            eventProducer.publishRestaurantOwnershipResponse(response);
-            logger.info("Sent restaurant ownership validation response: correlationId={}, isOwner={}",
-                    event.getCorrelationId(), isOwner);
-            
+
         } catch (Exception e) {
-            logger.error("Error processing restaurant ownership validation request: {}", e.getMessage(), e);
-            
-            // Send error response
-            RestaurantOwnershipResponseEvent errorResponse = new RestaurantOwnershipResponseEvent(
-                    event.getRestaurantId(),
-                    event.getUserId(),
-                    event.getCorrelationId(),
-                    false
-            );
-            errorResponse.setErrorMessage("Error processing request: " + e.getMessage());
-            
-            eventProducer.publishRestaurantOwnershipResponse(errorResponse);
+            logger.error("Error processing restaurant ownership validation requests: {}", e.getMessage(), e);
+
+            // Send error responses
+            responses.clear();
+            for (RestaurantOwnershipRequestEvent event : requests) {
+                RestaurantOwnershipResponseEvent errorResponse = new RestaurantOwnershipResponseEvent(
+                        event.getRestaurantId(),
+                        event.getUserId(),
+                        event.getCorrelationId(),
+                        false
+                );
+                errorResponse.setErrorMessage("Error processing request: " + e.getMessage());
+                responses.add(errorResponse);
+            }
         }
+
+        eventProducer.publishRestaurantOwnershipResponses(responses);
+        logger.info("Sent {} restaurant ownership validation responses", responses.size());
     }
 }
@@ -0,0 +1,138 @@
+package com.restaurant.restaurant.kafka.consumers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.dto.restaurant.RestaurantDTO;
+import com.restaurant.common.events.restaurant.RestaurantSearchRequestEvent;
+import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
+import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
+import com.restaurant.restaurant.service.RestaurantService;
+
+/**
+ * Kafka consumer for processing restaurant search requests.
+ * This consumer handles:
+ * - Searching active restaurants using the request criteria
+ * - Splitting the results into pages
+ * - Publishing one response event per page as soon as it is loaded
+ * - Error handling and reporting
+ *
+ * Publishing pages individually lets the requesting service stream results
+ * to its callers without waiting for the complete result set.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantSearchRequestConsumer {
+
+    /** Logger for restaurant search request processing */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantSearchRequestConsumer.class);
+
+    /** Ordering applied to search results */
+    private static final Sort RESULT_ORDER = Sort.by(Sort.Direction.DESC, "averageRating").and(Sort.by("name"));
+
+    /** Service for restaurant search operations */
+    private final RestaurantService restaurantService;
+
+    /** Producer for publishing search response events */
+    private final RestaurantEventProducer restaurantEventProducer;
+
+    /** Default number of restaurants per response page */
+    @Value("${restaurant.search.page-size:20}")
+    private int defaultPageSize;
+
+    /** Largest page size a request is allowed to ask for */
+    @Value("${restaurant.search.max-page-size:100}")
+    private int maxPageSize;
+
+    /** Maximum number of pages published for a single request */
+    @Value("${restaurant.search.max-pages:10}")
+    private int maxPages;
+
+    /**
+     * Constructs a new RestaurantSearchRequestConsumer with required dependencies.
+     *
+     * @param restaurantService Service for restaurant search operations
+     * @param restaurantEventProducer Producer for publishing response events
+     */
+    public RestaurantSearchRequestConsumer(
+            RestaurantService restaurantService,
+            RestaurantEventProducer restaurantEventProducer) {
+        this.restaurantService = restaurantService;
+        this.restaurantEventProducer = restaurantEventProducer;
+    }
+
+    /**
+     * Consumes and processes restaurant search request events from Kafka.
+     * Pages are loaded and published one at a time until the results are
+     * exhausted or the configured page limit is reached. The final page is
+     * flagged so the requester knows the search is complete.
+     *
+     * @param event The restaurant search request event
+     */
+    @KafkaListener(
+            topics = KafkaTopics.RESTAURANT_SEARCH_REQUEST,
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "restaurantSearchKafkaListenerContainerFactory"
+    )
+    public void consumeRestaurantSearchRequest(RestaurantSearchRequestEvent event) {
+        if (event == null || event.getCorrelationId() == null) {
+            logger.error("Received null restaurant search request or request with null correlation ID");
+            return;
+        }
+
+        logger.info("Received restaurant search request: correlationId={}, restaurantId={}, name={}, cuisineType={}, city={}",
+                event.getCorrelationId(), event.getRestaurantId(), event.getRestaurantName(),
+                event.getCuisineType(), event.getCity());
+
+        int pageSize = event.getPageSize() > 0 ? Math.min(event.getPageSize(), maxPageSize) : defaultPageSize;
+
+        try {
+            int pageNumber = 0;
+            boolean lastPage;
+
+            do {
+                Page<RestaurantDTO> page = restaurantService.searchForReservation(
+                        event, PageRequest.of(pageNumber, pageSize, RESULT_ORDER));
+                int totalPages = Math.min(Math.max(page.getTotalPages(), 1), maxPages);
+                lastPage = !page.hasNext() || pageNumber + 1 >= maxPages;
+
+                RestaurantSearchResponseEvent response = new RestaurantSearchResponseEvent(
+                        page.getContent(), true, null, event.getCorrelationId());
+                response.setRestaurantId(event.getRestaurantId());
+                response.setPage(pageNumber);
+                response.setTotalPages(totalPages);
+                response.setTotalResults(page.getTotalElements());
+                response.setLastPage(lastPage);
+
+                restaurantEventProducer.publishRestaurantSearchResponse(response);
+
+                logger.debug("Sent restaurant search page: correlationId={}, page={}/{}, results={}",
+                        event.getCorrelationId(), pageNumber + 1, totalPages, page.getNumberOfElements());
+                pageNumber++;
+            } while (!lastPage);
+
+            logger.info("Completed restaurant search: correlationId={}, pages={}",
+                    event.getCorrelationId(), pageNumber);
+
+        } catch (Exception e) {
+            logger.error("Error processing restaurant search request: {}", e.getMessage(), e);
+
+            // Send error response so the requester does not wait for a timeout
+            RestaurantSearchResponseEvent errorResponse = new RestaurantSearchResponseEvent(
+                    null, false, "Error processing search request: " + e.getMessage(), event.getCorrelationId());
+            errorResponse.setRestaurantId(event.getRestaurantId());
+            errorResponse.setLastPage(true);
+
+            restaurantEventProducer.publishRestaurantSearchResponse(errorResponse);
+        }
+    }
+}
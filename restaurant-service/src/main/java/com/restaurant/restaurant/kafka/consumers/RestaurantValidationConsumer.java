@@ -1,5 +1,13 @@
 package com.restaurant.restaurant.kafka.consumers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -19,11 +27,13 @@ import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
  * - Activity status validation
  * - Validation response publishing
  * - Error handling and reporting
- * 
+ *
  * Events are consumed from the restaurant validation request topic
  * and processed to validate restaurant availability for reservations
- * and other operations.
- * 
+ * and other operations. Requests are consumed in batches: all
+ * restaurants of a poll are loaded with one query and all responses
+ * are flushed at once.
+ *
  * @author Restaurant Reservation Team
  * @version 1.0
  */
@@ -32,13 +42,13 @@ public class RestaurantValidationConsumer {
 
     /** Logger for restaurant validation request processing */
     private static final Logger logger = LoggerFactory.getLogger(RestaurantValidationConsumer.class);
-    
+
     /** Repository for restaurant data access */
     private final RestaurantRepository restaurantRepository;
-    
+
     /** Producer for publishing validation response events */
     private final RestaurantEventProducer restaurantEventProducer;
-    
+
     /**
      * Constructs a new RestaurantValidationConsumer with required dependencies.
      *
@@ -51,65 +61,99 @@ public class RestaurantValidationConsumer {
         this.restaurantRepository = restaurantRepository;
         this.restaurantEventProducer = restaurantEventProducer;
     }
-    
+
     /**
-     * Consumes and processes restaurant validation request events from Kafka.
+     * Consumes and processes a batch of restaurant validation request events from Kafka.
      * This method:
-     * - Verifies restaurant existence
-     * - Checks restaurant active status
-     * - Publishes validation response events
+     * - Loads all requested restaurants with a single query
+     * - Verifies restaurant existence and active status for each request
+     * - Publishes all validation response events in one flush
      * - Handles and reports errors
      *
-     * @param event The restaurant validation request event
+     * @param events The restaurant validation request events of one poll
      */
     @KafkaListener(
             topics = KafkaTopics.RESTAURANT_VALIDATION_REQUEST,
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "restaurantValidationKafkaListenerContainerFactory"
     )
-    public void consumeRestaurantValidationRequest(RestaurantValidationRequestEvent event) {
-        logger.info("Received restaurant validation request: correlationId={}, restaurantId={}", 
-                event.getCorrelationId(), event.getRestaurantId());
-        
+    public void consumeRestaurantValidationRequests(List<RestaurantValidationRequestEvent> events) {
+        List<RestaurantValidationRequestEvent> requests = events.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (requests.isEmpty()) {
+            return;
+        }
+        logger.info("Received {} restaurant validation requests", requests.size());
+
+        List<RestaurantValidationResponseEvent> responses = new ArrayList<>(requests.size());
         try {
-            // Check if restaurant exists and is active
-            Restaurant restaurant = restaurantRepository.findById(event.getRestaurantId()).orElse(null);
-            boolean exists = restaurant != null;
-            boolean active = exists && restaurant.isActive();
-            
-            // Create and send response
-            RestaurantValidationResponseEvent response = new RestaurantValidationResponseEvent(
-                    event.getRestaurantId(),
-                    event.getCorrelationId(),
-                    exists,
-                    active
-            );
-            
-            if (!exists) {
-                response.setErrorMessage("Restaurant not found");
-            } else if (!active) {
-                response.setErrorMessage("Restaurant is not active");
+            Map<String, Restaurant> restaurants = loadRestaurants(requests);
+
+            for (RestaurantValidationRequestEvent event : requests) {
+                // Check if restaurant exists and is active
+                Restaurant restaurant = restaurants.get(event.getRestaurantId());
+                boolean exists = restaurant != null;
+                boolean active = exists && restaurant.isActive();
+
+                RestaurantValidationResponseEvent response = new RestaurantValidationResponseEvent(
+                        event.getRestaurantId(),
+                        event.getCorrelationId(),
+                        exists,
+                        active
+                );
+
+                if (!exists) {
+                    response.setErrorMessage("Restaurant not found");
+                } else if (!active) {
+                    response.setErrorMessage("Restaurant is not active");
+                }
+                responses.add(response);
+
+                logger.debug("Restaurant validation response: correlationId={}, exists={}, active={}",
+                        event.getCorrelationId(), exists, active);
             }
-            
-            // Publish response via Kafka
-            restaurantEventProducer.publishRestaurantValidationResponse(response);
-            
-            logger.info("Sent restaurant validation response: correlationId={}, exists={}, active={}",
-                    event.getCorrelationId(), exists, active);
-            
+
         } catch (Exception e) {
-            logger.error("Error processing restaurant validation request: {}", e.getMessage(), e);
-            
-            // Send error response
-            RestaurantValidationResponseEvent errorResponse = new RestaurantValidationResponseEvent(
-                    event.getRestaurantId(),
-                    event.getCorrelationId(),
-                    false,
-                    false
-            );
-            errorResponse.setErrorMessage("Error processing validation request: " + e.getMessage());
-            
-            restaurantEventProducer.publishRestaurantValidationResponse(errorResponse);
+            logger.error("Error processing restaurant validation requests: {}", e.getMessage(), e);
+
+            // Send error responses
+            responses.clear();
+            for (RestaurantValidationRequestEvent event : requests) {
+                RestaurantValidationResponseEvent errorResponse = new RestaurantValidationResponseEvent(
+                        event.getRestaurantId(),
+                        event.getCorrelationId(),
+                        false,
+                        false
+                );
+                errorResponse.setErrorMessage("Error processing validation request: " + e.getMessage());
+                responses.add(errorResponse);
+            }
+        }
+
+        // Publish responses via Kafka
+        restaurantEventProducer.publishRestaurantValidationResponses(responses);
+        logger.info("Sent {} restaurant validation responses", responses.size());
+    }
+
+    /**
+     * Loads the restaurants referenced by a batch of requests.
+     *
+     * @param requests The validation requests
+     * @return The existing restaurants by ID
+     */
+    private Map<String, Restaurant> loadRestaurants(List<RestaurantValidationRequestEvent> requests) {
+        Set<String> restaurantIds = new HashSet<>();
+        for (RestaurantValidationRequestEvent event : requests) {
+            if (event.getRestaurantId() != null) {
+                restaurantIds.add(event.getRestaurantId());
+            }
+        }
+
+        Map<String, Restaurant> restaurants = new HashMap<>();
+        for (Restaurant restaurant : restaurantRepository.findAllById(restaurantIds)) {
+            restaurants.put(restaurant.getId(), restaurant);
         }
+        return restaurants;
     }
-}
\ No newline at end of file
+}
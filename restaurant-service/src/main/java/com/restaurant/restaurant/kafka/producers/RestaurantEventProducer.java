@@ -1,5 +1,7 @@
 package com.restaurant.restaurant.kafka.producers;
 
+import java.util.List;
+
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -8,19 +10,24 @@ import com.restaurant.common.events.BaseEvent;
 import com.restaurant.common.events.reservation.FindAvailableTableResponseEvent;
 import com.restaurant.common.events.restaurant.CapacityChangedEvent;
 import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.events.restaurant.ReservationTimeValidationResponseEvent;
 import com.restaurant.common.events.restaurant.RestaurantOwnershipResponseEvent;
+import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
 import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
 import com.restaurant.common.events.restaurant.RestaurantValidationResponseEvent;
 import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
+import com.restaurant.common.events.restaurant.TablesChangedEvent;
 
 /**
  * Kafka producer for publishing restaurant-related events.
  * This producer handles:
  * - Restaurant updates and validation events
  * - Capacity and operating hours changes
+ * - Added, updated and removed tables
  * - Table status updates and availability
  * - Reservation time validation responses
+ * - Restaurant search responses
  *
  * Events are published to specific Kafka topics for asynchronous processing
  * by other services in the system.
@@ -53,6 +60,16 @@ public class RestaurantEventProducer {
         kafkaTemplate.send(KafkaTopics.RESTAURANT_UPDATE, event.getRestaurantId(), event);
     }
 
+    /**
+     * Publishes all changes made to a restaurant in one transaction.
+     * Used to notify services about restaurant details and operating hours changes.
+     *
+     * @param event The restaurant changed event containing the field-level diff
+     */
+    public void publishRestaurantChangedEvent(RestaurantChangedEvent event) {
+        kafkaTemplate.send(KafkaTopics.RESTAURANT_EVENTS, event.getRestaurantId(), event);
+    }
+
     /**
      * Publishes an event when a restaurant's capacity changes.
      * Used to notify services about changes in seating capacity.
@@ -67,6 +84,18 @@ public class RestaurantEventProducer {
         kafkaTemplate.send(KafkaTopics.CAPACITY_CHANGE, restaurantId, event);
     }
 
+    /**
+     * Publishes an event when tables of a restaurant are added, updated or removed.
+     * Used to notify services caching table lists.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param reason Description of the change
+     */
+    public void publishTablesChangedEvent(String restaurantId, String reason) {
+        TablesChangedEvent event = new TablesChangedEvent(restaurantId, reason);
+        kafkaTemplate.send(KafkaTopics.TABLE_CHANGES, restaurantId, event);
+    }
+
     /**
      * Publishes an event when a table's status changes.
      * Used to notify services about table availability changes.
@@ -107,6 +136,19 @@ public class RestaurantEventProducer {
         kafkaTemplate.send(KafkaTopics.RESTAURANT_VALIDATION_RESPONSE, event.getCorrelationId(), event);
     }
 
+    /**
+     * Publishes the responses to a batch of restaurant validation requests
+     * and flushes them to the broker together.
+     *
+     * @param events The restaurant validation response events
+     */
+    public void publishRestaurantValidationResponses(List<RestaurantValidationResponseEvent> events) {
+        for (RestaurantValidationResponseEvent event : events) {
+            kafkaTemplate.send(KafkaTopics.RESTAURANT_VALIDATION_RESPONSE, event.getCorrelationId(), event);
+        }
+        kafkaTemplate.flush();
+    }
+
     /**
      * Publishes a response event for reservation time validation.
      * Used to confirm if a requested reservation time is valid.
@@ -117,6 +159,19 @@ public class RestaurantEventProducer {
         kafkaTemplate.send(KafkaTopics.RESERVATION_TIME_VALIDATION_RESPONSE, event.getCorrelationId(), event);
     }
 
+    /**
+     * Publishes the responses to a batch of reservation time validation
+     * requests and flushes them to the broker together.
+     *
+     * @param events The reservation time validation response events
+     */
+    public void publishReservationTimeValidationResponses(List<ReservationTimeValidationResponseEvent> events) {
+        for (ReservationTimeValidationResponseEvent event : events) {
+            kafkaTemplate.send(KafkaTopics.RESERVATION_TIME_VALIDATION_RESPONSE, event.getCorrelationId(), event);
+        }
+        kafkaTemplate.flush();
+    }
+
     /**
      * Publishes a response event for restaurant ownership validation.
      * Used to confirm if a user is the owner of a restaurant.
@@ -126,4 +181,27 @@ public class RestaurantEventProducer {
     public void publishRestaurantOwnershipResponse(RestaurantOwnershipResponseEvent event) {
         kafkaTemplate.send(KafkaTopics.RESTAURANT_OWNERSHIP_RESPONSE, event.getCorrelationId(), event);
     }
+
+    /**
+     * Publishes the responses to a batch of restaurant ownership requests
+     * and flushes them to the broker together.
+     *
+     * @param events The restaurant ownership response events
+     */
+    public void publishRestaurantOwnershipResponses(List<RestaurantOwnershipResponseEvent> events) {
+        for (RestaurantOwnershipResponseEvent event : events) {
+            kafkaTemplate.send(KafkaTopics.RESTAURANT_OWNERSHIP_RESPONSE, event.getCorrelationId(), event);
+        }
+        kafkaTemplate.flush();
+    }
+
+    /**
+     * Publishes a response event for restaurant search requests.
+     * Used to deliver one page of search results to the requesting service.
+     *
+     * @param event The restaurant search response event
+     */
+    public void publishRestaurantSearchResponse(RestaurantSearchResponseEvent event) {
+        kafkaTemplate.send(KafkaTopics.RESTAURANT_SEARCH_RESPONSE, event.getCorrelationId(), event);
+    }
 }
\ No newline at end of file
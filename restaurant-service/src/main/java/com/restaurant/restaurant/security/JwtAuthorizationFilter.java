@@ -15,7 +15,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * JWT authorization filter for processing incoming HTTP requests.
  * This filter:
  * - Extracts JWT tokens from request headers
- * - Validates tokens using JwtTokenProvider
+ * - Validates tokens using JwtTokenProvider, reusing previously verified tokens
  * - Sets authentication in SecurityContext if valid
  * 
  * Processes every incoming request exactly once to ensure
@@ -55,9 +55,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         String token = getJwtFromRequest(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (token != null) {
+            // Verifies the token once, or reuses the authentication of a token seen before
+            Authentication auth = jwtTokenProvider.authenticate(token);
+            if (auth != null) {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
 
         chain.doFilter(request, response);
@@ -1,22 +1,22 @@
 package com.restaurant.restaurant.security;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Provider class for JWT (JSON Web Token) operations.
@@ -25,9 +25,13 @@ import io.jsonwebtoken.security.Keys;
  * - Authentication extraction from tokens
  * - Token signing key management
  * - Role/authority parsing from claims
+ * - Caching of authentications from verified tokens
  *
  * Uses HMAC-SHA for token signing and validates tokens against
- * the configured secret and expiration settings.
+ * the configured secret and expiration settings. The signing key
+ * and parser are built once; each token is parsed and verified
+ * once and the immutable result reused until the token expires,
+ * with a new Authentication built for every request.
  *
  * @author Restaurant Reservation Team
  * @version 1.0
@@ -43,15 +47,58 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
+    /** Cache of authentications built from verified tokens */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /** Parser verifying tokens against the signing key; thread-safe and reused */
+    private JwtParser jwtParser;
+
     /**
-     * Creates the signing key used for JWT token validation.
-     * Uses HMAC-SHA algorithm with the configured secret key.
+     * Constructs a new JwtTokenProvider with required dependencies.
      *
-     * @return The Key object used for signing tokens
+     * @param verifiedTokenCache Cache of authentications built from verified tokens
+     */
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Creates the signing key used for JWT token validation and the parser using it.
+     * Uses HMAC-SHA algorithm with the configured secret key.
      */
-    private Key getSigningKey() {
+    @PostConstruct
+    public void initialize() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(keyBytes))
+                .build();
+    }
+
+    /**
+     * Authenticates a request token with a single parse.
+     * A token seen before is answered from the verified-token cache; otherwise
+     * it is verified once and the result cached until the token expires.
+     * Every call returns a new Authentication.
+     *
+     * @param token The JWT token string
+     * @return Authentication for the token, or null if the token is invalid or expired
+     */
+    public Authentication authenticate(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached.toAuthentication();
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        VerifiedToken verifiedToken = verify(claims);
+        verifiedTokenCache.put(token, verifiedToken, claims.getExpiration());
+        return verifiedToken.toAuthentication();
     }
 
     /**
@@ -65,12 +112,16 @@ public class JwtTokenProvider {
      * @throws JwtException if the token is invalid or expired
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(jwtParser.parseClaimsJws(token).getBody()).toAuthentication();
+    }
 
+    /**
+     * Extracts the user and authorities from verified claims.
+     *
+     * @param claims The verified token claims
+     * @return The verified token with the user ID and authorities
+     */
+    private VerifiedToken verify(Claims claims) {
         // Extract userId from the dedicated claim, fallback to subject if not present
         String userId = claims.get("userId", String.class);
         if (userId == null) {
@@ -86,7 +137,7 @@ public class JwtTokenProvider {
                     .collect(Collectors.toList());
         }
 
-        return new UsernamePasswordAuthenticationToken(userId, "", authorities);
+        return new VerifiedToken(userId, authorities);
     }
 
     /**
@@ -102,7 +153,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,65 @@
+package com.restaurant.restaurant.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Immutable result of verifying a JWT token: the ID of the user the token
+ * was issued to and the authorities it grants.
+ *
+ * Verified tokens are cached and shared between requests, so each request
+ * gets an Authentication of its own from {@link #toAuthentication()}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class VerifiedToken {
+
+    /** ID of the user the token was issued to */
+    private final String userId;
+
+    /** Authorities granted by the token */
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Constructs a verified token.
+     *
+     * @param userId ID of the user the token was issued to
+     * @param authorities Authorities granted by the token
+     */
+    public VerifiedToken(String userId, Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Builds a new Authentication for one request.
+     *
+     * @return An authenticated token with the user ID as principal
+     */
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(userId, "", authorities);
+    }
+
+    /**
+     * Gets the ID of the user the token was issued to.
+     *
+     * @return The user ID
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the authorities granted by the token.
+     *
+     * @return The unmodifiable authorities
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
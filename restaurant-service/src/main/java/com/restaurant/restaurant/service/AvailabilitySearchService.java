@@ -0,0 +1,285 @@
+package com.restaurant.restaurant.service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.constants.StatusCodes;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.domain.models.OperatingHours;
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.models.RestaurantTable;
+import com.restaurant.restaurant.domain.models.ScheduleOverride;
+import com.restaurant.restaurant.domain.repositories.OperatingHoursRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantTableRepository;
+import com.restaurant.restaurant.domain.repositories.ScheduleOverrideRepository;
+import com.restaurant.restaurant.domain.repositories.TableBookingRepository;
+import com.restaurant.restaurant.dto.AvailableRestaurantDTO;
+import com.restaurant.restaurant.utils.GeoPointIndex.Neighbor;
+
+/**
+ * Service answering "available near me" searches.
+ * This service combines, in one pass:
+ * - Spatial candidate selection from the in-process location index
+ * - An opening check for the requested date and time, using the regular
+ *   operating hours and the closures and special hours of the date
+ * - A table availability probe for the requested party size over a
+ *   reservation session starting at the requested time
+ *
+ * Date overrides and table bookings come from the copy of the reservation
+ * service's calendar kept by {@link ReservationCalendarService}. A table is
+ * free if no active reservation holds it during the session. Walk-ins and
+ * maintenance are only known from a table's current status, which is taken
+ * into account when the session starts within one session length from now.
+ * The reservation service confirms availability when the booking is made.
+ * Requested times in the past are rejected.
+ *
+ * Each stage narrows the candidate set before the next one runs, and each
+ * database stage loads all remaining candidates with a single query, so a
+ * search costs five queries regardless of how many restaurants are nearby.
+ * Results are ranked by distance, then by rating.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class AvailabilitySearchService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilitySearchService.class);
+
+    /** Largest search radius in kilometers */
+    private static final double MAX_RADIUS_KM = 50.0;
+
+    /** Largest number of results returned by a search */
+    private static final int MAX_RESULTS = 100;
+
+    /** In-process spatial index for location queries */
+    private final LocationIndex locationIndex;
+
+    /** Repository for restaurant data access */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Repository for operating hours data access */
+    private final OperatingHoursRepository operatingHoursRepository;
+
+    /** Repository for table data access */
+    private final RestaurantTableRepository tableRepository;
+
+    /** Repository for closures and special hours on specific dates */
+    private final ScheduleOverrideRepository scheduleOverrideRepository;
+
+    /** Repository for the table bookings of active reservations */
+    private final TableBookingRepository tableBookingRepository;
+
+    /** Service used to convert restaurants to DTOs */
+    private final RestaurantService restaurantService;
+
+    /** Length of the reservation session checked for free tables, in minutes */
+    @Value("${restaurant.availability.session-length-minutes:120}")
+    private int sessionLengthMinutes;
+
+    /**
+     * Constructs a new AvailabilitySearchService with required dependencies.
+     *
+     * @param locationIndex In-process spatial index for location queries
+     * @param restaurantRepository Repository for restaurant data access
+     * @param operatingHoursRepository Repository for operating hours data access
+     * @param tableRepository Repository for table data access
+     * @param scheduleOverrideRepository Repository for closures and special hours on specific dates
+     * @param tableBookingRepository Repository for the table bookings of active reservations
+     * @param restaurantService Service used to convert restaurants to DTOs
+     */
+    public AvailabilitySearchService(LocationIndex locationIndex,
+            RestaurantRepository restaurantRepository,
+            OperatingHoursRepository operatingHoursRepository,
+            RestaurantTableRepository tableRepository,
+            ScheduleOverrideRepository scheduleOverrideRepository,
+            TableBookingRepository tableBookingRepository,
+            RestaurantService restaurantService) {
+        this.locationIndex = locationIndex;
+        this.restaurantRepository = restaurantRepository;
+        this.operatingHoursRepository = operatingHoursRepository;
+        this.tableRepository = tableRepository;
+        this.scheduleOverrideRepository = scheduleOverrideRepository;
+        this.tableBookingRepository = tableBookingRepository;
+        this.restaurantService = restaurantService;
+    }
+
+    /**
+     * Finds restaurants near a location that are open at the requested time
+     * and have tables for the party that no reservation holds during a
+     * session starting then.
+     *
+     * @param latitude The latitude of the search location
+     * @param longitude The longitude of the search location
+     * @param radiusKm The search radius in kilometers
+     * @param dateTime The requested reservation date and time
+     * @param partySize The number of guests
+     * @param limit The maximum number of results
+     * @return Available restaurants ranked by distance, then rating
+     * @throws ValidationException if the search parameters are invalid
+     */
+    public List<AvailableRestaurantDTO> findAvailableNearby(double latitude, double longitude, double radiusKm,
+            LocalDateTime dateTime, int partySize, int limit) {
+        validateSearch(latitude, longitude, radiusKm, dateTime, partySize, limit);
+
+        // Stage 1: spatial candidates, nearest first
+        Map<String, Double> distances = new HashMap<>();
+        for (Neighbor neighbor : locationIndex.findRestaurantsWithin(latitude, longitude, radiusKm)) {
+            distances.put(neighbor.getId(), neighbor.getDistanceKm());
+        }
+        if (distances.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Stage 2: restaurants that are open at the requested time, with their closing time
+        LocalTime time = dateTime.toLocalTime();
+        Map<String, OperatingHours> weeklyHours = operatingHoursRepository
+                .findByRestaurantIdInAndDayOfWeek(distances.keySet(), dateTime.getDayOfWeek()).stream()
+                .collect(Collectors.toMap(hours -> hours.getRestaurant().getId(), hours -> hours, (a, b) -> a));
+        Map<String, ScheduleOverride> overrides = scheduleOverrideRepository
+                .findByRestaurantIdInAndDate(distances.keySet(), dateTime.toLocalDate()).stream()
+                .collect(Collectors.toMap(ScheduleOverride::getRestaurantId, override -> override));
+
+        Map<String, LocalTime> closeTimes = new HashMap<>();
+        for (String restaurantId : distances.keySet()) {
+            OperatingHours hours = weeklyHours.get(restaurantId);
+            ScheduleOverride override = overrides.get(restaurantId);
+            if (override != null && override.isOpenAt(hours, time)) {
+                closeTimes.put(restaurantId, override.getCloseTime(hours));
+            } else if (override == null && hours != null && hours.isOpenAt(time)) {
+                closeTimes.put(restaurantId, hours.getCloseTime());
+            }
+        }
+        if (closeTimes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Stage 3: restaurants with tables for the party that no reservation holds during the session
+        Set<String> bookedTableIds = new HashSet<>(tableBookingRepository.findBookedTableIds(
+                closeTimes.keySet(), dateTime, dateTime.plusMinutes(sessionLengthMinutes)));
+        boolean checkCurrentStatus = dateTime.isBefore(LocalDateTime.now().plusMinutes(sessionLengthMinutes));
+        Map<String, List<RestaurantTable>> tablesByRestaurant = tableRepository
+                .findByRestaurantIdInAndActiveTrue(closeTimes.keySet()).stream()
+                .filter(table -> !bookedTableIds.contains(table.getId()))
+                .filter(table -> !checkCurrentStatus || isFreeNow(table))
+                .collect(Collectors.groupingBy(table -> table.getRestaurant().getId()));
+
+        List<String> seatableIds = tablesByRestaurant.entrySet().stream()
+                .filter(entry -> canSeat(entry.getValue(), partySize))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        List<AvailableRestaurantDTO> results = new ArrayList<>();
+        for (Restaurant restaurant : restaurantRepository.findAllById(seatableIds)) {
+            if (!restaurant.isActive()) {
+                continue;
+            }
+            List<RestaurantTable> tables = tablesByRestaurant.get(restaurant.getId());
+
+            AvailableRestaurantDTO result = new AvailableRestaurantDTO();
+            result.setRestaurant(restaurantService.convertToDTO(restaurant));
+            result.setDistanceKm(distances.get(restaurant.getId()));
+            result.setCloseTime(closeTimes.get(restaurant.getId()));
+            result.setAvailableTables(tables.size());
+            result.setAvailableSeats(tables.stream().mapToInt(RestaurantTable::getCapacity).sum());
+            result.setCombinedTablesRequired(tables.stream().noneMatch(t -> t.getCapacity() >= partySize));
+            results.add(result);
+        }
+
+        results.sort(Comparator.comparingDouble(AvailableRestaurantDTO::getDistanceKm)
+                .thenComparing(r -> r.getRestaurant().getAverageRating(),
+                        Comparator.nullsLast(Comparator.reverseOrder())));
+
+        logger.debug("Availability search: candidates={}, open={}, seatable={}, returned={}",
+                distances.size(), closeTimes.size(), results.size(), Math.min(results.size(), limit));
+
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    /**
+     * Checks whether a table's current status lets a party sit down now.
+     * Reserved tables are free unless a booking holds them during the session,
+     * which is checked separately; occupied tables and tables under
+     * maintenance are not free.
+     *
+     * @param table The table to check
+     * @return true if the table is available or only reserved
+     */
+    private boolean isFreeNow(RestaurantTable table) {
+        return StatusCodes.TABLE_AVAILABLE.equals(table.getStatus())
+                || StatusCodes.TABLE_RESERVED.equals(table.getStatus());
+    }
+
+    /**
+     * Checks whether a set of available tables can seat a party, either at a
+     * single table or by combining tables, matching the table assignment rules.
+     *
+     * @param tables The available tables of a restaurant
+     * @param partySize The number of guests
+     * @return true if the party can be seated
+     */
+    private boolean canSeat(List<RestaurantTable> tables, int partySize) {
+        int totalSeats = 0;
+        for (RestaurantTable table : tables) {
+            if (table.getCapacity() >= partySize) {
+                return true;
+            }
+            totalSeats += table.getCapacity();
+        }
+        return totalSeats >= partySize;
+    }
+
+    /**
+     * Validates availability search parameters.
+     *
+     * @param latitude The latitude of the search location
+     * @param longitude The longitude of the search location
+     * @param radiusKm The search radius in kilometers
+     * @param dateTime The requested reservation date and time
+     * @param partySize The number of guests
+     * @param limit The maximum number of results
+     * @throws ValidationException if any parameter is invalid
+     */
+    private void validateSearch(double latitude, double longitude, double radiusKm, LocalDateTime dateTime,
+            int partySize, int limit) {
+        Map<String, String> errors = new HashMap<>();
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            errors.put("coordinates",
+                    "Please provide valid geographic coordinates (latitude: -90 to 90, longitude: -180 to 180)");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            errors.put("radius", "Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+        // The current minute still counts, so "now" searches are accepted
+        if (dateTime == null || dateTime.isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES))) {
+            errors.put("dateTime", "Date and time must not be in the past");
+        }
+        if (partySize < 1) {
+            errors.put("partySize", "Party size must be at least 1");
+        }
+        if (limit < 1 || limit > MAX_RESULTS) {
+            errors.put("limit", "Limit must be between 1 and " + MAX_RESULTS);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Availability search validation failed", errors);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.restaurant.restaurant.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.constants.StatusCodes;
+import com.restaurant.common.exceptions.EntityNotFoundException;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.models.RestaurantTable;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantTableRepository;
+import com.restaurant.restaurant.dto.FloorPlanImportResultDTO;
+import com.restaurant.restaurant.dto.TableCreateRequest;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Service for bulk floor plan imports.
+ * This service provides:
+ * - Validation of a complete table list before any change is made
+ * - A diff against the existing tables by table number
+ * - Batched inserts, updates and deletes in a single transaction
+ * - A single capacity update and capacity changed event per import
+ *
+ * Existing tables that are reserved or occupied cannot be removed by an
+ * import; their reservations must be cleared first.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class FloorPlanService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(FloorPlanService.class);
+
+    /** Largest number of seats allowed at a single table */
+    private static final int MAX_TABLE_CAPACITY = 20;
+
+    /** Repository for table data access */
+    private final RestaurantTableRepository tableRepository;
+
+    /** Repository for restaurant data access */
+    private final RestaurantRepository restaurantRepository;
+
+    /** In-memory counters of tables per restaurant and status */
+    private final TableStatusCounters tableStatusCounters;
+
+    /** Maintains the total seating capacity of restaurants */
+    private final RestaurantCapacityTracker capacityTracker;
+
+    /**
+     * Constructs a new FloorPlanService with required dependencies.
+     *
+     * @param tableRepository Repository for table data access
+     * @param restaurantRepository Repository for restaurant data access
+     * @param tableStatusCounters In-memory counters of tables per restaurant and status
+     * @param capacityTracker Maintains the total seating capacity of restaurants
+     */
+    public FloorPlanService(RestaurantTableRepository tableRepository,
+                            RestaurantRepository restaurantRepository,
+                            TableStatusCounters tableStatusCounters,
+                            RestaurantCapacityTracker capacityTracker) {
+        this.tableRepository = tableRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.tableStatusCounters = tableStatusCounters;
+        this.capacityTracker = capacityTracker;
+    }
+
+    /**
+     * Imports a complete floor plan for a restaurant.
+     * Tables are matched by table number: new numbers are created, changed
+     * tables are updated and, when requested, tables missing from the plan
+     * are removed.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param tables The tables of the floor plan
+     * @param removeMissing Whether tables missing from the plan are removed
+     * @return Summary of the applied changes
+     * @throws EntityNotFoundException if the restaurant is not found
+     * @throws ValidationException if the restaurant is inactive or the floor plan is invalid
+     */
+    @Transactional
+    public FloorPlanImportResultDTO importFloorPlan(String restaurantId, List<TableCreateRequest> tables,
+                                                   boolean removeMissing) {
+        long startTime = System.currentTimeMillis();
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant", restaurantId));
+
+        if (!restaurant.isActive()) {
+            throw new ValidationException("Cannot import a floor plan for an inactive restaurant");
+        }
+
+        List<TableCreateRequest> plan = tables != null ? tables : new ArrayList<>();
+        validateFloorPlan(plan);
+
+        Map<String, RestaurantTable> existing = new HashMap<>();
+        for (RestaurantTable table : tableRepository.findByRestaurantId(restaurantId)) {
+            existing.put(table.getTableNumber(), table);
+        }
+
+        List<RestaurantTable> created = new ArrayList<>();
+        List<RestaurantTable> updated = new ArrayList<>();
+        Set<String> planned = new HashSet<>();
+        int capacityDelta = 0;
+
+        for (TableCreateRequest request : plan) {
+            String tableNumber = request.getTableNumber().trim();
+            planned.add(tableNumber);
+            RestaurantTable table = existing.get(tableNumber);
+
+            if (table == null) {
+                table = new RestaurantTable();
+                table.setRestaurant(restaurant);
+                table.setTableNumber(tableNumber);
+                table.setStatus(StatusCodes.TABLE_AVAILABLE);
+                apply(table, request);
+                created.add(table);
+                capacityDelta += table.getCapacity();
+            } else if (differs(table, request)) {
+                int oldCapacity = table.getCapacity();
+                apply(table, request);
+                updated.add(table);
+                capacityDelta += table.getCapacity() - oldCapacity;
+                tableStatusCounters.tableResized(restaurantId, table.getStatus(), oldCapacity, table.getCapacity());
+            }
+        }
+
+        List<RestaurantTable> removed = new ArrayList<>();
+        if (removeMissing) {
+            Map<String, String> errors = new HashMap<>();
+            for (RestaurantTable table : existing.values()) {
+                if (planned.contains(table.getTableNumber())) {
+                    continue;
+                }
+                if (StatusCodes.TABLE_RESERVED.equals(table.getStatus())
+                        || StatusCodes.TABLE_OCCUPIED.equals(table.getStatus())) {
+                    errors.put("table " + table.getTableNumber(), String.format(
+                            "Table %s is %s and cannot be removed", table.getTableNumber(), table.getStatus()));
+                    continue;
+                }
+                removed.add(table);
+                capacityDelta -= table.getCapacity();
+            }
+            if (!errors.isEmpty()) {
+                throw new ValidationException("Floor plan would remove tables in use", errors);
+            }
+        }
+
+        // Inserts and updates are grouped into JDBC batches; deletes run as one statement
+        tableRepository.saveAll(created);
+        tableRepository.saveAll(updated);
+        if (!removed.isEmpty()) {
+            tableRepository.deleteAllInBatch(removed);
+        }
+
+        for (RestaurantTable table : created) {
+            tableStatusCounters.tableAdded(restaurantId, table.getStatus(), table.getCapacity());
+        }
+        for (RestaurantTable table : removed) {
+            tableStatusCounters.tableRemoved(restaurantId, table.getStatus(), table.getCapacity());
+        }
+
+        FloorPlanImportResultDTO result = new FloorPlanImportResultDTO(restaurantId);
+        result.setCreated(created.size());
+        result.setUpdated(updated.size());
+        result.setRemoved(removed.size());
+        result.setUnchanged(existing.size() - updated.size() - removed.size());
+        result.setOldCapacity(restaurant.getTotalCapacity());
+        result.setNewCapacity(Math.max(0, restaurant.getTotalCapacity() + capacityDelta));
+
+        capacityTracker.adjustCapacity(restaurant, capacityDelta, String.format(
+                "Floor Plan Import: %d added, %d updated, %d removed",
+                created.size(), updated.size(), removed.size()));
+
+        logger.info("Imported floor plan for restaurant {}: {} created, {} updated, {} removed in {} ms",
+                restaurantId, created.size(), updated.size(), removed.size(),
+                System.currentTimeMillis() - startTime);
+
+        return result;
+    }
+
+    /**
+     * Validates every table of a floor plan and reports all errors at once.
+     *
+     * @param plan The tables of the floor plan
+     * @throws ValidationException if any table is invalid or a table number is repeated
+     */
+    private void validateFloorPlan(List<TableCreateRequest> plan) {
+        Map<String, String> errors = new HashMap<>();
+        Set<String> tableNumbers = new HashSet<>();
+
+        for (int i = 0; i < plan.size(); i++) {
+            TableCreateRequest request = plan.get(i);
+            String field = "tables[" + i + "]";
+
+            if (request.getTableNumber() == null || request.getTableNumber().trim().isEmpty()) {
+                errors.put(field + ".tableNumber", "Table number is required to identify the table in the restaurant");
+            } else if (!tableNumbers.add(request.getTableNumber().trim())) {
+                errors.put(field + ".tableNumber",
+                        String.format("Table number %s appears more than once", request.getTableNumber().trim()));
+            }
+
+            if (request.getCapacity() <= 0) {
+                errors.put(field + ".capacity", "Table capacity must be at least 1 person");
+            } else if (request.getCapacity() > MAX_TABLE_CAPACITY) {
+                errors.put(field + ".capacity",
+                        "Table capacity cannot exceed 20 people. For larger parties, consider multiple tables");
+            }
+
+            if (request.getMinCapacity() < 0) {
+                errors.put(field + ".minCapacity", "Minimum capacity cannot be negative");
+            } else if (request.getMinCapacity() > request.getCapacity()) {
+                errors.put(field + ".minCapacity", "Minimum capacity cannot be greater than the maximum capacity");
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Floor plan validation failed", errors);
+        }
+    }
+
+    /**
+     * Checks if a table differs from its definition in the floor plan.
+     *
+     * @param table The existing table
+     * @param request The table definition
+     * @return true if any attribute differs
+     */
+    private boolean differs(RestaurantTable table, TableCreateRequest request) {
+        return table.getCapacity() != request.getCapacity()
+                || table.getMinCapacity() != request.getMinCapacity()
+                || table.isAccessible() != request.isAccessible()
+                || table.isCombinable() != request.isCombinable()
+                || !Objects.equals(table.getLocation(), request.getLocation())
+                || !Objects.equals(table.getShape(), request.getShape())
+                || !Objects.equals(table.getSpecialFeatures(), request.getSpecialFeatures());
+    }
+
+    /**
+     * Copies the attributes of a floor plan definition onto a table.
+     *
+     * @param table The table to update
+     * @param request The table definition
+     */
+    private void apply(RestaurantTable table, TableCreateRequest request) {
+        table.setCapacity(request.getCapacity());
+        table.setMinCapacity(request.getMinCapacity());
+        table.setLocation(request.getLocation());
+        table.setShape(request.getShape());
+        table.setAccessible(request.isAccessible());
+        table.setCombinable(request.isCombinable());
+        table.setSpecialFeatures(request.getSpecialFeatures());
+    }
+}
@@ -0,0 +1,282 @@
+package com.restaurant.restaurant.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.restaurant.domain.models.Branch;
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.repositories.BranchRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.utils.GeoPointIndex;
+import com.restaurant.restaurant.utils.GeoPointIndex.Neighbor;
+import com.restaurant.restaurant.utils.SpatialUtils;
+import com.restaurant.restaurant.utils.TransactionUtils;
+
+/**
+ * In-process spatial index of active restaurants and branches.
+ * This component provides:
+ * - Radius queries for restaurants and branches, nearest first
+ * - k-nearest-neighbour queries with an optional maximum distance
+ * - Branch queries restricted to a single restaurant
+ *
+ * Location queries are answered from memory instead of the database, which
+ * does not provide spatial functions in this deployment. Restaurants and
+ * branches without coordinates (latitude and longitude both 0) are not indexed.
+ *
+ * The index is built from the database when the application is ready.
+ * Restaurants are then maintained by RestaurantService and, for changes made
+ * on any instance, by RestaurantIndexConsumer; branches are maintained by
+ * BranchLocationListener. Changes made inside a transaction are applied only
+ * after the transaction commits.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class LocationIndex {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(LocationIndex.class);
+
+    /** Repository used to load restaurants at startup */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Repository used to load branches at startup */
+    private final BranchRepository branchRepository;
+
+    /** Index of active restaurant locations */
+    private final GeoPointIndex restaurants;
+
+    /** Index of active branch locations */
+    private final GeoPointIndex branches;
+
+    /** Owning restaurant ID of each indexed branch */
+    private final Map<String, String> branchRestaurantIds = new ConcurrentHashMap<>();
+
+    /** Whether the initial build has completed */
+    private volatile boolean ready;
+
+    /**
+     * Constructs a new LocationIndex with required dependencies.
+     *
+     * @param restaurantRepository Repository used to load restaurants at startup
+     * @param branchRepository Repository used to load branches at startup
+     * @param spatialUtils Utility for exact distance calculations
+     */
+    public LocationIndex(RestaurantRepository restaurantRepository,
+            BranchRepository branchRepository,
+            SpatialUtils spatialUtils) {
+        this.restaurantRepository = restaurantRepository;
+        this.branchRepository = branchRepository;
+        this.restaurants = new GeoPointIndex(spatialUtils);
+        this.branches = new GeoPointIndex(spatialUtils);
+    }
+
+    /**
+     * Builds the index from all active restaurants and branches once the
+     * application is ready. Runs after data initializers so seeded restaurants
+     * are included.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startTime = System.currentTimeMillis();
+
+        restaurants.clear();
+        for (Restaurant restaurant : restaurantRepository.findByActiveTrue()) {
+            applyRestaurant(restaurant.getId(), true, restaurant.getLatitude(), restaurant.getLongitude());
+        }
+
+        branches.clear();
+        branchRestaurantIds.clear();
+        for (Branch branch : branchRepository.findByActiveTrue()) {
+            applyBranch(branch.getId(), branch.getRestaurant().getId(), true,
+                    branch.getLatitude(), branch.getLongitude());
+        }
+
+        ready = true;
+        logger.info("Built location index with {} restaurants and {} branches in {} ms",
+                restaurants.size(), branches.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Indexes a restaurant's location, or removes it if the restaurant is no
+     * longer active or has no coordinates.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurant The restaurant to index
+     */
+    public void indexRestaurant(Restaurant restaurant) {
+        String id = restaurant.getId();
+        boolean active = restaurant.isActive();
+        double latitude = restaurant.getLatitude();
+        double longitude = restaurant.getLongitude();
+        TransactionUtils.afterCommit(() -> applyRestaurant(id, active, latitude, longitude));
+    }
+
+    /**
+     * Removes a restaurant from the index.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant to remove
+     */
+    public void removeRestaurant(String restaurantId) {
+        TransactionUtils.afterCommit(() -> restaurants.remove(restaurantId));
+    }
+
+    /**
+     * Indexes a branch's location, or removes it if the branch is no longer
+     * active or has no coordinates.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param branch The branch to index
+     */
+    public void indexBranch(Branch branch) {
+        String id = branch.getId();
+        String restaurantId = branch.getRestaurant() != null ? branch.getRestaurant().getId() : null;
+        boolean active = branch.isActive();
+        double latitude = branch.getLatitude();
+        double longitude = branch.getLongitude();
+        TransactionUtils.afterCommit(() -> applyBranch(id, restaurantId, active, latitude, longitude));
+    }
+
+    /**
+     * Removes a branch from the index.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param branchId The ID of the branch to remove
+     */
+    public void removeBranch(String branchId) {
+        TransactionUtils.afterCommit(() -> {
+            branches.remove(branchId);
+            branchRestaurantIds.remove(branchId);
+        });
+    }
+
+    /**
+     * Checks whether the initial index build has completed.
+     *
+     * @return true if the index can serve queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Finds active restaurants within a radius of a location.
+     *
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param radiusKm The search radius in kilometers
+     * @return Restaurant IDs and distances ordered by ascending distance
+     */
+    public List<Neighbor> findRestaurantsWithin(double latitude, double longitude, double radiusKm) {
+        return restaurants.withinRadius(latitude, longitude, radiusKm, null);
+    }
+
+    /**
+     * Finds the active restaurants nearest to a location.
+     *
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param limit The maximum number of restaurants to return
+     * @param maxDistanceKm The maximum distance in kilometers, or 0 for no limit
+     * @return Restaurant IDs and distances ordered by ascending distance
+     */
+    public List<Neighbor> findNearestRestaurants(double latitude, double longitude, int limit, double maxDistanceKm) {
+        return restaurants.nearest(latitude, longitude, limit, maxDistanceKm, null);
+    }
+
+    /**
+     * Finds active branches of a restaurant within a radius of a location.
+     *
+     * @param restaurantId The ID of the restaurant owning the branches
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param radiusKm The search radius in kilometers
+     * @return Branch IDs and distances ordered by ascending distance
+     */
+    public List<Neighbor> findBranchesWithin(String restaurantId, double latitude, double longitude,
+            double radiusKm) {
+        return branches.withinRadius(latitude, longitude, radiusKm, belongsTo(restaurantId));
+    }
+
+    /**
+     * Finds the active branches of a restaurant nearest to a location.
+     *
+     * @param restaurantId The ID of the restaurant owning the branches
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param limit The maximum number of branches to return
+     * @param maxDistanceKm The maximum distance in kilometers, or 0 for no limit
+     * @return Branch IDs and distances ordered by ascending distance
+     */
+    public List<Neighbor> findNearestBranches(String restaurantId, double latitude, double longitude,
+            int limit, double maxDistanceKm) {
+        return branches.nearest(latitude, longitude, limit, maxDistanceKm, belongsTo(restaurantId));
+    }
+
+    /**
+     * Creates a filter accepting branches of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Predicate on branch IDs
+     */
+    private Predicate<String> belongsTo(String restaurantId) {
+        return branchId -> restaurantId.equals(branchRestaurantIds.get(branchId));
+    }
+
+    /**
+     * Applies a restaurant change to the index.
+     *
+     * @param id The restaurant ID
+     * @param active Whether the restaurant is active
+     * @param latitude The restaurant latitude
+     * @param longitude The restaurant longitude
+     */
+    private void applyRestaurant(String id, boolean active, double latitude, double longitude) {
+        if (active && hasCoordinates(latitude, longitude)) {
+            restaurants.put(id, latitude, longitude);
+        } else {
+            restaurants.remove(id);
+        }
+    }
+
+    /**
+     * Applies a branch change to the index.
+     *
+     * @param id The branch ID
+     * @param restaurantId The owning restaurant ID
+     * @param active Whether the branch is active
+     * @param latitude The branch latitude
+     * @param longitude The branch longitude
+     */
+    private void applyBranch(String id, String restaurantId, boolean active, double latitude, double longitude) {
+        if (active && restaurantId != null && hasCoordinates(latitude, longitude)) {
+            branchRestaurantIds.put(id, restaurantId);
+            branches.put(id, latitude, longitude);
+        } else {
+            branches.remove(id);
+            branchRestaurantIds.remove(id);
+        }
+    }
+
+    /**
+     * Checks whether a location has been set.
+     * Coordinates of exactly (0, 0) mean that no location was provided.
+     *
+     * @param latitude The latitude
+     * @param longitude The longitude
+     * @return true if the location has coordinates
+     */
+    private boolean hasCoordinates(double latitude, double longitude) {
+        return latitude != 0 || longitude != 0;
+    }
+}
@@ -0,0 +1,560 @@
+package com.restaurant.restaurant.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurant.common.constants.StatusCodes;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.domain.models.OccupancyRollup;
+import com.restaurant.restaurant.domain.models.OccupancyTurnBin;
+import com.restaurant.restaurant.domain.models.PendingReservationCovers;
+import com.restaurant.restaurant.domain.repositories.OccupancyRollupRepository;
+import com.restaurant.restaurant.domain.repositories.OccupancyTurnBinRepository;
+import com.restaurant.restaurant.domain.repositories.PendingReservationCoversRepository;
+import com.restaurant.restaurant.dto.OccupancyPointDTO;
+import com.restaurant.restaurant.dto.OccupancyReportDTO;
+import com.restaurant.restaurant.utils.OccupancySeries;
+import com.restaurant.restaurant.utils.OccupancySeries.Bucket;
+import com.restaurant.restaurant.utils.OccupancySeries.Resolution;
+import com.restaurant.restaurant.utils.TransactionUtils;
+
+/**
+ * Service maintaining occupancy time series for restaurant analytics.
+ * This service provides:
+ * - Periodic occupancy sampling from the in-memory table counters
+ * - Table turn times from OCCUPIED status transitions
+ * - Covers and reservation counts from reservation lifecycle events
+ * - Occupancy reports at minute, hour or day resolution with percentiles
+ *
+ * Hourly and daily rollups, daily turn-time histograms and the covers of
+ * reservations that have not started yet are kept in the database, so they
+ * survive restarts and reports never scan reservation or table rows. Each
+ * instance collects samples, covers and turns in fixed-size in-memory rings
+ * and adds them to the shared rollups with single UPDATE statements after
+ * every sample, so all instances contribute to and report from the same
+ * rows; hourly and daily reports trail by at most one sampling interval.
+ * Every instance samples its own table counters, so sample counts grow with
+ * the number of instances while averages, utilization and peaks do not.
+ * Minute reports are served from the answering instance's own samples since
+ * it started. Pending covers are adjusted or dropped when the reservation is
+ * modified or cancelled, and are claimed by deleting their row once the
+ * reservation starts, so only one instance records them.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class OccupancyAnalyticsService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyAnalyticsService.class);
+
+    /** Longest table occupation counted as a turn, in minutes */
+    private static final long MAX_TURN_MINUTES = 24 * 60;
+
+    /** Resolutions kept in the database */
+    private static final Resolution[] STORED_RESOLUTIONS = {Resolution.HOUR, Resolution.DAY};
+
+    /** In-memory counters of tables per restaurant and status */
+    private final TableStatusCounters tableStatusCounters;
+
+    /** Repository for hourly and daily rollups */
+    private final OccupancyRollupRepository rollupRepository;
+
+    /** Repository for daily turn-time histogram bins */
+    private final OccupancyTurnBinRepository turnBinRepository;
+
+    /** Repository for covers of reservations that have not started yet */
+    private final PendingReservationCoversRepository pendingCoversRepository;
+
+    /** Template adding one bucket's counts in a single transaction */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Occupancy series by restaurant ID, holding minute samples and counts not yet stored */
+    private final Map<String, OccupancySeries> series = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new OccupancyAnalyticsService with required dependencies.
+     *
+     * @param tableStatusCounters In-memory counters of tables per restaurant and status
+     * @param rollupRepository Repository for hourly and daily rollups
+     * @param turnBinRepository Repository for daily turn-time histogram bins
+     * @param pendingCoversRepository Repository for covers of reservations that have not started yet
+     * @param transactionTemplate Template for the service's own transactions
+     */
+    public OccupancyAnalyticsService(TableStatusCounters tableStatusCounters,
+                                     OccupancyRollupRepository rollupRepository,
+                                     OccupancyTurnBinRepository turnBinRepository,
+                                     PendingReservationCoversRepository pendingCoversRepository,
+                                     TransactionTemplate transactionTemplate) {
+        this.tableStatusCounters = tableStatusCounters;
+        this.rollupRepository = rollupRepository;
+        this.turnBinRepository = turnBinRepository;
+        this.pendingCoversRepository = pendingCoversRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Records a table status transition.
+     * A transition out of OCCUPIED records a turn for the time the table was occupied.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param oldStatus The previous status
+     * @param newStatus The new status
+     * @param occupiedSince The time the table became occupied, as stored on the table before the change
+     */
+    public void recordTableStatus(String restaurantId, String oldStatus, String newStatus,
+                                  LocalDateTime occupiedSince) {
+        if (restaurantId == null || occupiedSince == null || newStatus == null
+                || !StatusCodes.TABLE_OCCUPIED.equals(oldStatus) || newStatus.equals(oldStatus)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            long now = toEpochMinute(LocalDateTime.now());
+            long turnMinutes = now - toEpochMinute(occupiedSince);
+            if (turnMinutes >= 0 && turnMinutes <= MAX_TURN_MINUTES) {
+                seriesFor(restaurantId).recordTurn(now, (int) turnMinutes);
+            }
+        });
+    }
+
+    /**
+     * Records a created reservation.
+     * Covers of reservations that have already started are recorded immediately.
+     *
+     * @param reservationId The ID of the reservation
+     * @param restaurantId The ID of the restaurant
+     * @param reservationTime The start time of the reservation
+     * @param partySize The number of guests
+     */
+    public void recordReservationCreated(String reservationId, String restaurantId,
+                                         LocalDateTime reservationTime, int partySize) {
+        if (reservationId == null || restaurantId == null || reservationTime == null || partySize <= 0) {
+            return;
+        }
+        long startMinute = toEpochMinute(reservationTime);
+        if (startMinute <= toEpochMinute(LocalDateTime.now())) {
+            seriesFor(restaurantId).recordCovers(startMinute, partySize);
+        } else {
+            pendingCoversRepository.save(
+                    new PendingReservationCovers(reservationId, restaurantId, reservationTime, partySize));
+        }
+    }
+
+    /**
+     * Records a modified reservation that has not started yet.
+     *
+     * @param reservationId The ID of the reservation
+     * @param newTime The new start time, or null when unchanged
+     * @param newPartySize The new number of guests, or 0 when unchanged
+     */
+    public void recordReservationModified(String reservationId, LocalDateTime newTime, int newPartySize) {
+        if (reservationId == null) {
+            return;
+        }
+        pendingCoversRepository.updatePending(reservationId, newTime, Math.max(0, newPartySize));
+    }
+
+    /**
+     * Records a cancelled reservation, dropping its covers if it has not started yet.
+     *
+     * @param reservationId The ID of the reservation
+     */
+    public void recordReservationCancelled(String reservationId) {
+        if (reservationId != null) {
+            pendingCoversRepository.deletePending(reservationId);
+        }
+    }
+
+    /**
+     * Samples the current occupancy of every restaurant with tables,
+     * records covers of pending reservations that have started and adds
+     * everything recorded since the previous sample to the stored rollups.
+     */
+    public void sampleOccupancy() {
+        LocalDateTime sampleTime = LocalDateTime.now();
+        long now = toEpochMinute(sampleTime);
+
+        for (String restaurantId : tableStatusCounters.getRestaurantIds()) {
+            Map<String, Integer> counts = tableStatusCounters.getCounts(restaurantId);
+            int total = 0;
+            for (Integer count : counts.values()) {
+                total += count;
+            }
+            if (total > 0) {
+                int occupied = counts.getOrDefault(StatusCodes.TABLE_OCCUPIED, 0);
+                seriesFor(restaurantId).recordSample(now, occupied, total);
+            }
+        }
+
+        int started = 0;
+        for (PendingReservationCovers pending : pendingCoversRepository.findByStartTimeLessThanEqual(sampleTime)) {
+            if (pendingCoversRepository.deletePending(pending.getReservationId()) > 0) {
+                seriesFor(pending.getRestaurantId()).recordCovers(toEpochMinute(pending.getStartTime()),
+                        pending.getPartySize());
+                started++;
+            }
+        }
+
+        int stored = storeRollups();
+
+        logger.debug("Sampled occupancy for {} restaurants, {} reservations started, {} buckets stored",
+                series.size(), started, stored);
+    }
+
+    /**
+     * Deletes stored rollups and turn-time histograms older than their retention.
+     */
+    public void purgeExpiredRollups() {
+        long now = toEpochMinute(LocalDateTime.now());
+        int deleted = 0;
+        for (Resolution resolution : STORED_RESOLUTIONS) {
+            deleted += rollupRepository.deleteOlderThan(resolution.name(),
+                    toDateTime(retentionStart(resolution, now)));
+        }
+        deleted += turnBinRepository.deleteOlderThan(
+                toDateTime(retentionStart(Resolution.DAY, now)).toLocalDate());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired occupancy rollups", deleted);
+        }
+    }
+
+    /**
+     * Gets an occupancy report for a restaurant.
+     * The range is clipped to the retention of the requested resolution and to the current time.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param from The start of the range (inclusive)
+     * @param to The end of the range (exclusive)
+     * @param resolution The bucket resolution
+     * @return The occupancy report
+     * @throws ValidationException if the range is empty
+     */
+    public OccupancyReportDTO getOccupancyReport(String restaurantId, LocalDateTime from, LocalDateTime to,
+                                                 Resolution resolution) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("The start of the range must be before its end");
+        }
+
+        long now = toEpochMinute(LocalDateTime.now());
+        long fromMinute = Math.max(toEpochMinute(from), retentionStart(resolution, now));
+        long toMinute = Math.min(toEpochMinute(to), now + 1);
+
+        OccupancyReportDTO report = new OccupancyReportDTO();
+        report.setRestaurantId(restaurantId);
+        report.setResolution(resolution.name());
+        report.setFrom(from);
+        report.setTo(to);
+
+        List<OccupancyPointDTO> points = new ArrayList<>();
+        if (fromMinute >= toMinute) {
+            report.setPoints(points);
+            return report;
+        }
+        List<Bucket> buckets;
+        if (resolution == Resolution.MINUTE) {
+            OccupancySeries restaurantSeries = series.get(restaurantId);
+            if (restaurantSeries == null) {
+                report.setPoints(points);
+                return report;
+            }
+            buckets = restaurantSeries.getBuckets(resolution, fromMinute, toMinute);
+        } else {
+            buckets = getStoredBuckets(restaurantId, resolution, fromMinute, toMinute);
+        }
+
+        List<Double> utilizations = new ArrayList<>();
+        long occupiedSum = 0;
+        long tableSum = 0;
+        int totalCovers = 0;
+        int totalReservations = 0;
+        int totalTurns = 0;
+        long totalTurnMinutes = 0;
+
+        for (Bucket bucket : buckets) {
+            OccupancyPointDTO point = new OccupancyPointDTO();
+            point.setStart(toDateTime(bucket.getStartMinute()));
+            point.setSamples(bucket.getSamples());
+            point.setPeakOccupiedTables(bucket.getPeakOccupied());
+            point.setCovers(bucket.getCovers());
+            point.setReservations(bucket.getReservations());
+            point.setTurns(bucket.getTurns());
+            if (bucket.getSamples() > 0) {
+                point.setAverageOccupiedTables((double) bucket.getOccupiedSum() / bucket.getSamples());
+            }
+            if (bucket.getTableSum() > 0) {
+                double utilization = (double) bucket.getOccupiedSum() / bucket.getTableSum();
+                point.setUtilization(utilization);
+                utilizations.add(utilization);
+            }
+            if (bucket.getTurns() > 0) {
+                point.setAverageTurnMinutes((double) bucket.getTurnMinutes() / bucket.getTurns());
+            }
+            points.add(point);
+
+            occupiedSum += bucket.getOccupiedSum();
+            tableSum += bucket.getTableSum();
+            totalCovers += bucket.getCovers();
+            totalReservations += bucket.getReservations();
+            totalTurns += bucket.getTurns();
+            totalTurnMinutes += bucket.getTurnMinutes();
+        }
+
+        report.setPoints(points);
+        report.setTotalCovers(totalCovers);
+        report.setTotalReservations(totalReservations);
+        report.setTotalTurns(totalTurns);
+        if (tableSum > 0) {
+            report.setAverageUtilization((double) occupiedSum / tableSum);
+        }
+        if (totalTurns > 0) {
+            report.setAverageTurnMinutes((double) totalTurnMinutes / totalTurns);
+        }
+
+        double[] sortedUtilizations = utilizations.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        report.setUtilizationP50(percentile(sortedUtilizations, 50));
+        report.setUtilizationP90(percentile(sortedUtilizations, 90));
+        report.setUtilizationP99(percentile(sortedUtilizations, 99));
+
+        int[] histogram = getStoredTurnHistogram(restaurantId, fromMinute, toMinute);
+        report.setTurnMinutesP50(histogramPercentile(histogram, 50));
+        report.setTurnMinutesP90(histogramPercentile(histogram, 90));
+
+        return report;
+    }
+
+    /**
+     * Adds the hourly and daily counts recorded since the previous call to
+     * the stored rollups. Buckets that cannot be stored are kept for the next call.
+     *
+     * @return Number of buckets stored
+     */
+    private int storeRollups() {
+        int stored = 0;
+        for (Map.Entry<String, OccupancySeries> entry : series.entrySet()) {
+            for (Resolution resolution : STORED_RESOLUTIONS) {
+                for (Bucket bucket : entry.getValue().drain(resolution)) {
+                    try {
+                        storeBucket(entry.getKey(), resolution, bucket);
+                        stored++;
+                    } catch (RuntimeException e) {
+                        entry.getValue().merge(resolution, bucket);
+                        logger.warn("Could not store occupancy of restaurant {} for {}, will retry: {}",
+                                entry.getKey(), toDateTime(bucket.getStartMinute()), e.getMessage());
+                    }
+                }
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Adds one bucket to its stored rollup and turn-time histogram bins.
+     * Missing rows are first inserted empty, each in its own transaction,
+     * and all counts are then added in a single transaction, so the bucket
+     * is either stored completely or not at all.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param resolution The bucket resolution
+     * @param bucket The bucket to store
+     */
+    private void storeBucket(String restaurantId, Resolution resolution, Bucket bucket) {
+        LocalDateTime bucketStart = toDateTime(bucket.getStartMinute());
+        LocalDate day = bucketStart.toLocalDate();
+        int[] histogram = bucket.getTurnHistogram();
+
+        if (!rollupRepository.existsByRestaurantIdAndResolutionAndBucketStart(
+                restaurantId, resolution.name(), bucketStart)) {
+            insertIfAbsent(() -> rollupRepository.saveAndFlush(
+                    new OccupancyRollup(restaurantId, resolution.name(), bucketStart)));
+        }
+        if (histogram != null) {
+            for (int bin = 0; bin < histogram.length; bin++) {
+                int histogramBin = bin;
+                if (histogram[bin] > 0
+                        && !turnBinRepository.existsByRestaurantIdAndDayAndBin(restaurantId, day, bin)) {
+                    insertIfAbsent(() -> turnBinRepository.saveAndFlush(
+                            new OccupancyTurnBin(restaurantId, day, histogramBin)));
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.addToRollup(restaurantId, resolution.name(), bucketStart,
+                    bucket.getSamples(), bucket.getOccupiedSum(), bucket.getTableSum(), bucket.getPeakOccupied(),
+                    bucket.getCovers(), bucket.getReservations(), bucket.getTurns(), bucket.getTurnMinutes());
+            if (histogram != null) {
+                for (int bin = 0; bin < histogram.length; bin++) {
+                    if (histogram[bin] > 0) {
+                        turnBinRepository.addTurns(restaurantId, day, bin, histogram[bin]);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Inserts an empty row, ignoring a concurrent insert of the same row by another instance.
+     *
+     * @param insert The insert to run
+     */
+    private void insertIfAbsent(Runnable insert) {
+        try {
+            insert.run();
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Occupancy row was inserted concurrently: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads stored rollups of a time range as one bucket per unit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param resolution The bucket resolution
+     * @param fromMinute The start of the range (inclusive)
+     * @param toMinute The end of the range (exclusive)
+     * @return One bucket per unit in the range, empty where nothing is stored
+     */
+    private List<Bucket> getStoredBuckets(String restaurantId, Resolution resolution, long fromMinute,
+                                          long toMinute) {
+        long fromUnit = Math.floorDiv(fromMinute, resolution.getMinutes());
+        long toUnit = Math.floorDiv(toMinute - 1, resolution.getMinutes());
+
+        Map<Long, OccupancyRollup> rollups = new HashMap<>();
+        LocalDateTime rangeStart = toDateTime(fromUnit * resolution.getMinutes());
+        LocalDateTime rangeEnd = toDateTime((toUnit + 1) * resolution.getMinutes());
+        List<OccupancyRollup> stored = rollupRepository.findRange(restaurantId, resolution.name(),
+                rangeStart, rangeEnd);
+        for (OccupancyRollup rollup : stored) {
+            rollups.put(toEpochMinute(rollup.getBucketStart()), rollup);
+        }
+
+        List<Bucket> buckets = new ArrayList<>();
+        for (long unit = fromUnit; unit <= toUnit; unit++) {
+            long startMinute = unit * resolution.getMinutes();
+            OccupancyRollup rollup = rollups.get(startMinute);
+            if (rollup != null) {
+                buckets.add(new Bucket(startMinute, rollup.getSamples(), rollup.getOccupiedSum(),
+                        rollup.getTableSum(), rollup.getPeakOccupied(), rollup.getCovers(),
+                        rollup.getReservations(), rollup.getTurns(), rollup.getTurnMinutes(), null));
+            } else {
+                buckets.add(new Bucket(startMinute, 0, 0, 0, 0, 0, 0, 0, 0, null));
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Reads the combined stored turn-time histogram of the days covering a time range.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param fromMinute The start of the range (inclusive)
+     * @param toMinute The end of the range (exclusive)
+     * @return Turn counts per histogram bin
+     */
+    private int[] getStoredTurnHistogram(String restaurantId, long fromMinute, long toMinute) {
+        int[] histogram = new int[OccupancySeries.TURN_BINS];
+        for (Object[] row : turnBinRepository.sumByBin(restaurantId,
+                toDateTime(fromMinute).toLocalDate(), toDateTime(toMinute - 1).toLocalDate())) {
+            int bin = ((Number) row[0]).intValue();
+            if (bin >= 0 && bin < histogram.length && row[1] != null) {
+                histogram[bin] = ((Number) row[1]).intValue();
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Gets the first minute kept at a resolution.
+     *
+     * @param resolution The bucket resolution
+     * @param now The current epoch minute
+     * @return The first minute of the oldest retained bucket
+     */
+    private long retentionStart(Resolution resolution, long now) {
+        return (Math.floorDiv(now, resolution.getMinutes()) - resolution.getSlots() + 1) * resolution.getMinutes();
+    }
+
+    /**
+     * Gets the occupancy series of a restaurant, creating it if needed.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The occupancy series
+     */
+    private OccupancySeries seriesFor(String restaurantId) {
+        return series.computeIfAbsent(restaurantId, id -> new OccupancySeries());
+    }
+
+    /**
+     * Computes a nearest-rank percentile of sorted values.
+     *
+     * @param sorted The values in ascending order
+     * @param percentile The percentile between 1 and 100
+     * @return The percentile value, or 0 when there are no values
+     */
+    private double percentile(double[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Computes a percentile of a turn-time histogram as the upper bound of the
+     * bin holding the nearest-rank turn.
+     *
+     * @param histogram Turn counts per bin
+     * @param percentile The percentile between 1 and 100
+     * @return The percentile in minutes, or 0 when there are no turns
+     */
+    private int histogramPercentile(int[] histogram, int percentile) {
+        long total = Arrays.stream(histogram).asLongStream().sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long seen = 0;
+        for (int bin = 0; bin < histogram.length; bin++) {
+            seen += histogram[bin];
+            if (seen >= rank) {
+                return (bin + 1) * OccupancySeries.TURN_BIN_MINUTES;
+            }
+        }
+        return histogram.length * OccupancySeries.TURN_BIN_MINUTES;
+    }
+
+    /**
+     * Converts minutes since the epoch to a local date-time.
+     *
+     * @param epochMinute The epoch minute
+     * @return The date-time
+     */
+    private LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a local date-time to minutes since the epoch.
+     *
+     * @param dateTime The date-time to convert
+     * @return The epoch minute
+     */
+    private long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
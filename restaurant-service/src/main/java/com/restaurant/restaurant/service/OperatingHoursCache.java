@@ -0,0 +1,164 @@
+package com.restaurant.restaurant.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.utils.BoundedTtlCache;
+import com.restaurant.restaurant.domain.models.OperatingHours;
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.repositories.OperatingHoursRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.utils.WeeklyHoursMask;
+import com.restaurant.restaurant.utils.TransactionUtils;
+
+/**
+ * Cache of compiled weekly operating hours per restaurant.
+ * This component provides:
+ * - Lazy compilation of a restaurant's operating hours into a minute mask
+ * - Bulk compilation for batches of validation requests
+ * - Invalidation after operating hours or the active status change
+ * - A bounded number of masks, each expiring after a configurable time-to-live
+ *
+ * A mask is compiled from one restaurant lookup and one operating hours query
+ * the first time a restaurant is checked, and is reused until invalidated or
+ * expired. Invalidations made inside a transaction take effect after it
+ * commits. Other instances invalidate their masks when they consume the
+ * restaurant changed event of the change; the time-to-live bounds how long a
+ * mask can stay outdated if that event is missed. A mask whose compilation
+ * overlapped an invalidation is returned but not cached, so a concurrent load
+ * cannot reinstate outdated hours.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class OperatingHoursCache {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(OperatingHoursCache.class);
+
+    /** Repository for restaurant data access */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Repository for operating hours data access */
+    private final OperatingHoursRepository operatingHoursRepository;
+
+    /** Time in seconds a compiled mask is served from the cache */
+    @Value("${restaurant.hours.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /** Compiled hours by restaurant ID */
+    private final BoundedTtlCache<String, WeeklyHoursMask> masks;
+
+    /**
+     * Constructs a new OperatingHoursCache with required dependencies.
+     *
+     * @param restaurantRepository Repository for restaurant data access
+     * @param operatingHoursRepository Repository for operating hours data access
+     * @param maxEntries Maximum number of cached masks
+     */
+    public OperatingHoursCache(RestaurantRepository restaurantRepository,
+                               OperatingHoursRepository operatingHoursRepository,
+                               @Value("${restaurant.hours.cache-max-entries:10000}") int maxEntries) {
+        this.restaurantRepository = restaurantRepository;
+        this.operatingHoursRepository = operatingHoursRepository;
+        this.masks = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * Gets the compiled operating hours of a restaurant, compiling them if needed.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The compiled hours, or null if the restaurant does not exist
+     */
+    public WeeklyHoursMask getMask(String restaurantId) {
+        WeeklyHoursMask mask = masks.get(restaurantId);
+        if (mask != null) {
+            return mask;
+        }
+
+        long generation = masks.generation();
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).orElse(null);
+        if (restaurant == null) {
+            return null;
+        }
+        mask = new WeeklyHoursMask(restaurant.isActive(), operatingHoursRepository.findByRestaurantId(restaurantId));
+
+        masks.putIfCurrent(restaurantId, mask, expiresAt(), generation);
+        logger.debug("Compiled operating hours for restaurant {}", restaurantId);
+        return mask;
+    }
+
+    /**
+     * Gets the compiled operating hours of several restaurants.
+     * Restaurants not yet cached are compiled together from one restaurant
+     * query and one operating hours query.
+     *
+     * @param restaurantIds The IDs of the restaurants
+     * @return The compiled hours by restaurant ID; restaurants that do not exist are absent
+     */
+    public Map<String, WeeklyHoursMask> getMasks(Collection<String> restaurantIds) {
+        Map<String, WeeklyHoursMask> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String restaurantId : restaurantIds) {
+            WeeklyHoursMask mask = masks.get(restaurantId);
+            if (mask != null) {
+                result.put(restaurantId, mask);
+            } else {
+                missing.add(restaurantId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long generation = masks.generation();
+        List<Restaurant> restaurants = restaurantRepository.findAllById(missing);
+        if (restaurants.isEmpty()) {
+            return result;
+        }
+        Map<String, List<OperatingHours>> hoursByRestaurant = new HashMap<>();
+        for (OperatingHours hours : operatingHoursRepository.findByRestaurantIdIn(missing)) {
+            hoursByRestaurant.computeIfAbsent(hours.getRestaurant().getId(), id -> new ArrayList<>()).add(hours);
+        }
+
+        Map<String, WeeklyHoursMask> compiled = new HashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            compiled.put(restaurant.getId(), new WeeklyHoursMask(restaurant.isActive(),
+                    hoursByRestaurant.getOrDefault(restaurant.getId(), List.of())));
+        }
+        long expiresAt = expiresAt();
+        compiled.forEach((restaurantId, mask) -> masks.putIfCurrent(restaurantId, mask, expiresAt, generation));
+        logger.debug("Compiled operating hours for {} restaurants", compiled.size());
+        result.putAll(compiled);
+        return result;
+    }
+
+    /**
+     * Discards the compiled hours of a restaurant.
+     * When called inside a transaction the mask is discarded after commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     */
+    public void invalidate(String restaurantId) {
+        TransactionUtils.afterCommit(() -> masks.invalidate(restaurantId));
+    }
+
+    /**
+     * Gets the expiry time of a mask compiled now.
+     *
+     * @return Time in epoch milliseconds at which the mask expires
+     */
+    private long expiresAt() {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+}
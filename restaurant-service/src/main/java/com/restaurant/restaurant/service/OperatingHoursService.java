@@ -17,7 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
 import com.restaurant.restaurant.domain.models.OperatingHours;
@@ -28,7 +28,6 @@ import com.restaurant.restaurant.dto.OperatingHoursBatchUpdateRequest;
 import com.restaurant.restaurant.dto.OperatingHoursBatchUpdateRequest.OperatingHourEntry;
 import com.restaurant.restaurant.dto.OperatingHoursDTO;
 import com.restaurant.restaurant.dto.OperatingHoursUpdateRequest;
-import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
 
 import jakarta.transaction.Transactional;
 
@@ -56,8 +55,11 @@ public class OperatingHoursService {
     /** Repository for restaurant data access */
     private final RestaurantRepository restaurantRepository;
 
-    /** Producer for restaurant-related events */
-    private final RestaurantEventProducer restaurantEventProducer;
+    /** Coalesces restaurant changes into one event per transaction */
+    private final RestaurantChangeTracker changeTracker;
+
+    /** Cache of compiled operating hours used for reservation time validation */
+    private final OperatingHoursCache operatingHoursCache;
 
     /** Default opening time for restaurants (configurable) */
     @Value("${restaurant.default.open-time:10:00}")
@@ -72,14 +74,17 @@ public class OperatingHoursService {
      *
      * @param operatingHoursRepository Repository for operating hours data access
      * @param restaurantRepository Repository for restaurant data access
-     * @param restaurantEventProducer Producer for restaurant-related events
+     * @param changeTracker Coalesces restaurant changes into one event per transaction
+     * @param operatingHoursCache Cache of compiled operating hours used for reservation time validation
      */
     public OperatingHoursService(OperatingHoursRepository operatingHoursRepository,
             RestaurantRepository restaurantRepository,
-            RestaurantEventProducer restaurantEventProducer) {
+            RestaurantChangeTracker changeTracker,
+            OperatingHoursCache operatingHoursCache) {
         this.operatingHoursRepository = operatingHoursRepository;
         this.restaurantRepository = restaurantRepository;
-        this.restaurantEventProducer = restaurantEventProducer;
+        this.changeTracker = changeTracker;
+        this.operatingHoursCache = operatingHoursCache;
     }
 
     /**
@@ -139,6 +144,7 @@ public class OperatingHoursService {
 
         if (!hoursToSave.isEmpty()) {
             operatingHoursRepository.saveAll(hoursToSave);
+            operatingHoursCache.invalidate(restaurant.getId());
         }
     }
 
@@ -183,6 +189,7 @@ public class OperatingHoursService {
         LocalTime oldOpenTime = hours.getOpenTime();
         LocalTime oldCloseTime = hours.getCloseTime();
         boolean oldClosed = hours.isClosed();
+        String oldBreak = describeBreak(hours.getBreakStartTime(), hours.getBreakEndTime());
 
         if (updateRequest.getOpenTime() != null) {
             hours.setOpenTime(updateRequest.getOpenTime());
@@ -219,46 +226,15 @@ public class OperatingHoursService {
         }
 
         OperatingHours updatedHours = operatingHoursRepository.save(hours);
+        operatingHoursCache.invalidate(restaurantId);
 
-        // Publish operating hours changed event
-        try {
-            if (!oldClosed && updatedHours.isClosed()) {
-                // If changing from open to closed
-                restaurantEventProducer.publishOperatingHoursChangedEvent(
-                        new OperatingHoursChangedEvent(
-                                restaurantId,
-                                day,
-                                oldOpenTime,
-                                oldCloseTime,
-                                null, // When closed, no open/close times
-                                null));
-            } else if (oldClosed && !updatedHours.isClosed()) {
-                // If changing from closed to open
-                restaurantEventProducer.publishOperatingHoursChangedEvent(
-                        new OperatingHoursChangedEvent(
-                                restaurantId,
-                                day,
-                                null, // When was closed, no previous times
-                                null,
-                                updatedHours.getOpenTime(),
-                                updatedHours.getCloseTime()));
-            } else if (!oldClosed && !updatedHours.isClosed() &&
-                    (oldOpenTime != updatedHours.getOpenTime() ||
-                            oldCloseTime != updatedHours.getCloseTime())) {
-                // If changing times when open
-                restaurantEventProducer.publishOperatingHoursChangedEvent(
-                        new OperatingHoursChangedEvent(
-                                restaurantId,
-                                day,
-                                oldOpenTime,
-                                oldCloseTime,
-                                updatedHours.getOpenTime(),
-                                updatedHours.getCloseTime()));
-            }
-        } catch (Exception e) {
-            logger.error("Failed to publish operating hours changed event: {}", e.getMessage(), e);
-            // Continue with the update even if event publishing fails
-        }
+        changeTracker.recordChange(restaurantId,
+                RestaurantChangedEvent.OPERATING_HOURS_PREFIX + day.name(),
+                describeHours(oldClosed, oldOpenTime, oldCloseTime),
+                describeHours(updatedHours.isClosed(), updatedHours.getOpenTime(), updatedHours.getCloseTime()));
+        changeTracker.recordChange(restaurantId,
+                RestaurantChangedEvent.BREAK_TIME_PREFIX + day.name(), oldBreak,
+                describeBreak(updatedHours.getBreakStartTime(), updatedHours.getBreakEndTime()));
 
         return convertToDTO(updatedHours);
     }
@@ -374,6 +350,38 @@ public class OperatingHoursService {
         return getOperatingHoursByRestaurantId(restaurantId);
     }
 
+    /**
+     * Describes the hours of a day as published in restaurant changed events.
+     *
+     * @param closed Whether the restaurant is closed that day
+     * @param openTime The opening time
+     * @param closeTime The closing time
+     * @return "HH:mm-HH:mm", "CLOSED", or null if the hours were never set
+     */
+    static String describeHours(boolean closed, LocalTime openTime, LocalTime closeTime) {
+        if (closed) {
+            return RestaurantChangedEvent.CLOSED;
+        }
+        if (openTime == null || closeTime == null) {
+            return null;
+        }
+        return openTime + "-" + closeTime;
+    }
+
+    /**
+     * Describes the break of a day as published in restaurant changed events.
+     *
+     * @param breakStartTime The start of the break
+     * @param breakEndTime The end of the break
+     * @return "HH:mm-HH:mm", or null if the day has no break
+     */
+    private String describeBreak(LocalTime breakStartTime, LocalTime breakEndTime) {
+        if (breakStartTime == null || breakEndTime == null) {
+            return null;
+        }
+        return breakStartTime + "-" + breakEndTime;
+    }
+
     /**
      * Validates a batch update request for operating hours.
      * This method ensures all days have valid operating hours and break times.
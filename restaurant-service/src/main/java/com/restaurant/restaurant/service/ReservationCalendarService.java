@@ -0,0 +1,126 @@
+package com.restaurant.restaurant.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.restaurant.restaurant.domain.models.ScheduleOverride;
+import com.restaurant.restaurant.domain.models.TableBooking;
+import com.restaurant.restaurant.domain.repositories.ScheduleOverrideRepository;
+import com.restaurant.restaurant.domain.repositories.TableBookingRepository;
+
+/**
+ * Service keeping a copy of the reservation service's calendar for availability searches.
+ * This service maintains:
+ * - The tables booked by active reservations and the sessions they hold them for
+ * - The closures and special hours of restaurants on specific dates
+ *
+ * Both are applied from events carrying the full current state of a
+ * reservation or date, so applying an event again changes nothing. Events
+ * of a restaurant arrive in order, and each is applied by one instance to
+ * the shared tables. Past bookings and overrides are removed periodically.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Service
+public class ReservationCalendarService {
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(ReservationCalendarService.class);
+
+    /** Repository for the table bookings of active reservations */
+    private final TableBookingRepository tableBookingRepository;
+
+    /** Repository for closures and special hours on specific dates */
+    private final ScheduleOverrideRepository scheduleOverrideRepository;
+
+    /**
+     * Constructs a new ReservationCalendarService with required dependencies.
+     *
+     * @param tableBookingRepository Repository for the table bookings of active reservations
+     * @param scheduleOverrideRepository Repository for closures and special hours on specific dates
+     */
+    public ReservationCalendarService(TableBookingRepository tableBookingRepository,
+                                      ScheduleOverrideRepository scheduleOverrideRepository) {
+        this.tableBookingRepository = tableBookingRepository;
+        this.scheduleOverrideRepository = scheduleOverrideRepository;
+    }
+
+    /**
+     * Replaces the table bookings of a reservation with its current state.
+     * Inactive reservations and reservations without tables hold no table.
+     *
+     * @param reservationId The ID of the reservation
+     * @param restaurantId The ID of the restaurant
+     * @param startTime The start of the reservation session
+     * @param durationMinutes The length of the reservation session in minutes
+     * @param tableIds The IDs of the assigned tables, or null if none are assigned
+     * @param active Whether the reservation holds its tables
+     */
+    @Transactional
+    public void applyBooking(String reservationId, String restaurantId, LocalDateTime startTime,
+                             int durationMinutes, List<String> tableIds, boolean active) {
+        tableBookingRepository.deleteByReservationId(reservationId);
+        if (!active || startTime == null || tableIds == null || tableIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime endTime = startTime.plusMinutes(durationMinutes);
+        List<TableBooking> bookings = new ArrayList<>();
+        for (String tableId : tableIds) {
+            bookings.add(new TableBooking(reservationId, restaurantId, tableId, startTime, endTime));
+        }
+        tableBookingRepository.saveAll(bookings);
+        logger.debug("Recorded {} table bookings of reservation {}", bookings.size(), reservationId);
+    }
+
+    /**
+     * Replaces the overrides of a restaurant's hours on a date.
+     * Null values leave the regular operating hours in effect.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param date The date
+     * @param closed Whether the restaurant is closed on the date, or null if the regular hours decide
+     * @param openTime The opening time on the date, or null if the regular hours decide
+     * @param closeTime The closing time on the date, or null if the regular hours decide
+     */
+    @Transactional
+    public void applySchedule(String restaurantId, LocalDate date, Boolean closed, LocalTime openTime,
+                              LocalTime closeTime) {
+        ScheduleOverride override = scheduleOverrideRepository.findByRestaurantIdAndDate(restaurantId, date)
+                .orElseGet(() -> new ScheduleOverride(restaurantId, date));
+        override.setClosed(closed);
+        override.setOpenTime(openTime);
+        override.setCloseTime(closeTime);
+
+        if (override.isEmpty()) {
+            if (override.getId() != null) {
+                scheduleOverrideRepository.delete(override);
+            }
+            return;
+        }
+        scheduleOverrideRepository.save(override);
+        logger.debug("Recorded schedule override of restaurant {} on {}", restaurantId, date);
+    }
+
+    /**
+     * Removes bookings that have ended and overrides of past dates.
+     * This method should be called periodically.
+     */
+    @Transactional
+    public void purgePast() {
+        int bookings = tableBookingRepository.deleteEndedBefore(LocalDateTime.now());
+        int overrides = scheduleOverrideRepository.deleteBefore(LocalDate.now());
+        if (bookings > 0 || overrides > 0) {
+            logger.debug("Removed {} past table bookings and {} past schedule overrides", bookings, overrides);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.restaurant.restaurant.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantTableRepository;
+import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
+
+/**
+ * Maintains the physical seating capacity of restaurants as an aggregate.
+ * This component provides:
+ * - Delta updates of a restaurant's total capacity on table changes
+ * - Coalescing of all table changes in a transaction into one capacity changed
+ *   and one tables changed event per restaurant
+ * - Reconciliation of total capacities with the seats of all tables
+ *
+ * The total capacity is the number of seats across all tables of a restaurant,
+ * regardless of their current status; currently free seats are tracked
+ * separately by TableStatusCounters. Each delta is applied with a single atomic
+ * UPDATE, so a table change costs O(1) instead of re-summing every table.
+ * Capacity changed events are published once after the transaction commits,
+ * carrying the capacity before the first change and after the last. A tables
+ * changed event is published alongside for every restaurant whose tables
+ * changed, even when its capacity did not, so table lists cached by other
+ * services are discarded on renumbering, moves and equal-size swaps too.
+ * Reconciliation runs once the application is ready and periodically
+ * afterwards, correcting totals written before deltas were tracked and any
+ * drift from writes that bypass the tracker.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantCapacityTracker {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantCapacityTracker.class);
+
+    /** Repository for restaurant data access */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Repository used for summing table seats */
+    private final RestaurantTableRepository tableRepository;
+
+    /** Producer for restaurant-related events */
+    private final RestaurantEventProducer restaurantEventProducer;
+
+    /**
+     * Constructs a new RestaurantCapacityTracker with required dependencies.
+     *
+     * @param restaurantRepository Repository for restaurant data access
+     * @param tableRepository Repository used for summing table seats
+     * @param restaurantEventProducer Producer for restaurant-related events
+     */
+    public RestaurantCapacityTracker(RestaurantRepository restaurantRepository,
+                                     RestaurantTableRepository tableRepository,
+                                     RestaurantEventProducer restaurantEventProducer) {
+        this.restaurantRepository = restaurantRepository;
+        this.tableRepository = tableRepository;
+        this.restaurantEventProducer = restaurantEventProducer;
+    }
+
+    /**
+     * Reconciles total capacities once the application is ready.
+     * Runs after data initializers so seeded tables are included.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Sets the total capacity of every restaurant with tables to the seats of
+     * all its tables, using a single GROUP BY query, and publishes a capacity
+     * changed event for each corrected restaurant. Totals are read before the
+     * seat sums and replaced only if still unchanged, so a table change that
+     * commits in between is never overwritten; it is corrected on the next run
+     * if needed.
+     */
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Integer> totals = new HashMap<>();
+        for (Object[] row : restaurantRepository.findTotalCapacities()) {
+            totals.put((String) row[0], row[1] != null ? ((Number) row[1]).intValue() : 0);
+        }
+
+        int corrected = 0;
+        for (Object[] row : tableRepository.sumCapacityByRestaurant()) {
+            String restaurantId = (String) row[0];
+            Integer total = totals.get(restaurantId);
+            int seats = row[1] != null ? ((Number) row[1]).intValue() : 0;
+            if (total == null || total == seats
+                    || restaurantRepository.replaceTotalCapacity(restaurantId, total, seats) == 0) {
+                continue;
+            }
+            corrected++;
+            publishCapacity(restaurantId, new PendingChange(total, seats - total, "Capacity Reconciled"));
+        }
+
+        logger.debug("Reconciled total capacity of {} restaurants, {} corrected, in {} ms",
+                totals.size(), corrected, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Records a change to the tables of a restaurant and adds the seats it
+     * added or removed to the restaurant's total capacity.
+     * Must be called for every table change, including those with a delta of
+     * zero, so the tables changed event is published. The restaurant entity is
+     * not modified; its loaded capacity is used as the starting value of the
+     * coalesced event.
+     *
+     * @param restaurant The restaurant whose tables changed
+     * @param delta The number of seats added (negative when removed)
+     * @param reason The reason for the change
+     */
+    public void adjustCapacity(Restaurant restaurant, int delta, String reason) {
+        if (delta != 0) {
+            restaurantRepository.adjustTotalCapacity(restaurant.getId(), delta);
+        }
+
+        Map<String, PendingChange> pending = pendingChanges();
+        if (pending == null) {
+            publish(restaurant.getId(), new PendingChange(restaurant.getTotalCapacity(), delta, reason));
+            return;
+        }
+        pending.computeIfAbsent(restaurant.getId(),
+                id -> new PendingChange(restaurant.getTotalCapacity(), 0, reason)).add(delta, reason);
+    }
+
+    /**
+     * Gets the table changes of the current transaction, registering a
+     * synchronization to publish them on the first call.
+     *
+     * @return The pending changes by restaurant ID, or null when no transaction is active
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, PendingChange> pendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, PendingChange> pending =
+                (Map<String, PendingChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<String, PendingChange> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(RestaurantCapacityTracker.this::publish);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RestaurantCapacityTracker.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Publishes the tables changed event of a restaurant and, if its capacity
+     * changed, the capacity changed event.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param change The accumulated change
+     */
+    private void publish(String restaurantId, PendingChange change) {
+        try {
+            restaurantEventProducer.publishTablesChangedEvent(restaurantId, change.reason);
+        } catch (Exception e) {
+            logger.error("Error publishing tables changed event for restaurant {}: {}",
+                    restaurantId, e.getMessage());
+        }
+        publishCapacity(restaurantId, change);
+    }
+
+    /**
+     * Publishes a capacity changed event for a restaurant if its capacity changed.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param change The accumulated change
+     */
+    private void publishCapacity(String restaurantId, PendingChange change) {
+        if (change.delta == 0) {
+            return;
+        }
+        int newCapacity = Math.max(0, change.oldCapacity + change.delta);
+        try {
+            restaurantEventProducer.publishCapacityChangedEvent(
+                    restaurantId, change.oldCapacity, newCapacity, change.reason);
+        } catch (Exception e) {
+            logger.error("Error publishing capacity changed event for restaurant {}: {}",
+                    restaurantId, e.getMessage());
+        }
+    }
+
+    /**
+     * Accumulated table changes of one restaurant within a transaction.
+     */
+    private static final class PendingChange {
+
+        /** Capacity before the first change */
+        private final int oldCapacity;
+
+        /** Sum of all deltas */
+        private int delta;
+
+        /** Reason of the changes; a mix of reasons is reported as a table layout update */
+        private String reason;
+
+        /**
+         * Creates a pending change.
+         *
+         * @param oldCapacity Capacity before the first change
+         * @param delta Initial delta
+         * @param reason Reason of the change
+         */
+        private PendingChange(int oldCapacity, int delta, String reason) {
+            this.oldCapacity = oldCapacity;
+            this.delta = delta;
+            this.reason = reason;
+        }
+
+        /**
+         * Adds a delta to the change.
+         *
+         * @param delta The delta to add
+         * @param reason The reason of the delta
+         */
+        private void add(int delta, String reason) {
+            this.delta += delta;
+            if (this.reason != null && !this.reason.equals(reason)) {
+                this.reason = "Table Layout Update";
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.restaurant.restaurant.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent.FieldChange;
+import com.restaurant.restaurant.domain.models.OperatingHours;
+import com.restaurant.restaurant.domain.repositories.OperatingHoursRepository;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
+
+/**
+ * Coalesces restaurant changes into one event per restaurant and transaction.
+ * This component provides:
+ * - Collection of field-level changes made during a transaction
+ * - A monotonically increasing change version per restaurant
+ * - Publication of a single RestaurantChangedEvent after commit
+ *
+ * A field changed several times in one transaction is reported once, from its
+ * first old value to its last new value, and dropped if it ends up unchanged.
+ * The change version is incremented just before commit, only for restaurants
+ * with a non-empty diff, so consumers can discard stale or repeated events.
+ * Events are published after commit and may be sent out of version order, so
+ * each carries the synchronized fields as read right after the increment.
+ * The increment locks the restaurant row until commit, so this state includes
+ * every earlier version, and a consumer skipping an earlier event loses nothing.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantChangeTracker {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantChangeTracker.class);
+
+    /** Repository for restaurant data access */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Repository for operating hours data access */
+    private final OperatingHoursRepository operatingHoursRepository;
+
+    /** Producer for restaurant-related events */
+    private final RestaurantEventProducer restaurantEventProducer;
+
+    /**
+     * Constructs a new RestaurantChangeTracker with required dependencies.
+     *
+     * @param restaurantRepository Repository for restaurant data access
+     * @param operatingHoursRepository Repository for operating hours data access
+     * @param restaurantEventProducer Producer for restaurant-related events
+     */
+    public RestaurantChangeTracker(RestaurantRepository restaurantRepository,
+                                   OperatingHoursRepository operatingHoursRepository,
+                                   RestaurantEventProducer restaurantEventProducer) {
+        this.restaurantRepository = restaurantRepository;
+        this.operatingHoursRepository = operatingHoursRepository;
+        this.restaurantEventProducer = restaurantEventProducer;
+    }
+
+    /**
+     * Records a change of a restaurant field.
+     * Values are compared by their string form; unchanged values are ignored.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param field The name of the changed field
+     * @param oldValue The value before the change
+     * @param newValue The value after the change
+     */
+    public void recordChange(String restaurantId, String field, Object oldValue, Object newValue) {
+        String oldText = oldValue != null ? oldValue.toString() : null;
+        String newText = newValue != null ? newValue.toString() : null;
+        if (Objects.equals(oldText, newText)) {
+            return;
+        }
+
+        Map<String, Map<String, FieldChange>> pending = pendingChanges();
+        if (pending == null) {
+            Map<String, FieldChange> changes = new LinkedHashMap<>();
+            changes.put(field, new FieldChange(oldText, newText));
+            publish(restaurantId, nextVersion(restaurantId), changes, currentState(restaurantId));
+            return;
+        }
+
+        Map<String, FieldChange> changes = pending.computeIfAbsent(restaurantId, id -> new LinkedHashMap<>());
+        FieldChange existing = changes.get(field);
+        if (existing == null) {
+            changes.put(field, new FieldChange(oldText, newText));
+        } else if (Objects.equals(existing.getOldValue(), newText)) {
+            changes.remove(field);
+        } else {
+            existing.setNewValue(newText);
+        }
+    }
+
+    /**
+     * Gets the changes of the current transaction, registering a
+     * synchronization to version and publish them on the first call.
+     *
+     * @return The pending changes by restaurant ID, or null when no transaction is active
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, FieldChange>> pendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Map<String, FieldChange>> pending =
+                (Map<String, Map<String, FieldChange>>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<String, Map<String, FieldChange>> created = new LinkedHashMap<>();
+        Map<String, Long> versions = new LinkedHashMap<>();
+        Map<String, Map<String, String>> states = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach((restaurantId, changes) -> {
+                    if (!changes.isEmpty()) {
+                        versions.put(restaurantId, nextVersion(restaurantId));
+                        states.put(restaurantId, currentState(restaurantId));
+                    }
+                });
+            }
+
+            @Override
+            public void afterCommit() {
+                versions.forEach((restaurantId, version) ->
+                        publish(restaurantId, version, created.get(restaurantId), states.get(restaurantId)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RestaurantChangeTracker.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Increments and returns the change version of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The new change version
+     */
+    private long nextVersion(String restaurantId) {
+        restaurantRepository.incrementChangeVersion(restaurantId);
+        Long version = restaurantRepository.findChangeVersion(restaurantId);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Reads the synchronized fields of a restaurant: the owner, the active
+     * status and the operating hours of every day.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return The field values keyed by field name, or null if the restaurant does not exist
+     */
+    private Map<String, String> currentState(String restaurantId) {
+        return restaurantRepository.findById(restaurantId).map(restaurant -> {
+            Map<String, String> state = new LinkedHashMap<>();
+            state.put("ownerId", restaurant.getOwnerId());
+            state.put("active", String.valueOf(restaurant.isActive()));
+            for (OperatingHours hours : operatingHoursRepository.findByRestaurantId(restaurantId)) {
+                state.put(RestaurantChangedEvent.OPERATING_HOURS_PREFIX + hours.getDayOfWeek().name(),
+                        OperatingHoursService.describeHours(hours.isClosed(), hours.getOpenTime(),
+                                hours.getCloseTime()));
+            }
+            return state;
+        }).orElse(null);
+    }
+
+    /**
+     * Publishes the changes of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param version The change version after the changes
+     * @param changes The changed fields
+     * @param state The synchronized fields after the changes
+     */
+    private void publish(String restaurantId, long version, Map<String, FieldChange> changes,
+                         Map<String, String> state) {
+        try {
+            restaurantEventProducer.publishRestaurantChangedEvent(
+                    new RestaurantChangedEvent(restaurantId, version, changes, state));
+            logger.debug("Published version {} of restaurant {} with {} changed fields",
+                    version, restaurantId, changes.size());
+        } catch (Exception e) {
+            logger.error("Error publishing restaurant changed event for restaurant {}: {}",
+                    restaurantId, e.getMessage());
+        }
+    }
+}
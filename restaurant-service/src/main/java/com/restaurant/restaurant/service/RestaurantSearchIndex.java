@@ -0,0 +1,491 @@
+package com.restaurant.restaurant.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.restaurant.domain.models.Restaurant;
+import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
+import com.restaurant.restaurant.utils.TransactionUtils;
+
+/**
+ * In-process inverted index for restaurant keyword search.
+ * This component provides:
+ * - Tokenized indexing of restaurant name, description, cuisine, city and address
+ * - Relevance-ranked keyword search with field boosts and inverse document frequency
+ * - Prefix matching so partial words still find restaurants
+ * - Facet counts by cuisine type and city
+ *
+ * Only active restaurants are indexed. The index is built from the database
+ * when the application is ready and is then maintained by RestaurantService
+ * and, for changes made on any instance, by RestaurantIndexConsumer.
+ * Changes made inside a transaction are applied only after the transaction
+ * commits, so rolled-back writes never become searchable.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RestaurantSearchIndex {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantSearchIndex.class);
+
+    /** Relevance boost for terms found in the restaurant name */
+    private static final double NAME_BOOST = 3.0;
+
+    /** Relevance boost for terms found in the cuisine type */
+    private static final double CUISINE_BOOST = 2.0;
+
+    /** Relevance boost for terms found in the city */
+    private static final double CITY_BOOST = 1.5;
+
+    /** Relevance boost for terms found in the address */
+    private static final double ADDRESS_BOOST = 1.0;
+
+    /** Relevance boost for terms found in the description */
+    private static final double DESCRIPTION_BOOST = 0.5;
+
+    /** Score multiplier applied when a query token only matches a longer term by prefix */
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    /** Repository used to build the index at startup */
+    private final RestaurantRepository restaurantRepository;
+
+    /** Postings lists: term to (restaurant ID to field-weighted term frequency) */
+    private final NavigableMap<String, Map<String, Double>> postings = new TreeMap<>();
+
+    /** Indexed documents by restaurant ID */
+    private final Map<String, IndexedRestaurant> documents = new HashMap<>();
+
+    /** Guards the postings and documents maps */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Whether the initial build has completed */
+    private volatile boolean ready;
+
+    /**
+     * Constructs a new RestaurantSearchIndex with required dependencies.
+     *
+     * @param restaurantRepository Repository used to build the index at startup
+     */
+    public RestaurantSearchIndex(RestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+    }
+
+    /**
+     * Builds the index from all active restaurants once the application is ready.
+     * Runs after data initializers so seeded restaurants are included.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startTime = System.currentTimeMillis();
+        rebuild(restaurantRepository.findByActiveTrue());
+        logger.info("Built restaurant search index with {} restaurants in {} ms",
+                size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Replaces the index contents with the given restaurants.
+     *
+     * @param restaurants The restaurants to index
+     */
+    public void rebuild(Collection<Restaurant> restaurants) {
+        List<IndexedRestaurant> indexed = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            if (restaurant.isActive()) {
+                indexed.add(new IndexedRestaurant(restaurant));
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            indexed.forEach(this::addDocument);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a restaurant, or removes it if it is no longer active.
+     * When called inside a transaction the change is deferred until commit.
+     * The restaurant's fields are captured immediately.
+     *
+     * @param restaurant The restaurant to index
+     */
+    public void index(Restaurant restaurant) {
+        String id = restaurant.getId();
+        IndexedRestaurant document = restaurant.isActive() ? new IndexedRestaurant(restaurant) : null;
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+                if (document != null) {
+                    addDocument(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes a restaurant from the index.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant to remove
+     */
+    public void remove(String restaurantId) {
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(restaurantId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Checks whether the initial index build has completed.
+     *
+     * @return true if the index can serve searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets the number of indexed restaurants.
+     *
+     * @return The number of indexed restaurants
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index for restaurants matching every token of the keyword.
+     * Results are ordered by descending relevance, ties broken by name.
+     * Cuisine type and city filters are optional, case-insensitive exact matches.
+     * Facet counts are computed over the filtered result set.
+     *
+     * @param keyword The search keyword
+     * @param cuisineType Optional cuisine type filter
+     * @param city Optional city filter
+     * @return The ranked matches and facet counts
+     */
+    public SearchResult search(String keyword, String cuisineType, String city) {
+        List<String> tokens = tokenize(keyword);
+        String cuisineFilter = normalizeFacet(cuisineType);
+        String cityFilter = normalizeFacet(city);
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = tokens.isEmpty() ? allDocumentsScore() : scoreTokens(tokens);
+
+            List<IndexedRestaurant> matches = new ArrayList<>(scores.size());
+            for (String id : scores.keySet()) {
+                IndexedRestaurant document = documents.get(id);
+                if (document != null
+                        && (cuisineFilter == null || cuisineFilter.equals(document.cuisineKey))
+                        && (cityFilter == null || cityFilter.equals(document.cityKey))) {
+                    matches.add(document);
+                }
+            }
+
+            matches.sort(Comparator.<IndexedRestaurant>comparingDouble(d -> scores.get(d.id)).reversed()
+                    .thenComparing(d -> d.sortName));
+
+            List<String> ids = new ArrayList<>(matches.size());
+            Map<String, Long> cuisineFacets = new LinkedHashMap<>();
+            Map<String, Long> cityFacets = new LinkedHashMap<>();
+            for (IndexedRestaurant document : matches) {
+                ids.add(document.id);
+                if (document.cuisineType != null) {
+                    cuisineFacets.merge(document.cuisineType, 1L, Long::sum);
+                }
+                if (document.city != null) {
+                    cityFacets.merge(document.city, 1L, Long::sum);
+                }
+            }
+
+            return new SearchResult(ids, sortFacets(cuisineFacets), sortFacets(cityFacets));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores documents that contain every query token.
+     * Each token contributes the best field-weighted frequency among the terms
+     * it matches, scaled by the term's inverse document frequency.
+     * Must be called while holding the read lock.
+     *
+     * @param tokens The query tokens
+     * @return Scores by restaurant ID for documents matching all tokens
+     */
+    private Map<String, Double> scoreTokens(List<String> tokens) {
+        Map<String, Double> scores = null;
+        int documentCount = Math.max(documents.size(), 1);
+
+        for (String token : tokens) {
+            Map<String, Double> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Map<String, Double>> entry
+                    : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                Map<String, Double> postingList = entry.getValue();
+                double idf = Math.log(1.0 + (double) documentCount / postingList.size());
+                double factor = entry.getKey().equals(token) ? 1.0 : PREFIX_MATCH_FACTOR;
+                for (Map.Entry<String, Double> posting : postingList.entrySet()) {
+                    tokenScores.merge(posting.getKey(), posting.getValue() * idf * factor, Math::max);
+                }
+            }
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<String, Double> combined = new HashMap<>();
+                for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                    Double tokenScore = tokenScores.get(entry.getKey());
+                    if (tokenScore != null) {
+                        combined.put(entry.getKey(), entry.getValue() + tokenScore);
+                    }
+                }
+                scores = combined;
+            }
+
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        return scores != null ? scores : Collections.emptyMap();
+    }
+
+    /**
+     * Gives every indexed document the same score, used for filter-only searches.
+     * Must be called while holding the read lock.
+     *
+     * @return A zero score for every indexed restaurant
+     */
+    private Map<String, Double> allDocumentsScore() {
+        Map<String, Double> scores = new HashMap<>();
+        documents.keySet().forEach(id -> scores.put(id, 0.0));
+        return scores;
+    }
+
+    /**
+     * Adds a document to the postings. Must be called while holding the write lock.
+     *
+     * @param document The document to add
+     */
+    private void addDocument(IndexedRestaurant document) {
+        documents.put(document.id, document);
+        document.termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id, weight));
+    }
+
+    /**
+     * Removes a document from the postings. Must be called while holding the write lock.
+     *
+     * @param restaurantId The ID of the restaurant to remove
+     */
+    private void removeDocument(String restaurantId) {
+        IndexedRestaurant existing = documents.remove(restaurantId);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.termWeights.keySet()) {
+            Map<String, Double> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(restaurantId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Orders facet counts by descending count, then by value.
+     *
+     * @param facets The unordered facet counts
+     * @return The facet counts in display order
+     */
+    private static Map<String, Long> sortFacets(Map<String, Long> facets) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        facets.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Splits text into lower-cased tokens on any character that is not a letter or digit.
+     *
+     * @param text The text to tokenize
+     * @return The tokens, possibly empty
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Normalizes a facet value for case-insensitive comparison.
+     *
+     * @param value The facet value
+     * @return The trimmed, lower-cased value, or null if blank
+     */
+    private static String normalizeFacet(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable snapshot of the indexed fields of a restaurant.
+     */
+    private static final class IndexedRestaurant {
+
+        /** Restaurant ID */
+        private final String id;
+
+        /** Lower-cased name used to break relevance ties */
+        private final String sortName;
+
+        /** Cuisine type as displayed in facets */
+        private final String cuisineType;
+
+        /** Normalized cuisine type for filtering */
+        private final String cuisineKey;
+
+        /** City as displayed in facets */
+        private final String city;
+
+        /** Normalized city for filtering */
+        private final String cityKey;
+
+        /** Field-weighted frequency of each term in the restaurant */
+        private final Map<String, Double> termWeights = new HashMap<>();
+
+        /**
+         * Captures the indexed fields of a restaurant.
+         *
+         * @param restaurant The restaurant to capture
+         */
+        IndexedRestaurant(Restaurant restaurant) {
+            this.id = restaurant.getId();
+            this.sortName = restaurant.getName() != null ? restaurant.getName().toLowerCase(Locale.ROOT) : "";
+            this.cuisineType = restaurant.getCuisineType() != null ? restaurant.getCuisineType().trim() : null;
+            this.cuisineKey = normalizeFacet(restaurant.getCuisineType());
+            this.city = restaurant.getCity() != null && !restaurant.getCity().isBlank()
+                    ? restaurant.getCity().trim() : null;
+            this.cityKey = normalizeFacet(restaurant.getCity());
+
+            addField(restaurant.getName(), NAME_BOOST);
+            addField(restaurant.getDescription(), DESCRIPTION_BOOST);
+            addField(restaurant.getCuisineType(), CUISINE_BOOST);
+            addField(restaurant.getCity(), CITY_BOOST);
+            addField(restaurant.getAddress(), ADDRESS_BOOST);
+        }
+
+        /**
+         * Adds the tokens of one field with the field's boost.
+         *
+         * @param text The field text
+         * @param boost The field boost
+         */
+        private void addField(String text, double boost) {
+            for (String token : tokenize(text)) {
+                termWeights.merge(token, boost, Double::sum);
+            }
+        }
+    }
+
+    /**
+     * Result of an index search: ranked restaurant IDs and facet counts.
+     */
+    public static final class SearchResult {
+
+        /** Matching restaurant IDs ordered by relevance */
+        private final List<String> restaurantIds;
+
+        /** Number of matches per cuisine type */
+        private final Map<String, Long> cuisineTypeFacets;
+
+        /** Number of matches per city */
+        private final Map<String, Long> cityFacets;
+
+        /**
+         * Creates a new search result.
+         *
+         * @param restaurantIds Matching restaurant IDs ordered by relevance
+         * @param cuisineTypeFacets Number of matches per cuisine type
+         * @param cityFacets Number of matches per city
+         */
+        SearchResult(List<String> restaurantIds, Map<String, Long> cuisineTypeFacets, Map<String, Long> cityFacets) {
+            this.restaurantIds = Collections.unmodifiableList(restaurantIds);
+            this.cuisineTypeFacets = Collections.unmodifiableMap(cuisineTypeFacets);
+            this.cityFacets = Collections.unmodifiableMap(cityFacets);
+        }
+
+        /**
+         * Gets the matching restaurant IDs ordered by relevance.
+         *
+         * @return The ranked restaurant IDs
+         */
+        public List<String> getRestaurantIds() {
+            return restaurantIds;
+        }
+
+        /**
+         * Gets the number of matches per cuisine type.
+         *
+         * @return The cuisine type facet counts
+         */
+        public Map<String, Long> getCuisineTypeFacets() {
+            return cuisineTypeFacets;
+        }
+
+        /**
+         * Gets the number of matches per city.
+         *
+         * @return The city facet counts
+         */
+        public Map<String, Long> getCityFacets() {
+            return cityFacets;
+        }
+    }
+}
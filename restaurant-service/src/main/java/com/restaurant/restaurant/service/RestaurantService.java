@@ -1,6 +1,8 @@
 package com.restaurant.restaurant.service;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -11,11 +13,12 @@ import org.locationtech.jts.geom.PrecisionModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.dto.restaurant.RestaurantDTO;
-import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
+import com.restaurant.common.events.restaurant.RestaurantSearchRequestEvent;
 import com.restaurant.common.exceptions.BaseException;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
@@ -23,8 +26,10 @@ import com.restaurant.restaurant.domain.models.Restaurant;
 import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
 import com.restaurant.restaurant.dto.RestaurantCreateRequest;
 import com.restaurant.restaurant.dto.RestaurantSearchCriteria;
+import com.restaurant.restaurant.dto.RestaurantSearchFacetsDTO;
 import com.restaurant.restaurant.dto.RestaurantUpdateRequest;
-import com.restaurant.restaurant.kafka.producers.RestaurantEventProducer;
+import com.restaurant.restaurant.utils.GeoPointIndex.Neighbor;
+import com.restaurant.restaurant.utils.SpatialUtils;
 
 import jakarta.transaction.Transactional;
 
@@ -46,14 +51,32 @@ public class RestaurantService {
     /** Logger for this service */
     private static final Logger logger = LoggerFactory.getLogger(RestaurantService.class);
 
+    /** Approximate length of one degree of latitude in kilometers */
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    /** Mean radius of the earth in kilometers, as used by {@link SpatialUtils} */
+    private static final double EARTH_RADIUS_KM = 6371;
+
     /** Repository for restaurant data access */
     private final RestaurantRepository restaurantRepository;
 
     /** Service for managing operating hours */
     private final OperatingHoursService operatingHoursService;
 
-    /** Producer for restaurant-related events */
-    private final RestaurantEventProducer restaurantEventProducer;
+    /** Utility for geographic distance calculations */
+    private final SpatialUtils spatialUtils;
+
+    /** In-process inverted index for keyword search */
+    private final RestaurantSearchIndex searchIndex;
+
+    /** In-process spatial index for location queries */
+    private final LocationIndex locationIndex;
+
+    /** Coalesces restaurant changes into one event per transaction */
+    private final RestaurantChangeTracker changeTracker;
+
+    /** Cache of compiled operating hours used for reservation time validation */
+    private final OperatingHoursCache operatingHoursCache;
 
     /** Factory for creating geometric objects */
     private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
@@ -63,14 +86,26 @@ public class RestaurantService {
      *
      * @param restaurantRepository Repository for restaurant data access
      * @param operatingHoursService Service for managing operating hours
-     * @param restaurantEventProducer Producer for restaurant-related events
+     * @param spatialUtils Utility for geographic distance calculations
+     * @param searchIndex In-process inverted index for keyword search
+     * @param locationIndex In-process spatial index for location queries
+     * @param changeTracker Coalesces restaurant changes into one event per transaction
+     * @param operatingHoursCache Cache of compiled operating hours used for reservation time validation
      */
     public RestaurantService(RestaurantRepository restaurantRepository,
             OperatingHoursService operatingHoursService,
-            RestaurantEventProducer restaurantEventProducer) {
+            SpatialUtils spatialUtils,
+            RestaurantSearchIndex searchIndex,
+            LocationIndex locationIndex,
+            RestaurantChangeTracker changeTracker,
+            OperatingHoursCache operatingHoursCache) {
         this.restaurantRepository = restaurantRepository;
         this.operatingHoursService = operatingHoursService;
-        this.restaurantEventProducer = restaurantEventProducer;
+        this.spatialUtils = spatialUtils;
+        this.searchIndex = searchIndex;
+        this.locationIndex = locationIndex;
+        this.changeTracker = changeTracker;
+        this.operatingHoursCache = operatingHoursCache;
     }
 
     /**
@@ -116,7 +151,9 @@ public class RestaurantService {
 
     /**
      * Searches restaurants based on provided criteria.
-     * If a keyword is provided, performs a text search.
+     * Keyword, cuisine type and city searches are answered from the in-process
+     * search index and ordered by relevance. Until the index has been built,
+     * they fall back to the database with the same filters.
      * Otherwise, returns all restaurants with pagination.
      *
      * @param criteria Search criteria (keyword, filters)
@@ -124,8 +161,15 @@ public class RestaurantService {
      * @return Page of matching RestaurantDTOs
      */
     public Page<RestaurantDTO> searchRestaurants(RestaurantSearchCriteria criteria, Pageable pageable) {
-        if (criteria.getKeyword() != null && !criteria.getKeyword().isEmpty()) {
-            return restaurantRepository.searchRestaurants(criteria.getKeyword(), pageable)
+        String keyword = blankToNull(criteria.getKeyword());
+        String cuisineType = blankToNull(criteria.getCuisineType());
+        String city = blankToNull(criteria.getCity());
+
+        if ((keyword != null || cuisineType != null || city != null) && searchIndex.isReady()) {
+            RestaurantSearchIndex.SearchResult result = searchIndex.search(keyword, cuisineType, city);
+            return loadRankedPage(result.getRestaurantIds(), pageable);
+        } else if (keyword != null || cuisineType != null || city != null) {
+            return restaurantRepository.searchRestaurants(keyword, cuisineType, city, pageable)
                     .map(this::convertToDTO);
         } else {
             // Default search
@@ -133,10 +177,163 @@ public class RestaurantService {
         }
     }
 
+    /**
+     * Computes facet counts by cuisine type and city for a search.
+     * Counts come from the search index, or from the database until the
+     * index has been built.
+     *
+     * @param criteria Search criteria (keyword, filters)
+     * @return Facet counts for the restaurants matching the criteria
+     */
+    public RestaurantSearchFacetsDTO getSearchFacets(RestaurantSearchCriteria criteria) {
+        String keyword = blankToNull(criteria.getKeyword());
+        String cuisineType = blankToNull(criteria.getCuisineType());
+        String city = blankToNull(criteria.getCity());
+
+        if (searchIndex.isReady()) {
+            RestaurantSearchIndex.SearchResult result = searchIndex.search(keyword, cuisineType, city);
+            return new RestaurantSearchFacetsDTO(result.getRestaurantIds().size(),
+                    result.getCuisineTypeFacets(), result.getCityFacets());
+        }
+
+        long totalMatches = 0;
+        Map<String, Long> cuisineTypes = new HashMap<>();
+        Map<String, Long> cities = new HashMap<>();
+        for (Object[] row : restaurantRepository.countSearchFacets(keyword, cuisineType, city)) {
+            long count = ((Number) row[2]).longValue();
+            totalMatches += count;
+            if (blankToNull((String) row[0]) != null) {
+                cuisineTypes.merge(((String) row[0]).trim(), count, Long::sum);
+            }
+            if (blankToNull((String) row[1]) != null) {
+                cities.merge(((String) row[1]).trim(), count, Long::sum);
+            }
+        }
+        return new RestaurantSearchFacetsDTO(totalMatches, sortFacets(cuisineTypes), sortFacets(cities));
+    }
+
+    /**
+     * Orders facet counts by descending count, then by value, as the search index does.
+     *
+     * @param facets The unordered facet counts
+     * @return The facet counts in display order
+     */
+    private static Map<String, Long> sortFacets(Map<String, Long> facets) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        facets.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Loads one page of restaurants from a relevance-ordered list of IDs.
+     * Only the restaurants on the requested page are fetched, and the
+     * relevance order is preserved.
+     *
+     * @param rankedIds Restaurant IDs ordered by relevance
+     * @param pageable Pagination parameters
+     * @return Page of RestaurantDTOs in relevance order
+     */
+    private Page<RestaurantDTO> loadRankedPage(List<String> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        return new PageImpl<>(loadInOrder(rankedIds.subList(from, to)), pageable, rankedIds.size());
+    }
+
+    /**
+     * Loads active restaurants by ID with a single query, preserving the order of the IDs.
+     *
+     * @param ids Restaurant IDs in the desired order
+     * @return RestaurantDTOs in the order of the IDs
+     */
+    private List<RestaurantDTO> loadInOrder(List<String> ids) {
+        Map<String, Restaurant> restaurantsById = restaurantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Restaurant::getId, r -> r));
+
+        return ids.stream()
+                .map(restaurantsById::get)
+                .filter(r -> r != null && r.isActive())
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Searches restaurants on behalf of a reservation search request.
+     * A request carrying a restaurant ID is answered with at most that restaurant.
+     * Otherwise name, cuisine, city and party size filters are evaluated in the
+     * database. Location searches are narrowed with a bounding box and checked
+     * against the exact great-circle distance in the same query, so every page
+     * is filled and the total counts only restaurants inside the radius.
+     *
+     * @param request The search request received from the reservation service
+     * @param pageable Pagination parameters for the page to load
+     * @return Page of matching RestaurantDTOs
+     */
+    public Page<RestaurantDTO> searchForReservation(RestaurantSearchRequestEvent request, Pageable pageable) {
+        if (request.getRestaurantId() != null && !request.getRestaurantId().isBlank()) {
+            List<RestaurantDTO> match = restaurantRepository.findById(request.getRestaurantId())
+                    .filter(Restaurant::isActive)
+                    .map(this::convertToDTO)
+                    .map(List::of)
+                    .orElse(List.of());
+            return new PageImpl<>(match, pageable, match.size());
+        }
+
+        boolean locationSearch = request.getLatitude() != null && request.getLongitude() != null
+                && request.getDistance() != null && request.getDistance() > 0;
+
+        Double minLatitude = null;
+        Double maxLatitude = null;
+        Double minLongitude = null;
+        Double maxLongitude = null;
+        Double maxHaversine = null;
+
+        if (locationSearch) {
+            double latitudeDelta = request.getDistance() / KM_PER_DEGREE_LATITUDE;
+            double longitudeDelta = request.getDistance()
+                    / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(request.getLatitude())), 0.01));
+            minLatitude = request.getLatitude() - latitudeDelta;
+            maxLatitude = request.getLatitude() + latitudeDelta;
+            minLongitude = request.getLongitude() - longitudeDelta;
+            maxLongitude = request.getLongitude() + longitudeDelta;
+            maxHaversine = maxHaversine(request.getDistance());
+        }
+
+        Page<Restaurant> candidates = restaurantRepository.searchForReservation(
+                blankToNull(request.getRestaurantName()),
+                blankToNull(request.getCuisineType()),
+                blankToNull(request.getCity()),
+                minLatitude, maxLatitude, minLongitude, maxLongitude,
+                locationSearch ? request.getLatitude() : null,
+                locationSearch ? request.getLongitude() : null,
+                maxHaversine,
+                request.getPartySize() > 0 ? request.getPartySize() : null,
+                pageable);
+
+        return candidates.map(this::convertToDTO);
+    }
+
+    /**
+     * Computes the largest haversine term of two points that are at most
+     * a given distance apart, for use as an exact distance bound in queries.
+     *
+     * @param distanceInKm The distance in kilometers
+     * @return The haversine term {@code sin²(distance / 2R)}, capped at 1
+     */
+    private static double maxHaversine(double distanceInKm) {
+        double halfAngle = Math.min(distanceInKm / (2 * EARTH_RADIUS_KM), Math.PI / 2);
+        double sin = Math.sin(halfAngle);
+        return sin * sin;
+    }
+
     /**
      * Finds restaurants near a specified location.
      * Returns restaurants within a specified distance (in kilometers)
-     * from the given coordinates.
+     * from the given coordinates, nearest first. Results are answered from
+     * the in-process location index; until it has been built, a bounding-box
+     * query is run against the database instead.
      *
      * @param latitude The latitude coordinate
      * @param longitude The longitude coordinate
@@ -144,14 +341,43 @@ public class RestaurantService {
      * @return List of nearby RestaurantDTOs
      */
     public List<RestaurantDTO> findNearbyRestaurants(double latitude, double longitude, double distanceInKm) {
-        // Convert km to meters
-        double distanceInMeters = distanceInKm * 1000;
+        if (locationIndex.isReady()) {
+            return loadInOrder(locationIndex.findRestaurantsWithin(latitude, longitude, distanceInKm).stream()
+                    .map(Neighbor::getId)
+                    .collect(Collectors.toList()));
+        }
 
-        return restaurantRepository.findNearbyRestaurants(latitude, longitude, distanceInMeters).stream()
+        double latitudeDelta = distanceInKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeDelta = distanceInKm
+                / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        return restaurantRepository.searchForReservation(null, null, null,
+                latitude - latitudeDelta, latitude + latitudeDelta,
+                longitude - longitudeDelta, longitude + longitudeDelta,
+                latitude, longitude, maxHaversine(distanceInKm),
+                null, Pageable.unpaged()).stream()
+                .sorted(Comparator.comparingDouble(r -> spatialUtils.calculateDistance(latitude, longitude,
+                        r.getLatitude(), r.getLongitude())))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds the restaurants nearest to a specified location.
+     *
+     * @param latitude The latitude coordinate
+     * @param longitude The longitude coordinate
+     * @param limit Maximum number of restaurants to return
+     * @param maxDistanceInKm Maximum distance in kilometers, or 0 for no limit
+     * @return List of RestaurantDTOs ordered by ascending distance
+     */
+    public List<RestaurantDTO> findNearestRestaurants(double latitude, double longitude, int limit,
+            double maxDistanceInKm) {
+        return loadInOrder(locationIndex.findNearestRestaurants(latitude, longitude, limit, maxDistanceInKm).stream()
+                .map(Neighbor::getId)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Creates a new restaurant.
      * This method:
@@ -199,10 +425,14 @@ public class RestaurantService {
         }
 
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        changeTracker.recordChange(savedRestaurant.getId(), "ownerId", null, savedRestaurant.getOwnerId());
 
         // Create default operating hours
         operatingHoursService.createDefaultOperatingHours(savedRestaurant);
 
+        searchIndex.index(savedRestaurant);
+        locationIndex.indexRestaurant(savedRestaurant);
+
         return convertToDTO(savedRestaurant);
     }
 
@@ -211,7 +441,7 @@ public class RestaurantService {
      * This method:
      * - Validates the update request
      * - Updates restaurant fields
-     * - Publishes events for significant changes
+     * - Publishes a single event with all changed fields
      *
      * @param id The ID of the restaurant to update
      * @param updateRequest The update request
@@ -230,6 +460,7 @@ public class RestaurantService {
         }
 
         Map<String, String> validationErrors = new HashMap<>();
+        Map<String, Object> before = snapshot(restaurant);
 
         try {
             // Validate name if provided
@@ -239,16 +470,7 @@ public class RestaurantService {
                 } else if (updateRequest.getName().length() > 255) {
                     validationErrors.put("name", "Restaurant name cannot exceed 255 characters");
                 } else {
-                    String oldValue = restaurant.getName();
                     restaurant.setName(updateRequest.getName());
-
-                    // Publish restaurant updated event
-                    try {
-                        restaurantEventProducer.publishRestaurantUpdatedEvent(
-                                new RestaurantUpdatedEvent(id, "name", oldValue, updateRequest.getName()));
-                    } catch (Exception e) {
-                        logger.error("Error publishing name update event: {}", e.getMessage());
-                    }
                 }
             }
 
@@ -319,21 +541,6 @@ public class RestaurantService {
                 restaurant.setCuisineType(updateRequest.getCuisineType());
             }
 
-            // Update total capacity if provided
-            if (updateRequest.getTotalCapacity() != 0 &&
-                    updateRequest.getTotalCapacity() != restaurant.getTotalCapacity()) {
-                int oldCapacity = restaurant.getTotalCapacity();
-                restaurant.setTotalCapacity(updateRequest.getTotalCapacity());
-
-                // Publish capacity changed event
-                try {
-                    restaurantEventProducer.publishCapacityChangedEvent(
-                            id, oldCapacity, updateRequest.getTotalCapacity(), "Manual Update");
-                } catch (Exception e) {
-                    logger.error("Error publishing capacity update event: {}", e.getMessage());
-                }
-            }
-
             // Update geolocation if provided
             if (updateRequest.getLatitude() != 0 && updateRequest.getLongitude() != 0) {
                 // Validate coordinates
@@ -359,9 +566,50 @@ public class RestaurantService {
         }
 
         Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        recordChanges(id, before, snapshot(updatedRestaurant));
+        searchIndex.index(updatedRestaurant);
+        locationIndex.indexRestaurant(updatedRestaurant);
         return convertToDTO(updatedRestaurant);
     }
 
+    /**
+     * Captures the published fields of a restaurant.
+     *
+     * @param restaurant The restaurant
+     * @return Field values keyed by field name
+     */
+    private Map<String, Object> snapshot(Restaurant restaurant) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", restaurant.getName());
+        fields.put("description", restaurant.getDescription());
+        fields.put("address", restaurant.getAddress());
+        fields.put("city", restaurant.getCity());
+        fields.put("state", restaurant.getState());
+        fields.put("zipCode", restaurant.getZipCode());
+        fields.put("country", restaurant.getCountry());
+        fields.put("phoneNumber", restaurant.getPhoneNumber());
+        fields.put("email", restaurant.getEmail());
+        fields.put("website", restaurant.getWebsite());
+        fields.put("cuisineType", restaurant.getCuisineType());
+        fields.put("totalCapacity", restaurant.getTotalCapacity());
+        fields.put("latitude", restaurant.getLatitude());
+        fields.put("longitude", restaurant.getLongitude());
+        fields.put("ownerId", restaurant.getOwnerId());
+        fields.put("active", restaurant.isActive());
+        return fields;
+    }
+
+    /**
+     * Records every field that differs between two snapshots of a restaurant.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param before The fields before the update
+     * @param after The fields after the update
+     */
+    private void recordChanges(String restaurantId, Map<String, Object> before, Map<String, Object> after) {
+        after.forEach((field, value) -> changeTracker.recordChange(restaurantId, field, before.get(field), value));
+    }
+
     /**
      * Toggles the active status of a restaurant.
      *
@@ -381,11 +629,11 @@ public class RestaurantService {
         if (restaurant.isActive() != active) {
             restaurant.setActive(active);
             restaurantRepository.save(restaurant);
+            searchIndex.index(restaurant);
+            locationIndex.indexRestaurant(restaurant);
+            operatingHoursCache.invalidate(id);
 
-            // Publish restaurant updated event
-            restaurantEventProducer.publishRestaurantUpdatedEvent(
-                    new RestaurantUpdatedEvent(id, "active",
-                            String.valueOf(!active), String.valueOf(active)));
+            changeTracker.recordChange(id, "active", !active, active);
         }
     }
 
@@ -401,12 +649,14 @@ public class RestaurantService {
                 .orElseThrow(() -> new EntityNotFoundException("Restaurant", id));
 
         // Instead of deleting, mark as inactive
+        boolean wasActive = restaurant.isActive();
         restaurant.setActive(false);
         restaurantRepository.save(restaurant);
+        searchIndex.remove(id);
+        locationIndex.removeRestaurant(id);
+        operatingHoursCache.invalidate(id);
 
-        // Publish restaurant updated event
-        restaurantEventProducer.publishRestaurantUpdatedEvent(
-                new RestaurantUpdatedEvent(id, "active", "true", "false"));
+        changeTracker.recordChange(id, "active", wasActive, false);
     }
 
     /**
@@ -483,6 +733,16 @@ public class RestaurantService {
         }
     }
 
+    /**
+     * Normalizes optional string filters so blank values disable the filter.
+     *
+     * @param value The raw filter value
+     * @return The trimmed value, or null if the value is null or blank
+     */
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     /**
      * Converts a Restaurant entity to its DTO representation.
      *
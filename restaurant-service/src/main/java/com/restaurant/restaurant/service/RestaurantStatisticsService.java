@@ -4,16 +4,20 @@ import com.restaurant.common.constants.StatusCodes;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.restaurant.domain.models.Restaurant;
 import com.restaurant.restaurant.domain.repositories.RestaurantRepository;
-import com.restaurant.restaurant.domain.repositories.RestaurantTableRepository;
 import com.restaurant.restaurant.dto.RestaurantStatisticsDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 /**
  * Service class for managing restaurant statistics.
  * This service provides functionality for:
  * - Retrieving comprehensive statistics about a restaurant's performance
  * - Analyzing table utilization and availability
  * - Monitoring restaurant ratings and capacity
+ *
+ * Table counts are read from in-memory counters, so dashboards can poll
+ * statistics without loading the restaurant's tables.
  * 
  * @author Restaurant Reservation Team
  * @version 1.0
@@ -24,19 +28,19 @@ public class RestaurantStatisticsService {
     /** Repository for restaurant data access */
     private final RestaurantRepository restaurantRepository;
 
-    /** Repository for table data access */
-    private final RestaurantTableRepository tableRepository;
+    /** In-memory counters of tables per restaurant and status */
+    private final TableStatusCounters tableStatusCounters;
 
     /**
      * Constructs a new RestaurantStatisticsService with required dependencies.
      *
      * @param restaurantRepository Repository for restaurant data access
-     * @param tableRepository Repository for table data access
+     * @param tableStatusCounters In-memory counters of tables per restaurant and status
      */
     public RestaurantStatisticsService(RestaurantRepository restaurantRepository,
-                                      RestaurantTableRepository tableRepository) {
+                                      TableStatusCounters tableStatusCounters) {
         this.restaurantRepository = restaurantRepository;
-        this.tableRepository = tableRepository;
+        this.tableStatusCounters = tableStatusCounters;
     }
 
     /**
@@ -44,7 +48,7 @@ public class RestaurantStatisticsService {
      * The statistics include:
      * - Basic restaurant information (name, capacity)
      * - Rating information (average rating, total ratings)
-     * - Table utilization (total, available, reserved, occupied)
+     * - Table utilization (total, available, reserved, occupied, free seats)
      *
      * @param restaurantId The ID of the restaurant
      * @return RestaurantStatisticsDTO containing the statistics
@@ -61,25 +65,14 @@ public class RestaurantStatisticsService {
         statistics.setAverageRating(restaurant.getAverageRating());
         statistics.setTotalRatings(restaurant.getTotalRatings());
         
-        // Get table counts
-        var allTables = tableRepository.findByRestaurantId(restaurantId);
-        statistics.setTotalTables(allTables.size());
-        
-        // Count tables by status
-        long availableTables = allTables.stream()
-                .filter(t -> t.getStatus().equals(StatusCodes.TABLE_AVAILABLE))
-                .count();
-        statistics.setAvailableTables((int) availableTables);
-        
-        long reservedTables = allTables.stream()
-                .filter(t -> t.getStatus().equals(StatusCodes.TABLE_RESERVED))
-                .count();
-        statistics.setReservedTables((int) reservedTables);
-        
-        long occupiedTables = allTables.stream()
-                .filter(t -> t.getStatus().equals(StatusCodes.TABLE_OCCUPIED))
-                .count();
-        statistics.setOccupiedTables((int) occupiedTables);
+        // Get table counts by status
+        Map<String, Integer> tableCounts = tableStatusCounters.getCounts(restaurantId);
+        statistics.setTotalTables(tableCounts.values().stream().mapToInt(Integer::intValue).sum());
+        statistics.setAvailableTables(tableCounts.getOrDefault(StatusCodes.TABLE_AVAILABLE, 0));
+        statistics.setReservedTables(tableCounts.getOrDefault(StatusCodes.TABLE_RESERVED, 0));
+        statistics.setOccupiedTables(tableCounts.getOrDefault(StatusCodes.TABLE_OCCUPIED, 0));
+        statistics.setAvailableCapacity(
+                tableStatusCounters.getSeats(restaurantId).getOrDefault(StatusCodes.TABLE_AVAILABLE, 0));
         
         return statistics;
     }
@@ -1,5 +1,6 @@
 package com.restaurant.restaurant.service;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,19 +52,37 @@ public class TableService {
     /** Producer for restaurant-related events */
     private final RestaurantEventProducer restaurantEventProducer;
 
+    /** In-memory counters of tables per restaurant and status */
+    private final TableStatusCounters tableStatusCounters;
+
+    /** Service maintaining occupancy time series */
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+    /** Maintains the total seating capacity of restaurants */
+    private final RestaurantCapacityTracker capacityTracker;
+
     /**
      * Constructs a new TableService with required dependencies.
      *
      * @param tableRepository Repository for table data access
      * @param restaurantRepository Repository for restaurant data access
      * @param restaurantEventProducer Producer for restaurant-related events
+     * @param tableStatusCounters In-memory counters of tables per restaurant and status
+     * @param occupancyAnalyticsService Service maintaining occupancy time series
+     * @param capacityTracker Maintains the total seating capacity of restaurants
      */
     public TableService(RestaurantTableRepository tableRepository,
             RestaurantRepository restaurantRepository,
-            RestaurantEventProducer restaurantEventProducer) {
+            RestaurantEventProducer restaurantEventProducer,
+            TableStatusCounters tableStatusCounters,
+            OccupancyAnalyticsService occupancyAnalyticsService,
+            RestaurantCapacityTracker capacityTracker) {
         this.tableRepository = tableRepository;
         this.restaurantRepository = restaurantRepository;
         this.restaurantEventProducer = restaurantEventProducer;
+        this.tableStatusCounters = tableStatusCounters;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.capacityTracker = capacityTracker;
     }
 
     /**
@@ -168,9 +187,10 @@ public class TableService {
         table.setSpecialFeatures(createRequest.getSpecialFeatures());
 
         RestaurantTable savedTable = tableRepository.save(table);
+        tableStatusCounters.tableAdded(restaurantId, savedTable.getStatus(), savedTable.getCapacity());
 
-        // Update restaurant total capacity
-        updateRestaurantCapacity(restaurant);
+        // Add the table's seats to the restaurant total capacity
+        capacityTracker.adjustCapacity(restaurant, savedTable.getCapacity(), "Table Added");
 
         return convertToDTO(savedTable);
     }
@@ -198,6 +218,8 @@ public class TableService {
                     "Cannot update table for an inactive restaurant");
         }
 
+        int oldCapacity = table.getCapacity();
+
         if (updateRequest.getTableNumber() != null) {
             table.setTableNumber(updateRequest.getTableNumber());
         }
@@ -228,8 +250,11 @@ public class TableService {
 
         RestaurantTable updatedTable = tableRepository.save(table);
 
-        // Update restaurant total capacity if capacity changed
-        updateRestaurantCapacity(updatedTable.getRestaurant());
+        // Apply the change in seats to the restaurant total capacity
+        tableStatusCounters.tableResized(updatedTable.getRestaurant().getId(), updatedTable.getStatus(),
+                oldCapacity, updatedTable.getCapacity());
+        capacityTracker.adjustCapacity(updatedTable.getRestaurant(),
+                updatedTable.getCapacity() - oldCapacity, "Table Updated");
 
         return convertToDTO(updatedTable);
     }
@@ -285,11 +310,17 @@ public class TableService {
                 return convertToDTO(table);
             }
 
-            // Set the new status
+            // Set the new status, remembering when an occupied table was seated
+            LocalDateTime occupiedSince = table.getOccupiedSince();
             table.setStatus(status);
+            table.setOccupiedSince(StatusCodes.TABLE_OCCUPIED.equals(status) ? LocalDateTime.now() : null);
 
             // Save and flush to ensure the transaction is committed
             RestaurantTable updatedTable = tableRepository.saveAndFlush(table);
+            tableStatusCounters.statusChanged(updatedTable.getRestaurant().getId(), oldStatus, status,
+                    updatedTable.getCapacity());
+            occupancyAnalyticsService.recordTableStatus(updatedTable.getRestaurant().getId(), oldStatus, status,
+                    occupiedSince);
             logger.info("Successfully updated table status: {} from {} to {}",
                     id, oldStatus, status);
 
@@ -330,9 +361,15 @@ public class TableService {
         // Specific validation for status transitions
         validateStatusTransition(table, status);
 
+        LocalDateTime occupiedSince = table.getOccupiedSince();
         table.setStatus(status);
+        table.setOccupiedSince(StatusCodes.TABLE_OCCUPIED.equals(status) ? LocalDateTime.now() : null);
 
         RestaurantTable updatedTable = tableRepository.save(table);
+        tableStatusCounters.statusChanged(updatedTable.getRestaurant().getId(), oldStatus, status,
+                updatedTable.getCapacity());
+        occupancyAnalyticsService.recordTableStatus(updatedTable.getRestaurant().getId(), oldStatus, status,
+                occupiedSince);
 
         // Publish table status changed event
         if (publishEvent) {
@@ -403,9 +440,10 @@ public class TableService {
 
         // Actually delete the table (not just marking inactive)
         tableRepository.delete(table);
+        tableStatusCounters.tableRemoved(restaurant.getId(), table.getStatus(), table.getCapacity());
 
-        // Update restaurant total capacity
-        updateRestaurantCapacity(restaurant);
+        // Remove the table's seats from the restaurant total capacity
+        capacityTracker.adjustCapacity(restaurant, -table.getCapacity(), "Table Removed");
     }
 
     /**
@@ -472,42 +510,6 @@ public class TableService {
         return true;
     }
 
-    /**
-     * Updates the total capacity of a restaurant.
-     * This method recalculates the total capacity based on all available tables.
-     * The restaurant's totalCapacity is set to the sum of the capacities of all
-     * tables with status TABLE_AVAILABLE.
-     *
-     * This method is called automatically when tables are added, updated, or deleted,
-     * ensuring that the restaurant's capacity is always in sync with its tables.
-     *
-     * @param restaurant The restaurant to update
-     */
-    private void updateRestaurantCapacity(Restaurant restaurant) {
-        if (!restaurant.isActive()) {
-            throw new ValidationException("restaurant",
-                    "Cannot update capacity for an inactive restaurant");
-        }
-
-        List<RestaurantTable> activeTables = tableRepository.findByRestaurantIdAndStatus(
-                restaurant.getId(), StatusCodes.TABLE_AVAILABLE);
-
-        int totalCapacity = activeTables.stream()
-                .mapToInt(RestaurantTable::getCapacity)
-                .sum();
-
-        int oldCapacity = restaurant.getTotalCapacity();
-
-        if (oldCapacity != totalCapacity) {
-            restaurant.setTotalCapacity(totalCapacity);
-            restaurantRepository.save(restaurant);
-
-            // Publish capacity changed event
-            restaurantEventProducer.publishCapacityChangedEvent(
-                    restaurant.getId(), oldCapacity, totalCapacity, "Table Update");
-        }
-    }
-
     /**
      * Converts a RestaurantTable entity to its DTO representation.
      *
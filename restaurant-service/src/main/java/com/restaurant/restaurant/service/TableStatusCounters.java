@@ -0,0 +1,248 @@
+package com.restaurant.restaurant.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.restaurant.domain.repositories.RestaurantTableRepository;
+import com.restaurant.restaurant.utils.TransactionUtils;
+
+/**
+ * In-memory counters of tables and seats per restaurant and status.
+ * This component provides:
+ * - Constant-time table and seat counts by status for a restaurant
+ * - Incremental updates from table creation, deletion, resizing and status changes
+ * - Periodic reconciliation against the database
+ *
+ * Counters are loaded from a single aggregate query when the application is
+ * ready and are then maintained by TableService. Changes made inside a
+ * transaction are applied only after the transaction commits. Reconciliation
+ * replaces all counters with a fresh aggregate, correcting any drift from
+ * writes that bypass TableService.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+@Component
+public class TableStatusCounters {
+
+    /** Logger for this component */
+    private static final Logger logger = LoggerFactory.getLogger(TableStatusCounters.class);
+
+    /** Repository used for aggregate table counts */
+    private final RestaurantTableRepository tableRepository;
+
+    /** Table and seat counts by restaurant ID and status */
+    private volatile Map<String, Map<String, StatusCount>> counters = new ConcurrentHashMap<>();
+
+    /** Whether the counters have been loaded */
+    private volatile boolean ready;
+
+    /**
+     * Constructs a new TableStatusCounters with required dependencies.
+     *
+     * @param tableRepository Repository used for aggregate table counts
+     */
+    public TableStatusCounters(RestaurantTableRepository tableRepository) {
+        this.tableRepository = tableRepository;
+    }
+
+    /**
+     * Loads the counters once the application is ready.
+     * Runs after data initializers so seeded tables are included.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Replaces all counters with table and seat counts from a single GROUP BY query.
+     */
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Map<String, StatusCount>> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : tableRepository.countByRestaurantAndStatus()) {
+            StatusCount count = new StatusCount();
+            count.tables.set(((Number) row[2]).intValue());
+            count.seats.set(row[3] != null ? ((Number) row[3]).intValue() : 0);
+            loaded.computeIfAbsent((String) row[0], id -> new ConcurrentHashMap<>()).put((String) row[1], count);
+        }
+        counters = loaded;
+        ready = true;
+
+        logger.debug("Reconciled table status counters for {} restaurants in {} ms",
+                loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Records a newly created table.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status The status of the new table
+     * @param capacity The number of seats at the table
+     */
+    public void tableAdded(String restaurantId, String status, int capacity) {
+        TransactionUtils.afterCommit(() -> adjust(restaurantId, status, 1, capacity));
+    }
+
+    /**
+     * Records a deleted table.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status The status of the table when it was deleted
+     * @param capacity The number of seats at the table
+     */
+    public void tableRemoved(String restaurantId, String status, int capacity) {
+        TransactionUtils.afterCommit(() -> adjust(restaurantId, status, -1, -capacity));
+    }
+
+    /**
+     * Records a change in the number of seats at a table.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status The status of the table
+     * @param oldCapacity The previous number of seats
+     * @param newCapacity The new number of seats
+     */
+    public void tableResized(String restaurantId, String status, int oldCapacity, int newCapacity) {
+        if (oldCapacity == newCapacity) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> adjust(restaurantId, status, 0, newCapacity - oldCapacity));
+    }
+
+    /**
+     * Records a table status change.
+     * When called inside a transaction the change is deferred until commit.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param oldStatus The previous status
+     * @param newStatus The new status
+     * @param capacity The number of seats at the table
+     */
+    public void statusChanged(String restaurantId, String oldStatus, String newStatus, int capacity) {
+        if (oldStatus != null && oldStatus.equals(newStatus)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            adjust(restaurantId, oldStatus, -1, -capacity);
+            adjust(restaurantId, newStatus, 1, capacity);
+        });
+    }
+
+    /**
+     * Gets the number of tables of a restaurant by status.
+     * Before the counters are loaded the counts are read from the database.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Table counts keyed by status
+     */
+    public Map<String, Integer> getCounts(String restaurantId) {
+        return read(restaurantId, false);
+    }
+
+    /**
+     * Gets the number of seats of a restaurant by table status.
+     * Before the counters are loaded the counts are read from the database.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @return Seat counts keyed by status
+     */
+    public Map<String, Integer> getSeats(String restaurantId) {
+        return read(restaurantId, true);
+    }
+
+    /**
+     * Gets the IDs of all restaurants with counted tables.
+     *
+     * @return The restaurant IDs
+     */
+    public Set<String> getRestaurantIds() {
+        return new HashSet<>(counters.keySet());
+    }
+
+    /**
+     * Reads table or seat counts of a restaurant by status.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param seats true to read seat counts, false to read table counts
+     * @return Counts keyed by status
+     */
+    private Map<String, Integer> read(String restaurantId, boolean seats) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (!ready) {
+            List<Object[]> rows = tableRepository.countByStatusForRestaurant(restaurantId);
+            for (Object[] row : rows) {
+                Number value = (Number) row[seats ? 2 : 1];
+                counts.put((String) row[0], value != null ? value.intValue() : 0);
+            }
+            return counts;
+        }
+
+        Map<String, StatusCount> restaurantCounters = counters.get(restaurantId);
+        if (restaurantCounters != null) {
+            restaurantCounters.forEach((status, count) ->
+                    counts.put(status, Math.max(0, (seats ? count.seats : count.tables).get())));
+        }
+        return counts;
+    }
+
+    /**
+     * Adjusts the counters of a restaurant and status.
+     *
+     * @param restaurantId The ID of the restaurant
+     * @param status The table status
+     * @param tableDelta The number of tables to add
+     * @param seatDelta The number of seats to add
+     */
+    private void adjust(String restaurantId, String status, int tableDelta, int seatDelta) {
+        if (restaurantId == null || status == null) {
+            return;
+        }
+        Map<String, StatusCount> restaurantCounters = counters.get(restaurantId);
+        if (restaurantCounters == null) {
+            restaurantCounters = new ConcurrentHashMap<>();
+            Map<String, StatusCount> existing = counters.putIfAbsent(restaurantId, restaurantCounters);
+            if (existing != null) {
+                restaurantCounters = existing;
+            }
+        }
+        StatusCount count = restaurantCounters.get(status);
+        if (count == null) {
+            count = new StatusCount();
+            StatusCount existing = restaurantCounters.putIfAbsent(status, count);
+            if (existing != null) {
+                count = existing;
+            }
+        }
+        count.tables.addAndGet(tableDelta);
+        count.seats.addAndGet(seatDelta);
+    }
+
+    /**
+     * Table and seat counters of one restaurant and status.
+     */
+    private static final class StatusCount {
+
+        /** Number of tables */
+        private final AtomicInteger tables = new AtomicInteger();
+
+        /** Number of seats */
+        private final AtomicInteger seats = new AtomicInteger();
+    }
+}
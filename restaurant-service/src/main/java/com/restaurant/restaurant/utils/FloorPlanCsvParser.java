@@ -0,0 +1,155 @@
+package com.restaurant.restaurant.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.restaurant.dto.TableCreateRequest;
+
+/**
+ * Parser for floor plans uploaded as CSV.
+ * This class provides:
+ * - Header-based column mapping, so columns may appear in any order
+ * - Quoted values with embedded commas and doubled quotes
+ * - Row-level error reporting
+ *
+ * The header must contain tableNumber and capacity; location, shape,
+ * minCapacity, accessible, combinable and specialFeatures are optional.
+ * Blank lines are ignored.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class FloorPlanCsvParser {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FloorPlanCsvParser() {
+    }
+
+    /**
+     * Parses a CSV floor plan into table definitions.
+     *
+     * @param csv The CSV content including a header line
+     * @return Table definitions in file order
+     * @throws ValidationException if the header is incomplete or a value is malformed
+     */
+    public static List<TableCreateRequest> parse(String csv) {
+        List<TableCreateRequest> tables = new ArrayList<>();
+        if (csv == null || csv.isBlank()) {
+            return tables;
+        }
+
+        String[] lines = csv.split("\r?\n");
+        int headerLine = 0;
+        while (headerLine < lines.length && lines[headerLine].isBlank()) {
+            headerLine++;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitLine(lines[headerLine].replace("\uFEFF", ""));
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("tablenumber") || !columns.containsKey("capacity")) {
+            throw new ValidationException("CSV header must contain the tableNumber and capacity columns");
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        for (int lineIndex = headerLine + 1; lineIndex < lines.length; lineIndex++) {
+            if (lines[lineIndex].isBlank()) {
+                continue;
+            }
+            List<String> values = splitLine(lines[lineIndex]);
+            String row = "line " + (lineIndex + 1);
+            try {
+                TableCreateRequest table = new TableCreateRequest();
+                table.setTableNumber(value(values, columns, "tablenumber"));
+                table.setCapacity(intValue(values, columns, "capacity"));
+                table.setMinCapacity(intValue(values, columns, "mincapacity"));
+                table.setLocation(value(values, columns, "location"));
+                table.setShape(value(values, columns, "shape"));
+                table.setAccessible(Boolean.parseBoolean(value(values, columns, "accessible")));
+                table.setCombinable(Boolean.parseBoolean(value(values, columns, "combinable")));
+                table.setSpecialFeatures(value(values, columns, "specialfeatures"));
+                tables.add(table);
+            } catch (NumberFormatException e) {
+                errors.put(row, "Capacity values must be whole numbers");
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Floor plan CSV could not be parsed", errors);
+        }
+        return tables;
+    }
+
+    /**
+     * Splits a CSV line into values, honouring double quotes.
+     *
+     * @param line The CSV line
+     * @return The values of the line
+     */
+    private static List<String> splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Gets a trimmed value of a column.
+     *
+     * @param values The values of the line
+     * @param columns Column indexes by lower-case name
+     * @param column The lower-case column name
+     * @return The value, or null when the column is absent or empty
+     */
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the integer value of a column.
+     *
+     * @param values The values of the line
+     * @param columns Column indexes by lower-case name
+     * @param column The lower-case column name
+     * @return The value, or 0 when the column is absent or empty
+     * @throws NumberFormatException if the value is not an integer
+     */
+    private static int intValue(List<String> values, Map<String, Integer> columns, String column) {
+        String value = value(values, columns, column);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,337 @@
+package com.restaurant.restaurant.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.quadtree.Quadtree;
+
+/**
+ * Thread-safe in-memory spatial index of geographic points identified by string IDs.
+ * This class provides:
+ * - Insertion, relocation and removal of points
+ * - Radius queries ordered by distance
+ * - k-nearest-neighbour queries with an optional maximum distance
+ *
+ * Points are stored in a JTS Quadtree keyed by longitude/latitude. Each query
+ * first selects candidates with a bounding-box lookup, then applies the exact
+ * great-circle distance check from SpatialUtils, so distances are only
+ * computed for points near the search center.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class GeoPointIndex {
+
+    /** Approximate length of one degree of latitude in kilometers */
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    /** Initial search radius used by nearest-neighbour queries */
+    private static final double INITIAL_NEAREST_RADIUS_KM = 1.0;
+
+    /** Half the circumference of the earth, beyond which no point can lie */
+    private static final double MAX_DISTANCE_KM = 20_038.0;
+
+    /** Utility for exact distance calculations */
+    private final SpatialUtils spatialUtils;
+
+    /** Quadtree holding the indexed points */
+    private final Quadtree tree = new Quadtree();
+
+    /** Indexed points by ID */
+    private final Map<String, IndexedPoint> points = new HashMap<>();
+
+    /** Guards the tree and the points map */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param spatialUtils Utility for exact distance calculations
+     */
+    public GeoPointIndex(SpatialUtils spatialUtils) {
+        this.spatialUtils = spatialUtils;
+    }
+
+    /**
+     * Adds a point or moves an existing point to new coordinates.
+     *
+     * @param id The ID of the point
+     * @param latitude The latitude in degrees
+     * @param longitude The longitude in degrees
+     */
+    public void put(String id, double latitude, double longitude) {
+        IndexedPoint point = new IndexedPoint(id, latitude, longitude);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            points.put(id, point);
+            tree.insert(point.envelope(), point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a point from the index if present.
+     *
+     * @param id The ID of the point
+     */
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every point from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (IndexedPoint point : points.values()) {
+                tree.remove(point.envelope(), point);
+            }
+            points.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed points.
+     *
+     * @return The number of points
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds all points within a radius of a location, nearest first.
+     *
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param radiusKm The search radius in kilometers
+     * @param filter Optional predicate on point IDs; null accepts every point
+     * @return Matching points ordered by ascending distance
+     */
+    public List<Neighbor> withinRadius(double latitude, double longitude, double radiusKm, Predicate<String> filter) {
+        lock.readLock().lock();
+        try {
+            List<Neighbor> result = collectWithin(latitude, longitude, radiusKm, filter);
+            result.sort(Comparator.comparingDouble(Neighbor::getDistanceKm));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the k points nearest to a location.
+     * The search radius starts small and doubles until k points are found or
+     * the maximum distance is reached. Once k points lie within a radius, no
+     * point outside that radius can be nearer, so the result is exact.
+     *
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param k The maximum number of points to return
+     * @param maxDistanceKm The maximum distance in kilometers, or 0 for no limit
+     * @param filter Optional predicate on point IDs; null accepts every point
+     * @return Up to k points ordered by ascending distance
+     */
+    public List<Neighbor> nearest(double latitude, double longitude, int k, double maxDistanceKm,
+            Predicate<String> filter) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        double limit = maxDistanceKm > 0 ? Math.min(maxDistanceKm, MAX_DISTANCE_KM) : MAX_DISTANCE_KM;
+
+        lock.readLock().lock();
+        try {
+            double radius = Math.min(INITIAL_NEAREST_RADIUS_KM, limit);
+            List<Neighbor> found;
+            while (true) {
+                found = collectWithin(latitude, longitude, radius, filter);
+                if (found.size() >= k || radius >= limit) {
+                    break;
+                }
+                radius = Math.min(radius * 2, limit);
+            }
+            found.sort(Comparator.comparingDouble(Neighbor::getDistanceKm));
+            return found.size() > k ? new ArrayList<>(found.subList(0, k)) : found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects points within a radius. Must be called while holding the read lock.
+     *
+     * @param latitude The latitude of the search center
+     * @param longitude The longitude of the search center
+     * @param radiusKm The search radius in kilometers
+     * @param filter Optional predicate on point IDs
+     * @return Matching points in no particular order
+     */
+    private List<Neighbor> collectWithin(double latitude, double longitude, double radiusKm,
+            Predicate<String> filter) {
+        List<Neighbor> result = new ArrayList<>();
+        for (Envelope box : boundingBoxes(latitude, longitude, radiusKm)) {
+            for (Object candidate : tree.query(box)) {
+                IndexedPoint point = (IndexedPoint) candidate;
+                // The quadtree may return points from neighbouring nodes, so re-check the box
+                if (!box.contains(point.longitude, point.latitude)
+                        || (filter != null && !filter.test(point.id))) {
+                    continue;
+                }
+                double distance = spatialUtils.calculateDistance(latitude, longitude, point.latitude, point.longitude);
+                if (distance <= radiusKm) {
+                    result.add(new Neighbor(point.id, distance));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the longitude/latitude boxes enclosing a circle on the earth.
+     * Boxes crossing the antimeridian are split in two, and circles reaching a
+     * pole cover the full longitude range.
+     *
+     * @param latitude The latitude of the circle center
+     * @param longitude The longitude of the circle center
+     * @param radiusKm The circle radius in kilometers
+     * @return One or two bounding boxes
+     */
+    private List<Envelope> boundingBoxes(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(latitude - latitudeDelta, -90.0);
+        double maxLatitude = Math.min(latitude + latitudeDelta, 90.0);
+
+        double cosLatitude = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeDelta = cosLatitude > 0 ? radiusKm / (KM_PER_DEGREE_LATITUDE * cosLatitude) : 360.0;
+
+        List<Envelope> boxes = new ArrayList<>(2);
+        if (longitudeDelta >= 180.0) {
+            boxes.add(new Envelope(-180.0, 180.0, minLatitude, maxLatitude));
+            return boxes;
+        }
+
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -180.0) {
+            boxes.add(new Envelope(minLongitude + 360.0, 180.0, minLatitude, maxLatitude));
+            minLongitude = -180.0;
+        } else if (maxLongitude > 180.0) {
+            boxes.add(new Envelope(-180.0, maxLongitude - 360.0, minLatitude, maxLatitude));
+            maxLongitude = 180.0;
+        }
+        boxes.add(new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude));
+        return boxes;
+    }
+
+    /**
+     * Removes a point. Must be called while holding the write lock.
+     *
+     * @param id The ID of the point
+     */
+    private void removeInternal(String id) {
+        IndexedPoint existing = points.remove(id);
+        if (existing != null) {
+            tree.remove(existing.envelope(), existing);
+        }
+    }
+
+    /**
+     * A point stored in the index.
+     */
+    private static final class IndexedPoint {
+
+        /** The point ID */
+        private final String id;
+
+        /** The latitude in degrees */
+        private final double latitude;
+
+        /** The longitude in degrees */
+        private final double longitude;
+
+        /**
+         * Creates a new indexed point.
+         *
+         * @param id The point ID
+         * @param latitude The latitude in degrees
+         * @param longitude The longitude in degrees
+         */
+        IndexedPoint(String id, double latitude, double longitude) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        /**
+         * Gets the degenerate envelope of the point.
+         *
+         * @return The point envelope
+         */
+        Envelope envelope() {
+            return new Envelope(longitude, longitude, latitude, latitude);
+        }
+    }
+
+    /**
+     * A query result: the ID of a point and its distance from the search center.
+     */
+    public static final class Neighbor {
+
+        /** The point ID */
+        private final String id;
+
+        /** The distance from the search center in kilometers */
+        private final double distanceKm;
+
+        /**
+         * Creates a new query result.
+         *
+         * @param id The point ID
+         * @param distanceKm The distance from the search center in kilometers
+         */
+        Neighbor(String id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        /**
+         * Gets the point ID.
+         *
+         * @return The point ID
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the distance from the search center.
+         *
+         * @return The distance in kilometers
+         */
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
@@ -0,0 +1,568 @@
+package com.restaurant.restaurant.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Thread-safe in-memory occupancy time series of a single restaurant.
+ * This class provides:
+ * - Per-minute occupancy samples for the last day
+ * - Hourly buckets for the last 90 days
+ * - Daily buckets, including a turn-time histogram, for the last 90 days
+ * - Draining of hourly and daily buckets into persistent rollups
+ *
+ * Every resolution is a fixed-size ring of primitive arrays indexed by the
+ * time unit modulo the ring size. Each slot remembers which unit it holds
+ * and is cleared when a newer unit reuses it, so old data expires without a
+ * cleanup pass. Samples are rolled up into the hourly and daily buckets as
+ * they are recorded, so no separate aggregation job is needed. Draining a
+ * resolution hands over its non-empty buckets and clears them, so the rings
+ * then only hold what was recorded since the last drain.
+ *
+ * Times are expressed as minutes since the epoch of the local date-time,
+ * matching the LocalDateTime values used throughout the service.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public class OccupancySeries {
+
+    /** Width of a turn-time histogram bin in minutes */
+    public static final int TURN_BIN_MINUTES = 15;
+
+    /** Number of turn-time histogram bins; the last bin holds all longer turns */
+    public static final int TURN_BINS = 16;
+
+    /**
+     * Resolutions kept by the series, with their unit length and retention.
+     */
+    public enum Resolution {
+        /** One bucket per minute, kept for one day */
+        MINUTE(1, 24 * 60),
+        /** One bucket per hour, kept for 90 days */
+        HOUR(60, 90 * 24),
+        /** One bucket per day, kept for 90 days */
+        DAY(24 * 60, 90);
+
+        /** Length of a bucket in minutes */
+        private final int minutes;
+
+        /** Number of buckets kept */
+        private final int slots;
+
+        /**
+         * Creates a resolution.
+         *
+         * @param minutes Length of a bucket in minutes
+         * @param slots Number of buckets kept
+         */
+        Resolution(int minutes, int slots) {
+            this.minutes = minutes;
+            this.slots = slots;
+        }
+
+        /**
+         * Gets the length of a bucket in minutes.
+         *
+         * @return The bucket length
+         */
+        public int getMinutes() {
+            return minutes;
+        }
+
+        /**
+         * Gets the number of buckets kept.
+         *
+         * @return The retention in buckets
+         */
+        public int getSlots() {
+            return slots;
+        }
+    }
+
+    /** Minute ring */
+    private final Ring minutes = new Ring(Resolution.MINUTE, false);
+
+    /** Hour ring */
+    private final Ring hours = new Ring(Resolution.HOUR, false);
+
+    /** Day ring with turn-time histograms */
+    private final Ring days = new Ring(Resolution.DAY, true);
+
+    /**
+     * Records an occupancy sample.
+     *
+     * @param epochMinute The minute of the sample
+     * @param occupiedTables The number of occupied tables
+     * @param totalTables The total number of tables
+     */
+    public synchronized void recordSample(long epochMinute, int occupiedTables, int totalTables) {
+        minutes.addSample(epochMinute, occupiedTables, totalTables);
+        hours.addSample(epochMinute, occupiedTables, totalTables);
+        days.addSample(epochMinute, occupiedTables, totalTables);
+    }
+
+    /**
+     * Records the covers of a reservation in the hour and day it starts.
+     *
+     * @param epochMinute The start minute of the reservation
+     * @param covers The number of guests
+     */
+    public synchronized void recordCovers(long epochMinute, int covers) {
+        hours.addCovers(epochMinute, covers);
+        days.addCovers(epochMinute, covers);
+    }
+
+    /**
+     * Records a completed table turn in the hour and day it ended.
+     *
+     * @param epochMinute The minute the table was released
+     * @param turnMinutes How long the table was occupied
+     */
+    public synchronized void recordTurn(long epochMinute, int turnMinutes) {
+        hours.addTurn(epochMinute, turnMinutes);
+        days.addTurn(epochMinute, turnMinutes);
+    }
+
+    /**
+     * Gets the buckets of a resolution covering a time range.
+     * Units outside the retention window or without data are returned empty.
+     *
+     * @param resolution The bucket resolution
+     * @param fromMinute The start of the range (inclusive)
+     * @param toMinute The end of the range (exclusive)
+     * @return One bucket per unit in the range, oldest first
+     */
+    public synchronized List<Bucket> getBuckets(Resolution resolution, long fromMinute, long toMinute) {
+        return ring(resolution).buckets(Math.floorDiv(fromMinute, resolution.minutes),
+                Math.floorDiv(toMinute - 1, resolution.minutes));
+    }
+
+    /**
+     * Removes and returns every non-empty bucket of a resolution.
+     *
+     * @param resolution The bucket resolution
+     * @return The drained buckets, oldest first
+     */
+    public synchronized List<Bucket> drain(Resolution resolution) {
+        return ring(resolution).drain();
+    }
+
+    /**
+     * Adds a bucket back into a resolution, for example after a failed drain.
+     * Counts are added to whatever the slot already holds and the peak is
+     * merged; buckets older than the retention window are dropped.
+     *
+     * @param resolution The bucket resolution
+     * @param bucket The bucket to add
+     */
+    public synchronized void merge(Resolution resolution, Bucket bucket) {
+        ring(resolution).merge(bucket);
+    }
+
+    /**
+     * Gets the ring of a resolution.
+     *
+     * @param resolution The resolution
+     * @return The ring holding its buckets
+     */
+    private Ring ring(Resolution resolution) {
+        switch (resolution) {
+            case MINUTE:
+                return minutes;
+            case HOUR:
+                return hours;
+            default:
+                return days;
+        }
+    }
+
+    /**
+     * Immutable copy of one bucket.
+     */
+    public static final class Bucket {
+
+        /** First minute of the bucket */
+        private final long startMinute;
+
+        /** Number of occupancy samples */
+        private final int samples;
+
+        /** Sum of occupied tables over all samples */
+        private final long occupiedSum;
+
+        /** Sum of total tables over all samples */
+        private final long tableSum;
+
+        /** Highest number of occupied tables in a sample */
+        private final int peakOccupied;
+
+        /** Number of guests of reservations starting in the bucket */
+        private final int covers;
+
+        /** Number of reservations starting in the bucket */
+        private final int reservations;
+
+        /** Number of table turns ending in the bucket */
+        private final int turns;
+
+        /** Sum of the lengths of those turns in minutes */
+        private final long turnMinutes;
+
+        /** Turn counts per histogram bin, or null if not kept */
+        private final int[] turnHistogram;
+
+        /**
+         * Creates a bucket copy.
+         *
+         * @param startMinute First minute of the bucket
+         * @param samples Number of occupancy samples
+         * @param occupiedSum Sum of occupied tables over all samples
+         * @param tableSum Sum of total tables over all samples
+         * @param peakOccupied Highest number of occupied tables in a sample
+         * @param covers Number of guests of reservations starting in the bucket
+         * @param reservations Number of reservations starting in the bucket
+         * @param turns Number of table turns ending in the bucket
+         * @param turnMinutes Sum of the lengths of those turns in minutes
+         * @param turnHistogram Turn counts per histogram bin, or null if not kept
+         */
+        public Bucket(long startMinute, int samples, long occupiedSum, long tableSum, int peakOccupied,
+                int covers, int reservations, int turns, long turnMinutes, int[] turnHistogram) {
+            this.startMinute = startMinute;
+            this.samples = samples;
+            this.occupiedSum = occupiedSum;
+            this.tableSum = tableSum;
+            this.peakOccupied = peakOccupied;
+            this.covers = covers;
+            this.reservations = reservations;
+            this.turns = turns;
+            this.turnMinutes = turnMinutes;
+            this.turnHistogram = turnHistogram;
+        }
+
+        /**
+         * Gets the first minute of the bucket.
+         *
+         * @return The first minute of the bucket
+         */
+        public long getStartMinute() {
+            return startMinute;
+        }
+
+        /**
+         * Gets the number of occupancy samples.
+         *
+         * @return The number of occupancy samples
+         */
+        public int getSamples() {
+            return samples;
+        }
+
+        /**
+         * Gets the sum of occupied tables over all samples.
+         *
+         * @return The sum of occupied tables over all samples
+         */
+        public long getOccupiedSum() {
+            return occupiedSum;
+        }
+
+        /**
+         * Gets the sum of total tables over all samples.
+         *
+         * @return The sum of total tables over all samples
+         */
+        public long getTableSum() {
+            return tableSum;
+        }
+
+        /**
+         * Gets the highest number of occupied tables in a sample.
+         *
+         * @return The highest number of occupied tables in a sample
+         */
+        public int getPeakOccupied() {
+            return peakOccupied;
+        }
+
+        /**
+         * Gets the number of guests of reservations starting in the bucket.
+         *
+         * @return The number of guests of reservations starting in the bucket
+         */
+        public int getCovers() {
+            return covers;
+        }
+
+        /**
+         * Gets the number of reservations starting in the bucket.
+         *
+         * @return The number of reservations starting in the bucket
+         */
+        public int getReservations() {
+            return reservations;
+        }
+
+        /**
+         * Gets the number of table turns ending in the bucket.
+         *
+         * @return The number of table turns ending in the bucket
+         */
+        public int getTurns() {
+            return turns;
+        }
+
+        /**
+         * Gets the sum of the lengths of those turns in minutes.
+         *
+         * @return The sum of the lengths of those turns in minutes
+         */
+        public long getTurnMinutes() {
+            return turnMinutes;
+        }
+
+        /**
+         * Gets the turn counts per histogram bin.
+         *
+         * @return A copy of the turn histogram, or null if not kept
+         */
+        public int[] getTurnHistogram() {
+            return turnHistogram != null ? turnHistogram.clone() : null;
+        }
+
+        /**
+         * Checks whether the bucket holds no data.
+         *
+         * @return true if nothing was recorded in the bucket
+         */
+        public boolean isEmpty() {
+            return samples == 0 && reservations == 0 && turns == 0;
+        }
+    }
+
+    /**
+     * Fixed-size ring of buckets stored in parallel primitive arrays.
+     */
+    private static final class Ring {
+
+        /** Resolution of the ring */
+        private final Resolution resolution;
+
+        /** Unit held by each slot, plus one; 0 marks an empty slot */
+        private final long[] units;
+
+        /** Number of occupancy samples per slot */
+        private final int[] samples;
+
+        /** Sum of occupied tables per slot */
+        private final long[] occupiedSums;
+
+        /** Sum of total tables per slot */
+        private final long[] tableSums;
+
+        /** Peak occupied tables per slot */
+        private final int[] peaks;
+
+        /** Covers per slot */
+        private final int[] covers;
+
+        /** Reservations per slot */
+        private final int[] reservations;
+
+        /** Turns per slot */
+        private final int[] turns;
+
+        /** Turn minutes per slot */
+        private final long[] turnMinutes;
+
+        /** Turn-time histogram per slot, or null if not kept */
+        private final int[][] histograms;
+
+        /** Most recent unit written */
+        private long latestUnit = Long.MIN_VALUE;
+
+        /**
+         * Creates an empty ring.
+         *
+         * @param resolution Resolution of the ring
+         * @param keepHistograms Whether to keep turn-time histograms
+         */
+        Ring(Resolution resolution, boolean keepHistograms) {
+            int size = resolution.slots;
+            this.resolution = resolution;
+            this.units = new long[size];
+            this.samples = new int[size];
+            this.occupiedSums = new long[size];
+            this.tableSums = new long[size];
+            this.peaks = new int[size];
+            this.covers = new int[size];
+            this.reservations = new int[size];
+            this.turns = new int[size];
+            this.turnMinutes = new long[size];
+            this.histograms = keepHistograms ? new int[size][TURN_BINS] : null;
+        }
+
+        /**
+         * Adds an occupancy sample to the slot of a minute.
+         *
+         * @param epochMinute The minute of the sample
+         * @param occupied The number of occupied tables
+         * @param total The total number of tables
+         */
+        void addSample(long epochMinute, int occupied, int total) {
+            int slot = slotFor(epochMinute);
+            if (slot < 0) {
+                return;
+            }
+            samples[slot]++;
+            occupiedSums[slot] += occupied;
+            tableSums[slot] += total;
+            peaks[slot] = Math.max(peaks[slot], occupied);
+        }
+
+        /**
+         * Adds a reservation's covers to the slot of a minute.
+         *
+         * @param epochMinute The start minute of the reservation
+         * @param partySize The number of guests
+         */
+        void addCovers(long epochMinute, int partySize) {
+            int slot = slotFor(epochMinute);
+            if (slot < 0) {
+                return;
+            }
+            covers[slot] += partySize;
+            reservations[slot]++;
+        }
+
+        /**
+         * Adds a table turn to the slot of a minute.
+         *
+         * @param epochMinute The minute the table was released
+         * @param minutes How long the table was occupied
+         */
+        void addTurn(long epochMinute, int minutes) {
+            int slot = slotFor(epochMinute);
+            if (slot < 0) {
+                return;
+            }
+            turns[slot]++;
+            turnMinutes[slot] += minutes;
+            if (histograms != null) {
+                histograms[slot][Math.min(TURN_BINS - 1, minutes / TURN_BIN_MINUTES)]++;
+            }
+        }
+
+        /**
+         * Finds the slot for a minute, clearing it if it holds an older unit.
+         * Minutes older than the retention window are rejected.
+         *
+         * @param epochMinute The minute
+         * @return The slot index, or -1 if the minute is too old
+         */
+        private int slotFor(long epochMinute) {
+            long unit = Math.floorDiv(epochMinute, resolution.minutes);
+            if (latestUnit != Long.MIN_VALUE && unit <= latestUnit - resolution.slots) {
+                return -1;
+            }
+            latestUnit = Math.max(latestUnit, unit);
+
+            int slot = (int) Math.floorMod(unit, (long) resolution.slots);
+            if (units[slot] != unit + 1) {
+                units[slot] = unit + 1;
+                samples[slot] = 0;
+                occupiedSums[slot] = 0;
+                tableSums[slot] = 0;
+                peaks[slot] = 0;
+                covers[slot] = 0;
+                reservations[slot] = 0;
+                turns[slot] = 0;
+                turnMinutes[slot] = 0;
+                if (histograms != null) {
+                    Arrays.fill(histograms[slot], 0);
+                }
+            }
+            return slot;
+        }
+
+        /**
+         * Copies the buckets of a unit range.
+         *
+         * @param fromUnit The first unit (inclusive)
+         * @param toUnit The last unit (inclusive)
+         * @return One bucket per unit, empty where the ring holds no data for it
+         */
+        List<Bucket> buckets(long fromUnit, long toUnit) {
+            List<Bucket> result = new ArrayList<>();
+            for (long unit = fromUnit; unit <= toUnit; unit++) {
+                int slot = (int) Math.floorMod(unit, (long) resolution.slots);
+                long startMinute = unit * resolution.minutes;
+                if (units[slot] == unit + 1) {
+                    result.add(copy(slot, startMinute));
+                } else {
+                    result.add(new Bucket(startMinute, 0, 0, 0, 0, 0, 0, 0, 0, null));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Copies and clears every slot holding data.
+         *
+         * @return The drained buckets, oldest first
+         */
+        List<Bucket> drain() {
+            List<Bucket> result = new ArrayList<>();
+            for (int slot = 0; slot < units.length; slot++) {
+                if (units[slot] != 0) {
+                    Bucket bucket = copy(slot, (units[slot] - 1) * resolution.minutes);
+                    units[slot] = 0;
+                    if (!bucket.isEmpty()) {
+                        result.add(bucket);
+                    }
+                }
+            }
+            result.sort((a, b) -> Long.compare(a.getStartMinute(), b.getStartMinute()));
+            return result;
+        }
+
+        /**
+         * Adds the counts of a bucket to the slot of its unit.
+         *
+         * @param bucket The bucket to add
+         */
+        void merge(Bucket bucket) {
+            int slot = slotFor(bucket.getStartMinute());
+            if (slot < 0) {
+                return;
+            }
+            samples[slot] += bucket.getSamples();
+            occupiedSums[slot] += bucket.getOccupiedSum();
+            tableSums[slot] += bucket.getTableSum();
+            peaks[slot] = Math.max(peaks[slot], bucket.getPeakOccupied());
+            covers[slot] += bucket.getCovers();
+            reservations[slot] += bucket.getReservations();
+            turns[slot] += bucket.getTurns();
+            turnMinutes[slot] += bucket.getTurnMinutes();
+            if (histograms != null && bucket.turnHistogram != null) {
+                for (int bin = 0; bin < TURN_BINS; bin++) {
+                    histograms[slot][bin] += bucket.turnHistogram[bin];
+                }
+            }
+        }
+
+        /**
+         * Copies one slot into a bucket.
+         *
+         * @param slot The slot index
+         * @param startMinute First minute of the slot's unit
+         * @return The bucket copy
+         */
+        private Bucket copy(int slot, long startMinute) {
+            return new Bucket(startMinute, samples[slot], occupiedSums[slot], tableSums[slot],
+                    peaks[slot], covers[slot], reservations[slot], turns[slot], turnMinutes[slot],
+                    histograms != null ? histograms[slot].clone() : null);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurant.restaurant.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for running work at transaction boundaries.
+ * In-memory indexes, counters and caches use it to apply a change only
+ * once the database change it mirrors has committed.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class TransactionUtils {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private TransactionUtils() {
+    }
+
+    /**
+     * Runs an action after the current transaction commits, or
+     * immediately when no transaction is active.
+     * The action is dropped if the transaction rolls back.
+     *
+     * @param action The action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.restaurant.restaurant.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+
+import com.restaurant.common.constants.ErrorCodes;
+import com.restaurant.restaurant.domain.models.OperatingHours;
+
+/**
+ * Compiled weekly operating hours of a single restaurant.
+ * This class provides:
+ * - One bit per minute of the week telling whether the restaurant accepts reservations
+ * - Constant-time checks without queries or allocations for open minutes
+ * - Precomputed rejections for closed days, times outside opening hours and breaks
+ *
+ * Bits are indexed by the day of week ordinal times 1440 plus the minute of
+ * the day. A minute is open when it lies within [openTime, closeTime) of its
+ * day and outside [breakStartTime, breakEndTime), matching
+ * {@link OperatingHours#isOpenAt(LocalTime)} at minute precision.
+ *
+ * Instances are immutable and safe to share between threads.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+public final class WeeklyHoursMask {
+
+    /** Number of minutes in a day */
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /** Number of days in a week */
+    private static final int DAYS = 7;
+
+    /** Formatter for times shown in rejection messages */
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+
+    /** Rejection returned for every time of an inactive restaurant */
+    private static final Rejection INACTIVE =
+            new Rejection("Restaurant is not active", ErrorCodes.RESTAURANT_NOT_ACTIVE);
+
+    /** Rejection returned for days without operating hours */
+    private static final Rejection HOURS_NOT_FOUND =
+            new Rejection("Operating hours not found for the requested day", ErrorCodes.INVALID_RESERVATION_TIME);
+
+    /** Open minutes of the week, 64 per word */
+    private final long[] bits = new long[(DAYS * MINUTES_PER_DAY + 63) / 64];
+
+    /** Whether the restaurant is active */
+    private final boolean active;
+
+    /** Rejection of each day for times outside its opening hours */
+    private final Rejection[] dayRejections = new Rejection[DAYS];
+
+    /** Rejection of each day for times during its break, or null if it has none */
+    private final Rejection[] breakRejections = new Rejection[DAYS];
+
+    /** First break minute of each day */
+    private final int[] breakStarts = new int[DAYS];
+
+    /** First minute after the break of each day */
+    private final int[] breakEnds = new int[DAYS];
+
+    /**
+     * Compiles the operating hours of a restaurant.
+     *
+     * @param active Whether the restaurant is active
+     * @param hours The operating hours of the restaurant, at most one per day
+     */
+    public WeeklyHoursMask(boolean active, Collection<OperatingHours> hours) {
+        this.active = active;
+        for (int day = 0; day < DAYS; day++) {
+            dayRejections[day] = HOURS_NOT_FOUND;
+        }
+        for (OperatingHours dayHours : hours) {
+            compileDay(dayHours);
+        }
+    }
+
+    /**
+     * Checks a reservation time against the compiled hours.
+     *
+     * @param dayOfWeek The day of the reservation
+     * @param minuteOfDay The minute of the day of the reservation, from 0 to 1439
+     * @return null if the restaurant accepts reservations at that time, otherwise the reason it does not
+     */
+    public Rejection check(DayOfWeek dayOfWeek, int minuteOfDay) {
+        if (!active) {
+            return INACTIVE;
+        }
+        int day = dayOfWeek.ordinal();
+        int bit = day * MINUTES_PER_DAY + minuteOfDay;
+        if ((bits[bit >>> 6] & (1L << bit)) != 0) {
+            return null;
+        }
+        Rejection breakRejection = breakRejections[day];
+        if (breakRejection != null && minuteOfDay >= breakStarts[day] && minuteOfDay < breakEnds[day]) {
+            return breakRejection;
+        }
+        return dayRejections[day];
+    }
+
+    /**
+     * Sets the open minutes and rejections of one day.
+     *
+     * @param hours The operating hours of the day
+     */
+    private void compileDay(OperatingHours hours) {
+        DayOfWeek dayOfWeek = hours.getDayOfWeek();
+        int day = dayOfWeek.ordinal();
+
+        if (hours.isClosed()) {
+            dayRejections[day] = new Rejection("Restaurant is closed on " + dayOfWeek,
+                    ErrorCodes.OUTSIDE_OPERATING_HOURS);
+            return;
+        }
+        if (hours.getOpenTime() == null || hours.getCloseTime() == null) {
+            return;
+        }
+
+        dayRejections[day] = new Rejection("Reservation time must be between "
+                + hours.getOpenTime().format(TIME_FORMATTER) + " and "
+                + hours.getCloseTime().format(TIME_FORMATTER), ErrorCodes.OUTSIDE_OPERATING_HOURS);
+
+        int base = day * MINUTES_PER_DAY;
+        setRange(base + minuteOf(hours.getOpenTime()), base + minuteOf(hours.getCloseTime()), true);
+
+        if (hours.getBreakStartTime() != null && hours.getBreakEndTime() != null) {
+            breakStarts[day] = minuteOf(hours.getBreakStartTime());
+            breakEnds[day] = minuteOf(hours.getBreakEndTime());
+            breakRejections[day] = new Rejection("Restaurant is on break between "
+                    + hours.getBreakStartTime().format(TIME_FORMATTER) + " and "
+                    + hours.getBreakEndTime().format(TIME_FORMATTER), ErrorCodes.OUTSIDE_OPERATING_HOURS);
+            setRange(base + breakStarts[day], base + breakEnds[day], false);
+        }
+    }
+
+    /**
+     * Sets or clears a range of bits.
+     *
+     * @param from The first bit, inclusive
+     * @param to The last bit, exclusive
+     * @param open Whether the bits are set or cleared
+     */
+    private void setRange(int from, int to, boolean open) {
+        for (int bit = from; bit < to; bit++) {
+            if (open) {
+                bits[bit >>> 6] |= 1L << bit;
+            } else {
+                bits[bit >>> 6] &= ~(1L << bit);
+            }
+        }
+    }
+
+    /**
+     * Gets the minute of the day of a time, ignoring seconds.
+     *
+     * @param time The time
+     * @return The minute of the day
+     */
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Reason a reservation time is not accepted.
+     */
+    public static final class Rejection {
+
+        /** Message describing why the time is not accepted */
+        private final String message;
+
+        /** Error code of the rejection */
+        private final String errorCode;
+
+        /**
+         * Creates a rejection.
+         *
+         * @param message Message describing why the time is not accepted
+         * @param errorCode Error code of the rejection
+         */
+        public Rejection(String message, String errorCode) {
+            this.message = message;
+            this.errorCode = errorCode;
+        }
+
+        /**
+         * Gets the message describing why the time is not accepted.
+         *
+         * @return The message
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the error code of the rejection.
+         *
+         * @return The error code
+         */
+        public String getErrorCode() {
+            return errorCode;
+        }
+    }
+}
@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS restaurants (
     average_rating NUMERIC(3,2),
     total_ratings INTEGER,
     active BOOLEAN DEFAULT TRUE,
+    change_version BIGINT DEFAULT 0,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL
 );
@@ -38,6 +39,7 @@ CREATE TABLE IF NOT EXISTS restaurant_tables (
     combinable BOOLEAN DEFAULT FALSE,
     special_features VARCHAR(255),
     active BOOLEAN DEFAULT TRUE,
+    occupied_since TIMESTAMP,
     UNIQUE(restaurant_id, table_number)
 );
 
@@ -84,6 +86,62 @@ CREATE TABLE IF NOT EXISTS staff (
     active BOOLEAN DEFAULT TRUE
 );
 
+CREATE TABLE IF NOT EXISTS occupancy_rollups (
+    id VARCHAR(36) PRIMARY KEY,
+    restaurant_id VARCHAR(36) NOT NULL,
+    resolution VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    samples INTEGER NOT NULL DEFAULT 0,
+    occupied_sum BIGINT NOT NULL DEFAULT 0,
+    table_sum BIGINT NOT NULL DEFAULT 0,
+    peak_occupied INTEGER NOT NULL DEFAULT 0,
+    covers INTEGER NOT NULL DEFAULT 0,
+    reservations INTEGER NOT NULL DEFAULT 0,
+    turns INTEGER NOT NULL DEFAULT 0,
+    turn_minutes BIGINT NOT NULL DEFAULT 0,
+    UNIQUE(restaurant_id, resolution, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS occupancy_turn_bins (
+    id VARCHAR(36) PRIMARY KEY,
+    restaurant_id VARCHAR(36) NOT NULL,
+    turn_date DATE NOT NULL,
+    bin INTEGER NOT NULL,
+    turns INTEGER NOT NULL DEFAULT 0,
+    UNIQUE(restaurant_id, turn_date, bin)
+);
+
+CREATE TABLE IF NOT EXISTS pending_reservation_covers (
+    reservation_id VARCHAR(36) PRIMARY KEY,
+    restaurant_id VARCHAR(36) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    party_size INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_pending_covers_start ON pending_reservation_covers(start_time);
+
+CREATE TABLE IF NOT EXISTS table_bookings (
+    id VARCHAR(36) PRIMARY KEY,
+    reservation_id VARCHAR(36) NOT NULL,
+    restaurant_id VARCHAR(36) NOT NULL,
+    table_id VARCHAR(36) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_table_bookings_reservation ON table_bookings(reservation_id);
+CREATE INDEX IF NOT EXISTS idx_table_bookings_restaurant_time ON table_bookings(restaurant_id, start_time, end_time);
+
+CREATE TABLE IF NOT EXISTS schedule_overrides (
+    id VARCHAR(36) PRIMARY KEY,
+    restaurant_id VARCHAR(36) NOT NULL,
+    date DATE NOT NULL,
+    closed BOOLEAN,
+    open_time TIME,
+    close_time TIME,
+    UNIQUE(restaurant_id, date)
+);
+
 -- Create spatial indexes for performance
 CREATE INDEX IF NOT EXISTS idx_restaurant_location ON restaurants USING GIST(location);
 CREATE INDEX IF NOT EXISTS idx_branch_location ON branches USING GIST(location);
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.restaurant.restaurant.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.restaurant.utils.GeoPointIndex.Neighbor;
+
+/**
+ * Unit tests for {@link GeoPointIndex}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class GeoPointIndexTest {
+
+    /** Latitude of the search center used by most tests */
+    private static final double CENTER_LATITUDE = 48.8566;
+
+    /** Longitude of the search center used by most tests */
+    private static final double CENTER_LONGITUDE = 2.3522;
+
+    private GeoPointIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoPointIndex(new SpatialUtils());
+    }
+
+    @Test
+    void nearestDoublesTheRadiusUntilEnoughPointsAreFound() {
+        index.put("near", CENTER_LATITUDE + 0.004, CENTER_LONGITUDE);
+        index.put("city", CENTER_LATITUDE + 0.05, CENTER_LONGITUDE);
+        index.put("region", CENTER_LATITUDE + 1.0, CENTER_LONGITUDE);
+        index.put("far", CENTER_LATITUDE + 8.0, CENTER_LONGITUDE);
+
+        List<Neighbor> nearest = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 3, 0, null);
+
+        assertThat(nearest).extracting(Neighbor::getId).containsExactly("near", "city", "region");
+        assertThat(nearest.get(2).getDistanceKm()).isBetween(110.0, 112.5);
+    }
+
+    @Test
+    void nearestIsExactWhenTheFirstRadiusHoldsMorePointsThanRequested() {
+        index.put("b", CENTER_LATITUDE + 0.006, CENTER_LONGITUDE);
+        index.put("a", CENTER_LATITUDE + 0.002, CENTER_LONGITUDE);
+        index.put("c", CENTER_LATITUDE, CENTER_LONGITUDE + 0.012);
+
+        List<Neighbor> nearest = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 2, 0, null);
+
+        assertThat(nearest).extracting(Neighbor::getId).containsExactly("a", "b");
+    }
+
+    @Test
+    void nearestStopsAtTheMaximumDistance() {
+        index.put("near", CENTER_LATITUDE + 0.01, CENTER_LONGITUDE);
+        index.put("far", CENTER_LATITUDE + 0.5, CENTER_LONGITUDE);
+
+        List<Neighbor> nearest = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 5, 10.0, null);
+
+        assertThat(nearest).extracting(Neighbor::getId).containsExactly("near");
+    }
+
+    @Test
+    void nearestReturnsEveryPointWhenFewerThanRequestedExist() {
+        index.put("paris", CENTER_LATITUDE, CENTER_LONGITUDE);
+        index.put("sydney", -33.8688, 151.2093);
+
+        List<Neighbor> nearest = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 5, 0, null);
+
+        assertThat(nearest).extracting(Neighbor::getId).containsExactly("paris", "sydney");
+    }
+
+    @Test
+    void nearestAppliesTheFilterBeforeCounting() {
+        index.put("closed", CENTER_LATITUDE + 0.001, CENTER_LONGITUDE);
+        index.put("open", CENTER_LATITUDE + 0.2, CENTER_LONGITUDE);
+
+        List<Neighbor> nearest = index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 1, 0, id -> !id.equals("closed"));
+
+        assertThat(nearest).extracting(Neighbor::getId).containsExactly("open");
+    }
+
+    @Test
+    void nearestReturnsNothingForNonPositiveK() {
+        index.put("near", CENTER_LATITUDE, CENTER_LONGITUDE);
+
+        assertThat(index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 0, 0, null)).isEmpty();
+    }
+
+    @Test
+    void withinRadiusFindsPointsAcrossTheAntimeridian() {
+        index.put("east", 0.0, 179.99);
+        index.put("west", 0.0, -179.99);
+        index.put("elsewhere", 0.0, 170.0);
+
+        List<Neighbor> found = index.withinRadius(0.0, 179.995, 5.0, null);
+
+        assertThat(found).extracting(Neighbor::getId).containsExactly("east", "west");
+    }
+
+    @Test
+    void putMovesAnExistingPointAndRemoveDropsIt() {
+        index.put("moving", CENTER_LATITUDE + 3.0, CENTER_LONGITUDE);
+        index.put("moving", CENTER_LATITUDE + 0.001, CENTER_LONGITUDE);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.withinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, 1.0, null))
+                .extracting(Neighbor::getId).containsExactly("moving");
+
+        index.remove("moving");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, 1, 0, null)).isEmpty();
+    }
+}
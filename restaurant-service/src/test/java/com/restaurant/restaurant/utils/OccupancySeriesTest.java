@@ -0,0 +1,175 @@
+package com.restaurant.restaurant.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.restaurant.utils.OccupancySeries.Bucket;
+import com.restaurant.restaurant.utils.OccupancySeries.Resolution;
+
+/**
+ * Unit tests for {@link OccupancySeries}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class OccupancySeriesTest {
+
+    /** First minute of an arbitrary day */
+    private static final long DAY_START = 20_000L * 24 * 60;
+
+    private OccupancySeries series;
+
+    @BeforeEach
+    void setUp() {
+        series = new OccupancySeries();
+    }
+
+    @Test
+    void samplesAreRolledUpIntoEveryResolution() {
+        series.recordSample(DAY_START + 60, 2, 10);
+        series.recordSample(DAY_START + 61, 5, 10);
+        series.recordSample(DAY_START + 119, 3, 12);
+        series.recordSample(DAY_START + 120, 1, 12);
+
+        Bucket minute = only(series.getBuckets(Resolution.MINUTE, DAY_START + 61, DAY_START + 62));
+        assertThat(minute.getSamples()).isEqualTo(1);
+        assertThat(minute.getOccupiedSum()).isEqualTo(5);
+
+        List<Bucket> hours = series.getBuckets(Resolution.HOUR, DAY_START + 60, DAY_START + 180);
+        assertThat(hours).hasSize(2);
+        assertThat(hours.get(0).getStartMinute()).isEqualTo(DAY_START + 60);
+        assertThat(hours.get(0).getSamples()).isEqualTo(3);
+        assertThat(hours.get(0).getOccupiedSum()).isEqualTo(10);
+        assertThat(hours.get(0).getTableSum()).isEqualTo(32);
+        assertThat(hours.get(0).getPeakOccupied()).isEqualTo(5);
+        assertThat(hours.get(1).getSamples()).isEqualTo(1);
+
+        Bucket day = only(series.getBuckets(Resolution.DAY, DAY_START, DAY_START + 24 * 60));
+        assertThat(day.getSamples()).isEqualTo(4);
+        assertThat(day.getPeakOccupied()).isEqualTo(5);
+    }
+
+    @Test
+    void rangesWithoutDataAreFilledWithEmptyBuckets() {
+        series.recordSample(DAY_START + 5, 1, 4);
+
+        List<Bucket> minutes = series.getBuckets(Resolution.MINUTE, DAY_START, DAY_START + 10);
+
+        assertThat(minutes).hasSize(10);
+        assertThat(minutes).extracting(Bucket::getStartMinute).startsWith(DAY_START, DAY_START + 1);
+        assertThat(minutes.stream().filter(bucket -> !bucket.isEmpty())).hasSize(1);
+        assertThat(minutes.get(5).getSamples()).isEqualTo(1);
+    }
+
+    @Test
+    void reusedSlotsAreClearedAndExpiredMinutesIgnored() {
+        long minutesPerRing = Resolution.MINUTE.getSlots();
+        series.recordSample(DAY_START, 3, 10);
+        series.recordSample(DAY_START + minutesPerRing, 4, 10);
+
+        assertThat(only(series.getBuckets(Resolution.MINUTE, DAY_START, DAY_START + 1)).isEmpty()).isTrue();
+        Bucket reused = only(series.getBuckets(Resolution.MINUTE, DAY_START + minutesPerRing,
+                DAY_START + minutesPerRing + 1));
+        assertThat(reused.getSamples()).isEqualTo(1);
+        assertThat(reused.getOccupiedSum()).isEqualTo(4);
+
+        // Writing the expired minute must not clobber the slot now holding the newer one
+        series.recordSample(DAY_START, 9, 10);
+        assertThat(only(series.getBuckets(Resolution.MINUTE, DAY_START + minutesPerRing,
+                DAY_START + minutesPerRing + 1)).getOccupiedSum()).isEqualTo(4);
+    }
+
+    @Test
+    void coversAndTurnsAreCountedPerHourAndDay() {
+        series.recordCovers(DAY_START + 19 * 60 + 30, 4);
+        series.recordCovers(DAY_START + 19 * 60 + 45, 2);
+        series.recordTurn(DAY_START + 21 * 60, 10);
+        series.recordTurn(DAY_START + 21 * 60 + 5, 20);
+        series.recordTurn(DAY_START + 22 * 60, 300);
+
+        Bucket evening = only(series.getBuckets(Resolution.HOUR, DAY_START + 19 * 60, DAY_START + 20 * 60));
+        assertThat(evening.getCovers()).isEqualTo(6);
+        assertThat(evening.getReservations()).isEqualTo(2);
+        assertThat(evening.getTurnHistogram()).isNull();
+
+        Bucket day = only(series.getBuckets(Resolution.DAY, DAY_START, DAY_START + 24 * 60));
+        assertThat(day.getTurns()).isEqualTo(3);
+        assertThat(day.getTurnMinutes()).isEqualTo(330);
+        int[] histogram = day.getTurnHistogram();
+        assertThat(histogram).hasSize(OccupancySeries.TURN_BINS);
+        assertThat(histogram[0]).isEqualTo(1);
+        assertThat(histogram[1]).isEqualTo(1);
+        assertThat(histogram[OccupancySeries.TURN_BINS - 1]).isEqualTo(1);
+    }
+
+    @Test
+    void drainHandsOverNonEmptyBucketsOldestFirstAndClearsThem() {
+        series.recordSample(DAY_START + 3 * 60, 2, 10);
+        series.recordSample(DAY_START + 60, 1, 10);
+        series.recordCovers(DAY_START + 2 * 60, 3);
+
+        List<Bucket> drained = series.drain(Resolution.HOUR);
+
+        assertThat(drained).extracting(Bucket::getStartMinute)
+                .containsExactly(DAY_START + 60, DAY_START + 2 * 60, DAY_START + 3 * 60);
+        assertThat(drained.get(1).getCovers()).isEqualTo(3);
+        assertThat(series.drain(Resolution.HOUR)).isEmpty();
+        assertThat(series.getBuckets(Resolution.HOUR, DAY_START, DAY_START + 4 * 60))
+                .allMatch(Bucket::isEmpty);
+
+        // Other resolutions are drained separately
+        assertThat(series.drain(Resolution.DAY)).hasSize(1);
+    }
+
+    @Test
+    void drainOnlyReturnsWhatWasRecordedSinceTheLastDrain() {
+        series.recordSample(DAY_START + 60, 2, 10);
+        series.drain(Resolution.HOUR);
+        series.recordSample(DAY_START + 61, 3, 10);
+
+        Bucket drained = only(series.drain(Resolution.HOUR));
+
+        assertThat(drained.getSamples()).isEqualTo(1);
+        assertThat(drained.getOccupiedSum()).isEqualTo(3);
+    }
+
+    @Test
+    void mergeAddsADrainedBucketBackToNewerData() {
+        series.recordSample(DAY_START + 60, 6, 10);
+        series.recordTurn(DAY_START + 70, 40);
+        Bucket drained = only(series.drain(Resolution.DAY));
+        series.recordSample(DAY_START + 90, 2, 10);
+        series.recordTurn(DAY_START + 95, 40);
+
+        series.merge(Resolution.DAY, drained);
+
+        Bucket day = only(series.getBuckets(Resolution.DAY, DAY_START, DAY_START + 24 * 60));
+        assertThat(day.getSamples()).isEqualTo(2);
+        assertThat(day.getOccupiedSum()).isEqualTo(8);
+        assertThat(day.getPeakOccupied()).isEqualTo(6);
+        assertThat(day.getTurns()).isEqualTo(2);
+        assertThat(day.getTurnHistogram()[40 / OccupancySeries.TURN_BIN_MINUTES]).isEqualTo(2);
+    }
+
+    @Test
+    void mergeDropsBucketsOlderThanTheRetention() {
+        series.recordSample(DAY_START, 1, 10);
+        Bucket old = only(series.drain(Resolution.DAY));
+        long later = DAY_START + (long) Resolution.DAY.getSlots() * Resolution.DAY.getMinutes();
+        series.recordSample(later, 4, 10);
+
+        series.merge(Resolution.DAY, old);
+
+        assertThat(only(series.getBuckets(Resolution.DAY, later, later + 1)).getOccupiedSum()).isEqualTo(4);
+        assertThat(only(series.drain(Resolution.DAY)).getStartMinute()).isEqualTo(later);
+    }
+
+    private static Bucket only(List<Bucket> buckets) {
+        assertThat(buckets).hasSize(1);
+        return buckets.get(0);
+    }
+}
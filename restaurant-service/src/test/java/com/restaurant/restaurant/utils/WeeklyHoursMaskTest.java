@@ -0,0 +1,133 @@
+package com.restaurant.restaurant.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.common.constants.ErrorCodes;
+import com.restaurant.restaurant.domain.models.OperatingHours;
+import com.restaurant.restaurant.utils.WeeklyHoursMask.Rejection;
+
+/**
+ * Unit tests for {@link WeeklyHoursMask}.
+ *
+ * @author Restaurant Reservation Team
+ * @version 1.0
+ */
+class WeeklyHoursMaskTest {
+
+    @Test
+    void openMinutesAreAcceptedAndCloseTimeIsExclusive() {
+        WeeklyHoursMask mask = new WeeklyHoursMask(true,
+                List.of(hours(DayOfWeek.MONDAY, "11:00", "22:00", null, null)));
+
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("11:00"))).isNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("21:59"))).isNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("10:59")).getErrorCode())
+                .isEqualTo(ErrorCodes.OUTSIDE_OPERATING_HOURS);
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("22:00")).getMessage())
+                .isEqualTo("Reservation time must be between 11:00 AM and 10:00 PM");
+    }
+
+    @Test
+    void breaksAreRejectedWithTheirOwnReason() {
+        WeeklyHoursMask mask = new WeeklyHoursMask(true,
+                List.of(hours(DayOfWeek.TUESDAY, "11:00", "22:00", "15:00", "17:30")));
+
+        assertThat(mask.check(DayOfWeek.TUESDAY, minute("14:59"))).isNull();
+        assertThat(mask.check(DayOfWeek.TUESDAY, minute("15:00")).getMessage())
+                .isEqualTo("Restaurant is on break between 3:00 PM and 5:30 PM");
+        assertThat(mask.check(DayOfWeek.TUESDAY, minute("17:29")).getMessage()).startsWith("Restaurant is on break");
+        assertThat(mask.check(DayOfWeek.TUESDAY, minute("17:30"))).isNull();
+    }
+
+    @Test
+    void rangesCrossingWordBoundariesAreSetExactly() {
+        // Monday 01:03 is bit 63 and 01:04 is bit 64, the first bit of the second word
+        WeeklyHoursMask mask = new WeeklyHoursMask(true,
+                List.of(hours(DayOfWeek.MONDAY, "01:03", "01:05", null, null)));
+
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("01:02"))).isNotNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("01:03"))).isNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("01:04"))).isNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("01:05"))).isNotNull();
+    }
+
+    @Test
+    void lastMinuteOfTheWeekIsAddressable() {
+        WeeklyHoursMask mask = new WeeklyHoursMask(true,
+                List.of(hours(DayOfWeek.SUNDAY, "18:00", "23:59", null, null)));
+
+        assertThat(mask.check(DayOfWeek.SUNDAY, minute("23:58"))).isNull();
+        assertThat(mask.check(DayOfWeek.SUNDAY, WeeklyHoursMask.MINUTES_PER_DAY - 1)).isNotNull();
+        assertThat(mask.check(DayOfWeek.MONDAY, 0)).isNotNull();
+    }
+
+    @Test
+    void daysDoNotLeakIntoEachOther() {
+        WeeklyHoursMask mask = new WeeklyHoursMask(true, List.of(
+                hours(DayOfWeek.WEDNESDAY, "00:00", "23:59", null, null),
+                hours(DayOfWeek.FRIDAY, "12:00", "14:00", null, null)));
+
+        assertThat(mask.check(DayOfWeek.WEDNESDAY, 0)).isNull();
+        assertThat(mask.check(DayOfWeek.TUESDAY, WeeklyHoursMask.MINUTES_PER_DAY - 1).getErrorCode())
+                .isEqualTo(ErrorCodes.INVALID_RESERVATION_TIME);
+        assertThat(mask.check(DayOfWeek.THURSDAY, minute("12:30"))).isNotNull();
+        assertThat(mask.check(DayOfWeek.FRIDAY, minute("12:30"))).isNull();
+    }
+
+    @Test
+    void closedAndMissingDaysAreRejected() {
+        OperatingHours closed = hours(DayOfWeek.SATURDAY, "11:00", "22:00", null, null);
+        closed.setClosed(true);
+        WeeklyHoursMask mask = new WeeklyHoursMask(true, List.of(closed));
+
+        Rejection closedDay = mask.check(DayOfWeek.SATURDAY, minute("12:00"));
+        assertThat(closedDay.getMessage()).isEqualTo("Restaurant is closed on SATURDAY");
+        assertThat(closedDay.getErrorCode()).isEqualTo(ErrorCodes.OUTSIDE_OPERATING_HOURS);
+
+        Rejection missingDay = mask.check(DayOfWeek.MONDAY, minute("12:00"));
+        assertThat(missingDay.getErrorCode()).isEqualTo(ErrorCodes.INVALID_RESERVATION_TIME);
+    }
+
+    @Test
+    void inactiveRestaurantsRejectEveryTime() {
+        WeeklyHoursMask mask = new WeeklyHoursMask(false,
+                List.of(hours(DayOfWeek.MONDAY, "11:00", "22:00", null, null)));
+
+        assertThat(mask.check(DayOfWeek.MONDAY, minute("12:00")).getErrorCode())
+                .isEqualTo(ErrorCodes.RESTAURANT_NOT_ACTIVE);
+    }
+
+    @Test
+    void maskMatchesOperatingHoursAtMinutePrecision() {
+        OperatingHours dayHours = hours(DayOfWeek.THURSDAY, "09:15", "23:45", "14:10", "16:40");
+        WeeklyHoursMask mask = new WeeklyHoursMask(true, List.of(dayHours));
+
+        for (int minute = 0; minute < WeeklyHoursMask.MINUTES_PER_DAY; minute++) {
+            boolean open = dayHours.isOpenAt(LocalTime.of(minute / 60, minute % 60));
+            assertThat(mask.check(DayOfWeek.THURSDAY, minute) == null)
+                    .as("minute %d", minute)
+                    .isEqualTo(open);
+        }
+    }
+
+    private static OperatingHours hours(DayOfWeek day, String open, String close, String breakStart,
+            String breakEnd) {
+        OperatingHours hours = new OperatingHours(null, day, LocalTime.parse(open), LocalTime.parse(close));
+        if (breakStart != null) {
+            hours.setBreakStartTime(LocalTime.parse(breakStart));
+            hours.setBreakEndTime(LocalTime.parse(breakEnd));
+        }
+        return hours;
+    }
+
+    private static int minute(String time) {
+        LocalTime parsed = LocalTime.parse(time);
+        return parsed.getHour() * 60 + parsed.getMinute();
+    }
+}
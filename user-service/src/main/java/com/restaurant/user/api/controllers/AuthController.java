@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.user.dto.LoginRequest;
 import com.restaurant.user.dto.LoginResponse;
+import com.restaurant.user.dto.RefreshTokenRequest;
 import com.restaurant.user.service.AuthService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,4 +31,18 @@ public class AuthController {
         LoginResponse loginResponse = authService.login(loginRequest, request);
         return ResponseEntity.ok(ResponseDTO.success(loginResponse));
     }
-}
\ No newline at end of file
+
+    // Exchanges a refresh token for new tokens with current claims, e.g. after the access token
+    // expired or the user's restaurant ownership changed. The refresh token can only be used once.
+    @PostMapping("/refresh")
+    public ResponseEntity<ResponseDTO<LoginResponse>> refreshToken(
+            @Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        return ResponseEntity.ok(ResponseDTO.success(authService.refresh(refreshTokenRequest.getRefreshToken())));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ResponseDTO<Void>> logout(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        authService.logout(refreshTokenRequest.getRefreshToken());
+        return ResponseEntity.ok(ResponseDTO.success(null, "Logged out successfully"));
+    }
+}
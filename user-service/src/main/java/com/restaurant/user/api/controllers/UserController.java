@@ -1,8 +1,10 @@
 package com.restaurant.user.api.controllers;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -13,13 +15,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.restaurant.common.dto.ResponseDTO;
 import com.restaurant.common.dto.user.ProfileDTO;
 import com.restaurant.common.dto.user.UserDTO;
+import com.restaurant.user.dto.UserPageResponse;
 import com.restaurant.user.dto.UserRegistrationRequest;
+import com.restaurant.user.dto.UserSecurityUpdateRequest;
 import com.restaurant.user.service.ProfileService;
+import com.restaurant.user.service.UserDirectoryService;
 import com.restaurant.user.service.UserService;
 
 import jakarta.validation.Valid;
@@ -30,10 +37,13 @@ public class UserController {
 
     private final UserService userService;
     private final ProfileService profileService;
+    private final UserDirectoryService userDirectoryService;
 
-    public UserController(UserService userService, ProfileService profileService) {
+    public UserController(UserService userService, ProfileService profileService,
+                          UserDirectoryService userDirectoryService) {
         this.userService = userService;
         this.profileService = profileService;
+        this.userDirectoryService = userDirectoryService;
     }
 
     @PostMapping("/register")
@@ -61,11 +71,32 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public ResponseEntity<ResponseDTO<List<UserDTO>>> getAllUsers() {
-        List<UserDTO> users = userService.getAllUsers();
+    public ResponseEntity<ResponseDTO<UserPageResponse>> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        UserPageResponse users = userDirectoryService.getUsers(role, enabled, createdFrom, createdTo, cursor, size);
         return ResponseEntity.ok(ResponseDTO.success(users));
     }
 
+    // Newline-delimited JSON, one user per line, streamed without loading all users
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        StreamingResponseBody body = outputStream ->
+                userDirectoryService.exportUsers(role, enabled, createdFrom, createdTo, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ResponseDTO<Void>> deleteUser(@PathVariable String id) {
@@ -73,6 +104,15 @@ public class UserController {
         return ResponseEntity.ok(ResponseDTO.success(null, "User deleted successfully"));
     }
 
+    @PutMapping("/{id}/security")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ResponseDTO<UserDTO>> updateUserSecurity(
+            @PathVariable String id,
+            @RequestBody UserSecurityUpdateRequest request) {
+        UserDTO userDTO = userService.updateUserSecurity(id, request);
+        return ResponseEntity.ok(ResponseDTO.success(userDTO, "User security updated successfully"));
+    }
+
     @GetMapping("/{id}/profile")
     @PreAuthorize("hasRole('ROLE_ADMIN') or authentication.principal == #id")
     public ResponseEntity<ResponseDTO<ProfileDTO>> getUserProfile(@PathVariable String id) {
@@ -11,9 +11,21 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import com.restaurant.common.events.restaurant.CapacityChangedEvent;
+import com.restaurant.common.events.restaurant.OperatingHoursChangedEvent;
+import com.restaurant.common.events.restaurant.ReservationTimeValidationRequestEvent;
+import com.restaurant.common.events.restaurant.ReservationTimeValidationResponseEvent;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.events.restaurant.RestaurantEvent;
+import com.restaurant.common.events.restaurant.RestaurantSearchResponseEvent;
+import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
+import com.restaurant.common.events.restaurant.RestaurantValidationResponseEvent;
+import com.restaurant.common.events.restaurant.TableStatusChangedEvent;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
 
 @Configuration
 public class KafkaConsumerConfig {
@@ -30,14 +42,32 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+
+        // The restaurant service sends short type IDs instead of class names
+        Map<String, Class<?>> restaurantEventTypes = new HashMap<>();
+        restaurantEventTypes.put("RestaurantUpdatedEvent", RestaurantUpdatedEvent.class);
+        restaurantEventTypes.put("RestaurantChangedEvent", RestaurantChangedEvent.class);
+        restaurantEventTypes.put("CapacityChangedEvent", CapacityChangedEvent.class);
+        restaurantEventTypes.put("TableStatusChangedEvent", TableStatusChangedEvent.class);
+        restaurantEventTypes.put("OperatingHoursChangedEvent", OperatingHoursChangedEvent.class);
+        restaurantEventTypes.put("RestaurantValidationResponseEvent", RestaurantValidationResponseEvent.class);
+        restaurantEventTypes.put("ReservationTimeValidationResponseEvent", ReservationTimeValidationResponseEvent.class);
+        restaurantEventTypes.put("ReservationTimeValidationRequestEvent", ReservationTimeValidationRequestEvent.class);
+        restaurantEventTypes.put("RestaurantSearchResponseEvent", RestaurantSearchResponseEvent.class);
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setIdClassMapping(restaurantEventTypes);
+
         JsonDeserializer<RestaurantEvent> deserializer = new JsonDeserializer<>(RestaurantEvent.class);
+        deserializer.setTypeMapper(typeMapper);
         deserializer.addTrustedPackages("com.restaurant.common.events");
         deserializer.setUseTypeMapperForKey(true);
-        
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+
+        // A record that cannot be deserialized is logged and skipped instead of blocking the partition
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
     }
 
     @Bean
@@ -47,4 +77,30 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ConsumerFactory<String, UserSecurityChangedEvent> userSecurityConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // Every instance reads all security changes, so only changes made from now on matter
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+
+        JsonDeserializer<UserSecurityChangedEvent> deserializer = new JsonDeserializer<>(UserSecurityChangedEvent.class);
+        deserializer.addTrustedPackages("com.restaurant.common.events");
+        deserializer.setUseTypeHeaders(false);
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new ErrorHandlingDeserializer<>(new StringDeserializer()),
+                new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserSecurityChangedEvent> userSecurityKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserSecurityChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userSecurityConsumerFactory());
+        return factory;
+    }
+}
@@ -28,7 +28,8 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(JsonSerializer.TYPE_MAPPINGS, "UserRegisteredEvent:com.restaurant.common.events.user.UserRegisteredEvent," +
                 "UserLoggedInEvent:com.restaurant.common.events.user.UserLoggedInEvent," +
-                "ProfileUpdatedEvent:com.restaurant.common.events.user.ProfileUpdatedEvent");
+                "ProfileUpdatedEvent:com.restaurant.common.events.user.ProfileUpdatedEvent," +
+                "UserSecurityChangedEvent:com.restaurant.common.events.user.UserSecurityChangedEvent");
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -3,6 +3,7 @@ package com.restaurant.user.config;
 import com.restaurant.user.security.JwtAuthenticationFilter;
 import com.restaurant.user.security.JwtAuthorizationFilter;
 import com.restaurant.user.security.JwtTokenProvider;
+import com.restaurant.user.security.UserSecurityCache;
 import com.restaurant.user.service.CustomUserDetailsService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,15 +25,19 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserSecurityCache userSecurityCache;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService,
+                          JwtTokenProvider jwtTokenProvider,
+                          UserSecurityCache userSecurityCache) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userSecurityCache = userSecurityCache;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtTokenProvider);
+        JwtAuthorizationFilter filter = new JwtAuthorizationFilter(jwtTokenProvider, userSecurityCache);
         filter.setUserDetailsService(userDetailsService);
         return filter;
     }
@@ -0,0 +1,37 @@
+package com.restaurant.user.domain.models;
+
+import com.restaurant.user.security.RoleAuthorityCache;
+import com.restaurant.user.service.RoleSecurityService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+// Rebuilds the precomputed role authorities whenever a role or permission changes,
+// and invalidates the tokens of the users holding the affected roles.
+// The beans are looked up lazily because listeners are created while JPA starts.
+public class AuthorityChangeListener {
+
+    private final ObjectProvider<RoleAuthorityCache> roleAuthorityCache;
+    private final ObjectProvider<RoleSecurityService> roleSecurityService;
+
+    public AuthorityChangeListener(ObjectProvider<RoleAuthorityCache> roleAuthorityCache,
+                                   ObjectProvider<RoleSecurityService> roleSecurityService) {
+        this.roleAuthorityCache = roleAuthorityCache;
+        this.roleSecurityService = roleSecurityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        roleAuthorityCache.ifAvailable(RoleAuthorityCache::invalidate);
+        roleSecurityService.ifAvailable(service -> {
+            if (entity instanceof Role role) {
+                service.roleChanged(role.getId());
+            } else if (entity instanceof Permission permission) {
+                service.permissionChanged(permission.getId());
+            }
+        });
+    }
+}
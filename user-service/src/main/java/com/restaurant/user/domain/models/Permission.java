@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 
 @Entity
 @Table(name = "permissions")
+@EntityListeners(AuthorityChangeListener.class)
 public class Permission {
 
     @Id
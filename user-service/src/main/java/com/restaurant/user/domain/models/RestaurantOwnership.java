@@ -0,0 +1,57 @@
+package com.restaurant.user.domain.models;
+
+import jakarta.persistence.*;
+
+/**
+ * Local projection of restaurant ownership, maintained from restaurant change
+ * events so that owned restaurants can be embedded in issued tokens without
+ * calling the restaurant service.
+ */
+@Entity
+@Table(name = "restaurant_ownerships", indexes = @Index(name = "idx_restaurant_ownership_owner", columnList = "ownerId"))
+public class RestaurantOwnership {
+
+    @Id
+    private String restaurantId;
+
+    private String ownerId;
+
+    // Change version of the restaurant this ownership was taken from
+    @Column(nullable = false)
+    private long version;
+
+    // Constructors
+    public RestaurantOwnership() {
+    }
+
+    public RestaurantOwnership(String restaurantId, String ownerId, long version) {
+        this.restaurantId = restaurantId;
+        this.ownerId = ownerId;
+        this.version = version;
+    }
+
+    // Getters and setters
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(String restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(String ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@EntityListeners(AuthorityChangeListener.class)
 public class Role {
 
     @Id
@@ -17,7 +18,11 @@ public class Role {
 
     private String description;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Also incremented when permissions are added or removed, so those changes reach the entity listener
+    @Version
+    private long version;
+
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "role_permissions",
         joinColumns = @JoinColumn(name = "role_id"),
@@ -73,6 +78,14 @@ public class Role {
         this.description = description;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<Permission> getPermissions() {
         return permissions;
     }
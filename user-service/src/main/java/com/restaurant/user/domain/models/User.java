@@ -1,16 +1,16 @@
 package com.restaurant.user.domain.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_created_at_id", columnList = "createdAt, id"))
 public class User implements UserDetails {
 
     @Id
@@ -31,16 +31,24 @@ public class User implements UserDetails {
     private boolean accountNonLocked = true;
     private boolean credentialsNonExpired = true;
 
+    // Incremented on every role, enable or lock change; tokens issued at an older version are rejected
+    @Column(nullable = false)
+    private long securityVersion;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Profile profile;
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(
-        name = "user_roles",
-        joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "role_id")
-    )
-    private Set<Role> roles = new HashSet<>();
+    // Only role IDs are loaded with a user, in one extra query for all users of a result;
+    // role names and authorities come from RoleAuthorityCache
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
+    @Column(name = "role_id", nullable = false)
+    private Set<String> roleIds = new HashSet<>();
+
+    // Resolved from the role IDs by whoever loads the user for authentication
+    @Transient
+    private Collection<? extends GrantedAuthority> authorities = Collections.emptySet();
 
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -62,29 +70,26 @@ public class User implements UserDetails {
     // Implement UserDetails methods
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Set<GrantedAuthority> authorities = new HashSet<>();
-        
-        // Add roles
-        for (Role role : roles) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName().toUpperCase()));
-            
-            // Add permissions
-            for (Permission permission : role.getPermissions()) {
-                authorities.add(new SimpleGrantedAuthority(permission.getName().toUpperCase()));
-            }
-        }
-        
         return authorities;
     }
 
+    public void setAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        this.authorities = authorities;
+    }
+
     // Add a method to add a role
     public void addRole(Role role) {
-        this.roles.add(role);
+        this.roleIds.add(role.getId());
     }
 
     // Add a method to remove a role
     public void removeRole(Role role) {
-        this.roles.remove(role);
+        this.roleIds.remove(role.getId());
+    }
+
+    // Add a method to invalidate tokens issued before a security change
+    public void incrementSecurityVersion() {
+        this.securityVersion++;
     }
 
     // Constructors
@@ -168,6 +173,14 @@ public class User implements UserDetails {
         this.credentialsNonExpired = credentialsNonExpired;
     }
 
+    public long getSecurityVersion() {
+        return securityVersion;
+    }
+
+    public void setSecurityVersion(long securityVersion) {
+        this.securityVersion = securityVersion;
+    }
+
     public Profile getProfile() {
         return profile;
     }
@@ -176,12 +189,12 @@ public class User implements UserDetails {
         this.profile = profile;
     }
 
-    public Set<Role> getRoles() {
-        return roles;
+    public Set<String> getRoleIds() {
+        return roleIds;
     }
 
-    public void setRoles(Set<Role> roles) {
-        this.roles = roles;
+    public void setRoleIds(Set<String> roleIds) {
+        this.roleIds = roleIds;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -0,0 +1,30 @@
+package com.restaurant.user.domain.repositories;
+
+import com.restaurant.user.domain.models.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Returns 0 if the token was already used, so concurrent refreshes cannot both succeed
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.id = :id AND t.revoked = false")
+    int revokeIfActive(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.userId = :userId AND t.revoked = false")
+    int revokeAllByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId AND t.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") String userId, @Param("now") LocalDateTime now);
+}
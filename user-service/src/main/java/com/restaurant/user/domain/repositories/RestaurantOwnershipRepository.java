@@ -0,0 +1,13 @@
+package com.restaurant.user.domain.repositories;
+
+import com.restaurant.user.domain.models.RestaurantOwnership;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RestaurantOwnershipRepository extends JpaRepository<RestaurantOwnership, String> {
+
+    List<RestaurantOwnership> findByOwnerIdOrderByRestaurantId(String ownerId);
+}
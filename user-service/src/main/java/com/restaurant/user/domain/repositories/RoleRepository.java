@@ -2,12 +2,21 @@ package com.restaurant.user.domain.repositories;
 
 import com.restaurant.user.domain.models.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, String> {
 
     Optional<Role> findByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.permissions")
+    List<Role> findAllWithPermissions();
+
+    @Query("SELECT r.id FROM Role r JOIN r.permissions p WHERE p.id = :permissionId")
+    List<String> findIdsByPermissionId(@Param("permissionId") String permissionId);
+}
@@ -1,10 +1,22 @@
 package com.restaurant.user.domain.repositories;
 
 import com.restaurant.user.domain.models.User;
+import com.restaurant.user.dto.UserSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -16,4 +28,58 @@ public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // Security version of a user that may authenticate, without loading roles
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :id AND u.enabled = true AND u.accountNonLocked = true")
+    Optional<Long> findActiveSecurityVersionById(@Param("id") String id);
+
+    // Keyset page ordered newest first; pass a null cursor for the first page
+    @Query("SELECT new com.restaurant.user.dto.UserSummary(u.id, u.username, u.email, u.enabled, u.createdAt, u.updatedAt, " +
+           "p.firstName, p.lastName, p.phoneNumber) " +
+           "FROM User u LEFT JOIN Profile p ON p.user = u " +
+           "WHERE (:roleId IS NULL OR :roleId MEMBER OF u.roleIds) " +
+           "AND (:enabled IS NULL OR u.enabled = :enabled) " +
+           "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) " +
+           "AND (:createdTo IS NULL OR u.createdAt < :createdTo) " +
+           "AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt " +
+           "     OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserSummary> findSummaries(@Param("roleId") String roleId,
+                                    @Param("enabled") Boolean enabled,
+                                    @Param("createdFrom") LocalDateTime createdFrom,
+                                    @Param("createdTo") LocalDateTime createdTo,
+                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                    @Param("cursorId") String cursorId,
+                                    Pageable pageable);
+
+    // Must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.restaurant.user.dto.UserSummary(u.id, u.username, u.email, u.enabled, u.createdAt, u.updatedAt, " +
+           "p.firstName, p.lastName, p.phoneNumber) " +
+           "FROM User u LEFT JOIN Profile p ON p.user = u " +
+           "WHERE (:roleId IS NULL OR :roleId MEMBER OF u.roleIds) " +
+           "AND (:enabled IS NULL OR u.enabled = :enabled) " +
+           "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) " +
+           "AND (:createdTo IS NULL OR u.createdAt < :createdTo) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    Stream<UserSummary> streamSummaries(@Param("roleId") String roleId,
+                                        @Param("enabled") Boolean enabled,
+                                        @Param("createdFrom") LocalDateTime createdFrom,
+                                        @Param("createdTo") LocalDateTime createdTo);
+
+    // Pairs of user ID and role ID
+    @Query("SELECT u.id, r FROM User u JOIN u.roleIds r WHERE u.id IN :userIds")
+    List<Object[]> findRoleIdsByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // Invalidates the tokens of every member of the roles in one statement
+    @Modifying
+    @Query(value = "UPDATE users SET security_version = security_version + 1 " +
+                   "WHERE id IN (SELECT ur.user_id FROM user_roles ur WHERE ur.role_id IN (:roleIds))",
+           nativeQuery = true)
+    int incrementSecurityVersionByRoleIds(@Param("roleIds") Collection<String> roleIds);
+
+    // Rows of user ID, security version, enabled and non-locked flag
+    @Query("SELECT DISTINCT u.id, u.securityVersion, u.enabled, u.accountNonLocked " +
+           "FROM User u JOIN u.roleIds r WHERE r IN :roleIds")
+    List<Object[]> findSecurityStatesByRoleIds(@Param("roleIds") Collection<String> roleIds);
+}
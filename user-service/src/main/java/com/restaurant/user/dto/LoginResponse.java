@@ -3,6 +3,7 @@ package com.restaurant.user.dto;
 public class LoginResponse {
 
     private String token;
+    private String refreshToken;
     private String message;
     private String userId;
 
@@ -21,6 +22,13 @@ public class LoginResponse {
         this.userId = userId;
     }
 
+    public LoginResponse(String token, String refreshToken, String message, String userId) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.message = message;
+        this.userId = userId;
+    }
+
     // Getters and setters
     public String getToken() {
         return token;
@@ -30,6 +38,14 @@ public class LoginResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getMessage() {
         return message;
     }
@@ -0,0 +1,39 @@
+package com.restaurant.user.dto;
+
+import java.util.List;
+
+import com.restaurant.common.dto.user.UserDTO;
+
+public class UserPageResponse {
+
+    private List<UserDTO> users;
+
+    // Opaque cursor for the next page, null on the last page
+    private String nextCursor;
+
+    // Constructors
+    public UserPageResponse() {
+    }
+
+    public UserPageResponse(List<UserDTO> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<UserDTO> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserDTO> users) {
+        this.users = users;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
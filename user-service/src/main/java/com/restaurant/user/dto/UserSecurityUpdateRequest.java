@@ -0,0 +1,48 @@
+package com.restaurant.user.dto;
+
+import java.util.Set;
+
+// Fields left null are not changed
+public class UserSecurityUpdateRequest {
+
+    private Set<String> roles;
+
+    private Boolean enabled;
+
+    private Boolean locked;
+
+    // Constructors
+    public UserSecurityUpdateRequest() {
+    }
+
+    public UserSecurityUpdateRequest(Set<String> roles, Boolean enabled, Boolean locked) {
+        this.roles = roles;
+        this.enabled = enabled;
+        this.locked = locked;
+    }
+
+    // Getters and setters
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(Set<String> roles) {
+        this.roles = roles;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Boolean getLocked() {
+        return locked;
+    }
+
+    public void setLocked(Boolean locked) {
+        this.locked = locked;
+    }
+}
@@ -0,0 +1,68 @@
+package com.restaurant.user.dto;
+
+import java.time.LocalDateTime;
+
+// Flat row selected directly by listing queries, so no User entity or role graph is hydrated
+public class UserSummary {
+
+    private final String id;
+    private final String username;
+    private final String email;
+    private final boolean enabled;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String firstName;
+    private final String lastName;
+    private final String phoneNumber;
+
+    public UserSummary(String id, String username, String email, boolean enabled,
+                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                       String firstName, String lastName, String phoneNumber) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.enabled = enabled;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+}
@@ -17,6 +17,7 @@ import com.restaurant.common.exceptions.AuthenticationException;
 import com.restaurant.common.exceptions.BaseException;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ErrorResponse;
+import com.restaurant.common.exceptions.ServiceTimeoutException;
 import com.restaurant.common.exceptions.ValidationException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -63,6 +64,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleServiceTimeoutException(
+            ServiceTimeoutException ex, HttpServletRequest request) {
+        logger.warn("Service busy: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "SERVICE_BUSY",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(
             AccessDeniedException ex, HttpServletRequest request) {
@@ -1,8 +1,11 @@
 package com.restaurant.user.kafka.consumers;
 
 import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.restaurant.RestaurantChangedEvent;
 import com.restaurant.common.events.restaurant.RestaurantEvent;
 import com.restaurant.common.events.restaurant.RestaurantUpdatedEvent;
+import com.restaurant.user.domain.models.RestaurantOwnership;
+import com.restaurant.user.domain.repositories.RestaurantOwnershipRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -13,6 +16,12 @@ public class RestaurantEventConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantEventConsumer.class);
 
+    private final RestaurantOwnershipRepository ownershipRepository;
+
+    public RestaurantEventConsumer(RestaurantOwnershipRepository ownershipRepository) {
+        this.ownershipRepository = ownershipRepository;
+    }
+
     @KafkaListener(
             topics = KafkaTopics.RESTAURANT_EVENTS,
             groupId = "${spring.kafka.consumer.group-id}",
@@ -21,12 +30,45 @@ public class RestaurantEventConsumer {
     public void consume(RestaurantEvent event) {
         logger.info("Received restaurant event: {}", event.getClass().getSimpleName());
 
-        if (event instanceof RestaurantUpdatedEvent) {
+        if (event instanceof RestaurantChangedEvent) {
+            handleRestaurantChangedEvent((RestaurantChangedEvent) event);
+        } else if (event instanceof RestaurantUpdatedEvent) {
             handleRestaurantUpdatedEvent((RestaurantUpdatedEvent) event);
         }
         // Add more event type handlers as needed
     }
 
+    private void handleRestaurantChangedEvent(RestaurantChangedEvent event) {
+        logger.info("Restaurant changed: {} version {} fields {}",
+                event.getRestaurantId(),
+                event.getVersion(),
+                event.getChanges().keySet());
+
+        if (event.hasChanged("ownerId")) {
+            updateOwnership(event.getRestaurantId(), event.getChanges().get("ownerId").getNewValue(), event.getVersion());
+        }
+    }
+
+    private void updateOwnership(String restaurantId, String ownerId, long version) {
+        RestaurantOwnership ownership = ownershipRepository.findById(restaurantId)
+                .orElseGet(() -> new RestaurantOwnership(restaurantId, null, 0));
+
+        // Ignore redelivered or out-of-order events
+        if (ownership.getOwnerId() != null && version <= ownership.getVersion()) {
+            logger.debug("Skipping stale ownership change of restaurant {} at version {}", restaurantId, version);
+            return;
+        }
+
+        String previousOwnerId = ownership.getOwnerId();
+        ownership.setOwnerId(ownerId);
+        ownership.setVersion(version);
+        ownershipRepository.save(ownership);
+
+        // Tokens issued to the previous and new owner now carry outdated ownership claims
+        // and are refreshed through /api/auth/refresh
+        logger.info("Restaurant {} ownership changed from {} to {}", restaurantId, previousOwnerId, ownerId);
+    }
+
     private void handleRestaurantUpdatedEvent(RestaurantUpdatedEvent event) {
         logger.info("Restaurant updated: {} - {} from {} to {}", 
                 event.getRestaurantId(), 
@@ -0,0 +1,36 @@
+package com.restaurant.user.kafka.consumers;
+
+import com.restaurant.common.constants.KafkaTopics;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
+import com.restaurant.user.security.UserSecurityCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserSecurityEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSecurityEventConsumer.class);
+
+    private final UserSecurityCache userSecurityCache;
+
+    public UserSecurityEventConsumer(UserSecurityCache userSecurityCache) {
+        this.userSecurityCache = userSecurityCache;
+    }
+
+    // A group per instance, so every instance invalidates its own cache
+    @KafkaListener(
+            topics = KafkaTopics.USER_SECURITY,
+            groupId = "${spring.kafka.consumer.group-id}-security-${random.uuid}",
+            containerFactory = "userSecurityKafkaListenerContainerFactory"
+    )
+    public void consume(UserSecurityChangedEvent event) {
+        if (event == null || event.getUserId() == null) {
+            return;
+        }
+        logger.info("User {} security changed to version {} (active: {})",
+                event.getUserId(), event.getSecurityVersion(), event.isActive());
+        userSecurityCache.invalidate(event.getUserId());
+    }
+}
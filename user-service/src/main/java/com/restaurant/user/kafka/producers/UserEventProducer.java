@@ -5,14 +5,38 @@ import com.restaurant.common.events.BaseEvent;
 import com.restaurant.common.events.user.ProfileUpdatedEvent;
 import com.restaurant.common.events.user.UserLoggedInEvent;
 import com.restaurant.common.events.user.UserRegisteredEvent;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Component
 public class UserEventProducer {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserEventProducer.class);
+
+    private static final int LOGIN_EVENT_QUEUE_CAPACITY = 10000;
+
     private final KafkaTemplate<String, BaseEvent> kafkaTemplate;
 
+    // Login events are handed off so a slow broker never delays the login response;
+    // when the queue is full the caller publishes itself rather than dropping events
+    private final ThreadPoolExecutor loginEventExecutor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(LOGIN_EVENT_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "login-event-publisher");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
     public UserEventProducer(KafkaTemplate<String, BaseEvent> kafkaTemplate) {
         this.kafkaTemplate = kafkaTemplate;
     }
@@ -22,10 +46,25 @@ public class UserEventProducer {
     }
 
     public void publishUserLoggedInEvent(UserLoggedInEvent event) {
-        kafkaTemplate.send(KafkaTopics.USER_LOGIN, event.getUserId(), event);
+        loginEventExecutor.execute(() -> kafkaTemplate.send(KafkaTopics.USER_LOGIN, event.getUserId(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        logger.error("Failed to publish login event for user {}: {}", event.getUserId(), ex.getMessage());
+                    }
+                }));
     }
 
     public void publishProfileUpdatedEvent(ProfileUpdatedEvent event) {
         kafkaTemplate.send(KafkaTopics.USER_PROFILE, event.getUserId(), event);
     }
-}
\ No newline at end of file
+
+    public void publishUserSecurityChangedEvent(UserSecurityChangedEvent event) {
+        kafkaTemplate.send(KafkaTopics.USER_SECURITY, event.getUserId(), event);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        loginEventExecutor.shutdown();
+        loginEventExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -1,20 +1,23 @@
 package com.restaurant.user.security;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,10 +32,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private String tokenPrefix;
 
     private final JwtTokenProvider tokenProvider;
+    private final UserSecurityCache userSecurityCache;
     private UserDetailsService userDetailsService;
 
-    public JwtAuthorizationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthorizationFilter(JwtTokenProvider tokenProvider, UserSecurityCache userSecurityCache) {
         this.tokenProvider = tokenProvider;
+        this.userSecurityCache = userSecurityCache;
     }
 
     public void setUserDetailsService(UserDetailsService userDetailsService) {
@@ -47,16 +52,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                
-                // Also extract the user ID from token
-                String userId = tokenProvider.getUserIdFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                if (tokenProvider.validateToken(jwt, userDetails)) {
-                    Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
-                    
+                Claims claims = tokenProvider.getAllClaimsFromToken(jwt);
+                String userId = claims.get("userId", String.class);
+                Collection<? extends GrantedAuthority> authorities = resolveAuthorities(claims, userId);
+
+                if (userId != null && authorities != null) {
                     // Create custom authentication token with the userId as principal
                     // This will make it accessible in @PreAuthorize expressions
                     UsernamePasswordAuthenticationToken authentication = 
@@ -67,13 +67,34 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
-        } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException | IllegalArgumentException e) {
+        } catch (JwtException | UsernameNotFoundException | IllegalArgumentException e) {
             logger.error("JWT token validation error", e);
         }
 
         chain.doFilter(request, response);
     }
 
+    // Returns null when the token was revoked by a role, enable or lock change
+    private Collection<? extends GrantedAuthority> resolveAuthorities(Claims claims, String userId) {
+        String authorities = claims.get(JwtTokenProvider.AUTHORITIES_CLAIM, String.class);
+        Number securityVersion = claims.get(JwtTokenProvider.SECURITY_VERSION_CLAIM, Number.class);
+
+        if (authorities == null || securityVersion == null) {
+            // Tokens issued before authorities were embedded are checked against the user
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return userDetails.isEnabled() && userDetails.isAccountNonLocked() ? userDetails.getAuthorities() : null;
+        }
+
+        if (userId == null || !userSecurityCache.isTokenCurrent(userId, securityVersion.longValue())) {
+            return null;
+        }
+
+        return Arrays.stream(authorities.split(","))
+                .filter(authority -> !authority.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         if (tokenHeader == null) {
             return null;
@@ -84,4 +105,4 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -1,32 +1,55 @@
 package com.restaurant.user.security;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.restaurant.user.domain.models.RestaurantOwnership;
 import com.restaurant.user.domain.models.User;
+import com.restaurant.user.domain.repositories.RestaurantOwnershipRepository;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtTokenProvider {
 
+    public static final String AUTHORITIES_CLAIM = "authorities";
+    public static final String SECURITY_VERSION_CLAIM = "sv";
+    public static final String RESTAURANT_VERSIONS_CLAIM = "restaurantVersions";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private final RestaurantOwnershipRepository ownershipRepository;
+    private final RoleAuthorityCache roleAuthorityCache;
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    public JwtTokenProvider(RestaurantOwnershipRepository ownershipRepository, RoleAuthorityCache roleAuthorityCache) {
+        this.ownershipRepository = ownershipRepository;
+        this.roleAuthorityCache = roleAuthorityCache;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -36,21 +59,46 @@ public class JwtTokenProvider {
         // Cast to User to get the ID
         String userId = null;
         String roles = "";
+        String restaurants = "";
+        String restaurantVersions = "";
+        Long securityVersion = null;
+        Collection<? extends GrantedAuthority> grantedAuthorities = userDetails.getAuthorities();
         if (userDetails instanceof User) {
-            userId = ((User) userDetails).getId();
+            User user = (User) userDetails;
+            userId = user.getId();
+            securityVersion = user.getSecurityVersion();
             
-            roles = ((User) userDetails).getRoles().stream()
-                    .map(role -> role.getName())
+            roles = String.join(",", roleAuthorityCache.getRoleNames(user.getRoleIds()));
+            grantedAuthorities = roleAuthorityCache.getAuthorities(user.getRoleIds());
+
+            // Owned restaurants let other services check ownership without a round trip.
+            // The restaurant change version each ownership was taken from lets them tell
+            // whether the claim predates a later owner change
+            List<RestaurantOwnership> ownerships = ownershipRepository.findByOwnerIdOrderByRestaurantId(userId);
+            restaurants = ownerships.stream()
+                    .map(RestaurantOwnership::getRestaurantId)
+                    .collect(Collectors.joining(","));
+            restaurantVersions = ownerships.stream()
+                    .map(ownership -> ownership.getRestaurantId() + ":" + ownership.getVersion())
                     .collect(Collectors.joining(","));
         }
 
+        // Authorities and security version let requests be authorized without loading the user
+        String authorities = grantedAuthorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
                 .claim("userId", userId)
                 .claim("roles", roles) // เพิ่ม roles ลงใน token
+                .claim("restaurants", restaurants)
+                .claim(RESTAURANT_VERSIONS_CLAIM, restaurantVersions)
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .claim(SECURITY_VERSION_CLAIM, securityVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -72,12 +120,8 @@ public class JwtTokenProvider {
         return claimsResolver.apply(claims);
     }
 
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims getAllClaimsFromToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     private boolean isTokenExpired(String token) {
@@ -0,0 +1,93 @@
+package com.restaurant.user.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.exceptions.ServiceTimeoutException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Runs BCrypt on a bounded pool so a login storm queues a limited amount of hashing
+// and rejects the rest instead of tying up every request thread.
+@Component
+public class PasswordVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordVerifier.class);
+
+    @Value("${auth.password-pool.size:0}")
+    private int poolSize;
+
+    @Value("${auth.password-pool.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${auth.password-pool.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        // BCrypt is CPU bound, so by default use one thread per core
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Password verification rejected, {} checks queued", executor.getQueue().size());
+            throw new ServiceTimeoutException("Too many login attempts, please try again shortly");
+        }
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new ServiceTimeoutException("Login timed out, please try again shortly");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceTimeoutException("Login was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.restaurant.user.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.user.domain.models.Permission;
+import com.restaurant.user.domain.models.Role;
+import com.restaurant.user.domain.repositories.RoleRepository;
+import com.restaurant.user.utils.TransactionUtils;
+
+// Precomputed, immutable authority sets per role and per combination of roles.
+// All roles are loaded with their permissions in one query and rebuilt after any
+// role or permission change; equal authorities share one interned instance.
+@Component
+public class RoleAuthorityCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleAuthorityCache.class);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot;
+
+    // Number of invalidations so far, so a rebuild that raced an invalidation is not kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RoleAuthorityCache(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    public Set<GrantedAuthority> getAuthorities(Collection<String> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Snapshot current = getSnapshot();
+        if (roleIds.size() == 1) {
+            return current.authoritiesByRole.getOrDefault(roleIds.iterator().next(), Collections.emptySet());
+        }
+        return current.authoritiesByCombination.computeIfAbsent(String.join(",", new TreeSet<>(roleIds)), key -> {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            for (String roleId : roleIds) {
+                authorities.addAll(current.authoritiesByRole.getOrDefault(roleId, Collections.emptySet()));
+            }
+            return Collections.unmodifiableSet(authorities);
+        });
+    }
+
+    public Set<String> getRoleNames(Collection<String> roleIds) {
+        Set<String> roleNames = new HashSet<>();
+        if (roleIds != null) {
+            Snapshot current = getSnapshot();
+            for (String roleId : roleIds) {
+                String roleName = current.roleNames.get(roleId);
+                if (roleName != null) {
+                    roleNames.add(roleName);
+                }
+            }
+        }
+        return roleNames;
+    }
+
+    // Applied after the current transaction commits, so a rebuild cannot read the old data
+    public void invalidate() {
+        TransactionUtils.afterCommit(this::clear);
+    }
+
+    private void clear() {
+        invalidations.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long generation = invalidations.get();
+        current = build();
+        if (invalidations.get() == generation) {
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build() {
+        Map<String, GrantedAuthority> interned = new HashMap<>();
+        Map<String, Set<GrantedAuthority>> authoritiesByRole = new HashMap<>();
+        Map<String, String> roleNames = new HashMap<>();
+
+        for (Role role : roleRepository.findAllWithPermissions()) {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            authorities.add(intern(interned, "ROLE_" + role.getName().toUpperCase()));
+            for (Permission permission : role.getPermissions()) {
+                authorities.add(intern(interned, permission.getName().toUpperCase()));
+            }
+            authoritiesByRole.put(role.getId(), Collections.unmodifiableSet(authorities));
+            roleNames.put(role.getId(), role.getName());
+        }
+
+        logger.info("Built authorities for {} roles ({} distinct authorities)", authoritiesByRole.size(), interned.size());
+        return new Snapshot(authoritiesByRole, roleNames);
+    }
+
+    private static GrantedAuthority intern(Map<String, GrantedAuthority> interned, String authority) {
+        return interned.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Set<GrantedAuthority>> authoritiesByRole;
+        private final Map<String, String> roleNames;
+        private final Map<String, Set<GrantedAuthority>> authoritiesByCombination = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, Set<GrantedAuthority>> authoritiesByRole, Map<String, String> roleNames) {
+            this.authoritiesByRole = authoritiesByRole;
+            this.roleNames = roleNames;
+        }
+    }
+}
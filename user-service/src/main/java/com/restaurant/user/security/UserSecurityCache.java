@@ -0,0 +1,53 @@
+package com.restaurant.user.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.restaurant.common.utils.BoundedTtlCache;
+import com.restaurant.user.domain.repositories.UserRepository;
+
+// Caches each user's current security version so tokens can be checked for revocation
+// without loading the user. Entries are invalidated through UserSecurityChangedEvents;
+// the TTL only bounds staleness if an event is lost.
+@Component
+public class UserSecurityCache {
+
+    // Version cached for users that are missing, disabled or locked
+    private static final long INACTIVE = -1;
+
+    @Value("${jwt.security-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final UserRepository userRepository;
+    private final BoundedTtlCache<String, Long> entries;
+
+    public UserSecurityCache(UserRepository userRepository,
+                             @Value("${jwt.security-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    public boolean isTokenCurrent(String userId, long tokenSecurityVersion) {
+        long currentVersion = getSecurityVersion(userId);
+        return currentVersion != INACTIVE && tokenSecurityVersion >= currentVersion;
+    }
+
+    public void invalidate(String userId) {
+        entries.invalidate(userId);
+    }
+
+    private long getSecurityVersion(String userId) {
+        Long cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = entries.generation();
+        long securityVersion = userRepository.findActiveSecurityVersionById(userId).orElse(INACTIVE);
+        entries.putIfCurrent(userId, securityVersion,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds), generation);
+        return securityVersion;
+    }
+}
@@ -2,97 +2,118 @@ package com.restaurant.user.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.events.user.UserLoggedInEvent;
 import com.restaurant.common.exceptions.AuthenticationException;
 import com.restaurant.user.domain.models.User;
+import com.restaurant.user.domain.repositories.UserRepository;
 import com.restaurant.user.dto.LoginRequest;
 import com.restaurant.user.dto.LoginResponse;
 import com.restaurant.user.kafka.producers.UserEventProducer;
 import com.restaurant.user.security.JwtTokenProvider;
+import com.restaurant.user.security.PasswordVerifier;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 @Service
 public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
+    // BCrypt hash (cost 10, as the password encoder) checked when the username is unknown,
+    // so a login for a missing user takes as long as one with a wrong password
+    private static final String USER_NOT_FOUND_PASSWORD_HASH =
+            "$2a$10$dzGRANnnGsKZdBPmIilFKujMZv5PpXJ0Xkoweo3dwhpzVNNb6njW6";
     
-    private final AuthenticationManager authenticationManager;
+    private final UserRepository userRepository;
+    private final PasswordVerifier passwordVerifier;
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
     private final UserEventProducer userEventProducer;
 
-    public AuthService(AuthenticationManager authenticationManager,
+    public AuthService(UserRepository userRepository,
+                       PasswordVerifier passwordVerifier,
                        JwtTokenProvider jwtTokenProvider,
-                       CustomUserDetailsService userDetailsService,
+                       RefreshTokenService refreshTokenService,
                        UserEventProducer userEventProducer) {
-        this.authenticationManager = authenticationManager;
+        this.userRepository = userRepository;
+        this.passwordVerifier = passwordVerifier;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.refreshTokenService = refreshTokenService;
         this.userEventProducer = userEventProducer;
     }
 
     public LoginResponse login(LoginRequest loginRequest, HttpServletRequest request) {
-        try {
-            // First, try to load the user to check if it exists and check account status
-            UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getUsername());
-            logger.info("User found: {}", userDetails.getUsername());
-            logger.info("Account status - enabled: {}, accountNonExpired: {}, accountNonLocked: {}, credentialsNonExpired: {}",
-                    userDetails.isEnabled(), userDetails.isAccountNonExpired(), 
-                    userDetails.isAccountNonLocked(), userDetails.isCredentialsNonExpired());
-            
-            try {
-                Authentication authentication = authenticationManager.authenticate(
-                        new UsernamePasswordAuthenticationToken(
-                                loginRequest.getUsername(),
-                                loginRequest.getPassword()
-                        )
-                );
-                
-                userDetails = (UserDetails) authentication.getPrincipal();
-                
-                // Get user ID for token and response
-                String userId = ((User) userDetails).getId();
-                
-                // Generate token with user ID included as claim
-                String token = jwtTokenProvider.generateToken(userDetails);
-                
-                // Publish login event
-                userEventProducer.publishUserLoggedInEvent(new UserLoggedInEvent(
-                        userId,
-                        userDetails.getUsername(),
-                        getClientIP(request)
-                ));
-                
-                return new LoginResponse(token, "Authentication successful", userId);
-            } catch (BadCredentialsException e) {
-                logger.error("Bad credentials for user: {}", loginRequest.getUsername());
-                throw AuthenticationException.invalidCredentials();
-            } catch (DisabledException e) {
-                logger.error("Account is disabled for user: {}", loginRequest.getUsername());
-                throw AuthenticationException.accountDisabled();
-            } catch (LockedException e) {
-                logger.error("Account is locked for user: {}", loginRequest.getUsername());
-                throw AuthenticationException.accountLocked();
-            } catch (Exception e) {
-                logger.error("Authentication failed with exception: {}", e.getMessage(), e);
-                throw AuthenticationException.invalidCredentials();
-            }
-        } catch (UsernameNotFoundException e) {
+        // Single lookup; the loaded user is checked and used for the tokens
+        User user = userRepository.findByUsername(loginRequest.getUsername()).orElse(null);
+        if (user == null) {
+            passwordVerifier.matches(loginRequest.getPassword(), USER_NOT_FOUND_PASSWORD_HASH);
             logger.error("User not found: {}", loginRequest.getUsername());
             throw AuthenticationException.invalidCredentials();
         }
+
+        // Account status is checked before the password, as the authentication manager did
+        checkAccountStatus(user);
+
+        if (!passwordVerifier.matches(loginRequest.getPassword(), user.getPassword())) {
+            logger.error("Bad credentials for user: {}", loginRequest.getUsername());
+            throw AuthenticationException.invalidCredentials();
+        }
+
+        // Generate token with user ID included as claim
+        String token = jwtTokenProvider.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // Publish login event
+        userEventProducer.publishUserLoggedInEvent(new UserLoggedInEvent(
+                user.getId(),
+                user.getUsername(),
+                getClientIP(request)
+        ));
+
+        return new LoginResponse(token, refreshToken, "Authentication successful", user.getId());
     }
     
+    public LoginResponse refresh(String refreshToken) {
+        // Rotate first, so a refresh token can never be used twice
+        String userId = refreshTokenService.consume(refreshToken);
+
+        // Re-issue the token with the user's current roles and owned restaurants
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new AuthenticationException("Invalid or expired refresh token"));
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            refreshTokenService.revokeAll(userId);
+            throw AuthenticationException.accessDenied();
+        }
+
+        String token = jwtTokenProvider.generateToken(user);
+        String newRefreshToken = refreshTokenService.issue(userId);
+        return new LoginResponse(token, newRefreshToken, "Token refreshed", userId);
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    private void checkAccountStatus(User user) {
+        logger.info("Account status - enabled: {}, accountNonExpired: {}, accountNonLocked: {}, credentialsNonExpired: {}",
+                user.isEnabled(), user.isAccountNonExpired(),
+                user.isAccountNonLocked(), user.isCredentialsNonExpired());
+
+        if (!user.isAccountNonLocked()) {
+            logger.error("Account is locked for user: {}", user.getUsername());
+            throw AuthenticationException.accountLocked();
+        }
+        if (!user.isEnabled()) {
+            logger.error("Account is disabled for user: {}", user.getUsername());
+            throw AuthenticationException.accountDisabled();
+        }
+        if (!user.isAccountNonExpired() || !user.isCredentialsNonExpired()) {
+            logger.error("Account or credentials expired for user: {}", user.getUsername());
+            throw AuthenticationException.invalidCredentials();
+        }
+    }
+
     private String getClientIP(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         if (xfHeader == null) {
@@ -100,4 +121,4 @@ public class AuthService {
         }
         return xfHeader.split(",")[0];
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.restaurant.user.service;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.user.domain.models.User;
 import com.restaurant.user.domain.repositories.UserRepository;
+import com.restaurant.user.security.RoleAuthorityCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,15 +13,19 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RoleAuthorityCache roleAuthorityCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, RoleAuthorityCache roleAuthorityCache) {
         this.userRepository = userRepository;
+        this.roleAuthorityCache = roleAuthorityCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        user.setAuthorities(roleAuthorityCache.getAuthorities(user.getRoleIds()));
+        return user;
     }
     
     public String getUserIdByUsername(String username) {
@@ -95,6 +95,20 @@ public class ProfileService {
             ));
         }
 
+        // Update preferred language
+        if (profileDTO.getPreferredLanguage() != null && !profileDTO.getPreferredLanguage().equals(profile.getPreferredLanguage())) {
+            String oldValue = profile.getPreferredLanguage();
+            profile.setPreferredLanguage(profileDTO.getPreferredLanguage());
+            
+            // Publish event
+            userEventProducer.publishProfileUpdatedEvent(new ProfileUpdatedEvent(
+                    userId,
+                    "preferredLanguage",
+                    oldValue,
+                    profileDTO.getPreferredLanguage()
+            ));
+        }
+
         Profile updatedProfile = profileRepository.save(profile);
         return convertToDTO(updatedProfile);
     }
@@ -106,6 +120,7 @@ public class ProfileService {
         dto.setFirstName(profile.getFirstName());
         dto.setLastName(profile.getLastName());
         dto.setPhoneNumber(profile.getPhoneNumber());
+        dto.setPreferredLanguage(profile.getPreferredLanguage());
         // Map other fields
         return dto;
     }
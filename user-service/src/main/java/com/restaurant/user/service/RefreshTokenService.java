@@ -0,0 +1,105 @@
+package com.restaurant.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.common.exceptions.AuthenticationException;
+import com.restaurant.user.domain.models.RefreshToken;
+import com.restaurant.user.domain.repositories.RefreshTokenRepository;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationInMs;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    // Returns the raw token; only its hash is stored
+    @Transactional
+    public String issue(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteExpiredByUserId(userId, now);
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                hash(token),
+                userId,
+                now.plusNanos(refreshExpirationInMs * 1_000_000)
+        ));
+        return token;
+    }
+
+    // Uses up the token and returns the ID of the user it was issued to.
+    // Revocations are kept when the token is rejected.
+    @Transactional(dontRollbackOn = AuthenticationException.class)
+    public String consume(String token) {
+        if (token == null || token.isBlank()) {
+            throw new AuthenticationException("Invalid or expired refresh token");
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new AuthenticationException("Invalid or expired refresh token"));
+
+        if (refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            // A used token presented again may have been stolen, so end all of the user's sessions
+            logger.warn("Reuse of refresh token detected for user {}, revoking all refresh tokens", refreshToken.getUserId());
+            refreshTokenRepository.revokeAllByUserId(refreshToken.getUserId());
+            throw new AuthenticationException("Invalid or expired refresh token");
+        }
+
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthenticationException("Invalid or expired refresh token");
+        }
+
+        return refreshToken.getUserId();
+    }
+
+    @Transactional
+    public void revoke(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeIfActive(refreshToken.getId()));
+    }
+
+    @Transactional
+    public void revokeAll(String userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        logger.info("Revoked {} refresh tokens of user {}", revoked, userId);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
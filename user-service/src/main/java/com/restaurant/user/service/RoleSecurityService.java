@@ -0,0 +1,132 @@
+package com.restaurant.user.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
+import com.restaurant.user.domain.repositories.RoleRepository;
+import com.restaurant.user.domain.repositories.UserRepository;
+import com.restaurant.user.kafka.producers.UserEventProducer;
+import com.restaurant.user.security.UserSecurityCache;
+
+// Invalidates the tokens of the members of roles whose name or permissions changed.
+// Changes are reported by the entity listener while a transaction flushes, so they are
+// collected per transaction and the members' security versions bumped with one statement
+// after it commits, in a transaction of their own.
+@Service
+public class RoleSecurityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleSecurityService.class);
+
+    // Transaction resource key of the changes collected so far
+    private static final Object PENDING_KEY = new Object();
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final UserSecurityCache userSecurityCache;
+    private final UserEventProducer userEventProducer;
+    private final TransactionTemplate newTransaction;
+
+    public RoleSecurityService(UserRepository userRepository,
+                               RoleRepository roleRepository,
+                               UserSecurityCache userSecurityCache,
+                               UserEventProducer userEventProducer,
+                               PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.userSecurityCache = userSecurityCache;
+        this.userEventProducer = userEventProducer;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void roleChanged(String roleId) {
+        if (roleId != null) {
+            record(changes -> changes.roleIds.add(roleId));
+        }
+    }
+
+    public void permissionChanged(String permissionId) {
+        if (permissionId != null) {
+            record(changes -> changes.permissionIds.add(permissionId));
+        }
+    }
+
+    private void record(Consumer<Changes> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Changes changes = new Changes();
+            change.accept(changes);
+            invalidateMembers(changes);
+            return;
+        }
+        Changes changes = (Changes) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (changes == null) {
+            Changes collected = new Changes();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateMembers(collected);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            changes = collected;
+        }
+        change.accept(changes);
+    }
+
+    private void invalidateMembers(Changes changes) {
+        List<Object[]> members;
+        try {
+            members = newTransaction.execute(status -> {
+                Set<String> roleIds = new HashSet<>(changes.roleIds);
+                for (String permissionId : changes.permissionIds) {
+                    roleIds.addAll(roleRepository.findIdsByPermissionId(permissionId));
+                }
+                if (roleIds.isEmpty()) {
+                    return Collections.<Object[]>emptyList();
+                }
+                userRepository.incrementSecurityVersionByRoleIds(roleIds);
+                return userRepository.findSecurityStatesByRoleIds(roleIds);
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to invalidate tokens of changed roles {}: {}", changes.roleIds, e.getMessage(), e);
+            return;
+        }
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        for (Object[] member : members) {
+            String userId = (String) member[0];
+            userSecurityCache.invalidate(userId);
+            userEventProducer.publishUserSecurityChangedEvent(new UserSecurityChangedEvent(
+                    userId,
+                    (Long) member[1],
+                    Boolean.TRUE.equals(member[2]) && Boolean.TRUE.equals(member[3])
+            ));
+        }
+        logger.info("Invalidated tokens of {} users after a role change", members.size());
+    }
+
+    private static final class Changes {
+        private final Set<String> roleIds = new HashSet<>();
+        private final Set<String> permissionIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,147 @@
+package com.restaurant.user.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.common.dto.user.UserDTO;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.common.utils.KeysetCursor;
+import com.restaurant.user.domain.models.Role;
+import com.restaurant.user.domain.repositories.RoleRepository;
+import com.restaurant.user.domain.repositories.UserRepository;
+import com.restaurant.user.dto.UserPageResponse;
+import com.restaurant.user.dto.UserSummary;
+import com.restaurant.user.security.RoleAuthorityCache;
+
+import jakarta.transaction.Transactional;
+
+// Admin user listing that never loads the whole table: pages are read by keyset on
+// (createdAt, id) and exports are streamed row by row from a database cursor.
+@Service
+public class UserDirectoryService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Rows whose roles are resolved together while exporting
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final RoleAuthorityCache roleAuthorityCache;
+    private final ObjectMapper objectMapper;
+
+    public UserDirectoryService(UserRepository userRepository,
+                                RoleRepository roleRepository,
+                                RoleAuthorityCache roleAuthorityCache,
+                                ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.roleAuthorityCache = roleAuthorityCache;
+        this.objectMapper = objectMapper;
+    }
+
+    public UserPageResponse getUsers(String role, Boolean enabled, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                     String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("size", "Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        String roleId = resolveRoleId(role);
+        if (role != null && roleId == null) {
+            return new UserPageResponse(List.of(), null);
+        }
+
+        // One extra row tells whether there is a next page
+        List<UserSummary> rows = userRepository.findSummaries(roleId, enabled, createdFrom, createdTo,
+                position != null ? position.getTime() : null, position != null ? position.getId() : null,
+                PageRequest.ofSize(size + 1));
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            UserSummary last = rows.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new UserPageResponse(toDTOs(rows), nextCursor);
+    }
+
+    // Writes one JSON user per line; memory use is bounded by the chunk size, not the number of users
+    @Transactional
+    public void exportUsers(String role, Boolean enabled, LocalDateTime createdFrom, LocalDateTime createdTo,
+                            OutputStream outputStream) throws IOException {
+        String roleId = resolveRoleId(role);
+        if (role != null && roleId == null) {
+            return;
+        }
+
+        try (Stream<UserSummary> rows = userRepository.streamSummaries(roleId, enabled, createdFrom, createdTo)) {
+            List<UserSummary> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<UserSummary> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    for (UserDTO user : toDTOs(chunk)) {
+                        outputStream.write(objectMapper.writeValueAsBytes(user));
+                        outputStream.write('\n');
+                    }
+                    outputStream.flush();
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private String resolveRoleId(String role) {
+        if (role == null) {
+            return null;
+        }
+        return roleRepository.findByName(role.toUpperCase()).map(Role::getId).orElse(null);
+    }
+
+    private List<UserDTO> toDTOs(List<UserSummary> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        // Role IDs of the whole batch in one query, names from the precomputed roles
+        Map<String, Set<String>> roleIdsByUser = new HashMap<>();
+        List<String> userIds = rows.stream().map(UserSummary::getId).collect(Collectors.toList());
+        for (Object[] pair : userRepository.findRoleIdsByUserIds(userIds)) {
+            roleIdsByUser.computeIfAbsent((String) pair[0], id -> new HashSet<>()).add((String) pair[1]);
+        }
+
+        List<UserDTO> users = new ArrayList<>(rows.size());
+        for (UserSummary row : rows) {
+            UserDTO dto = new UserDTO(row.getId(), row.getUsername(), row.getEmail());
+            dto.setEnabled(row.isEnabled());
+            dto.setFirstName(row.getFirstName());
+            dto.setLastName(row.getLastName());
+            dto.setPhoneNumber(row.getPhoneNumber());
+            dto.setCreatedAt(row.getCreatedAt());
+            dto.setUpdatedAt(row.getUpdatedAt());
+            Set<String> roleIds = roleIdsByUser.get(row.getId());
+            if (roleIds != null) {
+                dto.setRoles(roleAuthorityCache.getRoleNames(roleIds));
+            }
+            users.add(dto);
+        }
+        return users;
+    }
+}
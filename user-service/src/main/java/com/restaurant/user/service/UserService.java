@@ -1,13 +1,14 @@
 package com.restaurant.user.service;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.restaurant.common.dto.user.UserDTO;
 import com.restaurant.common.events.user.UserRegisteredEvent;
+import com.restaurant.common.events.user.UserSecurityChangedEvent;
 import com.restaurant.common.exceptions.EntityNotFoundException;
 import com.restaurant.common.exceptions.ValidationException;
 import com.restaurant.user.domain.models.Profile;
@@ -16,7 +17,11 @@ import com.restaurant.user.domain.models.User;
 import com.restaurant.user.domain.repositories.RoleRepository;
 import com.restaurant.user.domain.repositories.UserRepository;
 import com.restaurant.user.dto.UserRegistrationRequest;
+import com.restaurant.user.dto.UserSecurityUpdateRequest;
 import com.restaurant.user.kafka.producers.UserEventProducer;
+import com.restaurant.user.security.RoleAuthorityCache;
+import com.restaurant.user.security.UserSecurityCache;
+import com.restaurant.user.utils.TransactionUtils;
 
 import jakarta.transaction.Transactional;
 
@@ -28,17 +33,26 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final ProfileService profileService;
     private final UserEventProducer userEventProducer;
+    private final UserSecurityCache userSecurityCache;
+    private final RefreshTokenService refreshTokenService;
+    private final RoleAuthorityCache roleAuthorityCache;
 
     public UserService(UserRepository userRepository, 
                        RoleRepository roleRepository, 
                        PasswordEncoder passwordEncoder,
                        ProfileService profileService,
-                       UserEventProducer userEventProducer) {
+                       UserEventProducer userEventProducer,
+                       UserSecurityCache userSecurityCache,
+                       RefreshTokenService refreshTokenService,
+                       RoleAuthorityCache roleAuthorityCache) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.profileService = profileService;
         this.userEventProducer = userEventProducer;
+        this.userSecurityCache = userSecurityCache;
+        this.refreshTokenService = refreshTokenService;
+        this.roleAuthorityCache = roleAuthorityCache;
     }
 
     @Transactional
@@ -67,11 +81,15 @@ public class UserService {
         savedUser.setProfile(profile);
 
         // Publish event
-        userEventProducer.publishUserRegisteredEvent(new UserRegisteredEvent(
+        UserRegisteredEvent registeredEvent = new UserRegisteredEvent(
                 savedUser.getId(),
                 savedUser.getUsername(),
                 savedUser.getEmail()
-        ));
+        );
+        registeredEvent.setFirstName(profile.getFirstName());
+        registeredEvent.setLastName(profile.getLastName());
+        registeredEvent.setPhoneNumber(profile.getPhoneNumber());
+        userEventProducer.publishUserRegisteredEvent(registeredEvent);
 
         // Return DTO
         return convertToDTO(savedUser);
@@ -99,17 +117,74 @@ public class UserService {
         return convertToDTO(user);
     }
 
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-    }
-
     @Transactional
     public void deleteUser(String id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User", id));
         userRepository.delete(user);
+        refreshTokenService.revokeAll(id);
+
+        publishSecurityChange(new UserSecurityChangedEvent(id, user.getSecurityVersion() + 1, false, true));
+    }
+
+    @Transactional
+    public UserDTO updateUserSecurity(String id, UserSecurityUpdateRequest request) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User", id));
+
+        boolean changed = false;
+
+        if (request.getRoles() != null) {
+            if (request.getRoles().isEmpty()) {
+                throw new ValidationException("roles", "At least one role is required");
+            }
+            Set<String> roleIds = new HashSet<>();
+            for (String roleName : request.getRoles()) {
+                roleIds.add(roleRepository.findByName(roleName)
+                        .orElseThrow(() -> new EntityNotFoundException("Role", roleName))
+                        .getId());
+            }
+            if (!roleIds.equals(user.getRoleIds())) {
+                user.getRoleIds().clear();
+                user.getRoleIds().addAll(roleIds);
+                changed = true;
+            }
+        }
+
+        if (request.getEnabled() != null && request.getEnabled() != user.isEnabled()) {
+            user.setEnabled(request.getEnabled());
+            changed = true;
+        }
+
+        if (request.getLocked() != null && request.getLocked() == user.isAccountNonLocked()) {
+            user.setAccountNonLocked(!request.getLocked());
+            changed = true;
+        }
+
+        if (changed) {
+            // Tokens issued before this change no longer authorize requests
+            user.incrementSecurityVersion();
+            User savedUser = userRepository.save(user);
+            if (!savedUser.isEnabled() || !savedUser.isAccountNonLocked()) {
+                refreshTokenService.revokeAll(id);
+            }
+            publishSecurityChange(new UserSecurityChangedEvent(
+                    savedUser.getId(),
+                    savedUser.getSecurityVersion(),
+                    savedUser.isEnabled() && savedUser.isAccountNonLocked()
+            ));
+            return convertToDTO(savedUser);
+        }
+
+        return convertToDTO(user);
+    }
+
+    // Invalidates this instance right away and the others through the event, once the change is committed
+    private void publishSecurityChange(UserSecurityChangedEvent event) {
+        TransactionUtils.afterCommit(() -> {
+            userSecurityCache.invalidate(event.getUserId());
+            userEventProducer.publishUserSecurityChangedEvent(event);
+        });
     }
 
     private UserDTO convertToDTO(User user) {
@@ -134,10 +209,8 @@ public class UserService {
         dto.setUpdatedAt(user.getUpdatedAt());
         
         // Set roles if available
-        if (user.getRoles() != null && !user.getRoles().isEmpty()) {
-            dto.setRoles(user.getRoles().stream()
-                    .map(Role::getName)
-                    .collect(Collectors.toSet()));
+        if (user.getRoleIds() != null && !user.getRoleIds().isEmpty()) {
+            dto.setRoles(roleAuthorityCache.getRoleNames(user.getRoleIds()));
         }
         
         return dto;
@@ -0,0 +1,56 @@
+package com.restaurant.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.restaurant.common.exceptions.AuthenticationException;
+import com.restaurant.user.domain.repositories.UserRepository;
+import com.restaurant.user.dto.LoginRequest;
+import com.restaurant.user.kafka.producers.UserEventProducer;
+import com.restaurant.user.security.JwtTokenProvider;
+import com.restaurant.user.security.PasswordVerifier;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Login of unknown users
+class AuthServiceTest {
+
+    private UserRepository userRepository;
+    private PasswordVerifier passwordVerifier;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordVerifier = mock(PasswordVerifier.class);
+        authService = new AuthService(userRepository, passwordVerifier, mock(JwtTokenProvider.class),
+                mock(RefreshTokenService.class), mock(UserEventProducer.class));
+    }
+
+    @Test
+    void unknownUsernameStillRunsAPasswordCheck() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest("ghost", "secret"),
+                mock(HttpServletRequest.class)))
+                .isInstanceOf(AuthenticationException.class);
+
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(passwordVerifier).matches(eq("secret"), hash.capture());
+        // A malformed hash would be rejected without hashing, which defeats the purpose
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        assertThat(encoder.upgradeEncoding(hash.getValue())).isFalse();
+        assertThat(encoder.matches("secret", hash.getValue())).isFalse();
+    }
+}
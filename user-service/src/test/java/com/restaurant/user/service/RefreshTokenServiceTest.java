@@ -0,0 +1,106 @@
+package com.restaurant.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.restaurant.common.exceptions.AuthenticationException;
+import com.restaurant.user.domain.models.RefreshToken;
+import com.restaurant.user.domain.repositories.RefreshTokenRepository;
+
+// Rotation and reuse detection of refresh tokens
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationInMs", 60_000L);
+    }
+
+    @Test
+    void issuedTokensAreStoredOnlyAsAHash() {
+        String token = refreshTokenService.issue("u1");
+
+        RefreshToken stored = saved();
+        assertThat(stored.getUserId()).isEqualTo("u1");
+        assertThat(stored.getTokenHash()).isNotEqualTo(token).hasSize(64);
+        assertThat(stored.getExpiresAt()).isBetween(LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        verify(refreshTokenRepository).deleteExpiredByUserId(any(), any());
+    }
+
+    @Test
+    void activeTokenIsConsumedOnce() {
+        String token = issueStored("u1", "t1", LocalDateTime.now().plusMinutes(1));
+        when(refreshTokenRepository.revokeIfActive("t1")).thenReturn(1);
+
+        assertThat(refreshTokenService.consume(token)).isEqualTo("u1");
+
+        verify(refreshTokenRepository).revokeIfActive("t1");
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+    }
+
+    @Test
+    void reusedTokenRevokesEverySessionOfTheUser() {
+        String token = issueStored("u1", "t1", LocalDateTime.now().plusMinutes(1));
+        when(refreshTokenRepository.revokeIfActive("t1")).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.consume(token)).isInstanceOf(AuthenticationException.class);
+
+        verify(refreshTokenRepository).revokeAllByUserId("u1");
+    }
+
+    @Test
+    void expiredTokenIsRevokedAndRejectedWithoutEndingOtherSessions() {
+        String token = issueStored("u1", "t1", LocalDateTime.now().minusSeconds(1));
+        when(refreshTokenRepository.revokeIfActive("t1")).thenReturn(1);
+
+        assertThatThrownBy(() -> refreshTokenService.consume(token)).isInstanceOf(AuthenticationException.class);
+
+        verify(refreshTokenRepository).revokeIfActive("t1");
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+    }
+
+    @Test
+    void unknownAndBlankTokensAreRejected() {
+        assertThatThrownBy(() -> refreshTokenService.consume("unknown")).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> refreshTokenService.consume(" ")).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> refreshTokenService.consume(null)).isInstanceOf(AuthenticationException.class);
+
+        verify(refreshTokenRepository, never()).revokeIfActive(any());
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+    }
+
+    // Issues a token and makes the repository find it under the given ID and expiry
+    private String issueStored(String userId, String id, LocalDateTime expiresAt) {
+        String token = refreshTokenService.issue(userId);
+        RefreshToken stored = saved();
+        stored.setId(id);
+        stored.setExpiresAt(expiresAt);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        return token;
+    }
+
+    private RefreshToken saved() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,122 @@
+package com.restaurant.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.common.dto.user.UserDTO;
+import com.restaurant.common.exceptions.ValidationException;
+import com.restaurant.user.domain.models.Role;
+import com.restaurant.user.domain.repositories.RoleRepository;
+import com.restaurant.user.domain.repositories.UserRepository;
+import com.restaurant.user.dto.UserPageResponse;
+import com.restaurant.user.dto.UserSummary;
+import com.restaurant.user.security.RoleAuthorityCache;
+
+// Keyset pagination of the admin user listing
+class UserDirectoryServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 9, 26, 53);
+
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private UserDirectoryService userDirectoryService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        when(userRepository.findRoleIdsByUserIds(anyCollection())).thenReturn(List.of());
+        userDirectoryService = new UserDirectoryService(userRepository, roleRepository,
+                mock(RoleAuthorityCache.class), new ObjectMapper());
+    }
+
+    @Test
+    void nextPageStartsAfterTheLastUserOfThePage() {
+        when(userRepository.findSummaries(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.ofSize(3)))).thenReturn(rows("u3", "u2", "u1"));
+
+        UserPageResponse first = userDirectoryService.getUsers(null, null, null, null, null, 2);
+
+        assertThat(first.getUsers()).extracting(UserDTO::getId).containsExactly("u3", "u2");
+        assertThat(first.getNextCursor()).isNotNull();
+
+        when(userRepository.findSummaries(isNull(), isNull(), isNull(), isNull(), eq(CREATED_AT), eq("u2"),
+                eq(PageRequest.ofSize(3)))).thenReturn(rows("u1"));
+
+        UserPageResponse second = userDirectoryService.getUsers(null, null, null, null, first.getNextCursor(), 2);
+
+        assertThat(second.getUsers()).extracting(UserDTO::getId).containsExactly("u1");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void lastUserOfTheDirectoryEndsThePaging() {
+        when(userRepository.findSummaries(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(rows("u2", "u1"));
+
+        UserPageResponse page = userDirectoryService.getUsers(null, null, null, null, null, 2);
+
+        assertThat(page.getUsers()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void roleFilterIsResolvedToTheRoleId() {
+        Role admin = mock(Role.class);
+        when(admin.getId()).thenReturn("role-1");
+        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(admin));
+        when(userRepository.findSummaries(any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        userDirectoryService.getUsers("admin", true, null, CREATED_AT, null, 5);
+
+        verify(userRepository).findSummaries("role-1", true, null, CREATED_AT, null, null, PageRequest.ofSize(6));
+    }
+
+    @Test
+    void unknownRoleGivesAnEmptyPageWithoutQueryingUsers() {
+        when(roleRepository.findByName("GHOST")).thenReturn(Optional.empty());
+
+        UserPageResponse page = userDirectoryService.getUsers("ghost", null, null, null, null, 10);
+
+        assertThat(page.getUsers()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(userRepository, never()).findSummaries(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void pageSizeIsBoundedByTheDirectoryMaximum() {
+        assertThatThrownBy(() -> userDirectoryService.getUsers(null, null, null, null, null, 0))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> userDirectoryService.getUsers(null, null, null, null, null,
+                UserDirectoryService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(ValidationException.class);
+        verify(userRepository, never()).findSummaries(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private static List<UserSummary> rows(String... ids) {
+        List<UserSummary> rows = new ArrayList<>();
+        for (String id : ids) {
+            rows.add(new UserSummary(id, id, id + "@example.com", true, CREATED_AT, CREATED_AT,
+                    null, null, null));
+        }
+        return rows;
+    }
+}